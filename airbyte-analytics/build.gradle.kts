@@ -16,6 +16,7 @@ dependencies {
   api(project(":oss:airbyte-commons"))
   api(project(":oss:airbyte-config:config-models"))
   api(project(":oss:airbyte-api:server-api"))
+  implementation(project(":oss:airbyte-metrics:metrics-lib"))
 
   testAnnotationProcessor(platform(libs.micronaut.platform))
   testAnnotationProcessor(libs.bundles.micronaut.test.annotation.processor)
@@ -13,6 +13,8 @@ import com.segment.analytics.messages.Message
 import com.segment.analytics.messages.TrackMessage
 import io.airbyte.api.client.model.generated.DeploymentMetadataRead
 import io.airbyte.api.client.model.generated.WorkspaceRead
+import io.airbyte.metrics.lib.MetricClient
+import io.airbyte.metrics.lib.OssMetricsRegistry
 import io.github.oshai.kotlinlogging.KotlinLogging
 import io.micronaut.cache.annotation.CacheConfig
 import io.micronaut.cache.annotation.Cacheable
@@ -26,6 +28,9 @@ import java.lang.Thread.sleep
 import java.time.Instant
 import java.util.UUID
 import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.LinkedBlockingQueue
 import java.util.concurrent.TimeUnit
 import java.util.concurrent.TimeoutException
 import java.util.concurrent.atomic.AtomicLong
@@ -102,6 +107,12 @@ const val UNKNOWN = "unknown"
  * See the following document for details on tracked events. Please update this document if tracked
  * events change.
  * https://docs.google.com/spreadsheets/d/1lGLmLIhiSPt_-oaEf3CpK-IxXnCO0NRHurvmWldoA2w/edit#gid=1567609168
+ * <p>
+ * Events are sent asynchronously so that tracking never adds latency to the caller. They are queued
+ * in a bounded queue, from which a dedicated thread drains them in batches, resolving the
+ * deployment once per batch and the identity of each workspace once per batch. When the queue is
+ * full, events are dropped and counted rather than blocking the caller. Events still queued are
+ * sent on [close].
  */
 @Singleton
 @Requires(property = "airbyte.tracking.strategy", pattern = "(?i)^segment$")
@@ -112,42 +123,26 @@ class SegmentTrackingClient(
   private val deploymentFetcher: DeploymentFetcher,
   @Value("\${airbyte.role}") val airbyteRole: String,
   @Value("\${airbyte.installation-id}") val installationId: UUID? = null,
+  @Value("\${airbyte.tracking.queue-capacity:10000}") queueCapacity: Int = DEFAULT_QUEUE_CAPACITY,
+  private val metricClient: MetricClient? = null,
 ) : TrackingClient {
-  override fun identify(workspaceId: UUID) {
-    val deployment: Deployment = deploymentFetcher.get()
-    val trackingIdentity: TrackingIdentity = trackingIdentityFetcher.apply(workspaceId)
-    val identityMetadata: Map<String, Any?> =
-      buildMap {
-        // deployment
-        put(AIRBYTE_VERSION_KEY, deployment.getDeploymentVersion())
-        put("deployment_mode", deployment.getDeploymentMode())
-        put("deployment_id", deployment.getDeploymentId().toString())
+  private val events = LinkedBlockingQueue<TrackingEvent>(queueCapacity)
+  private val droppedEvents = AtomicLong(0L)
 
-        // workspace (includes info that in the future we would store in an organization)
-        put("anonymized", trackingIdentity.isAnonymousDataCollection())
-        put("subscribed_newsletter", trackingIdentity.isNews())
-        put("subscribed_security", trackingIdentity.isSecurityUpdates())
-        trackingIdentity.email?.let { put("email", it) }
-
-        // other
-        airbyteRole.takeIf { it.isNotBlank() }?.let { put(AIRBYTE_ROLE, it) }
-        installationId?.let { put(INSTALLATION_ID, it) }
-      }
+  @Volatile private var running = true
+  private val sender: ExecutorService =
+    Executors.newSingleThreadExecutor { Thread(it, "analytics-tracking").apply { isDaemon = true } }
+      .also { it.submit { sendQueuedEvents() } }
 
-    val joinKey: String = trackingIdentity.customerId.toString()
-    segmentAnalyticsClient.analyticsClient.enqueue(
-      IdentifyMessage.builder() // user id is scoped by workspace. there is no cross-workspace tracking.
-        .userId(joinKey)
-        .traits(identityMetadata),
-    )
+  override fun identify(workspaceId: UUID) {
+    enqueue(TrackingEvent.Identify(workspaceId))
   }
 
   override fun alias(
     workspaceId: UUID,
     previousCustomerId: String?,
   ) {
-    val joinKey: String = trackingIdentityFetcher.apply(workspaceId).customerId.toString()
-    segmentAnalyticsClient.analyticsClient.enqueue(AliasMessage.builder(previousCustomerId).userId(joinKey))
+    enqueue(TrackingEvent.Alias(workspaceId, previousCustomerId))
   }
 
   override fun track(
@@ -162,32 +157,133 @@ class SegmentTrackingClient(
     action: String?,
     metadata: Map<String, Any?>,
   ) {
-    val deployment: Deployment = deploymentFetcher.get()
-    val trackingIdentity: TrackingIdentity = trackingIdentityFetcher.apply(workspaceId)
+    // The source header and the time are read on the caller's thread, as they depend on the request and on when
+    // the event happened.
+    enqueue(TrackingEvent.Track(workspaceId, action, metadata.toMap(), getAirbyteSource(), Instant.now()))
+  }
+
+  /**
+   * Stop the sender and send the events that are still queued on the calling thread.
+   */
+  @PreDestroy
+  fun close() {
+    // The sender isn't interrupted, as the Segment client drops the message it is enqueuing when interrupted.
+    running = false
+    sender.shutdown()
+    if (!sender.awaitTermination(SHUTDOWN_TIMEOUT_IN_SECONDS, TimeUnit.SECONDS)) {
+      logger.warn { "Timed out waiting for the analytics tracking sender to stop" }
+    }
+    val remaining = mutableListOf<TrackingEvent>()
+    events.drainTo(remaining)
+    send(remaining)
+  }
+
+  private fun enqueue(event: TrackingEvent) {
+    if (!events.offer(event)) {
+      droppedEvents.incrementAndGet()
+      metricClient?.count(OssMetricsRegistry.ANALYTICS_TRACKING_EVENTS_DROPPED, 1)
+    }
+  }
+
+  private fun sendQueuedEvents() {
+    val batch = mutableListOf<TrackingEvent>()
+    while (running) {
+      val first = events.poll(POLL_INTERVAL_IN_MILLIS, TimeUnit.MILLISECONDS) ?: continue
+      batch.add(first)
+      events.drainTo(batch, MAX_BATCH_SIZE - 1)
+      send(batch)
+      batch.clear()
+    }
+  }
+
+  private fun send(batch: List<TrackingEvent>) {
+    val dropped = droppedEvents.getAndSet(0L)
+    if (dropped > 0) {
+      logger.warn { "Dropped $dropped analytics event(s) as the tracking queue was full" }
+    }
+    if (batch.isEmpty()) {
+      return
+    }
+
+    val deployment: Deployment
+    try {
+      deployment = deploymentFetcher.get()
+    } catch (e: Exception) {
+      logger.error(e) { "Failed to resolve the deployment, dropping ${batch.size} analytics event(s)" }
+      return
+    }
+    // Batches are small and short-lived, so identities are only shared within a batch.
+    val identities = mutableMapOf<UUID, TrackingIdentity>()
+    for (event in batch) {
+      try {
+        val trackingIdentity = identities.getOrPut(event.workspaceId) { trackingIdentityFetcher.apply(event.workspaceId) }
+        segmentAnalyticsClient.analyticsClient.enqueue(
+          when (event) {
+            is TrackingEvent.Identify -> buildIdentifyMessage(deployment, trackingIdentity)
+            is TrackingEvent.Alias -> AliasMessage.builder(event.previousCustomerId).userId(trackingIdentity.customerId.toString())
+            is TrackingEvent.Track -> buildTrackMessage(event, deployment, trackingIdentity)
+          },
+        )
+      } catch (e: Exception) {
+        logger.error(e) { "Failed to send analytics event for workspace ${event.workspaceId}" }
+      }
+    }
+  }
+
+  private fun buildIdentifyMessage(
+    deployment: Deployment,
+    trackingIdentity: TrackingIdentity,
+  ): IdentifyMessage.Builder {
+    val identityMetadata: Map<String, Any?> =
+      buildMap {
+        // deployment
+        put(AIRBYTE_VERSION_KEY, deployment.getDeploymentVersion())
+        put("deployment_mode", deployment.getDeploymentMode())
+        put("deployment_id", deployment.getDeploymentId().toString())
+
+        // workspace (includes info that in the future we would store in an organization)
+        put("anonymized", trackingIdentity.isAnonymousDataCollection())
+        put("subscribed_newsletter", trackingIdentity.isNews())
+        put("subscribed_security", trackingIdentity.isSecurityUpdates())
+        trackingIdentity.email?.let { put("email", it) }
+
+        // other
+        airbyteRole.takeIf { it.isNotBlank() }?.let { put(AIRBYTE_ROLE, it) }
+        installationId?.let { put(INSTALLATION_ID, it) }
+      }
 
+    val joinKey: String = trackingIdentity.customerId.toString()
+    return IdentifyMessage.builder() // user id is scoped by workspace. there is no cross-workspace tracking.
+      .userId(joinKey)
+      .traits(identityMetadata)
+  }
+
+  private fun buildTrackMessage(
+    event: TrackingEvent.Track,
+    deployment: Deployment,
+    trackingIdentity: TrackingIdentity,
+  ): TrackMessage.Builder {
     val mapCopy: Map<String, Any?> =
       buildMap {
-        putAll(metadata)
-        put(AIRBYTE_SOURCE, getAirbyteSource() ?: UNKNOWN)
+        putAll(event.metadata)
+        put(AIRBYTE_SOURCE, event.airbyteSource ?: UNKNOWN)
 
         // Always add these traits.
         put(AIRBYTE_VERSION_KEY, deployment.getDeploymentVersion())
         put(CUSTOMER_ID_KEY, trackingIdentity.customerId)
         put(AIRBYTE_DEPLOYMENT_ID, deployment.getDeploymentId().toString())
         put(AIRBYTE_DEPLOYMENT_MODE, deployment.getDeploymentMode())
-        put(AIRBYTE_TRACKED_AT, Instant.now().toString())
-        if (metadata.isNotEmpty() && trackingIdentity.email != null) {
+        put(AIRBYTE_TRACKED_AT, event.trackedAt.toString())
+        if (event.metadata.isNotEmpty() && trackingIdentity.email != null) {
           put("email", trackingIdentity.email)
         }
         installationId?.let { put(INSTALLATION_ID, it) }
       }
 
     val joinKey: String = trackingIdentity.customerId.toString()
-    segmentAnalyticsClient.analyticsClient.enqueue(
-      TrackMessage.builder(action)
-        .userId(joinKey)
-        .properties(mapCopy),
-    )
+    return TrackMessage.builder(event.action)
+      .userId(joinKey)
+      .properties(mapCopy)
   }
 
   private fun getAirbyteSource(): String? {
@@ -199,6 +295,20 @@ class SegmentTrackingClient(
     }
   }
 
+  private sealed class TrackingEvent(val workspaceId: UUID) {
+    class Identify(workspaceId: UUID) : TrackingEvent(workspaceId)
+
+    class Alias(workspaceId: UUID, val previousCustomerId: String?) : TrackingEvent(workspaceId)
+
+    class Track(
+      workspaceId: UUID,
+      val action: String?,
+      val metadata: Map<String, Any?>,
+      val airbyteSource: String?,
+      val trackedAt: Instant,
+    ) : TrackingEvent(workspaceId)
+  }
+
   companion object {
     internal const val AIRBYTE_ANALYTIC_SOURCE_HEADER = "X-Airbyte-Analytic-Source"
     internal const val AIRBYTE_DEPLOYMENT_ID = "deployment_id"
@@ -210,6 +320,10 @@ class SegmentTrackingClient(
     internal const val CUSTOMER_ID_KEY = "user_id"
     internal const val INSTALLATION_ID = "installation_id"
     internal const val UNKNOWN = "unknown"
+    private const val DEFAULT_QUEUE_CAPACITY = 10_000
+    private const val MAX_BATCH_SIZE = 100
+    private const val POLL_INTERVAL_IN_MILLIS = 200L
+    private const val SHUTDOWN_TIMEOUT_IN_SECONDS = 10L
   }
 }
 
@@ -10,6 +10,8 @@ import com.segment.analytics.messages.TrackMessage
 import io.airbyte.api.client.model.generated.DeploymentMetadataRead
 import io.airbyte.commons.version.AirbyteVersion
 import io.airbyte.config.Configs
+import io.airbyte.metrics.lib.MetricClient
+import io.airbyte.metrics.lib.OssMetricsRegistry
 import io.micronaut.http.HttpHeaders
 import io.micronaut.http.HttpRequest
 import io.micronaut.http.context.ServerRequestContext
@@ -22,6 +24,8 @@ import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.Test
 import java.util.Objects
 import java.util.UUID
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
 
 class SegmentTrackingClientTest {
   private val airbyteVersion = AirbyteVersion("dev")
@@ -69,6 +73,7 @@ class SegmentTrackingClientTest {
     every { analytics.enqueue(capture(builderSlot)) } returns Unit
 
     segmentTrackingClient.identify(workspaceId)
+    segmentTrackingClient.close()
 
     verify(exactly = 1) { analytics.enqueue(any()) }
     val actual = builderSlot.captured.build()
@@ -100,6 +105,7 @@ class SegmentTrackingClientTest {
     every { analytics.enqueue(capture(builderSlot)) } returns Unit
 
     segmentTrackingClient.identify(workspaceId)
+    segmentTrackingClient.close()
 
     verify(exactly = 1) { analytics.enqueue(any()) }
     val actual = builderSlot.captured.build()
@@ -134,6 +140,7 @@ class SegmentTrackingClientTest {
     every { analytics.enqueue(capture(builderSlot)) } returns Unit
 
     segmentTrackingClient.identify(workspaceId)
+    segmentTrackingClient.close()
 
     verify(exactly = 1) { analytics.enqueue(any()) }
     val actual = builderSlot.captured.build()
@@ -168,6 +175,7 @@ class SegmentTrackingClientTest {
       )
 
     segmentTrackingClient.track(workspaceId, JUMP)
+    segmentTrackingClient.close()
 
     verify(exactly = 1) { analytics.enqueue(any()) }
     val actual = builderSlot.captured.build()
@@ -192,6 +200,7 @@ class SegmentTrackingClientTest {
         SegmentTrackingClient.AIRBYTE_DEPLOYMENT_MODE to deploymentMetadata.mode,
       )
     segmentTrackingClient.track(workspaceId, JUMP, metadata)
+    segmentTrackingClient.close()
     verify(exactly = 1) { analytics.enqueue(any()) }
     val actual = builderSlot.captured.build()
     Assertions.assertEquals(JUMP, actual.event())
@@ -227,6 +236,7 @@ class SegmentTrackingClientTest {
         INSTALLATION_ID to installationId,
       )
     segmentTrackingClient.track(workspaceId, JUMP, metadata)
+    segmentTrackingClient.close()
     verify(exactly = 1) { analytics.enqueue(any()) }
     val actual = builderSlot.captured.build()
     Assertions.assertEquals(JUMP, actual.event())
@@ -256,6 +266,7 @@ class SegmentTrackingClientTest {
         )
       segmentTrackingClient.track(workspaceId, JUMP, metadata)
     }
+    segmentTrackingClient.close()
     verify(exactly = 1) { analytics.enqueue(any()) }
     val actual = builderSlot.captured.build()
     Assertions.assertEquals(
@@ -264,6 +275,42 @@ class SegmentTrackingClientTest {
     )
   }
 
+  @Test
+  fun testTrackDropsEventsWhenQueueIsFullAndResolvesIdentitiesPerBatch() {
+    val metricClient: MetricClient = mockk(relaxed = true)
+    val sending = CountDownLatch(1)
+    val release = CountDownLatch(1)
+    every { deploymentFetcher.get() } answers {
+      sending.countDown()
+      release.await()
+      deployment
+    }
+    every { analytics.enqueue(any()) } returns Unit
+    segmentTrackingClient =
+      SegmentTrackingClient(
+        trackingIdentityFetcher = trackingIdentityFetcher,
+        deploymentFetcher = deploymentFetcher,
+        segmentAnalyticsClient = segmentAnalyticsClient,
+        airbyteRole = AIRBYTE_ROLE,
+        queueCapacity = 2,
+        metricClient = metricClient,
+      )
+
+    // the first event keeps the sender busy while the others are queued
+    segmentTrackingClient.track(workspaceId, JUMP)
+    Assertions.assertTrue(sending.await(10, TimeUnit.SECONDS))
+    segmentTrackingClient.track(workspaceId, JUMP)
+    segmentTrackingClient.track(workspaceId, JUMP)
+    segmentTrackingClient.track(workspaceId, JUMP)
+    release.countDown()
+    segmentTrackingClient.close()
+
+    verify(exactly = 3) { analytics.enqueue(any()) }
+    verify(exactly = 1) { metricClient.count(OssMetricsRegistry.ANALYTICS_TRACKING_EVENTS_DROPPED, 1) }
+    // once for the first event, once for the batch of the two queued events
+    verify(exactly = 2) { trackingIdentityFetcher.apply(workspaceId) }
+  }
+
   private fun filterTrackedAtProperty(properties: Map<String, *>): MutableMap<String, Any?> {
     val trackedAtKey = "tracked_at"
     Assertions.assertTrue(properties.containsKey(trackedAtKey))
@@ -97,8 +97,8 @@ class BootloaderTest {
 
   // ⚠️ This line should change with every new migration to show that you meant to make a new
   // migration to the prod database
-  private static final String CURRENT_CONFIGS_MIGRATION_VERSION = "1.1.0.001";
-  private static final String CURRENT_JOBS_MIGRATION_VERSION = "0.64.7.002";
+  private static final String CURRENT_CONFIGS_MIGRATION_VERSION = "1.1.0.002";
+  private static final String CURRENT_JOBS_MIGRATION_VERSION = "0.64.7.003";
 
   @BeforeEach
   void setup() {
@@ -7,6 +7,7 @@ package io.airbyte.bootloader.helpers;
 import io.airbyte.config.persistence.ActorDefinitionVersionHelper.ActorDefinitionVersionWithOverrideStatus;
 import io.airbyte.config.persistence.version_overrides.DefinitionVersionOverrideProvider;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.jetbrains.annotations.Nullable;
@@ -30,4 +31,11 @@ public class NoOpDefinitionVersionOverrideProvider implements DefinitionVersionO
     return List.of();
   }
 
+  @Override
+  public Map<UUID, ActorDefinitionVersionWithOverrideStatus> getOverridesForActors(final UUID actorDefinitionId,
+                                                                                   final UUID workspaceId,
+                                                                                   final List<UUID> actorIds) {
+    return Map.of();
+  }
+
 }
@@ -24,10 +24,22 @@ class AirbyteKeycloakConfiguration {
   var resetRealm: Boolean = false
 
   fun getKeycloakUserInfoEndpointForRealm(realm: String): String {
+    val keycloakUserInfoURI = "/protocol/openid-connect/userinfo"
+    return "${getRealmUrl(realm)}$keycloakUserInfoURI"
+  }
+
+  /**
+   * Endpoint serving the JSON Web Key Set with the public keys the realm signs its tokens with.
+   */
+  fun getKeycloakJwksEndpointForRealm(realm: String): String {
+    val keycloakJwksURI = "/protocol/openid-connect/certs"
+    return "${getRealmUrl(realm)}$keycloakJwksURI"
+  }
+
+  private fun getRealmUrl(realm: String): String {
     val hostWithoutTrailingSlash = if (host.endsWith("/")) host.substring(0, host.length - 1) else host
     val basePathWithLeadingSlash = if (basePath.startsWith("/")) basePath else "/$basePath"
-    val keycloakUserInfoURI = "/protocol/openid-connect/userinfo"
-    return "$protocol://$hostWithoutTrailingSlash$basePathWithLeadingSlash/realms/$realm$keycloakUserInfoURI"
+    return "$protocol://$hostWithoutTrailingSlash$basePathWithLeadingSlash/realms/$realm"
   }
 
   fun getServerUrl(): String = "$protocol://$host$basePath"
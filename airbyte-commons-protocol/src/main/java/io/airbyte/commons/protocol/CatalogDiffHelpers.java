@@ -25,7 +25,6 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.Spliterator;
@@ -84,7 +83,7 @@ public class CatalogDiffHelpers {
                                                                                            final JsonNode jsonSchema) {
     // if this were ever a performance issue, it could be replaced with a trie. this seems unlikely,
     // however.
-    final Set<List<String>> fieldNamesThatAreOneOfs = new HashSet<>();
+    final Set<String> fieldNamesThatAreOneOfs = new HashSet<>();
 
     return JsonSchemas.traverseJsonSchemaWithCollector(jsonSchema, (node, basicPath) -> {
       final List<String> fieldName = basicPath.stream()
@@ -109,24 +108,23 @@ public class CatalogDiffHelpers {
    *
    * @param fieldName - field to investigate
    * @param schema - schema of field
-   * @param oneOfFieldNameAccumulator - collection of fields that are oneOfs
+   * @param oneOfFieldNameAccumulator - collection of the dot-joined names of the fields that are
+   *        oneOfs
    * @return If child of a oneOf, returns false. Otherwise, true.
    */
   private static boolean filterChildrenOfFoneOneOf(final List<String> fieldName,
                                                    final JsonNode schema,
-                                                   final Set<List<String>> oneOfFieldNameAccumulator) {
+                                                   final Set<String> oneOfFieldNameAccumulator) {
+    final String fieldNameString = String.join(".", fieldName);
     if (isOneOfField(schema)) {
-      oneOfFieldNameAccumulator.add(fieldName);
+      oneOfFieldNameAccumulator.add(fieldNameString);
       // return early because we know it is a oneOf and therefore cannot be a child of a oneOf.
       return true;
     }
 
     // leverage that nodes are returned in depth-first search preorder. this means the parent field for
     // the oneOf will be present in the list BEFORE any of its children.
-    for (final List<String> oneOfFieldName : oneOfFieldNameAccumulator) {
-      final String oneOfFieldNameString = String.join(".", oneOfFieldName);
-      final String fieldNameString = String.join(".", fieldName);
-
+    for (final String oneOfFieldNameString : oneOfFieldNameAccumulator) {
       if (fieldNameString.startsWith(oneOfFieldNameString)) {
         return false;
       }
@@ -150,6 +148,20 @@ public class CatalogDiffHelpers {
         .withNamespace(airbyteStream.getNamespace());
   }
 
+  /**
+   * Index the configured streams by descriptor. If several configured streams share a descriptor,
+   * the first one is kept.
+   */
+  private static Map<StreamDescriptor, ConfiguredAirbyteStream> configuredStreamDescriptorToMap(final ConfiguredAirbyteCatalog configuredCatalog) {
+    final Map<StreamDescriptor, ConfiguredAirbyteStream> descriptorToConfiguredStream = new HashMap<>();
+    for (final ConfiguredAirbyteStream configuredStream : configuredCatalog.getStreams()) {
+      descriptorToConfiguredStream.putIfAbsent(new StreamDescriptor()
+          .withName(configuredStream.getStream().getName())
+          .withNamespace(configuredStream.getStream().getNamespace()), configuredStream);
+    }
+    return descriptorToConfiguredStream;
+  }
+
   /**
    * Returns difference between two provided catalogs.
    *
@@ -166,6 +178,8 @@ public class CatalogDiffHelpers {
         oldCatalog);
     final Map<StreamDescriptor, AirbyteStream> descriptorToStreamNew = streamDescriptorToMap(
         newCatalog);
+    final Map<StreamDescriptor, ConfiguredAirbyteStream> descriptorToConfiguredStream = configuredStreamDescriptorToMap(
+        configuredCatalog);
 
     Sets.difference(descriptorToStreamOld.keySet(), descriptorToStreamNew.keySet())
         .forEach(descriptor -> streamTransforms.add(
@@ -178,12 +192,11 @@ public class CatalogDiffHelpers {
           final AirbyteStream streamOld = descriptorToStreamOld.get(descriptor);
           final AirbyteStream streamNew = descriptorToStreamNew.get(descriptor);
 
-          final Optional<ConfiguredAirbyteStream> stream = configuredCatalog.getStreams().stream()
-              .filter(s -> Objects.equals(s.getStream().getNamespace(), descriptor.getNamespace())
-                  && s.getStream().getName().equals(descriptor.getName()))
-              .findFirst();
+          final Optional<ConfiguredAirbyteStream> stream = Optional.ofNullable(descriptorToConfiguredStream.get(descriptor));
 
-          if (!streamOld.equals(streamNew) && stream.isPresent()) {
+          // Only configured streams are diffed, so the deep comparison of the streams, which is what
+          // dominates for large catalogs where most streams are unchanged, is skipped for the others.
+          if (stream.isPresent() && !streamOld.equals(streamNew)) {
             // getStreamDiff only checks for differences in the stream's field name or field type
             // but there are a number of reasons the streams might be different (such as a source-defined
             // primary key or cursor changing). These should not be expressed as "stream updates".
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.protocol;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.protocol.transform_models.StreamTransform;
+import io.airbyte.config.ConfiguredAirbyteCatalog;
+import io.airbyte.config.ConfiguredAirbyteStream;
+import io.airbyte.config.DestinationSyncMode;
+import io.airbyte.config.SyncMode;
+import io.airbyte.protocol.models.AirbyteCatalog;
+import io.airbyte.protocol.models.AirbyteStream;
+import io.airbyte.protocol.models.Jsons;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link CatalogDiffHelpers#getCatalogDiff} on synthetic catalogs of the size some
+ * database sources discover, where every stream is configured and one stream in a hundred gained a
+ * field since the previous discover.
+ * <p>
+ * Not run as part of the test suite. Run {@link #main(String[])} to benchmark.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CatalogDiffHelpersBenchmark {
+
+  private static final int FIELDS_PER_STREAM = 20;
+  private static final int CHANGED_STREAM_INTERVAL = 100;
+
+  @Param({"5000", "20000"})
+  public int streamCount;
+
+  private AirbyteCatalog oldCatalog;
+  private AirbyteCatalog newCatalog;
+  private ConfiguredAirbyteCatalog configuredCatalog;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    oldCatalog = new AirbyteCatalog().withStreams(IntStream.range(0, streamCount).mapToObj(i -> stream(i, false)).toList());
+    newCatalog = new AirbyteCatalog().withStreams(IntStream.range(0, streamCount)
+        .mapToObj(i -> stream(i, i % CHANGED_STREAM_INTERVAL == 0))
+        .toList());
+    final List<ConfiguredAirbyteStream> configuredStreams = new ArrayList<>();
+    for (int i = 0; i < streamCount; i++) {
+      final io.airbyte.config.AirbyteStream stream =
+          new io.airbyte.config.AirbyteStream(streamName(i), schema(false), List.of(SyncMode.FULL_REFRESH)).withNamespace("public");
+      configuredStreams.add(new ConfiguredAirbyteStream(stream, SyncMode.FULL_REFRESH, DestinationSyncMode.APPEND));
+    }
+    configuredCatalog = new ConfiguredAirbyteCatalog().withStreams(configuredStreams);
+  }
+
+  private static String streamName(final int index) {
+    return "table_" + index;
+  }
+
+  private static AirbyteStream stream(final int index, final boolean withAddedField) {
+    return new AirbyteStream()
+        .withName(streamName(index))
+        .withNamespace("public")
+        .withJsonSchema(schema(withAddedField))
+        .withSupportedSyncModes(List.of(io.airbyte.protocol.models.SyncMode.FULL_REFRESH));
+  }
+
+  private static JsonNode schema(final boolean withAddedField) {
+    final ObjectNode properties = (ObjectNode) Jsons.emptyObject();
+    for (int i = 0; i < FIELDS_PER_STREAM; i++) {
+      properties.set("column_" + i, Jsons.jsonNode(Map.of("type", "string")));
+    }
+    if (withAddedField) {
+      properties.set("added_column", Jsons.jsonNode(Map.of("type", "number")));
+    }
+    final ObjectNode schema = (ObjectNode) Jsons.emptyObject();
+    schema.put("type", "object");
+    schema.set("properties", properties);
+    return schema;
+  }
+
+  @Benchmark
+  public Set<StreamTransform> getCatalogDiff() {
+    return CatalogDiffHelpers.getCatalogDiff(oldCatalog, newCatalog, configuredCatalog);
+  }
+
+  public static void main(final String[] args) throws Exception {
+    org.openjdk.jmh.Main.main(new String[] {CatalogDiffHelpersBenchmark.class.getSimpleName()});
+  }
+
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.server.authorization;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
+import io.airbyte.commons.auth.config.AirbyteKeycloakConfiguration;
+import io.airbyte.commons.json.Jsons;
+import java.math.BigInteger;
+import java.security.KeyFactory;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Public keys each Keycloak realm signs its tokens with, fetched from the realm's JSON Web Key Set
+ * and cached.
+ * <p>
+ * The key set of a realm is fetched again once it is older than {@link #MAX_AGE}, or when a token
+ * references a key that isn't cached, e.g. right after a key rotation. The latter happens at most
+ * once per {@link #MIN_REFRESH_INTERVAL} per realm, so that tokens with made up key ids don't
+ * result in a request to Keycloak each.
+ * <p>
+ * Realms are named by the tokens before their signature is verified, so at most
+ * {@link #MAX_CACHED_REALMS} realms are cached, and realms whose key set couldn't be fetched, e.g.
+ * because they don't exist, aren't cached at all. Their tokens are validated against the userinfo
+ * endpoint instead, which is a request per token either way.
+ */
+@Slf4j
+class KeycloakRealmKeys {
+
+  static final Duration MAX_AGE = Duration.ofHours(1);
+  static final Duration MIN_REFRESH_INTERVAL = Duration.ofSeconds(30);
+  static final int MAX_CACHED_REALMS = 1_000;
+
+  private record RealmKeys(Map<String, RSAPublicKey> keysById, Instant fetchedAt) {}
+
+  private final OkHttpClient client;
+  private final AirbyteKeycloakConfiguration keycloakConfiguration;
+  private final Clock clock;
+  private final Cache<String, RealmKeys> keysByRealm;
+
+  KeycloakRealmKeys(final OkHttpClient client, final AirbyteKeycloakConfiguration keycloakConfiguration, final Clock clock) {
+    this.client = client;
+    this.keycloakConfiguration = keycloakConfiguration;
+    this.clock = clock;
+    this.keysByRealm = Caffeine.newBuilder()
+        .maximumSize(MAX_CACHED_REALMS)
+        .expireAfterWrite(MAX_AGE)
+        .build();
+  }
+
+  /**
+   * Get the public key of a realm with the given key id.
+   *
+   * @return the key, empty if the realm doesn't have such a key or its key set couldn't be fetched
+   */
+  Optional<RSAPublicKey> getKey(final String realm, final String keyId) {
+    if (keyId == null) {
+      return Optional.empty();
+    }
+    // A realm whose key set couldn't be fetched is removed, as compute drops entries mapped to null.
+    final RealmKeys realmKeys = keysByRealm.asMap().compute(realm, (r, cached) -> {
+      if (cached == null) {
+        return fetch(r);
+      }
+      final Duration age = Duration.between(cached.fetchedAt(), clock.instant());
+      final boolean isStale = age.compareTo(MAX_AGE) > 0;
+      final boolean isMissingKey = !cached.keysById().containsKey(keyId) && age.compareTo(MIN_REFRESH_INTERVAL) > 0;
+      return isStale || isMissingKey ? fetch(r) : cached;
+    });
+    return realmKeys == null ? Optional.empty() : Optional.ofNullable(realmKeys.keysById().get(keyId));
+  }
+
+  @VisibleForTesting
+  boolean isCached(final String realm) {
+    return keysByRealm.getIfPresent(realm) != null;
+  }
+
+  /**
+   * Fetch the key set of a realm.
+   *
+   * @return the keys of the realm, null if they couldn't be fetched
+   */
+  private RealmKeys fetch(final String realm) {
+    final String jwksEndpoint = keycloakConfiguration.getKeycloakJwksEndpointForRealm(realm);
+    log.debug("Fetching the keys of realm {} from {}", realm, jwksEndpoint);
+    final Request request = new Request.Builder().url(jwksEndpoint).get().build();
+    try (final Response response = client.newCall(request).execute()) {
+      if (response.isSuccessful() && response.body() != null) {
+        return new RealmKeys(parseRsaKeys(Jsons.deserialize(response.body().string())), clock.instant());
+      }
+      log.warn("Non-200 response from the JWKS endpoint of realm {}: {}", realm, response.code());
+    } catch (final Exception e) {
+      log.warn("Failed to fetch the keys of realm {}.", realm, e);
+    }
+    return null;
+  }
+
+  private static Map<String, RSAPublicKey> parseRsaKeys(final JsonNode jwks) {
+    final Map<String, RSAPublicKey> keysById = new HashMap<>();
+    for (final JsonNode jwk : jwks.path("keys")) {
+      // Keycloak also publishes encryption keys, which must not be used to verify signatures.
+      if (!"RSA".equals(jwk.path("kty").asText()) || "enc".equals(jwk.path("use").asText()) || !jwk.hasNonNull("kid")) {
+        continue;
+      }
+      try {
+        final BigInteger modulus = new BigInteger(1, Base64.getUrlDecoder().decode(jwk.get("n").asText()));
+        final BigInteger exponent = new BigInteger(1, Base64.getUrlDecoder().decode(jwk.get("e").asText()));
+        keysById.put(jwk.get("kid").asText(),
+            (RSAPublicKey) KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(modulus, exponent)));
+      } catch (final Exception e) {
+        log.warn("Skipping malformed key {}.", jwk.path("kid").asText(), e);
+      }
+    }
+    return keysById;
+  }
+
+}
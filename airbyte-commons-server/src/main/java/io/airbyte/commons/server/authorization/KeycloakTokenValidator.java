@@ -6,9 +6,17 @@ package io.airbyte.commons.server.authorization;
 
 import static io.airbyte.commons.auth.support.JwtTokenParser.JWT_SSO_REALM;
 
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.google.common.annotations.VisibleForTesting;
 import io.airbyte.commons.auth.RequiresAuthMode;
 import io.airbyte.commons.auth.config.AirbyteKeycloakConfiguration;
 import io.airbyte.commons.auth.config.AuthMode;
@@ -20,11 +28,17 @@ import io.micronaut.http.HttpRequest;
 import io.micronaut.security.authentication.Authentication;
 import io.micronaut.security.authentication.AuthenticationException;
 import io.micronaut.security.token.validator.TokenValidator;
+import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import java.nio.charset.StandardCharsets;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Base64;
 import java.util.Map;
+import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
@@ -33,8 +47,11 @@ import org.reactivestreams.Publisher;
 import reactor.core.publisher.Mono;
 
 /**
- * Token Validator for Airbyte Cloud and Enterprise. Performs an online validation of the token
- * against the Keycloak server.
+ * Token Validator for Airbyte Cloud and Enterprise. Only accepts access tokens issued to Airbyte
+ * clients, and verifies their signature locally against the public keys of their Keycloak realm. A
+ * token is only validated online against the Keycloak userinfo endpoint when it is signed with a
+ * key the realm doesn't publish, e.g. during a key rotation. Validated tokens are cached until they
+ * expire, so that the requests of a session don't validate and parse the same token again.
  */
 @Slf4j
 @Singleton
@@ -43,25 +60,88 @@ import reactor.core.publisher.Mono;
   "PMD.ExceptionAsFlowControl"})
 public class KeycloakTokenValidator implements TokenValidator<HttpRequest<?>> {
 
+  @VisibleForTesting
+  static final int MAX_CACHED_TOKENS = 10_000;
+
+  private static final String ACCESS_TOKEN_TYPE = "Bearer";
+
+  /**
+   * Claims of a token that passed validation.
+   */
+  private record ValidatedToken(JsonNode payload, Map<String, Object> userAttributes, Instant expiresAt) {}
+
+  private enum LocalVerification {
+    VALID,
+    INVALID,
+    UNKNOWN_KEY
+  }
+
   private final OkHttpClient client;
   private final AirbyteKeycloakConfiguration keycloakConfiguration;
   private final TokenRoleResolver tokenRoleResolver;
+  private final KeycloakRealmKeys realmKeys;
+  private final Clock clock;
+  private final Cache<String, ValidatedToken> validatedTokens;
 
+  @Inject
   public KeycloakTokenValidator(@Named("keycloakTokenValidatorHttpClient") final OkHttpClient okHttpClient,
                                 final AirbyteKeycloakConfiguration keycloakConfiguration,
                                 final TokenRoleResolver tokenRoleResolver) {
+    this(okHttpClient, keycloakConfiguration, tokenRoleResolver, Clock.systemUTC());
+  }
+
+  @VisibleForTesting
+  KeycloakTokenValidator(final OkHttpClient okHttpClient,
+                         final AirbyteKeycloakConfiguration keycloakConfiguration,
+                         final TokenRoleResolver tokenRoleResolver,
+                         final Clock clock) {
     this.client = okHttpClient;
     this.keycloakConfiguration = keycloakConfiguration;
     this.tokenRoleResolver = tokenRoleResolver;
+    this.realmKeys = new KeycloakRealmKeys(okHttpClient, keycloakConfiguration, clock);
+    this.clock = clock;
+    this.validatedTokens = Caffeine.newBuilder()
+        .maximumSize(MAX_CACHED_TOKENS)
+        .expireAfter(new Expiry<String, ValidatedToken>() {
+
+          @Override
+          public long expireAfterCreate(final String token, final ValidatedToken validatedToken, final long currentTime) {
+            return Math.max(0, Duration.between(clock.instant(), validatedToken.expiresAt()).toNanos());
+          }
+
+          @Override
+          public long expireAfterUpdate(final String token,
+                                        final ValidatedToken validatedToken,
+                                        final long currentTime,
+                                        final long currentDuration) {
+            return expireAfterCreate(token, validatedToken, currentTime);
+          }
+
+          @Override
+          public long expireAfterRead(final String token,
+                                      final ValidatedToken validatedToken,
+                                      final long currentTime,
+                                      final long currentDuration) {
+            return currentDuration;
+          }
+
+        })
+        .build();
   }
 
   @Override
   public Publisher<Authentication> validateToken(final String token, final HttpRequest<?> request) {
+    final ValidatedToken cachedToken = validatedTokens.getIfPresent(token);
+    if (cachedToken != null && cachedToken.expiresAt().isAfter(clock.instant())) {
+      log.debug("Token was already validated, will now getAuthentication for token: {}", token);
+      return Mono.fromCallable(() -> getAuthentication(cachedToken, request));
+    }
+
     return validateTokenWithKeycloak(token)
-        .flatMap(valid -> {
-          if (valid) {
+        .flatMap(validatedToken -> {
+          if (validatedToken.isPresent()) {
             log.debug("Token is valid, will now getAuthentication for token: {}", token);
-            return Mono.just(getAuthentication(token, request));
+            return Mono.just(getAuthentication(validatedToken.get(), request));
           } else {
             // pass to the next validator, if one exists
             log.warn("Token was not a valid Keycloak token: {}", token);
@@ -70,15 +150,12 @@ public class KeycloakTokenValidator implements TokenValidator<HttpRequest<?>> {
         });
   }
 
-  private Authentication getAuthentication(final String token, final HttpRequest<?> request) {
-    final String payload = JwtTokenParser.getJwtPayloadToken(token);
-
+  private Authentication getAuthentication(final ValidatedToken validatedToken, final HttpRequest<?> request) {
     try {
-      final String jwtPayloadString = new String(Base64.getUrlDecoder().decode(payload), StandardCharsets.UTF_8);
-      final JsonNode jwtPayload = Jsons.deserialize(jwtPayloadString);
+      final JsonNode jwtPayload = validatedToken.payload();
       log.debug("jwtPayload: {}", jwtPayload);
 
-      final var userAttributeMap = JwtTokenParser.convertJwtPayloadToUserAttributes(jwtPayload);
+      final var userAttributeMap = validatedToken.userAttributes();
 
       if (isInternalServiceAccount(userAttributeMap)) {
         log.debug("Performing authentication for internal service account...");
@@ -90,6 +167,7 @@ public class KeycloakTokenValidator implements TokenValidator<HttpRequest<?>> {
       log.debug("Performing authentication for auth user '{}'...", authUserId);
 
       if (StringUtils.isNotBlank(authUserId)) {
+        // Roles are resolved for every request, as they depend on the resources it targets.
         final var roles = tokenRoleResolver.resolveRoles(authUserId, request);
 
         log.debug("Authenticating user '{}' with roles {}...", authUserId, roles);
@@ -108,22 +186,119 @@ public class KeycloakTokenValidator implements TokenValidator<HttpRequest<?>> {
     return keycloakConfiguration.getInternalRealm().equals(realm);
   }
 
-  private Mono<Boolean> validateTokenWithKeycloak(final String token) {
+  private Mono<Optional<ValidatedToken>> validateTokenWithKeycloak(final String token) {
+    final ValidatedToken parsedToken;
     final String realm;
     try {
-      final Map<String, Object> jwtAttributes = JwtTokenParser.tokenToAttributes(token);
-      realm = (String) jwtAttributes.get(JwtTokenParser.JWT_SSO_REALM);
+      final String payload = JwtTokenParser.getJwtPayloadToken(token);
+      final JsonNode jwtPayload = Jsons.deserialize(new String(Base64.getUrlDecoder().decode(payload), StandardCharsets.UTF_8));
+      final Map<String, Object> userAttributes = JwtTokenParser.convertJwtPayloadToUserAttributes(jwtPayload);
+      parsedToken = new ValidatedToken(jwtPayload, userAttributes, getExpiresAt(jwtPayload));
+      realm = (String) userAttributes.get(JwtTokenParser.JWT_SSO_REALM);
       log.debug("Extracted realm {}", realm);
     } catch (final Exception e) {
       log.error("Failed to parse realm from JWT token: {}", token, e);
-      return Mono.just(false);
+      return Mono.just(Optional.empty());
     }
 
     if (realm == null) {
       log.debug("Unable to extract realm from token {}", token);
-      return Mono.just(false);
+      return Mono.just(Optional.empty());
+    }
+
+    if (!isAccessToken(parsedToken.payload(), realm)) {
+      log.warn("Token of realm {} is not an access token for Airbyte: {}", realm, token);
+      return Mono.just(Optional.empty());
+    }
+
+    final Mono<Boolean> isValid = switch (verifyLocally(token, realm)) {
+      case VALID -> Mono.just(true);
+      case INVALID -> Mono.just(false);
+      case UNKNOWN_KEY -> validateTokenWithUserInfoEndpoint(token, realm);
+    };
+    return isValid.map(valid -> {
+      if (!valid) {
+        return Optional.empty();
+      }
+      if (parsedToken.expiresAt() != null && parsedToken.expiresAt().isAfter(clock.instant())) {
+        validatedTokens.put(token, parsedToken);
+      }
+      return Optional.of(parsedToken);
+    });
+  }
+
+  /**
+   * Check that the token is an access token Keycloak issued to an Airbyte client. The signature of a
+   * token doesn't tell its kind, and ID and refresh tokens are signed with the same keys: Keycloak
+   * sets their typ claim to ID and Refresh instead of Bearer, and issues ID tokens for the client
+   * that requested them.
+   * <p>
+   * Realms other than the internal realm and the client realm, whose service accounts and
+   * applications are clients of their own, only issue tokens to the webapp.
+   */
+  private boolean isAccessToken(final JsonNode jwtPayload, final String realm) {
+    if (!ACCESS_TOKEN_TYPE.equals(jwtPayload.path("typ").asText())) {
+      return false;
+    }
+    final String authorizedParty = jwtPayload.path("azp").asText();
+    if (StringUtils.isBlank(authorizedParty)) {
+      return false;
+    }
+    final JsonNode audience = jwtPayload.path("aud");
+    final boolean isIssuedForItsClient = audience.isArray()
+        ? audience.size() == 1 && authorizedParty.equals(audience.get(0).asText())
+        : authorizedParty.equals(audience.asText());
+    if (isIssuedForItsClient) {
+      return false;
+    }
+    final boolean isClientRealm = realm.equals(keycloakConfiguration.getInternalRealm()) || realm.equals(keycloakConfiguration.getClientRealm());
+    return isClientRealm || authorizedParty.equals(keycloakConfiguration.getWebClientId());
+  }
+
+  /**
+   * Verify the signature and the expiration of the token against the keys of its realm.
+   */
+  private LocalVerification verifyLocally(final String token, final String realm) {
+    final DecodedJWT decodedJwt;
+    try {
+      decodedJwt = JWT.decode(token);
+    } catch (final JWTVerificationException e) {
+      log.warn("Failed to decode JWT token: {}", token, e);
+      return LocalVerification.INVALID;
     }
 
+    final Optional<RSAPublicKey> key = realmKeys.getKey(realm, decodedJwt.getKeyId());
+    if (key.isEmpty()) {
+      log.debug("Key {} is not a key of realm {}", decodedJwt.getKeyId(), realm);
+      return LocalVerification.UNKNOWN_KEY;
+    }
+
+    final Algorithm algorithm = switch (decodedJwt.getAlgorithm()) {
+      case "RS256" -> Algorithm.RSA256(key.get(), null);
+      case "RS384" -> Algorithm.RSA384(key.get(), null);
+      case "RS512" -> Algorithm.RSA512(key.get(), null);
+      default -> null;
+    };
+    if (algorithm == null) {
+      log.warn("Token is signed with the unsupported algorithm {}", decodedJwt.getAlgorithm());
+      return LocalVerification.INVALID;
+    }
+
+    try {
+      JWT.require(algorithm).build().verify(decodedJwt);
+      return LocalVerification.VALID;
+    } catch (final JWTVerificationException e) {
+      log.warn("Token failed verification against the keys of realm {}: {}", realm, e.getMessage());
+      return LocalVerification.INVALID;
+    }
+  }
+
+  private static Instant getExpiresAt(final JsonNode jwtPayload) {
+    final JsonNode exp = jwtPayload.get("exp");
+    return exp != null && exp.canConvertToLong() ? Instant.ofEpochSecond(exp.asLong()) : null;
+  }
+
+  private Mono<Boolean> validateTokenWithUserInfoEndpoint(final String token, final String realm) {
     final String userInfoEndpoint = keycloakConfiguration.getKeycloakUserInfoEndpointForRealm(realm);
     log.debug("Validating token with Keycloak userinfo endpoint: {}", userInfoEndpoint);
 
@@ -83,6 +83,7 @@ public class AttemptHandler {
   private final DestinationService destinationService;
   private final ActorDefinitionVersionHelper actorDefinitionVersionHelper;
   private final StreamAttemptMetadataService streamAttemptMetadataService;
+  private final SyncProgressBroadcaster syncProgressBroadcaster;
 
   public AttemptHandler(final JobPersistence jobPersistence,
                         final StatePersistence statePersistence,
@@ -94,7 +95,8 @@ public class AttemptHandler {
                         final ConnectionService connectionService,
                         final DestinationService destinationService,
                         final ActorDefinitionVersionHelper actorDefinitionVersionHelper,
-                        final StreamAttemptMetadataService streamAttemptMetadataService) {
+                        final StreamAttemptMetadataService streamAttemptMetadataService,
+                        final SyncProgressBroadcaster syncProgressBroadcaster) {
     this.jobPersistence = jobPersistence;
     this.statePersistence = statePersistence;
     this.jobConverter = jobConverter;
@@ -106,6 +108,7 @@ public class AttemptHandler {
     this.destinationService = destinationService;
     this.actorDefinitionVersionHelper = actorDefinitionVersionHelper;
     this.streamAttemptMetadataService = streamAttemptMetadataService;
+    this.syncProgressBroadcaster = syncProgressBroadcaster;
   }
 
   public CreateNewAttemptNumberResponse createNewAttemptNumber(final long jobId)
@@ -280,6 +283,7 @@ public class AttemptHandler {
           requestBody.getConnectionId(),
           streamStats);
 
+      syncProgressBroadcaster.onStats(requestBody);
     } catch (final IOException ioe) {
       LOGGER.error("IOException when setting temporal workflow in attempt;", ioe);
       return new InternalOperationResult().succeeded(false);
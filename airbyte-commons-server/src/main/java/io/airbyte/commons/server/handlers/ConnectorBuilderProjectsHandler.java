@@ -36,6 +36,7 @@ import io.airbyte.api.model.generated.SourceDefinitionIdBody;
 import io.airbyte.api.model.generated.WorkspaceIdRequestBody;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.server.errors.NotFoundException;
+import io.airbyte.commons.server.handlers.helpers.ActorDefinitionsSnapshot;
 import io.airbyte.commons.server.handlers.helpers.BuilderProjectUpdater;
 import io.airbyte.commons.server.handlers.helpers.DeclarativeSourceManifestInjector;
 import io.airbyte.commons.version.Version;
@@ -116,6 +117,7 @@ public class ConnectorBuilderProjectsHandler {
   private final ConnectorBuilderServerApi connectorBuilderServerApiClient;
   private final ActorDefinitionService actorDefinitionService;
   private final RemoteDefinitionsProvider remoteDefinitionsProvider;
+  private final ActorDefinitionsSnapshot actorDefinitionsSnapshot;
 
   public static final String SPEC_FIELD = "spec";
   public static final String CONNECTION_SPECIFICATION_FIELD = "connection_specification";
@@ -135,7 +137,8 @@ public class ConnectorBuilderProjectsHandler {
                                          @Named("jsonSecretsProcessorWithCopy") final JsonSecretsProcessor secretsProcessor,
                                          final ConnectorBuilderServerApi connectorBuilderServerApiClient,
                                          final ActorDefinitionService actorDefinitionService,
-                                         final RemoteDefinitionsProvider remoteDefinitionsProvider) {
+                                         final RemoteDefinitionsProvider remoteDefinitionsProvider,
+                                         final ActorDefinitionsSnapshot actorDefinitionsSnapshot) {
     this.declarativeManifestImageVersionService = declarativeManifestImageVersionService;
     this.connectorBuilderService = connectorBuilderService;
     this.buildProjectUpdater = builderProjectUpdater;
@@ -151,6 +154,7 @@ public class ConnectorBuilderProjectsHandler {
     this.connectorBuilderServerApiClient = connectorBuilderServerApiClient;
     this.actorDefinitionService = actorDefinitionService;
     this.remoteDefinitionsProvider = remoteDefinitionsProvider;
+    this.actorDefinitionsSnapshot = actorDefinitionsSnapshot;
   }
 
   private ConnectorBuilderProjectDetailsRead getProjectDetailsWithoutBaseAdvInfo(final ConnectorBuilderProject project) {
@@ -414,6 +418,7 @@ public class ConnectorBuilderProjectsHandler {
         .withDocumentationUrl(connectorSpecification.getDocumentationUrl().toString());
 
     sourceService.writeCustomConnectorMetadata(source, defaultVersion, workspaceId, ScopeType.WORKSPACE);
+    actorDefinitionsSnapshot.invalidateSourceDefinitions();
     connectorBuilderService
         .writeActorDefinitionConfigInjectionForPath(manifestInjector.createConfigInjection(source.getSourceDefinitionId(), manifest));
 
@@ -15,6 +15,7 @@ import io.airbyte.api.problems.throwable.generated.BadRequestProblem;
 import io.airbyte.commons.server.errors.DeclarativeSourceNotFoundException;
 import io.airbyte.commons.server.errors.SourceIsNotDeclarativeException;
 import io.airbyte.commons.server.errors.ValueConflictKnownException;
+import io.airbyte.commons.server.handlers.helpers.ActorDefinitionsSnapshot;
 import io.airbyte.commons.server.handlers.helpers.DeclarativeSourceManifestInjector;
 import io.airbyte.commons.version.Version;
 import io.airbyte.config.DeclarativeManifest;
@@ -46,18 +47,21 @@ public class DeclarativeSourceDefinitionsHandler {
   private final WorkspaceService workspaceService;
   private final DeclarativeSourceManifestInjector manifestInjector;
   private final AirbyteCompatibleConnectorsValidator airbyteCompatibleConnectorsValidator;
+  private final ActorDefinitionsSnapshot actorDefinitionsSnapshot;
 
   @Inject
   public DeclarativeSourceDefinitionsHandler(final DeclarativeManifestImageVersionService declarativeManifestImageVersionService,
                                              final ConnectorBuilderService connectorBuilderService,
                                              final WorkspaceService workspaceService,
                                              final DeclarativeSourceManifestInjector manifestInjector,
-                                             final AirbyteCompatibleConnectorsValidator airbyteCompatibleConnectorsValidator) {
+                                             final AirbyteCompatibleConnectorsValidator airbyteCompatibleConnectorsValidator,
+                                             final ActorDefinitionsSnapshot actorDefinitionsSnapshot) {
     this.declarativeManifestImageVersionService = declarativeManifestImageVersionService;
     this.connectorBuilderService = connectorBuilderService;
     this.workspaceService = workspaceService;
     this.manifestInjector = manifestInjector;
     this.airbyteCompatibleConnectorsValidator = airbyteCompatibleConnectorsValidator;
+    this.actorDefinitionsSnapshot = actorDefinitionsSnapshot;
   }
 
   public void createDeclarativeSourceDefinitionManifest(final DeclarativeSourceDefinitionCreateManifestRequestBody requestBody) throws IOException {
@@ -84,6 +88,8 @@ public class DeclarativeSourceDefinitionsHandler {
       connectorBuilderService.createDeclarativeManifestAsActiveVersion(declarativeManifest,
           manifestInjector.createConfigInjection(requestBody.getSourceDefinitionId(), declarativeManifest.getManifest()),
           manifestInjector.createDeclarativeManifestConnectorSpecification(spec), getImageVersionForManifest(declarativeManifest).getImageVersion());
+      // The active manifest comes with a new default version of the source definition.
+      actorDefinitionsSnapshot.invalidateSourceDefinitions();
     } else {
       connectorBuilderService.insertDeclarativeManifest(declarativeManifest);
     }
@@ -114,6 +120,7 @@ public class DeclarativeSourceDefinitionsHandler {
         manifestInjector.createConfigInjection(declarativeManifest.getActorDefinitionId(), declarativeManifest.getManifest()),
         manifestInjector.createDeclarativeManifestConnectorSpecification(declarativeManifest.getSpec()),
         imageVersionForManifest);
+    actorDefinitionsSnapshot.invalidateSourceDefinitions();
   }
 
   private Collection<Long> fetchAvailableManifestVersions(final UUID sourceDefinitionId) throws IOException {
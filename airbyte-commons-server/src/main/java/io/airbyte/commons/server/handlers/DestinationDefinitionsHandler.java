@@ -24,6 +24,7 @@ import io.airbyte.commons.server.converters.ApiPojoConverters;
 import io.airbyte.commons.server.errors.IdNotFoundKnownException;
 import io.airbyte.commons.server.errors.InternalServerKnownException;
 import io.airbyte.commons.server.handlers.helpers.ActorDefinitionHandlerHelper;
+import io.airbyte.commons.server.handlers.helpers.ActorDefinitionsSnapshot;
 import io.airbyte.config.ActorDefinitionBreakingChange;
 import io.airbyte.config.ActorDefinitionResourceRequirements;
 import io.airbyte.config.ActorDefinitionVersion;
@@ -56,6 +57,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -81,6 +83,7 @@ public class DestinationDefinitionsHandler {
 
   private final DestinationService destinationService;
   private final WorkspaceService workspaceService;
+  private final ActorDefinitionsSnapshot actorDefinitionsSnapshot;
 
   @VisibleForTesting
   public DestinationDefinitionsHandler(final ActorDefinitionService actorDefinitionService,
@@ -93,7 +96,8 @@ public class DestinationDefinitionsHandler {
                                        final ActorDefinitionVersionHelper actorDefinitionVersionHelper,
                                        final AirbyteCompatibleConnectorsValidator airbyteCompatibleConnectorsValidator,
                                        final DestinationService destinationService,
-                                       final WorkspaceService workspaceService) {
+                                       final WorkspaceService workspaceService,
+                                       final ActorDefinitionsSnapshot actorDefinitionsSnapshot) {
     this.actorDefinitionService = actorDefinitionService;
     this.uuidSupplier = uuidSupplier;
     this.actorDefinitionHandlerHelper = actorDefinitionHandlerHelper;
@@ -105,10 +109,22 @@ public class DestinationDefinitionsHandler {
     this.airbyteCompatibleConnectorsValidator = airbyteCompatibleConnectorsValidator;
     this.destinationService = destinationService;
     this.workspaceService = workspaceService;
+    this.actorDefinitionsSnapshot = actorDefinitionsSnapshot;
   }
 
   public DestinationDefinitionRead buildDestinationDefinitionRead(final UUID destinationDefinitionId)
       throws ConfigNotFoundException, IOException, JsonValidationException {
+    final ActorDefinitionsSnapshot.DestinationDefinitions snapshot = actorDefinitionsSnapshot.getDestinationDefinitions();
+    final Optional<StandardDestinationDefinition> snapshotDefinition = snapshot.find(destinationDefinitionId);
+    final Optional<ActorDefinitionVersion> snapshotVersion = snapshotDefinition
+        .filter(d -> !Boolean.TRUE.equals(d.getCustom()))
+        .flatMap(snapshot::findDefaultVersion);
+    if (snapshotVersion.isPresent()) {
+      return buildDestinationDefinitionRead(snapshotDefinition.get(), snapshotVersion.get());
+    }
+
+    // Tombstoned definitions, and definitions created since the snapshot was loaded, are read from the database. So are custom
+    // definitions, whose default version changes with each manifest a workspace publishes, possibly through another instance.
     final StandardDestinationDefinition destinationDefinition =
         destinationService.getStandardDestinationDefinition(destinationDefinitionId);
     final ActorDefinitionVersion destinationVersion = actorDefinitionService.getActorDefinitionVersion(destinationDefinition.getDefaultVersionId());
@@ -142,9 +158,8 @@ public class DestinationDefinitionsHandler {
   }
 
   public DestinationDefinitionReadList listDestinationDefinitions() throws IOException {
-    final List<StandardDestinationDefinition> standardDestinationDefinitions = destinationService.listStandardDestinationDefinitions(false);
-    final Map<UUID, ActorDefinitionVersion> destinationDefinitionVersionMap = getVersionsForDestinationDefinitions(standardDestinationDefinitions);
-    return toDestinationDefinitionReadList(standardDestinationDefinitions, destinationDefinitionVersionMap);
+    final ActorDefinitionsSnapshot.DestinationDefinitions snapshot = actorDefinitionsSnapshot.getDestinationDefinitions();
+    return toDestinationDefinitionReadList(snapshot.definitions(), snapshot.defaultVersionsByDefinitionId());
   }
 
   private DestinationDefinitionReadList toDestinationDefinitionReadList(final List<StandardDestinationDefinition> defs,
@@ -187,8 +202,9 @@ public class DestinationDefinitionsHandler {
 
   public DestinationDefinitionReadList listDestinationDefinitionsForWorkspace(final WorkspaceIdRequestBody workspaceIdRequestBody)
       throws IOException {
+    final ActorDefinitionsSnapshot.DestinationDefinitions snapshot = actorDefinitionsSnapshot.getDestinationDefinitions();
     final List<StandardDestinationDefinition> destinationDefs = Stream.concat(
-        destinationService.listPublicDestinationDefinitions(false).stream(),
+        snapshot.publicDefinitions().stream(),
         destinationService.listGrantedDestinationDefinitions(workspaceIdRequestBody.getWorkspaceId(), false).stream()).toList();
 
     // Hide destination definitions from the list via feature flag
@@ -200,7 +216,8 @@ public class DestinationDefinitionsHandler {
         .toList();
 
     final Map<UUID, ActorDefinitionVersion> sourceDefVersionMap =
-        actorDefinitionVersionHelper.getDestinationVersions(shownDestinationDefs, workspaceIdRequestBody.getWorkspaceId());
+        actorDefinitionVersionHelper.getDestinationVersions(shownDestinationDefs, workspaceIdRequestBody.getWorkspaceId(),
+            snapshot.defaultVersions());
     return toDestinationDefinitionReadList(shownDestinationDefs, sourceDefVersionMap);
   }
 
@@ -279,6 +296,7 @@ public class DestinationDefinitionsHandler {
       destinationService.writeCustomConnectorMetadata(destinationDefinition, actorDefinitionVersion,
           customDestinationDefinitionCreate.getScopeId(), ScopeType.fromValue(customDestinationDefinitionCreate.getScopeType().toString()));
     }
+    actorDefinitionsSnapshot.invalidateDestinationDefinitions();
 
     return buildDestinationDefinitionRead(destinationDefinition, actorDefinitionVersion);
   }
@@ -309,6 +327,7 @@ public class DestinationDefinitionsHandler {
     final List<ActorDefinitionBreakingChange> breakingChangesForDef =
         actorDefinitionHandlerHelper.getBreakingChanges(newVersion, ActorType.DESTINATION);
     destinationService.writeConnectorMetadata(newDestination, newVersion, breakingChangesForDef);
+    actorDefinitionsSnapshot.invalidateDestinationDefinitions();
 
     final StandardDestinationDefinition updatedDestinationDefinition = destinationService
         .getStandardDestinationDefinition(destinationDefinitionUpdate.getDestinationDefinitionId());
@@ -357,6 +376,7 @@ public class DestinationDefinitionsHandler {
 
     persistedDestinationDefinition.withTombstone(true);
     destinationService.updateStandardDestinationDefinition(persistedDestinationDefinition);
+    actorDefinitionsSnapshot.invalidateDestinationDefinitions();
   }
 
   public PrivateDestinationDefinitionRead grantDestinationDefinitionToWorkspaceOrOrganization(final ActorDefinitionIdWithScope actorDefinitionIdWithScope)
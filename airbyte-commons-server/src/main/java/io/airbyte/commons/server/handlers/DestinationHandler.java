@@ -48,9 +48,11 @@ import jakarta.inject.Singleton;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * DestinationHandler. Javadocs suppressed because api docs should be used as source of truth.
@@ -261,6 +263,7 @@ public class DestinationHandler {
     final List<DestinationRead> destinationReads = new ArrayList<>();
     final List<DestinationConnection> destinationConnections =
         destinationService.listWorkspaceDestinationConnection(workspaceIdRequestBody.getWorkspaceId());
+    prefetchDestinationVersions(workspaceIdRequestBody.getWorkspaceId(), destinationConnections);
     for (final DestinationConnection destinationConnection : destinationConnections) {
       destinationReads.add(buildDestinationReadWithStatus(destinationConnection));
     }
@@ -268,6 +271,21 @@ public class DestinationHandler {
     return new DestinationReadList().destinations(destinationReads);
   }
 
+  /**
+   * Resolves the versions of all listed destinations with one batch per definition, so that building
+   * each read hits the version cache instead of resolving overrides destination by destination.
+   */
+  private void prefetchDestinationVersions(final UUID workspaceId, final List<DestinationConnection> destinationConnections)
+      throws JsonValidationException, ConfigNotFoundException, IOException {
+    final Map<UUID, List<UUID>> destinationIdsByDefinitionId = destinationConnections.stream()
+        .collect(Collectors.groupingBy(DestinationConnection::getDestinationDefinitionId,
+            Collectors.mapping(DestinationConnection::getDestinationId, Collectors.toList())));
+    for (final Map.Entry<UUID, List<UUID>> entry : destinationIdsByDefinitionId.entrySet()) {
+      final StandardDestinationDefinition destinationDefinition = destinationService.getStandardDestinationDefinition(entry.getKey());
+      actorDefinitionVersionHelper.getDestinationVersionsWithOverrideStatus(destinationDefinition, workspaceId, entry.getValue());
+    }
+  }
+
   private DestinationRead buildDestinationReadWithStatus(final DestinationConnection destinationConnection)
       throws JsonValidationException, ConfigNotFoundException, IOException {
     final DestinationRead destinationRead = buildDestinationRead(destinationConnection);
@@ -69,6 +69,7 @@ import jakarta.inject.Singleton;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -390,7 +391,8 @@ public class JobHistoryHandler {
     } else if (runningJobConfigType.equals(JobConfigType.REFRESH)) {
       final List<StreamDescriptor> streamsToRefresh = runningJob.getJob().getRefreshConfig().getStreamsToRefresh();
       streamToTrackPerConfigType.put(JobConfigType.REFRESH, streamsToRefresh);
-      streamToTrackPerConfigType.put(JobConfigType.SYNC, enabledStreams.stream().filter(s -> !streamsToRefresh.contains(s)).toList());
+      final Set<StreamDescriptor> streamsToRefreshSet = new HashSet<>(streamsToRefresh);
+      streamToTrackPerConfigType.put(JobConfigType.SYNC, enabledStreams.stream().filter(s -> !streamsToRefreshSet.contains(s)).toList());
     } else if (runningJobConfigType.equals(JobConfigType.RESET_CONNECTION) || runningJobConfigType.equals(JobConfigType.CLEAR)) {
       streamToTrackPerConfigType.put(runningJobConfigType, runningJob.getJob().getResetConfig().getStreamsToReset());
     }
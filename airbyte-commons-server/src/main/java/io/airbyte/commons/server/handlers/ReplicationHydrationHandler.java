@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.server.handlers;
+
+import io.airbyte.api.model.generated.ActorType;
+import io.airbyte.api.model.generated.ConnectionIdRequestBody;
+import io.airbyte.api.model.generated.ConnectionRead;
+import io.airbyte.api.model.generated.ReplicationHydrationInputRead;
+import io.airbyte.api.model.generated.ReplicationHydrationInputRequestBody;
+import io.airbyte.api.model.generated.ResolveActorDefinitionVersionRequestBody;
+import io.airbyte.api.model.generated.ResolveActorDefinitionVersionResponse;
+import io.airbyte.api.model.generated.SyncInput;
+import io.airbyte.data.exceptions.ConfigNotFoundException;
+import io.airbyte.data.services.DestinationService;
+import io.airbyte.validation.json.JsonValidationException;
+import jakarta.inject.Singleton;
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Assembles, in a single server-side pass, everything the replication input hydrator would
+ * otherwise fetch with one API round trip per read.
+ */
+@Singleton
+public class ReplicationHydrationHandler {
+
+  private final DestinationService destinationService;
+  private final ActorDefinitionVersionHandler actorDefinitionVersionHandler;
+  private final ConnectionsHandler connectionsHandler;
+  private final StateHandler stateHandler;
+  private final JobInputHandler jobInputHandler;
+  private final JobHistoryHandler jobHistoryHandler;
+
+  public ReplicationHydrationHandler(final DestinationService destinationService,
+                                     final ActorDefinitionVersionHandler actorDefinitionVersionHandler,
+                                     final ConnectionsHandler connectionsHandler,
+                                     final StateHandler stateHandler,
+                                     final JobInputHandler jobInputHandler,
+                                     final JobHistoryHandler jobHistoryHandler) {
+    this.destinationService = destinationService;
+    this.actorDefinitionVersionHandler = actorDefinitionVersionHandler;
+    this.connectionsHandler = connectionsHandler;
+    this.stateHandler = stateHandler;
+    this.jobInputHandler = jobInputHandler;
+    this.jobHistoryHandler = jobHistoryHandler;
+  }
+
+  public ReplicationHydrationInputRead getReplicationHydrationInput(final ReplicationHydrationInputRequestBody request)
+      throws JsonValidationException, ConfigNotFoundException, IOException {
+    final UUID connectionId = request.getConnectionId();
+
+    final UUID destinationDefinitionId = destinationService.getDestinationConnection(request.getDestinationId()).getDestinationDefinitionId();
+    final ResolveActorDefinitionVersionResponse destinationVersion = actorDefinitionVersionHandler.resolveActorDefinitionVersionByTag(
+        new ResolveActorDefinitionVersionRequestBody()
+            .actorDefinitionId(destinationDefinitionId)
+            .actorType(ActorType.DESTINATION)
+            .dockerImageTag(request.getDestinationDockerImageTag()));
+
+    // Destinations that support refreshes need the catalog as it was when the job was created.
+    final ConnectionRead connection = Boolean.TRUE.equals(destinationVersion.getSupportRefreshes())
+        ? connectionsHandler.getConnectionForJob(connectionId, request.getJobId())
+        : connectionsHandler.getConnection(connectionId);
+
+    final ConnectionIdRequestBody connectionIdRequestBody = new ConnectionIdRequestBody().connectionId(connectionId);
+    return new ReplicationHydrationInputRead()
+        .destinationVersion(destinationVersion)
+        .connection(connection)
+        .jobInput(jobInputHandler.getJobInput(new SyncInput().jobId(request.getJobId()).attemptNumber(request.getAttemptNumber())))
+        .state(stateHandler.getState(connectionIdRequestBody))
+        .lastReplicationJob(Boolean.TRUE.equals(request.getIncludeLastReplicationJob())
+            ? jobHistoryHandler.getLastReplicationJob(connectionIdRequestBody)
+            : null);
+  }
+
+}
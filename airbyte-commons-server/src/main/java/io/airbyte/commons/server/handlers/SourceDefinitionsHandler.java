@@ -25,6 +25,7 @@ import io.airbyte.commons.server.converters.ApiPojoConverters;
 import io.airbyte.commons.server.errors.IdNotFoundKnownException;
 import io.airbyte.commons.server.errors.InternalServerKnownException;
 import io.airbyte.commons.server.handlers.helpers.ActorDefinitionHandlerHelper;
+import io.airbyte.commons.server.handlers.helpers.ActorDefinitionsSnapshot;
 import io.airbyte.config.ActorDefinitionBreakingChange;
 import io.airbyte.config.ActorDefinitionResourceRequirements;
 import io.airbyte.config.ActorDefinitionVersion;
@@ -58,6 +59,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -82,6 +84,7 @@ public class SourceDefinitionsHandler {
   private final ActorDefinitionService actorDefinitionService;
   private final SourceService sourceService;
   private final WorkspaceService workspaceService;
+  private final ActorDefinitionsSnapshot actorDefinitionsSnapshot;
 
   @Inject
   public SourceDefinitionsHandler(final ActorDefinitionService actorDefinitionService,
@@ -94,7 +97,8 @@ public class SourceDefinitionsHandler {
                                   final ActorDefinitionVersionHelper actorDefinitionVersionHelper,
                                   final AirbyteCompatibleConnectorsValidator airbyteCompatibleConnectorsValidator,
                                   final SourceService sourceService,
-                                  final WorkspaceService workspaceService) {
+                                  final WorkspaceService workspaceService,
+                                  final ActorDefinitionsSnapshot actorDefinitionsSnapshot) {
     this.actorDefinitionService = actorDefinitionService;
     this.uuidSupplier = uuidSupplier;
     this.actorDefinitionHandlerHelper = actorDefinitionHandlerHelper;
@@ -106,10 +110,22 @@ public class SourceDefinitionsHandler {
     this.airbyteCompatibleConnectorsValidator = airbyteCompatibleConnectorsValidator;
     this.sourceService = sourceService;
     this.workspaceService = workspaceService;
+    this.actorDefinitionsSnapshot = actorDefinitionsSnapshot;
   }
 
   public SourceDefinitionRead buildSourceDefinitionRead(final UUID sourceDefinitionId)
       throws ConfigNotFoundException, IOException, JsonValidationException {
+    final ActorDefinitionsSnapshot.SourceDefinitions snapshot = actorDefinitionsSnapshot.getSourceDefinitions();
+    final Optional<StandardSourceDefinition> snapshotDefinition = snapshot.find(sourceDefinitionId);
+    final Optional<ActorDefinitionVersion> snapshotVersion = snapshotDefinition
+        .filter(d -> !Boolean.TRUE.equals(d.getCustom()))
+        .flatMap(snapshot::findDefaultVersion);
+    if (snapshotVersion.isPresent()) {
+      return buildSourceDefinitionRead(snapshotDefinition.get(), snapshotVersion.get());
+    }
+
+    // Tombstoned definitions, and definitions created since the snapshot was loaded, are read from the database. So are custom
+    // definitions, whose default version changes with each manifest a workspace publishes, possibly through another instance.
     final StandardSourceDefinition sourceDefinition = sourceService.getStandardSourceDefinition(sourceDefinitionId);
     final ActorDefinitionVersion sourceVersion = actorDefinitionService.getActorDefinitionVersion(sourceDefinition.getDefaultVersionId());
     return buildSourceDefinitionRead(sourceDefinition, sourceVersion);
@@ -153,9 +169,8 @@ public class SourceDefinitionsHandler {
   }
 
   public SourceDefinitionReadList listSourceDefinitions() throws IOException {
-    final List<StandardSourceDefinition> standardSourceDefinitions = sourceService.listStandardSourceDefinitions(false);
-    final Map<UUID, ActorDefinitionVersion> sourceDefinitionVersionMap = getVersionsForSourceDefinitions(standardSourceDefinitions);
-    return toSourceDefinitionReadList(standardSourceDefinitions, sourceDefinitionVersionMap);
+    final ActorDefinitionsSnapshot.SourceDefinitions snapshot = actorDefinitionsSnapshot.getSourceDefinitions();
+    return toSourceDefinitionReadList(snapshot.definitions(), snapshot.defaultVersionsByDefinitionId());
   }
 
   private Map<UUID, ActorDefinitionVersion> getVersionsForSourceDefinitions(final List<StandardSourceDefinition> sourceDefinitions)
@@ -197,8 +212,9 @@ public class SourceDefinitionsHandler {
 
   public SourceDefinitionReadList listSourceDefinitionsForWorkspace(final WorkspaceIdRequestBody workspaceIdRequestBody)
       throws IOException {
+    final ActorDefinitionsSnapshot.SourceDefinitions snapshot = actorDefinitionsSnapshot.getSourceDefinitions();
     final List<StandardSourceDefinition> sourceDefs = Stream.concat(
-        sourceService.listPublicSourceDefinitions(false).stream(),
+        snapshot.publicDefinitions().stream(),
         sourceService.listGrantedSourceDefinitions(workspaceIdRequestBody.getWorkspaceId(), false).stream()).toList();
 
     // Hide source definitions from the list via feature flag
@@ -208,7 +224,7 @@ public class SourceDefinitionsHandler {
         .toList();
 
     final Map<UUID, ActorDefinitionVersion> sourceDefVersionMap =
-        actorDefinitionVersionHelper.getSourceVersions(shownSourceDefs, workspaceIdRequestBody.getWorkspaceId());
+        actorDefinitionVersionHelper.getSourceVersions(shownSourceDefs, workspaceIdRequestBody.getWorkspaceId(), snapshot.defaultVersions());
     return toSourceDefinitionReadList(shownSourceDefs, sourceDefVersionMap);
   }
 
@@ -284,6 +300,7 @@ public class SourceDefinitionsHandler {
       sourceService.writeCustomConnectorMetadata(sourceDefinition, actorDefinitionVersion,
           customSourceDefinitionCreate.getScopeId(), ScopeType.fromValue(customSourceDefinitionCreate.getScopeType().toString()));
     }
+    actorDefinitionsSnapshot.invalidateSourceDefinitions();
 
     return buildSourceDefinitionRead(sourceDefinition, actorDefinitionVersion);
   }
@@ -312,6 +329,7 @@ public class SourceDefinitionsHandler {
 
     final List<ActorDefinitionBreakingChange> breakingChangesForDef = actorDefinitionHandlerHelper.getBreakingChanges(newVersion, ActorType.SOURCE);
     sourceService.writeConnectorMetadata(newSource, newVersion, breakingChangesForDef);
+    actorDefinitionsSnapshot.invalidateSourceDefinitions();
 
     final StandardSourceDefinition updatedSourceDefinition = sourceService.getStandardSourceDefinition(newSource.getSourceDefinitionId());
     supportStateUpdater.updateSupportStatesForSourceDefinition(updatedSourceDefinition);
@@ -360,6 +378,7 @@ public class SourceDefinitionsHandler {
 
     persistedSourceDefinition.withTombstone(true);
     sourceService.updateStandardSourceDefinition(persistedSourceDefinition);
+    actorDefinitionsSnapshot.invalidateSourceDefinitions();
   }
 
   public PrivateSourceDefinitionRead grantSourceDefinitionToWorkspaceOrOrganization(final ActorDefinitionIdWithScope actorDefinitionIdWithScope)
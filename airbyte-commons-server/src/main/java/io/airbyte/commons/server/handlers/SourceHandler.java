@@ -8,6 +8,7 @@ import static io.airbyte.commons.server.converters.ApiPojoConverters.toApiSuppor
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import io.airbyte.api.model.generated.ActorCatalogWithUpdatedAt;
 import io.airbyte.api.model.generated.ActorDefinitionVersionBreakingChanges;
@@ -31,9 +32,11 @@ import io.airbyte.api.model.generated.SourceUpdate;
 import io.airbyte.api.model.generated.WorkspaceIdRequestBody;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.server.converters.ConfigurationUpdate;
+import io.airbyte.commons.server.errors.BadRequestException;
 import io.airbyte.commons.server.handlers.helpers.ActorDefinitionHandlerHelper;
 import io.airbyte.commons.server.handlers.helpers.CatalogConverter;
 import io.airbyte.commons.server.handlers.helpers.OAuthSecretHelper;
+import io.airbyte.commons.storage.ChunkedDocumentStore;
 import io.airbyte.config.ActorDefinitionVersion;
 import io.airbyte.config.ScopeType;
 import io.airbyte.config.SecretPersistenceConfig;
@@ -57,6 +60,7 @@ import io.airbyte.featureflag.Organization;
 import io.airbyte.featureflag.UseRuntimeSecretPersistence;
 import io.airbyte.persistence.job.factory.OAuthConfigSupplier;
 import io.airbyte.protocol.models.AirbyteCatalog;
+import io.airbyte.protocol.models.AirbyteStream;
 import io.airbyte.protocol.models.ConnectorSpecification;
 import io.airbyte.validation.json.JsonSchemaValidator;
 import io.airbyte.validation.json.JsonValidationException;
@@ -64,9 +68,11 @@ import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * SourceHandler. Javadocs suppressed because api docs should be used as source of truth.
@@ -90,6 +96,7 @@ public class SourceHandler {
   private final WorkspaceService workspaceService;
   private final SecretPersistenceConfigService secretPersistenceConfigService;
   private final ActorDefinitionHandlerHelper actorDefinitionHandlerHelper;
+  private final ChunkedDocumentStore discoveredCatalogStore;
 
   @VisibleForTesting
   public SourceHandler(final CatalogService catalogService,
@@ -106,7 +113,8 @@ public class SourceHandler {
                        final WorkspaceService workspaceService,
                        final SecretPersistenceConfigService secretPersistenceConfigService,
                        final ActorDefinitionHandlerHelper actorDefinitionHandlerHelper,
-                       final ActorDefinitionVersionUpdater actorDefinitionVersionUpdater) {
+                       final ActorDefinitionVersionUpdater actorDefinitionVersionUpdater,
+                       @Named("discoveredCatalogStore") final ChunkedDocumentStore discoveredCatalogStore) {
     this.catalogService = catalogService;
     this.secretsRepositoryReader = secretsRepositoryReader;
     validator = integrationSchemaValidation;
@@ -122,6 +130,7 @@ public class SourceHandler {
     this.secretPersistenceConfigService = secretPersistenceConfigService;
     this.actorDefinitionHandlerHelper = actorDefinitionHandlerHelper;
     this.actorDefinitionVersionUpdater = actorDefinitionVersionUpdater;
+    this.discoveredCatalogStore = discoveredCatalogStore;
   }
 
   public SourceRead createSourceWithOptionalSecret(final SourceCreate sourceCreate)
@@ -294,6 +303,7 @@ public class SourceHandler {
       throws ConfigNotFoundException, IOException, JsonValidationException {
 
     final List<SourceConnection> sourceConnections = sourceService.listWorkspaceSourceConnection(workspaceIdRequestBody.getWorkspaceId());
+    prefetchSourceVersions(workspaceIdRequestBody.getWorkspaceId(), sourceConnections);
 
     final List<SourceRead> reads = Lists.newArrayList();
     for (final SourceConnection sc : sourceConnections) {
@@ -303,6 +313,21 @@ public class SourceHandler {
     return new SourceReadList().sources(reads);
   }
 
+  /**
+   * Resolves the versions of all listed sources with one batch per definition, so that building each
+   * read hits the version cache instead of resolving overrides source by source.
+   */
+  private void prefetchSourceVersions(final UUID workspaceId, final List<SourceConnection> sourceConnections)
+      throws JsonValidationException, ConfigNotFoundException, IOException {
+    final Map<UUID, List<UUID>> sourceIdsByDefinitionId = sourceConnections.stream()
+        .collect(Collectors.groupingBy(SourceConnection::getSourceDefinitionId,
+            Collectors.mapping(SourceConnection::getSourceId, Collectors.toList())));
+    for (final Map.Entry<UUID, List<UUID>> entry : sourceIdsByDefinitionId.entrySet()) {
+      final StandardSourceDefinition sourceDefinition = sourceService.getStandardSourceDefinition(entry.getKey());
+      actorDefinitionVersionHelper.getSourceVersionsWithOverrideStatus(sourceDefinition, workspaceId, entry.getValue());
+    }
+  }
+
   public SourceReadList listSourcesForWorkspaces(final ListResourcesForWorkspacesRequestBody listResourcesForWorkspacesRequestBody)
       throws JsonValidationException, ConfigNotFoundException, IOException {
     final List<SourceConnection> sourceConnections =
@@ -387,12 +412,32 @@ public class SourceHandler {
 
   public DiscoverCatalogResult writeDiscoverCatalogResult(final SourceDiscoverSchemaWriteRequestBody request)
       throws JsonValidationException, IOException {
-    final AirbyteCatalog persistenceCatalog = CatalogConverter.toProtocol(request.getCatalog());
-    final UUID catalogId = writeActorCatalog(persistenceCatalog, request);
+    final UUID catalogId;
+    if (request.getCatalogStorageId() != null) {
+      catalogId = catalogService.writeActorCatalogFetchEventFromStreams(
+          readDiscoveredStreams(request.getCatalogStorageId()),
+          request.getSourceId(),
+          request.getConnectorVersion(),
+          request.getConfigurationHash());
+    } else if (request.getCatalog() != null) {
+      final AirbyteCatalog persistenceCatalog = CatalogConverter.toProtocol(request.getCatalog());
+      catalogId = writeActorCatalog(persistenceCatalog, request);
+    } else {
+      throw new BadRequestException("Either a catalog or a catalog storage id is required to write a discovered catalog");
+    }
 
     return new DiscoverCatalogResult().catalogId(catalogId);
   }
 
+  /**
+   * The streams of a catalog uploaded by the connector sidecar, read lazily from storage one chunk at
+   * a time every time they are iterated.
+   */
+  private Iterable<AirbyteStream> readDiscoveredStreams(final String catalogStorageId) {
+    return Iterables.transform(discoveredCatalogStore.readLines(catalogStorageId),
+        line -> CatalogConverter.toDiscoveredProtocol(Jsons.deserialize(line, AirbyteStream.class)));
+  }
+
   private UUID writeActorCatalog(final AirbyteCatalog persistenceCatalog, final SourceDiscoverSchemaWriteRequestBody request) throws IOException {
     return catalogService.writeActorCatalogFetchEvent(
         persistenceCatalog,
@@ -6,6 +6,7 @@ package io.airbyte.commons.server.handlers;
 
 import static java.util.stream.Collectors.toMap;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
 import datadog.trace.api.Trace;
@@ -38,6 +39,7 @@ import io.airbyte.api.model.generated.SourceSnippetRead;
 import io.airbyte.api.model.generated.StreamDescriptor;
 import io.airbyte.api.model.generated.StreamTransform;
 import io.airbyte.api.model.generated.WebBackendConnectionCreate;
+import io.airbyte.api.model.generated.WebBackendConnectionListFilters;
 import io.airbyte.api.model.generated.WebBackendConnectionListItem;
 import io.airbyte.api.model.generated.WebBackendConnectionListRequestBody;
 import io.airbyte.api.model.generated.WebBackendConnectionRead;
@@ -47,6 +49,8 @@ import io.airbyte.api.model.generated.WebBackendConnectionUpdate;
 import io.airbyte.api.model.generated.WebBackendOperationCreateOrUpdate;
 import io.airbyte.api.model.generated.WebBackendWorkspaceState;
 import io.airbyte.api.model.generated.WebBackendWorkspaceStateResult;
+import io.airbyte.api.problems.model.generated.ProblemMessageData;
+import io.airbyte.api.problems.throwable.generated.BadRequestProblem;
 import io.airbyte.commons.converters.ApiConverters;
 import io.airbyte.commons.enums.Enums;
 import io.airbyte.commons.json.Jsons;
@@ -72,17 +76,23 @@ import io.airbyte.data.services.ConnectionService;
 import io.airbyte.data.services.DestinationService;
 import io.airbyte.data.services.SourceService;
 import io.airbyte.data.services.WorkspaceService;
+import io.airbyte.data.services.shared.ConnectionListCursor;
+import io.airbyte.data.services.shared.ConnectionSortKey;
 import io.airbyte.data.services.shared.StandardSyncQuery;
+import io.airbyte.data.services.shared.StandardSyncsQueryCursorPaginated;
 import io.airbyte.metrics.lib.ApmTraceUtils;
 import io.airbyte.metrics.lib.MetricTags;
 import io.airbyte.validation.json.JsonValidationException;
 import jakarta.inject.Singleton;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -99,6 +109,10 @@ import java.util.stream.Collectors;
 @Singleton
 public class WebBackendConnectionsHandler {
 
+  private static final String LIST_CURSOR_SORT_KEY = "sortKey";
+  private static final String LIST_CURSOR_SORT_VALUE = "sortValue";
+  private static final String LIST_CURSOR_CONNECTION_ID = "connectionId";
+
   private final ActorDefinitionVersionHandler actorDefinitionVersionHandler;
   private final ConnectionsHandler connectionsHandler;
   private final StateHandler stateHandler;
@@ -179,7 +193,36 @@ public class WebBackendConnectionsHandler {
         // passing 'false' so that deleted connections are not included
         false);
 
-    final List<StandardSync> standardSyncs = connectionService.listWorkspaceStandardSyncs(query);
+    final List<StandardSync> standardSyncs;
+    final ConnectionSortKey sortKey;
+    final boolean hasNextPage;
+    if (isPaginatedListRequest(webBackendConnectionListRequestBody)) {
+      sortKey = webBackendConnectionListRequestBody.getSortKey() == null
+          ? ConnectionSortKey.CONNECTION_NAME_ASC
+          : Enums.convertTo(webBackendConnectionListRequestBody.getSortKey(), ConnectionSortKey.class);
+      final Integer pageSize = webBackendConnectionListRequestBody.getPageSize();
+      final WebBackendConnectionListFilters filters = webBackendConnectionListRequestBody.getFilters() == null
+          ? new WebBackendConnectionListFilters()
+          : webBackendConnectionListRequestBody.getFilters();
+      // fetch one more connection than requested to know if there is a next page
+      final List<StandardSync> pageWithLookahead = connectionService.listWorkspaceStandardSyncsCursorPaginated(new StandardSyncsQueryCursorPaginated(
+          query,
+          filters.getSearchTerm(),
+          filters.getSourceDefinitionId(),
+          filters.getDestinationDefinitionId(),
+          filters.getStatus() == null ? null
+              : filters.getStatus().stream().map(status -> Enums.convertTo(status, StandardSync.Status.class)).toList(),
+          sortKey,
+          webBackendConnectionListRequestBody.getCursor() == null ? null : decodeListCursor(sortKey, webBackendConnectionListRequestBody.getCursor()),
+          pageSize == null ? Integer.MAX_VALUE : pageSize + 1));
+      hasNextPage = pageSize != null && pageWithLookahead.size() > pageSize;
+      standardSyncs = hasNextPage ? pageWithLookahead.subList(0, pageSize) : pageWithLookahead;
+    } else {
+      sortKey = null;
+      hasNextPage = false;
+      standardSyncs = connectionService.listWorkspaceStandardSyncs(query);
+    }
+
     final List<UUID> sourceIds = standardSyncs.stream().map(StandardSync::getSourceId).toList();
     final List<UUID> destinationIds = standardSyncs.stream().map(StandardSync::getDestinationId).toList();
     final List<UUID> connectionIds = standardSyncs.stream().map(StandardSync::getConnectionId).toList();
@@ -207,7 +250,56 @@ public class WebBackendConnectionsHandler {
               Optional.ofNullable(newestFetchEventsByActorId.get(standardSync.getSourceId()))));
     }
 
-    return new WebBackendConnectionReadList().connections(connectionItems);
+    final WebBackendConnectionReadList connectionReadList = new WebBackendConnectionReadList().connections(connectionItems);
+    if (hasNextPage) {
+      final WebBackendConnectionListItem lastItem = connectionItems.get(connectionItems.size() - 1);
+      final String sortValue = switch (sortKey) {
+        case CONNECTION_NAME_ASC, CONNECTION_NAME_DESC -> lastItem.getName();
+        case SOURCE_NAME_ASC, SOURCE_NAME_DESC -> lastItem.getSource().getName();
+        case DESTINATION_NAME_ASC, DESTINATION_NAME_DESC -> lastItem.getDestination().getName();
+      };
+      // a missing name sorts as an empty one, see ConnectionService#listWorkspaceStandardSyncsCursorPaginated
+      connectionReadList.nextCursor(encodeListCursor(sortKey,
+          new ConnectionListCursor(Objects.requireNonNullElse(sortValue, ""), lastItem.getConnectionId())));
+    }
+    return connectionReadList;
+  }
+
+  private static boolean isPaginatedListRequest(final WebBackendConnectionListRequestBody requestBody) {
+    return requestBody.getPageSize() != null
+        || requestBody.getCursor() != null
+        || requestBody.getSortKey() != null
+        || requestBody.getFilters() != null;
+  }
+
+  @VisibleForTesting
+  static String encodeListCursor(final ConnectionSortKey sortKey, final ConnectionListCursor cursor) {
+    final String serializedCursor = Jsons.serialize(Map.of(
+        LIST_CURSOR_SORT_KEY, sortKey.name(),
+        LIST_CURSOR_SORT_VALUE, cursor.sortValue(),
+        LIST_CURSOR_CONNECTION_ID, cursor.connectionId().toString()));
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(serializedCursor.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @VisibleForTesting
+  static ConnectionListCursor decodeListCursor(final ConnectionSortKey sortKey, final String cursor) {
+    final JsonNode cursorNode;
+    final UUID connectionId;
+    try {
+      cursorNode = Jsons.deserialize(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+      connectionId = cursorNode.path(LIST_CURSOR_CONNECTION_ID).isTextual()
+          ? UUID.fromString(cursorNode.get(LIST_CURSOR_CONNECTION_ID).asText())
+          : null;
+    } catch (final RuntimeException e) {
+      final String message = "Invalid connection list cursor";
+      throw new BadRequestProblem(message, new ProblemMessageData().message(message));
+    }
+    if (connectionId == null || !cursorNode.path(LIST_CURSOR_SORT_VALUE).isTextual()
+        || !sortKey.name().equals(cursorNode.path(LIST_CURSOR_SORT_KEY).asText())) {
+      final String message = "The connection list cursor is invalid or was issued for another sort key";
+      throw new BadRequestProblem(message, new ProblemMessageData().message(message));
+    }
+    return new ConnectionListCursor(cursorNode.get(LIST_CURSOR_SORT_VALUE).asText(), connectionId);
   }
 
   private Map<UUID, JobStatusSummary> getLatestJobByConnectionId(final List<UUID> connectionIds) throws IOException {
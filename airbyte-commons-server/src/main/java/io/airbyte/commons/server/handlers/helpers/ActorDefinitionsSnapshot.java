@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.server.handlers.helpers;
+
+import io.airbyte.config.ActorDefinitionVersion;
+import io.airbyte.config.StandardDestinationDefinition;
+import io.airbyte.config.StandardSourceDefinition;
+import io.airbyte.data.services.ActorDefinitionService;
+import io.airbyte.data.services.DestinationService;
+import io.airbyte.data.services.SourceService;
+import io.micronaut.context.annotation.Value;
+import jakarta.inject.Singleton;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory snapshot of the connector definitions that aren't tombstoned and of their default
+ * versions, so that listing and getting definitions doesn't read every definition and version from
+ * the database for each request.
+ * <p>
+ * A snapshot is loaded as a whole and swapped atomically, so readers always see a consistent set of
+ * definitions and versions. Snapshots are kept for {@code airbyte.server.definitions-snapshot-ttl}.
+ * Definition writes going through the definition, declarative source and builder project handlers
+ * invalidate the snapshots of this instance right away; writes made by other instances or
+ * applications, e.g. the bootloader applying new definitions, are picked up once the ttl elapses.
+ * Getting a single custom definition bypasses the snapshot, as those change with each manifest a
+ * workspace publishes. What depends on a workspace, like grants and version overrides, isn't part
+ * of the snapshot and is resolved per request on top of it.
+ * <p>
+ * The definitions and versions of a snapshot are shared by all requests, and must not be modified.
+ */
+@Singleton
+public class ActorDefinitionsSnapshot {
+
+  /**
+   * The source definitions of a snapshot, with their default versions by version id.
+   */
+  public record SourceDefinitions(List<StandardSourceDefinition> definitions,
+                                  Map<UUID, StandardSourceDefinition> definitionsById,
+                                  Map<UUID, ActorDefinitionVersion> defaultVersions) {
+
+    static SourceDefinitions of(final List<StandardSourceDefinition> definitions, final List<ActorDefinitionVersion> defaultVersions) {
+      return new SourceDefinitions(
+          List.copyOf(definitions),
+          byId(definitions, StandardSourceDefinition::getSourceDefinitionId),
+          byId(defaultVersions, ActorDefinitionVersion::getVersionId));
+    }
+
+    public List<StandardSourceDefinition> publicDefinitions() {
+      return definitions.stream().filter(d -> Boolean.TRUE.equals(d.getPublic())).toList();
+    }
+
+    public Optional<StandardSourceDefinition> find(final UUID sourceDefinitionId) {
+      return Optional.ofNullable(definitionsById.get(sourceDefinitionId));
+    }
+
+    public Optional<ActorDefinitionVersion> findDefaultVersion(final StandardSourceDefinition definition) {
+      return Optional.ofNullable(defaultVersions.get(definition.getDefaultVersionId()));
+    }
+
+    /**
+     * Get the default versions by definition id, leaving out definitions whose default version is
+     * missing.
+     */
+    public Map<UUID, ActorDefinitionVersion> defaultVersionsByDefinitionId() {
+      return byId(defaultVersions.values(), ActorDefinitionVersion::getActorDefinitionId);
+    }
+
+  }
+
+  /**
+   * The destination definitions of a snapshot, with their default versions by version id.
+   */
+  public record DestinationDefinitions(List<StandardDestinationDefinition> definitions,
+                                       Map<UUID, StandardDestinationDefinition> definitionsById,
+                                       Map<UUID, ActorDefinitionVersion> defaultVersions) {
+
+    static DestinationDefinitions of(final List<StandardDestinationDefinition> definitions, final List<ActorDefinitionVersion> defaultVersions) {
+      return new DestinationDefinitions(
+          List.copyOf(definitions),
+          byId(definitions, StandardDestinationDefinition::getDestinationDefinitionId),
+          byId(defaultVersions, ActorDefinitionVersion::getVersionId));
+    }
+
+    public List<StandardDestinationDefinition> publicDefinitions() {
+      return definitions.stream().filter(d -> Boolean.TRUE.equals(d.getPublic())).toList();
+    }
+
+    public Optional<StandardDestinationDefinition> find(final UUID destinationDefinitionId) {
+      return Optional.ofNullable(definitionsById.get(destinationDefinitionId));
+    }
+
+    public Optional<ActorDefinitionVersion> findDefaultVersion(final StandardDestinationDefinition definition) {
+      return Optional.ofNullable(defaultVersions.get(definition.getDefaultVersionId()));
+    }
+
+    /**
+     * Get the default versions by definition id, leaving out definitions whose default version is
+     * missing.
+     */
+    public Map<UUID, ActorDefinitionVersion> defaultVersionsByDefinitionId() {
+      return byId(defaultVersions.values(), ActorDefinitionVersion::getActorDefinitionId);
+    }
+
+  }
+
+  private static <T> Map<UUID, T> byId(final Collection<T> values, final Function<T, UUID> idGetter) {
+    return values.stream().collect(Collectors.toUnmodifiableMap(idGetter, Function.identity(), (first, second) -> first));
+  }
+
+  @FunctionalInterface
+  private interface Loader<T> {
+
+    T load() throws IOException;
+
+  }
+
+  /**
+   * The current snapshot of one kind of definitions. A load that started before an invalidation is
+   * returned to its caller but not kept, as it may miss the write that caused the invalidation.
+   */
+  private static final class SnapshotHolder<T> {
+
+    private record Loaded<T>(T value, long loadedAtNanos) {}
+
+    private final Loader<T> loader;
+    private final long ttlNanos;
+    private Loaded<T> current;
+    private long generation;
+
+    SnapshotHolder(final Loader<T> loader, final Duration ttl) {
+      this.loader = loader;
+      this.ttlNanos = ttl.toNanos();
+    }
+
+    T get() throws IOException {
+      final long loadGeneration;
+      synchronized (this) {
+        if (current != null && System.nanoTime() - current.loadedAtNanos() < ttlNanos) {
+          return current.value();
+        }
+        loadGeneration = generation;
+      }
+      final long loadedAtNanos = System.nanoTime();
+      final T loaded = loader.load();
+      synchronized (this) {
+        if (generation == loadGeneration) {
+          current = new Loaded<>(loaded, loadedAtNanos);
+        }
+      }
+      return loaded;
+    }
+
+    synchronized void invalidate() {
+      generation++;
+      current = null;
+    }
+
+  }
+
+  private final SnapshotHolder<SourceDefinitions> sourceDefinitions;
+  private final SnapshotHolder<DestinationDefinitions> destinationDefinitions;
+
+  public ActorDefinitionsSnapshot(final ActorDefinitionService actorDefinitionService,
+                                  final SourceService sourceService,
+                                  final DestinationService destinationService,
+                                  @Value("${airbyte.server.definitions-snapshot-ttl:30s}") final Duration ttl) {
+    this.sourceDefinitions = new SnapshotHolder<>(() -> {
+      final List<StandardSourceDefinition> definitions = sourceService.listStandardSourceDefinitions(false);
+      return SourceDefinitions.of(definitions, actorDefinitionService.getActorDefinitionVersions(definitions.stream()
+          .map(StandardSourceDefinition::getDefaultVersionId)
+          .collect(Collectors.toList())));
+    }, ttl);
+    this.destinationDefinitions = new SnapshotHolder<>(() -> {
+      final List<StandardDestinationDefinition> definitions = destinationService.listStandardDestinationDefinitions(false);
+      return DestinationDefinitions.of(definitions, actorDefinitionService.getActorDefinitionVersions(definitions.stream()
+          .map(StandardDestinationDefinition::getDefaultVersionId)
+          .collect(Collectors.toList())));
+    }, ttl);
+  }
+
+  public SourceDefinitions getSourceDefinitions() throws IOException {
+    return sourceDefinitions.get();
+  }
+
+  public DestinationDefinitions getDestinationDefinitions() throws IOException {
+    return destinationDefinitions.get();
+  }
+
+  /**
+   * Drop the snapshot of the source definitions. Called whenever a source definition or one of its
+   * default versions is written.
+   */
+  public void invalidateSourceDefinitions() {
+    sourceDefinitions.invalidate();
+  }
+
+  /**
+   * Drop the snapshot of the destination definitions. Called whenever a destination definition or
+   * one of its default versions is written.
+   */
+  public void invalidateDestinationDefinitions() {
+    destinationDefinitions.invalidate();
+  }
+
+}
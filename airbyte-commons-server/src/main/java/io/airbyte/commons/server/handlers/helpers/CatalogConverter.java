@@ -377,6 +377,25 @@ public class CatalogConverter {
     return toConfiguredInternal(clone);
   }
 
+  /**
+   * Keep the fields of a discovered stream that a catalog sent through the API models keeps, so that
+   * a catalog read from storage is stored, and digested, like the same catalog sent in a request.
+   *
+   * @param stream protocol stream as discovered by the connector
+   * @return protocol stream as {@link #toProtocol(AirbyteCatalog)} would return it
+   */
+  public static io.airbyte.protocol.models.AirbyteStream toDiscoveredProtocol(final io.airbyte.protocol.models.AirbyteStream stream) {
+    return new io.airbyte.protocol.models.AirbyteStream()
+        .withName(stream.getName())
+        .withJsonSchema(stream.getJsonSchema())
+        .withSupportedSyncModes(stream.getSupportedSyncModes())
+        .withSourceDefinedCursor(stream.getSourceDefinedCursor())
+        .withDefaultCursorField(stream.getDefaultCursorField())
+        .withSourceDefinedPrimaryKey(Optional.ofNullable(stream.getSourceDefinedPrimaryKey()).orElse(Collections.emptyList()))
+        .withNamespace(stream.getNamespace())
+        .withIsResumable(stream.getIsResumable());
+  }
+
   /**
    * To convert AirbyteCatalog from APIs to model. This is to differentiate between
    * toConfiguredProtocol as the other one converts to ConfiguredAirbyteCatalog object instead.
@@ -22,6 +22,8 @@ import static io.airbyte.commons.server.support.AuthenticationHttpHeaders.SOURCE
 import static io.airbyte.commons.server.support.AuthenticationHttpHeaders.WORKSPACE_IDS_HEADER;
 import static io.airbyte.commons.server.support.AuthenticationHttpHeaders.WORKSPACE_ID_HEADER;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.airbyte.api.model.generated.PermissionIdRequestBody;
 import io.airbyte.api.model.generated.PermissionRead;
 import io.airbyte.commons.json.Jsons;
@@ -49,9 +51,16 @@ import lombok.extern.slf4j.Slf4j;
 @Singleton
 public class AuthenticationHeaderResolver {
 
+  private static final long MAX_CACHED_PERMISSIONS = 20_000;
+
   private final WorkspaceHelper workspaceHelper;
   private final PermissionHandler permissionHandler;
   private final UserPersistence userPersistence;
+  // The workspace and organization of a permission can't be updated, so they are cached for as long
+  // as the permission is looked up. The permission type isn't read from the cached permissions.
+  private final Cache<UUID, PermissionRead> permissionsById = Caffeine.newBuilder()
+      .maximumSize(MAX_CACHED_PERMISSIONS)
+      .build();
 
   public AuthenticationHeaderResolver(final WorkspaceHelper workspaceHelper,
                                       final PermissionHandler permissionHandler,
@@ -212,9 +221,7 @@ public class AuthenticationHeaderResolver {
     if (!properties.containsKey(PERMISSION_ID_HEADER)) {
       return null;
     }
-    final PermissionRead permission = permissionHandler.getPermission(
-        new PermissionIdRequestBody().permissionId(UUID.fromString(properties.get(PERMISSION_ID_HEADER))));
-    return permission.getWorkspaceId();
+    return getPermission(UUID.fromString(properties.get(PERMISSION_ID_HEADER))).getWorkspaceId();
   }
 
   private UUID resolveOrganizationIdFromPermissionHeader(final Map<String, String> properties)
@@ -222,9 +229,17 @@ public class AuthenticationHeaderResolver {
     if (!properties.containsKey(PERMISSION_ID_HEADER)) {
       return null;
     }
-    final PermissionRead permission = permissionHandler.getPermission(
-        new PermissionIdRequestBody().permissionId(UUID.fromString(properties.get(PERMISSION_ID_HEADER))));
-    return permission.getOrganizationId();
+    return getPermission(UUID.fromString(properties.get(PERMISSION_ID_HEADER))).getOrganizationId();
+  }
+
+  private PermissionRead getPermission(final UUID permissionId)
+      throws IOException, io.airbyte.config.persistence.ConfigNotFoundException {
+    PermissionRead permission = permissionsById.getIfPresent(permissionId);
+    if (permission == null) {
+      permission = permissionHandler.getPermission(new PermissionIdRequestBody().permissionId(permissionId));
+      permissionsById.put(permissionId, permission);
+    }
+    return permission;
   }
 
   private List<UUID> resolveWorkspaces(final Map<String, String> properties) {
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.server.support;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.airbyte.config.Permission.PermissionType;
+import io.airbyte.config.persistence.PermissionPersistence;
+import io.airbyte.data.services.shared.PermissionChangedEvent;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.runtime.event.annotation.EventListener;
+import jakarta.inject.Singleton;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Short-lived cache of the permission lookups made to authorize a request, so that a user issuing a
+ * burst of requests doesn't cost the same few permission queries for each of them.
+ * <p>
+ * Decisions are kept for {@code airbyte.auth.permission-decision-cache-ttl}. Every permission write
+ * publishes a {@link PermissionChangedEvent}, which invalidates the cache of this instance right
+ * away; other instances pick the write up once the ttl elapses.
+ */
+@Singleton
+public class PermissionDecisionCache {
+
+  private static final long MAX_CACHED_DECISIONS = 20_000;
+
+  private record AuthUserScope(String authUserId, UUID scopeId) {}
+
+  private final PermissionPersistence permissionPersistence;
+  private final Cache<String, Boolean> authUserInstanceAdmins;
+  private final Cache<UUID, Boolean> userInstanceAdmins;
+  // Optional as a user without a permission in the scope is cached as well.
+  private final Cache<AuthUserScope, Optional<PermissionType>> workspacePermissionTypes;
+  private final Cache<AuthUserScope, Optional<PermissionType>> organizationPermissionTypes;
+
+  public PermissionDecisionCache(final PermissionPersistence permissionPersistence,
+                                 @Value("${airbyte.auth.permission-decision-cache-ttl:10s}") final Duration ttl) {
+    this.permissionPersistence = permissionPersistence;
+    this.authUserInstanceAdmins = buildCache(ttl);
+    this.userInstanceAdmins = buildCache(ttl);
+    this.workspacePermissionTypes = buildCache(ttl);
+    this.organizationPermissionTypes = buildCache(ttl);
+  }
+
+  private static <K, V> Cache<K, V> buildCache(final Duration ttl) {
+    return Caffeine.newBuilder()
+        .maximumSize(MAX_CACHED_DECISIONS)
+        .expireAfterWrite(ttl)
+        .build();
+  }
+
+  public boolean isAuthUserInstanceAdmin(final String authUserId) throws IOException {
+    Boolean isInstanceAdmin = authUserInstanceAdmins.getIfPresent(authUserId);
+    if (isInstanceAdmin == null) {
+      isInstanceAdmin = permissionPersistence.isAuthUserInstanceAdmin(authUserId);
+      authUserInstanceAdmins.put(authUserId, isInstanceAdmin);
+    }
+    return isInstanceAdmin;
+  }
+
+  public boolean isUserInstanceAdmin(final UUID userId) throws IOException {
+    Boolean isInstanceAdmin = userInstanceAdmins.getIfPresent(userId);
+    if (isInstanceAdmin == null) {
+      isInstanceAdmin = permissionPersistence.isUserInstanceAdmin(userId);
+      userInstanceAdmins.put(userId, isInstanceAdmin);
+    }
+    return isInstanceAdmin;
+  }
+
+  /**
+   * Get the permission type a user has in a workspace.
+   *
+   * @return the permission type, null if the user doesn't have a permission in the workspace
+   */
+  public PermissionType findPermissionTypeForUserAndWorkspace(final UUID workspaceId, final String authUserId) throws IOException {
+    final AuthUserScope key = new AuthUserScope(authUserId, workspaceId);
+    Optional<PermissionType> permissionType = workspacePermissionTypes.getIfPresent(key);
+    if (permissionType == null) {
+      permissionType = Optional.ofNullable(permissionPersistence.findPermissionTypeForUserAndWorkspace(workspaceId, authUserId));
+      workspacePermissionTypes.put(key, permissionType);
+    }
+    return permissionType.orElse(null);
+  }
+
+  /**
+   * Get the permission type a user has in an organization.
+   *
+   * @return the permission type, null if the user doesn't have a permission in the organization
+   */
+  public PermissionType findPermissionTypeForUserAndOrganization(final UUID organizationId, final String authUserId) throws IOException {
+    final AuthUserScope key = new AuthUserScope(authUserId, organizationId);
+    Optional<PermissionType> permissionType = organizationPermissionTypes.getIfPresent(key);
+    if (permissionType == null) {
+      permissionType = Optional.ofNullable(permissionPersistence.findPermissionTypeForUserAndOrganization(organizationId, authUserId));
+      organizationPermissionTypes.put(key, permissionType);
+    }
+    return permissionType.orElse(null);
+  }
+
+  /**
+   * Drop every cached decision whenever a permission is created, updated or deleted. Most decisions
+   * are cached by the auth user id of the request rather than the user id of the event, so they are
+   * dropped for every user.
+   */
+  @EventListener
+  public void onPermissionChanged(final PermissionChangedEvent event) {
+    invalidateAll();
+  }
+
+  /**
+   * Drop every cached decision.
+   */
+  public void invalidateAll() {
+    authUserInstanceAdmins.invalidateAll();
+    userInstanceAdmins.invalidateAll();
+    workspacePermissionTypes.invalidateAll();
+    organizationPermissionTypes.invalidateAll();
+  }
+
+}
@@ -12,7 +12,6 @@ import io.airbyte.commons.enums.Enums;
 import io.airbyte.config.Permission;
 import io.airbyte.config.Permission.PermissionType;
 import io.airbyte.config.helpers.PermissionHelper;
-import io.airbyte.config.persistence.PermissionPersistence;
 import io.micronaut.http.HttpRequest;
 import jakarta.inject.Singleton;
 import java.io.IOException;
@@ -32,11 +31,11 @@ import lombok.extern.slf4j.Slf4j;
 public class RbacRoleHelper {
 
   private final AuthenticationHeaderResolver headerResolver;
-  private final PermissionPersistence permissionPersistence;
+  private final PermissionDecisionCache permissionDecisionCache;
 
-  public RbacRoleHelper(final AuthenticationHeaderResolver headerResolver, final PermissionPersistence permissionPersistence) {
+  public RbacRoleHelper(final AuthenticationHeaderResolver headerResolver, final PermissionDecisionCache permissionDecisionCache) {
     this.headerResolver = headerResolver;
-    this.permissionPersistence = permissionPersistence;
+    this.permissionDecisionCache = permissionDecisionCache;
   }
 
   public Collection<String> getRbacRoles(final String authUserId, final Map<String, String> headerMap) {
@@ -65,7 +64,7 @@ public class RbacRoleHelper {
       allRoles.add(AuthRoleConstants.SELF);
     }
     try {
-      if (permissionPersistence.isAuthUserInstanceAdmin(authUserId)) {
+      if (permissionDecisionCache.isAuthUserInstanceAdmin(authUserId)) {
         allRoles.addAll(getInstanceAdminRoles());
       }
     } catch (final IOException ex) {
@@ -113,7 +112,7 @@ public class RbacRoleHelper {
 
   private Permission.PermissionType fetchWorkspacePermission(final String authUserId, final UUID workspaceId) {
     try {
-      return permissionPersistence.findPermissionTypeForUserAndWorkspace(workspaceId, authUserId);
+      return permissionDecisionCache.findPermissionTypeForUserAndWorkspace(workspaceId, authUserId);
     } catch (final IOException ex) {
       log.error("Failed to get permission for user {} and workspaces {}", authUserId, workspaceId, ex);
       throw new RuntimeException(ex);
@@ -145,7 +144,7 @@ public class RbacRoleHelper {
 
   private Permission.PermissionType fetchOrganizationPermission(final String authUserId, final UUID orgId) {
     try {
-      return permissionPersistence.findPermissionTypeForUserAndOrganization(orgId, authUserId);
+      return permissionDecisionCache.findPermissionTypeForUserAndOrganization(orgId, authUserId);
     } catch (final IOException ex) {
       log.error("Failed to get permission for user {} and organization {}", authUserId, orgId, ex);
       throw new RuntimeException(ex);
@@ -17,6 +17,7 @@ import io.airbyte.commons.server.support.AuthenticationHttpHeaders.PERMISSION_ID
 import io.airbyte.commons.server.support.AuthenticationHttpHeaders.SOURCE_ID_HEADER
 import io.airbyte.commons.server.support.AuthenticationHttpHeaders.WORKSPACE_IDS_HEADER
 import io.airbyte.commons.server.support.CurrentUserService
+import io.airbyte.commons.server.support.PermissionDecisionCache
 import io.airbyte.commons.server.support.RbacRoleHelper
 import io.github.oshai.kotlinlogging.KotlinLogging
 import jakarta.inject.Singleton
@@ -34,6 +35,7 @@ class ApiAuthorizationHelper(
   private val permissionHandler: PermissionHandler,
   private val currentUserService: CurrentUserService,
   private val rbacRoleHelper: RbacRoleHelper,
+  private val permissionDecisionCache: PermissionDecisionCache,
 ) {
   private fun resolveIdsToWorkspaceIds(
     ids: List<String>,
@@ -157,7 +159,7 @@ class ApiAuthorizationHelper(
       throw ForbiddenProblem(ProblemMessageData().message("No Ids provided for scope: ${scope.name}."))
     }
 
-    if (permissionHandler.isUserInstanceAdmin(userId)) {
+    if (permissionDecisionCache.isUserInstanceAdmin(userId)) {
       logger.debug { "User $userId is an instance admin, short circuiting auth check." }
       return
     }
@@ -180,7 +182,7 @@ class ApiAuthorizationHelper(
     userId: UUID,
     organizationId: UUID,
   ) {
-    if (permissionHandler.isUserInstanceAdmin(userId)) {
+    if (permissionDecisionCache.isUserInstanceAdmin(userId)) {
       logger.debug { "User $userId is an instance admin, short circuiting auth check." }
       return
     }
@@ -0,0 +1,287 @@
+package io.airbyte.commons.server.handlers
+
+import io.airbyte.api.model.generated.AttemptStats
+import io.airbyte.api.model.generated.ConnectionIdRequestBody
+import io.airbyte.api.model.generated.ConnectionSyncProgressRead
+import io.airbyte.api.model.generated.SaveStatsRequestBody
+import io.airbyte.api.model.generated.StreamSyncProgressReadItem
+import io.github.oshai.kotlinlogging.KotlinLogging
+import io.micronaut.context.annotation.Value
+import jakarta.inject.Singleton
+import reactor.core.Disposable
+import reactor.core.publisher.Flux
+import reactor.core.publisher.Sinks
+import reactor.core.scheduler.Schedulers
+import java.time.Duration
+import java.util.UUID
+import java.util.concurrent.ConcurrentHashMap
+
+private val logger = KotlinLogging.logger {}
+
+/**
+ * Pushes the progress of the running sync of a connection to subscribers, as an alternative to polling
+ * [JobHistoryHandler.getConnectionSyncProgress].
+ *
+ * A progress snapshot is only kept for connections that have subscribers. It is loaded from the database once,
+ * then updated in memory from the stats the workers post through [AttemptHandler.saveStats]. Each update is pushed
+ * as a [ConnectionSyncProgressUpdate.Type.DELTA] holding the totals of the connection and of the streams whose
+ * counts changed. Stats may be posted to another server instance, so the snapshot is also reloaded every
+ * [resyncInterval] and pushed as a [ConnectionSyncProgressUpdate.Type.SNAPSHOT], which also reports the start and
+ * the end of a sync. Reloads run on the scheduler subscribers are served on, never in the request saving the stats.
+ */
+@Singleton
+class SyncProgressBroadcaster(
+  private val jobHistoryHandler: JobHistoryHandler,
+  @Value("\${airbyte.server.sync-progress.resync-interval:30s}") private val resyncInterval: Duration,
+) {
+  private val connections = ConcurrentHashMap<UUID, ConnectionProgress>()
+
+  /**
+   * Subscribe to the progress of the syncs of a connection. The current snapshot is emitted first, loading it from
+   * the database if the connection has no other subscriber, so callers should subscribe on a thread that may block.
+   */
+  fun subscribe(connectionId: UUID): Flux<ConnectionSyncProgressUpdate> =
+    Flux.defer {
+      val progress =
+        connections.compute(connectionId) { _, existing ->
+          (existing ?: ConnectionProgress(connectionId)).also { it.subscribers++ }
+        }!!
+      val snapshot = progress.currentSnapshot()
+      Flux.concat(Flux.just(ConnectionSyncProgressUpdate(ConnectionSyncProgressUpdate.Type.SNAPSHOT, snapshot)), progress.updates.asFlux())
+    }.doFinally { unsubscribe(connectionId) }
+
+  /**
+   * Apply the stats a worker posted for an attempt to the snapshot of the connection, if anyone is subscribed to it.
+   */
+  fun onStats(requestBody: SaveStatsRequestBody) {
+    val connectionId = requestBody.connectionId ?: return
+    val progress = connections[connectionId] ?: return
+    try {
+      progress.applyStats(requestBody)
+    } catch (e: Exception) {
+      // Pushing progress is best effort and must not fail saving the stats.
+      logger.warn(e) { "Failed to push the sync progress of connection $connectionId" }
+    }
+  }
+
+  private fun unsubscribe(connectionId: UUID) {
+    connections.computeIfPresent(connectionId) { _, progress ->
+      progress.subscribers--
+      if (progress.subscribers > 0) {
+        progress
+      } else {
+        progress.resync.dispose()
+        null
+      }
+    }
+  }
+
+  private data class Counts(
+    val recordsEmitted: Long,
+    val recordsCommitted: Long,
+    val bytesEmitted: Long,
+    val bytesCommitted: Long,
+  ) {
+    constructor(stats: AttemptStats?) : this(
+      stats?.recordsEmitted ?: 0,
+      stats?.recordsCommitted ?: 0,
+      stats?.bytesEmitted ?: 0,
+      stats?.bytesCommitted ?: 0,
+    )
+
+    operator fun minus(other: Counts) =
+      Counts(
+        recordsEmitted - other.recordsEmitted,
+        recordsCommitted - other.recordsCommitted,
+        bytesEmitted - other.bytesEmitted,
+        bytesCommitted - other.bytesCommitted,
+      )
+
+    fun isZero() = this == ZERO
+
+    companion object {
+      val ZERO = Counts(0, 0, 0, 0)
+    }
+  }
+
+  private inner class ConnectionProgress(private val connectionId: UUID) {
+    var subscribers = 0
+    val updates: Sinks.Many<ConnectionSyncProgressUpdate> = Sinks.many().multicast().directBestEffort()
+    val resync: Disposable =
+      Flux.interval(resyncInterval, resyncInterval, Schedulers.boundedElastic())
+        .subscribe { resync() }
+
+    private var snapshot: ConnectionSyncProgressRead? = null
+    private var streamsByKey: Map<StreamKey, StreamSyncProgressReadItem> = emptyMap()
+
+    // The attempt the snapshot is tracking, and the stats last posted for it. Stats are posted per attempt as
+    // running totals, so only the difference to the last posted stats is added to the snapshot.
+    private var trackedAttempt: Pair<Long, Int>? = null
+    private var lastAttemptCounts = Counts.ZERO
+    private var lastAttemptStreamCounts: MutableMap<StreamKey, Counts> = mutableMapOf()
+
+    // The latest stats of an attempt that isn't tracked yet, while the snapshot is being reloaded for it.
+    private var pendingStats: SaveStatsRequestBody? = null
+
+    // The database is read without holding the lock, so that saving stats never waits for it.
+    fun currentSnapshot(): ConnectionSyncProgressRead {
+      synchronized(this) { snapshot?.let { return copy(it) } }
+      val loaded = load()
+      synchronized(this) { return snapshot?.let { copy(it) } ?: install(loaded) }
+    }
+
+    @Synchronized
+    fun applyStats(requestBody: SaveStatsRequestBody) {
+      val attempt = requestBody.jobId to requestBody.attemptNumber
+      val current = snapshot
+      if (current == null || trackedAttempt != attempt || pendingStats != null) {
+        // A new job or attempt, or stats that may have been posted to another instance in the meantime: start over
+        // from what is in the database, which already includes the stats of this request. The reload is scheduled
+        // rather than run here, as it would hold up the worker saving the stats.
+        val reloadScheduled = pendingStats != null
+        pendingStats = requestBody
+        if (!reloadScheduled) {
+          Schedulers.boundedElastic().schedule { reloadForPendingStats() }
+        }
+        return
+      }
+
+      val changedStreams = mutableListOf<StreamSyncProgressReadItem>()
+      for (streamStats in requestBody.streamStats.orEmpty()) {
+        val key = StreamKey(streamStats.streamName, streamStats.streamNamespace)
+        val counts = Counts(streamStats.stats)
+        val increment = counts - (lastAttemptStreamCounts[key] ?: Counts.ZERO)
+        lastAttemptStreamCounts[key] = counts
+        val item = streamsByKey[key] ?: continue
+        if (!increment.isZero()) {
+          item.recordsEmitted((item.recordsEmitted ?: 0) + increment.recordsEmitted)
+            .recordsCommitted((item.recordsCommitted ?: 0) + increment.recordsCommitted)
+            .bytesEmitted((item.bytesEmitted ?: 0) + increment.bytesEmitted)
+            .bytesCommitted((item.bytesCommitted ?: 0) + increment.bytesCommitted)
+          changedStreams.add(copy(item))
+        }
+      }
+
+      val counts = Counts(requestBody.stats)
+      val increment = counts - lastAttemptCounts
+      lastAttemptCounts = counts
+      if (increment.isZero() && changedStreams.isEmpty()) {
+        return
+      }
+      current.recordsEmitted((current.recordsEmitted ?: 0) + increment.recordsEmitted)
+        .recordsCommitted((current.recordsCommitted ?: 0) + increment.recordsCommitted)
+        .bytesEmitted((current.bytesEmitted ?: 0) + increment.bytesEmitted)
+        .bytesCommitted((current.bytesCommitted ?: 0) + increment.bytesCommitted)
+      emit(
+        ConnectionSyncProgressUpdate.Type.DELTA,
+        ConnectionSyncProgressRead()
+          .connectionId(current.connectionId)
+          .jobId(current.jobId)
+          .configType(current.configType)
+          .syncStartedAt(current.syncStartedAt)
+          .recordsEmitted(current.recordsEmitted)
+          .recordsCommitted(current.recordsCommitted)
+          .bytesEmitted(current.bytesEmitted)
+          .bytesCommitted(current.bytesCommitted)
+          .streams(changedStreams),
+      )
+    }
+
+    private fun reloadForPendingStats() {
+      val requested = synchronized(this) { pendingStats } ?: return
+      val loaded =
+        try {
+          load()
+        } catch (e: Exception) {
+          logger.warn(e) { "Failed to reload the sync progress of connection $connectionId" }
+          synchronized(this) { pendingStats = null }
+          return
+        }
+      synchronized(this) {
+        if (pendingStats !== requested) {
+          // More stats were posted while loading, which the loaded progress may not include yet.
+          Schedulers.boundedElastic().schedule { reloadForPendingStats() }
+          return
+        }
+        emit(ConnectionSyncProgressUpdate.Type.SNAPSHOT, install(loaded))
+        trackedAttempt = requested.jobId to requested.attemptNumber
+        lastAttemptCounts = Counts(requested.stats)
+        lastAttemptStreamCounts =
+          requested.streamStats.orEmpty().associate { StreamKey(it.streamName, it.streamNamespace) to Counts(it.stats) }.toMutableMap()
+        pendingStats = null
+      }
+    }
+
+    fun resync() {
+      try {
+        val loaded = load()
+        synchronized(this) {
+          emit(ConnectionSyncProgressUpdate.Type.SNAPSHOT, install(loaded))
+          // The stats last posted to this instance may be older than the ones just loaded.
+          trackedAttempt = null
+        }
+      } catch (e: Exception) {
+        logger.warn(e) { "Failed to reload the sync progress of connection $connectionId" }
+      }
+    }
+
+    private fun load(): ConnectionSyncProgressRead =
+      jobHistoryHandler.getConnectionSyncProgress(ConnectionIdRequestBody().connectionId(connectionId))
+
+    private fun install(loaded: ConnectionSyncProgressRead): ConnectionSyncProgressRead {
+      snapshot = loaded
+      streamsByKey = loaded.streams.associateBy { StreamKey(it.streamName, it.streamNamespace) }
+      return copy(loaded)
+    }
+
+    private fun emit(
+      type: ConnectionSyncProgressUpdate.Type,
+      progress: ConnectionSyncProgressRead,
+    ) {
+      updates.tryEmitNext(ConnectionSyncProgressUpdate(type, progress))
+    }
+  }
+
+  private data class StreamKey(
+    val name: String,
+    val namespace: String?,
+  )
+
+  companion object {
+    private fun copy(item: StreamSyncProgressReadItem): StreamSyncProgressReadItem =
+      StreamSyncProgressReadItem()
+        .streamName(item.streamName)
+        .streamNamespace(item.streamNamespace)
+        .configType(item.configType)
+        .recordsEmitted(item.recordsEmitted)
+        .recordsCommitted(item.recordsCommitted)
+        .bytesEmitted(item.bytesEmitted)
+        .bytesCommitted(item.bytesCommitted)
+
+    private fun copy(progress: ConnectionSyncProgressRead): ConnectionSyncProgressRead =
+      ConnectionSyncProgressRead()
+        .connectionId(progress.connectionId)
+        .jobId(progress.jobId)
+        .configType(progress.configType)
+        .syncStartedAt(progress.syncStartedAt)
+        .recordsEmitted(progress.recordsEmitted)
+        .recordsCommitted(progress.recordsCommitted)
+        .bytesEmitted(progress.bytesEmitted)
+        .bytesCommitted(progress.bytesCommitted)
+        .streams(progress.streams.map { copy(it) })
+  }
+}
+
+/**
+ * An update of the progress of the running sync of a connection. A [Type.SNAPSHOT] holds the whole progress, a
+ * [Type.DELTA] only the streams whose counts changed since the previous update.
+ */
+data class ConnectionSyncProgressUpdate(
+  val type: Type,
+  val progress: ConnectionSyncProgressRead,
+) {
+  enum class Type {
+    SNAPSHOT,
+    DELTA,
+  }
+}
@@ -4,9 +4,13 @@
 
 package io.airbyte.commons.server.authorization;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
@@ -22,7 +26,17 @@ import io.micronaut.security.authentication.Authentication;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Collection;
+import java.util.Date;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
@@ -42,6 +56,11 @@ class KeycloakTokenValidatorTest {
   private static final String LOCALHOST = "http://localhost";
   private static final String URI_PATH = "/some/path";
   private static final String INTERNAL_REALM_NAME = "_internal";
+  private static final String JWKS_PATH = "/certs";
+  private static final String KEY_ID = "realm-key";
+  private static final String CLIENT_REALM_NAME = "airbyte";
+  private static final String WEB_CLIENT_ID = "airbyte-webapp";
+  private static final String ACCESS_TOKEN_TYPE = "Bearer";
 
   // Note that this token was specifically constructed to include an underscore, which was a bug in
   // production
@@ -80,7 +99,10 @@ class KeycloakTokenValidatorTest {
 
     keycloakConfiguration = mock(AirbyteKeycloakConfiguration.class);
     when(keycloakConfiguration.getKeycloakUserInfoEndpointForRealm(any())).thenReturn(LOCALHOST + URI_PATH);
+    when(keycloakConfiguration.getKeycloakJwksEndpointForRealm(any())).thenReturn(LOCALHOST + JWKS_PATH);
     when(keycloakConfiguration.getInternalRealm()).thenReturn(INTERNAL_REALM_NAME);
+    when(keycloakConfiguration.getClientRealm()).thenReturn(CLIENT_REALM_NAME);
+    when(keycloakConfiguration.getWebClientId()).thenReturn(WEB_CLIENT_ID);
     tokenRoleResolver = mock(TokenRoleResolver.class);
 
     keycloakTokenValidator = new KeycloakTokenValidator(httpClient, keycloakConfiguration, tokenRoleResolver);
@@ -110,7 +132,12 @@ class KeycloakTokenValidatorTest {
     final String sub = UUID.randomUUID().toString();
     final String issuer = "/auth/realms/" + INTERNAL_REALM_NAME;
     final String clientName = "airbyte-workload-client";
-    final String accessToken = JWT.create().withSubject(sub).withIssuer(issuer).withClaim("azp", clientName).sign(Algorithm.none());
+    final String accessToken = JWT.create()
+        .withSubject(sub)
+        .withIssuer(issuer)
+        .withClaim("typ", ACCESS_TOKEN_TYPE)
+        .withClaim("azp", clientName)
+        .sign(Algorithm.none());
 
     final String responseBody = Jsons.serialize(Map.of("sub", sub, "iss", issuer, "azp", clientName));
     final HttpRequest<?> httpRequest = mockRequests(accessToken, responseBody);
@@ -154,6 +181,150 @@ class KeycloakTokenValidatorTest {
         .verifyComplete();
   }
 
+  @Test
+  void testTokenSignedWithRealmKeyIsValidatedLocallyAndCached() throws Exception {
+    final KeyPair realmKeyPair = generateRsaKeyPair();
+    final String sub = UUID.randomUUID().toString();
+    final String accessToken = JWT.create()
+        .withKeyId(KEY_ID)
+        .withSubject(sub)
+        .withIssuer("http://localhost:8000/auth/realms/airbyte")
+        .withClaim("typ", ACCESS_TOKEN_TYPE)
+        .withClaim("azp", WEB_CLIENT_ID)
+        .withExpiresAt(Date.from(Instant.now().plusSeconds(300)))
+        .sign(Algorithm.RSA256((RSAPublicKey) realmKeyPair.getPublic(), (RSAPrivateKey) realmKeyPair.getPrivate()));
+    // Only the JWKS endpoint is expected to be called, so it is the only response set up.
+    final HttpRequest<?> httpRequest = mockRequests(accessToken, jwks((RSAPublicKey) realmKeyPair.getPublic()));
+    final Set<String> mockedRoles = Set.of("ORGANIZATION_READER", "READER");
+    when(tokenRoleResolver.resolveRoles(eq(sub), any(HttpRequest.class))).thenReturn(mockedRoles);
+
+    StepVerifier.create(keycloakTokenValidator.validateToken(accessToken, httpRequest))
+        .expectNextMatches(r -> matchSuccessfulResponse(r, sub, mockedRoles))
+        .verifyComplete();
+    StepVerifier.create(keycloakTokenValidator.validateToken(accessToken, httpRequest))
+        .expectNextMatches(r -> matchSuccessfulResponse(r, sub, mockedRoles))
+        .verifyComplete();
+
+    verify(httpClient, times(1)).newCall(any(Request.class));
+    verify(tokenRoleResolver, times(2)).resolveRoles(eq(sub), any(HttpRequest.class));
+  }
+
+  @Test
+  void testTokenWithInvalidSignatureIsRejectedLocally() throws Exception {
+    final KeyPair realmKeyPair = generateRsaKeyPair();
+    final KeyPair otherKeyPair = generateRsaKeyPair();
+    final String accessToken = JWT.create()
+        .withKeyId(KEY_ID)
+        .withSubject(UUID.randomUUID().toString())
+        .withIssuer("http://localhost:8000/auth/realms/airbyte")
+        .withClaim("typ", ACCESS_TOKEN_TYPE)
+        .withClaim("azp", WEB_CLIENT_ID)
+        .withExpiresAt(Date.from(Instant.now().plusSeconds(300)))
+        .sign(Algorithm.RSA256((RSAPublicKey) otherKeyPair.getPublic(), (RSAPrivateKey) otherKeyPair.getPrivate()));
+    final HttpRequest<?> httpRequest = mockRequests(accessToken, jwks((RSAPublicKey) realmKeyPair.getPublic()));
+
+    StepVerifier.create(keycloakTokenValidator.validateToken(accessToken, httpRequest))
+        .verifyComplete();
+
+    // The key set was fetched, but the userinfo endpoint wasn't called.
+    verify(httpClient, times(1)).newCall(any(Request.class));
+    verifyNoInteractions(tokenRoleResolver);
+  }
+
+  @Test
+  void testIdTokenIsRejected() throws Exception {
+    final KeyPair realmKeyPair = generateRsaKeyPair();
+    final String idToken = JWT.create()
+        .withKeyId(KEY_ID)
+        .withSubject(UUID.randomUUID().toString())
+        .withIssuer("http://localhost:8000/auth/realms/airbyte")
+        .withAudience(WEB_CLIENT_ID)
+        .withClaim("typ", "ID")
+        .withClaim("azp", WEB_CLIENT_ID)
+        .withExpiresAt(Date.from(Instant.now().plusSeconds(300)))
+        .sign(Algorithm.RSA256((RSAPublicKey) realmKeyPair.getPublic(), (RSAPrivateKey) realmKeyPair.getPrivate()));
+    final HttpRequest<?> httpRequest = mockRequests(idToken, jwks((RSAPublicKey) realmKeyPair.getPublic()));
+
+    StepVerifier.create(keycloakTokenValidator.validateToken(idToken, httpRequest))
+        .verifyComplete();
+
+    verifyNoInteractions(httpClient, tokenRoleResolver);
+  }
+
+  @Test
+  void testAccessTokenIssuedForItsOwnClientIsRejected() throws Exception {
+    final KeyPair realmKeyPair = generateRsaKeyPair();
+    final String accessToken = JWT.create()
+        .withKeyId(KEY_ID)
+        .withSubject(UUID.randomUUID().toString())
+        .withIssuer("http://localhost:8000/auth/realms/airbyte")
+        .withAudience(WEB_CLIENT_ID)
+        .withClaim("typ", ACCESS_TOKEN_TYPE)
+        .withClaim("azp", WEB_CLIENT_ID)
+        .withExpiresAt(Date.from(Instant.now().plusSeconds(300)))
+        .sign(Algorithm.RSA256((RSAPublicKey) realmKeyPair.getPublic(), (RSAPrivateKey) realmKeyPair.getPrivate()));
+    final HttpRequest<?> httpRequest = mockRequests(accessToken, jwks((RSAPublicKey) realmKeyPair.getPublic()));
+
+    StepVerifier.create(keycloakTokenValidator.validateToken(accessToken, httpRequest))
+        .verifyComplete();
+
+    verifyNoInteractions(httpClient, tokenRoleResolver);
+  }
+
+  @Test
+  void testAccessTokenOfAnotherClientOfAnSsoRealmIsRejected() throws Exception {
+    final KeyPair realmKeyPair = generateRsaKeyPair();
+    final String accessToken = JWT.create()
+        .withKeyId(KEY_ID)
+        .withSubject(UUID.randomUUID().toString())
+        .withIssuer("http://localhost:8000/auth/realms/some-sso-realm")
+        .withClaim("typ", ACCESS_TOKEN_TYPE)
+        .withClaim("azp", "some-other-client")
+        .withExpiresAt(Date.from(Instant.now().plusSeconds(300)))
+        .sign(Algorithm.RSA256((RSAPublicKey) realmKeyPair.getPublic(), (RSAPrivateKey) realmKeyPair.getPrivate()));
+    final HttpRequest<?> httpRequest = mockRequests(accessToken, jwks((RSAPublicKey) realmKeyPair.getPublic()));
+
+    StepVerifier.create(keycloakTokenValidator.validateToken(accessToken, httpRequest))
+        .verifyComplete();
+
+    verifyNoInteractions(httpClient, tokenRoleResolver);
+  }
+
+  @Test
+  void testRealmWhoseKeysCouldNotBeFetchedIsNotCached() throws Exception {
+    final Response notFound = mock(Response.class);
+    when(notFound.isSuccessful()).thenReturn(false);
+    when(notFound.code()).thenReturn(404);
+    final Call call = mock(Call.class);
+    when(call.execute()).thenReturn(notFound);
+    when(httpClient.newCall(any(Request.class))).thenReturn(call);
+    final KeycloakRealmKeys realmKeys = new KeycloakRealmKeys(httpClient, keycloakConfiguration, Clock.systemUTC());
+
+    assertTrue(realmKeys.getKey("made-up-realm", KEY_ID).isEmpty());
+    assertFalse(realmKeys.isCached("made-up-realm"));
+    assertTrue(realmKeys.getKey("made-up-realm", KEY_ID).isEmpty());
+
+    // Both lookups fetched the key set, as the failed fetch wasn't kept.
+    verify(httpClient, times(2)).newCall(any(Request.class));
+  }
+
+  private static KeyPair generateRsaKeyPair() throws NoSuchAlgorithmException {
+    final KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+    generator.initialize(2048);
+    return generator.generateKeyPair();
+  }
+
+  private static String jwks(final RSAPublicKey publicKey) {
+    final Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+    return Jsons.serialize(Map.of("keys", List.of(Map.of(
+        "kid", KEY_ID,
+        "kty", "RSA",
+        "use", "sig",
+        "alg", "RS256",
+        "n", encoder.encodeToString(publicKey.getModulus().toByteArray()),
+        "e", encoder.encodeToString(publicKey.getPublicExponent().toByteArray())))));
+  }
+
   private HttpRequest<?> mockRequests(final String jwtToken, final String userInfoPayload) throws IOException {
     final URI uri = URI.create(LOCALHOST + URI_PATH);
 
@@ -115,6 +115,7 @@ class AttemptHandlerTest {
   private final DestinationService destinationService = mock(DestinationService.class);
   private final ActorDefinitionVersionHelper actorDefinitionVersionHelper = mock(ActorDefinitionVersionHelper.class);
   private final StreamAttemptMetadataService streamAttemptMetadataService = mock(StreamAttemptMetadataService.class);
+  private final SyncProgressBroadcaster syncProgressBroadcaster = mock(SyncProgressBroadcaster.class);
 
   private final AttemptHandler handler = new AttemptHandler(jobPersistence,
       statePersistence,
@@ -126,7 +127,8 @@ class AttemptHandlerTest {
       connectionService,
       destinationService,
       actorDefinitionVersionHelper,
-      streamAttemptMetadataService);
+      streamAttemptMetadataService,
+      syncProgressBroadcaster);
 
   private static final UUID CONNECTION_ID = UUID.randomUUID();
   private static final UUID WORKSPACE_ID = UUID.randomUUID();
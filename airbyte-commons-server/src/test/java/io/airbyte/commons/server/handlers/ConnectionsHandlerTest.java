@@ -101,6 +101,7 @@ import io.airbyte.commons.server.helpers.ConnectionHelpers;
 import io.airbyte.commons.server.scheduler.EventRunner;
 import io.airbyte.commons.server.validation.CatalogValidator;
 import io.airbyte.commons.server.validation.ValidationError;
+import io.airbyte.commons.storage.ChunkedDocumentStore;
 import io.airbyte.config.ActorCatalog;
 import io.airbyte.config.ActorDefinitionVersion;
 import io.airbyte.config.ActorType;
@@ -434,7 +435,8 @@ class ConnectionsHandlerTest {
         workspaceService,
         secretPersistenceConfigService,
         actorDefinitionHandlerHelper,
-        actorDefinitionVersionUpdater);
+        actorDefinitionVersionUpdater,
+        mock(ChunkedDocumentStore.class));
 
     matchSearchHandler = new MatchSearchHandler(destinationHandler, sourceHandler, sourceService, destinationService, connectionService);
     jobNotifier = mock(JobNotifier.class);
@@ -50,6 +50,7 @@ import io.airbyte.api.model.generated.SourceDefinitionIdBody;
 import io.airbyte.api.model.generated.WorkspaceIdRequestBody;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.server.errors.NotFoundException;
+import io.airbyte.commons.server.handlers.helpers.ActorDefinitionsSnapshot;
 import io.airbyte.commons.server.handlers.helpers.BuilderProjectUpdater;
 import io.airbyte.commons.server.handlers.helpers.DeclarativeSourceManifestInjector;
 import io.airbyte.commons.version.Version;
@@ -162,6 +163,7 @@ class ConnectorBuilderProjectsHandlerTest {
   private ConnectorBuilderServerApi connectorBuilderServerApiClient;
   private ActorDefinitionService actorDefinitionService;
   private RemoteDefinitionsProvider remoteDefinitionsProvider;
+  private ActorDefinitionsSnapshot actorDefinitionsSnapshot;
   private ConnectorSpecification adaptedConnectorSpecification;
   private UUID workspaceId;
   private final String specString =
@@ -218,6 +220,7 @@ class ConnectorBuilderProjectsHandlerTest {
     connectorBuilderServerApiClient = mock(ConnectorBuilderServerApi.class);
     actorDefinitionService = mock(ActorDefinitionService.class);
     remoteDefinitionsProvider = mock(RemoteDefinitionsProvider.class);
+    actorDefinitionsSnapshot = mock(ActorDefinitionsSnapshot.class);
     adaptedConnectorSpecification = mock(ConnectorSpecification.class);
     setupConnectorSpecificationAdapter(any(), "");
     workspaceId = UUID.randomUUID();
@@ -227,7 +230,7 @@ class ConnectorBuilderProjectsHandlerTest {
             manifestInjector,
             workspaceService, featureFlagClient,
             secretsRepositoryReader, secretsRepositoryWriter, secretPersistenceConfigService, sourceService, secretsProcessor,
-            connectorBuilderServerApiClient, actorDefinitionService, remoteDefinitionsProvider);
+            connectorBuilderServerApiClient, actorDefinitionService, remoteDefinitionsProvider, actorDefinitionsSnapshot);
 
     when(manifestInjector.getCdkVersion(any())).thenReturn(A_CDK_VERSION);
     when(declarativeManifestImageVersionService.getDeclarativeManifestImageVersionByMajorVersion(anyInt()))
@@ -625,6 +628,7 @@ class ConnectorBuilderProjectsHandlerTest {
                 .withProtocolVersion("0.2.0")),
         eq(workspaceId),
         eq(ScopeType.WORKSPACE));
+    verify(actorDefinitionsSnapshot, times(1)).invalidateSourceDefinitions();
     verify(connectorBuilderService, times(1)).writeActorDefinitionConfigInjectionForPath(eq(A_CONFIG_INJECTION));
   }
 
@@ -31,6 +31,7 @@ import io.airbyte.api.problems.throwable.generated.BadRequestProblem;
 import io.airbyte.commons.server.errors.DeclarativeSourceNotFoundException;
 import io.airbyte.commons.server.errors.SourceIsNotDeclarativeException;
 import io.airbyte.commons.server.errors.ValueConflictKnownException;
+import io.airbyte.commons.server.handlers.helpers.ActorDefinitionsSnapshot;
 import io.airbyte.commons.server.handlers.helpers.DeclarativeSourceManifestInjector;
 import io.airbyte.commons.version.Version;
 import io.airbyte.config.ActorDefinitionConfigInjection;
@@ -82,6 +83,7 @@ class DeclarativeSourceDefinitionsHandlerTest {
   private ConnectorSpecification adaptedConnectorSpecification;
   private ActorDefinitionConfigInjection configInjection;
   private AirbyteCompatibleConnectorsValidator airbyteCompatibleConnectorsValidator;
+  private ActorDefinitionsSnapshot actorDefinitionsSnapshot;
 
   private DeclarativeSourceDefinitionsHandler handler;
 
@@ -94,10 +96,11 @@ class DeclarativeSourceDefinitionsHandlerTest {
     adaptedConnectorSpecification = mock(ConnectorSpecification.class);
     configInjection = mock(ActorDefinitionConfigInjection.class);
     airbyteCompatibleConnectorsValidator = mock(AirbyteCompatibleConnectorsValidator.class);
+    actorDefinitionsSnapshot = mock(ActorDefinitionsSnapshot.class);
 
     handler =
         new DeclarativeSourceDefinitionsHandler(declarativeManifestImageVersionService, connectorBuilderService, workspaceService, manifestInjector,
-            airbyteCompatibleConnectorsValidator);
+            airbyteCompatibleConnectorsValidator, actorDefinitionsSnapshot);
     when(declarativeManifestImageVersionService.getDeclarativeManifestImageVersionByMajorVersion(anyInt()))
         .thenReturn(A_DECLARATIVE_MANIFEST_IMAGE_VERSION);
   }
@@ -156,6 +159,7 @@ class DeclarativeSourceDefinitionsHandlerTest {
         eq(configInjection),
         eq(adaptedConnectorSpecification),
         eq(AN_IMAGE_VERSION));
+    verify(actorDefinitionsSnapshot, times(1)).invalidateSourceDefinitions();
   }
 
   @Test
@@ -176,6 +180,7 @@ class DeclarativeSourceDefinitionsHandlerTest {
         .withSpec(A_SPEC)));
     verify(manifestInjector, never()).getCdkVersion(any());
     verify(connectorBuilderService, times(0)).createDeclarativeManifestAsActiveVersion(any(), any(), any(), any());
+    verify(actorDefinitionsSnapshot, never()).invalidateSourceDefinitions();
   }
 
   @Test
@@ -263,6 +268,7 @@ class DeclarativeSourceDefinitionsHandlerTest {
     verify(manifestInjector, times(1)).getCdkVersion(A_MANIFEST);
     verify(connectorBuilderService, times(1)).setDeclarativeSourceActiveVersion(A_SOURCE_DEFINITION_ID, A_VERSION, configInjection,
         adaptedConnectorSpecification, AN_IMAGE_VERSION);
+    verify(actorDefinitionsSnapshot, times(1)).invalidateSourceDefinitions();
   }
 
   @Test
@@ -14,6 +14,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -39,6 +40,7 @@ import io.airbyte.commons.server.converters.ApiPojoConverters;
 import io.airbyte.commons.server.errors.IdNotFoundKnownException;
 import io.airbyte.commons.server.errors.UnsupportedProtocolVersionException;
 import io.airbyte.commons.server.handlers.helpers.ActorDefinitionHandlerHelper;
+import io.airbyte.commons.server.handlers.helpers.ActorDefinitionsSnapshot;
 import io.airbyte.commons.version.Version;
 import io.airbyte.config.AbInternal;
 import io.airbyte.config.ActorDefinitionBreakingChange;
@@ -60,6 +62,7 @@ import io.airbyte.config.specs.RemoteDefinitionsProvider;
 import io.airbyte.data.exceptions.ConfigNotFoundException;
 import io.airbyte.data.services.ActorDefinitionService;
 import io.airbyte.data.services.DestinationService;
+import io.airbyte.data.services.SourceService;
 import io.airbyte.data.services.WorkspaceService;
 import io.airbyte.featureflag.DestinationDefinition;
 import io.airbyte.featureflag.FeatureFlagClient;
@@ -72,6 +75,7 @@ import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.Collections;
 import java.util.Date;
@@ -112,6 +116,7 @@ class DestinationDefinitionsHandlerTest {
   private AirbyteCompatibleConnectorsValidator airbyteCompatibleConnectorsValidator;
   private DestinationService destinationService;
   private WorkspaceService workspaceService;
+  private ActorDefinitionsSnapshot actorDefinitionsSnapshot;
 
   @SuppressWarnings("unchecked")
   @BeforeEach
@@ -133,6 +138,8 @@ class DestinationDefinitionsHandlerTest {
     featureFlagClient = mock(TestClient.class);
     actorDefinitionVersionHelper = mock(ActorDefinitionVersionHelper.class);
     airbyteCompatibleConnectorsValidator = mock(AirbyteCompatibleConnectorsValidator.class);
+    actorDefinitionsSnapshot =
+        new ActorDefinitionsSnapshot(actorDefinitionService, mock(SourceService.class), destinationService, Duration.ofMinutes(1));
     destinationDefinitionsHandler = new DestinationDefinitionsHandler(
         actorDefinitionService,
         uuidSupplier,
@@ -144,7 +151,8 @@ class DestinationDefinitionsHandlerTest {
         actorDefinitionVersionHelper,
         airbyteCompatibleConnectorsValidator,
         destinationService,
-        workspaceService);
+        workspaceService,
+        actorDefinitionsSnapshot);
   }
 
   private StandardDestinationDefinition generateDestinationDefinition() {
@@ -269,8 +277,11 @@ class DestinationDefinitionsHandlerTest {
   @DisplayName("listDestinationDefinitionsForWorkspace should return the right list")
   void testListDestinationDefinitionsForWorkspace() throws IOException, URISyntaxException, ConfigNotFoundException {
     when(featureFlagClient.boolVariation(eq(HideActorDefinitionFromList.INSTANCE), any())).thenReturn(false);
-    when(destinationService.listPublicDestinationDefinitions(false)).thenReturn(List.of(destinationDefinition));
-    when(actorDefinitionVersionHelper.getDestinationVersions(List.of(destinationDefinition), workspaceId))
+    when(destinationService.listStandardDestinationDefinitions(false)).thenReturn(List.of(destinationDefinition.withPublic(true)));
+    when(actorDefinitionService.getActorDefinitionVersions(List.of(destinationDefinition.getDefaultVersionId())))
+        .thenReturn(List.of(destinationDefinitionVersion));
+    when(actorDefinitionVersionHelper.getDestinationVersions(List.of(destinationDefinition), workspaceId,
+        Map.of(destinationDefinition.getDefaultVersionId(), destinationDefinitionVersion)))
         .thenReturn(Map.of(destinationDefinitionVersion.getActorDefinitionId(), destinationDefinitionVersion));
 
     final DestinationDefinitionRead expectedDestinationDefinitionRead1 = new DestinationDefinitionRead()
@@ -308,8 +319,13 @@ class DestinationDefinitionsHandlerTest {
         new Multi(List.of(new DestinationDefinition(hiddenDestinationDefinition.getDestinationDefinitionId()), new Workspace(workspaceId)))))
             .thenReturn(true);
 
-    when(destinationService.listPublicDestinationDefinitions(false)).thenReturn(List.of(destinationDefinition, hiddenDestinationDefinition));
-    when(actorDefinitionVersionHelper.getDestinationVersions(List.of(destinationDefinition), workspaceId))
+    when(destinationService.listStandardDestinationDefinitions(false))
+        .thenReturn(List.of(destinationDefinition.withPublic(true), hiddenDestinationDefinition.withPublic(true)));
+    when(actorDefinitionService.getActorDefinitionVersions(
+        List.of(destinationDefinition.getDefaultVersionId(), hiddenDestinationDefinition.getDefaultVersionId())))
+            .thenReturn(List.of(destinationDefinitionVersion));
+    when(actorDefinitionVersionHelper.getDestinationVersions(List.of(destinationDefinition), workspaceId,
+        Map.of(destinationDefinition.getDefaultVersionId(), destinationDefinitionVersion)))
         .thenReturn(Map.of(destinationDefinitionVersion.getActorDefinitionId(), destinationDefinitionVersion));
 
     final DestinationDefinitionReadList actualDestinationDefinitionReadList = destinationDefinitionsHandler
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.server.handlers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.airbyte.api.model.generated.ActorType;
+import io.airbyte.api.model.generated.ConnectionIdRequestBody;
+import io.airbyte.api.model.generated.ConnectionRead;
+import io.airbyte.api.model.generated.ConnectionState;
+import io.airbyte.api.model.generated.JobOptionalRead;
+import io.airbyte.api.model.generated.ReplicationHydrationInputRead;
+import io.airbyte.api.model.generated.ReplicationHydrationInputRequestBody;
+import io.airbyte.api.model.generated.ResolveActorDefinitionVersionRequestBody;
+import io.airbyte.api.model.generated.ResolveActorDefinitionVersionResponse;
+import io.airbyte.api.model.generated.SyncInput;
+import io.airbyte.config.DestinationConnection;
+import io.airbyte.data.services.DestinationService;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ReplicationHydrationHandlerTest {
+
+  private static final long JOB_ID = 42L;
+  private static final int ATTEMPT_NUMBER = 1;
+  private static final UUID CONNECTION_ID = UUID.randomUUID();
+  private static final UUID DESTINATION_ID = UUID.randomUUID();
+  private static final UUID DESTINATION_DEFINITION_ID = UUID.randomUUID();
+  private static final String DOCKER_IMAGE_TAG = "1.2.3";
+
+  private DestinationService destinationService;
+  private ActorDefinitionVersionHandler actorDefinitionVersionHandler;
+  private ConnectionsHandler connectionsHandler;
+  private StateHandler stateHandler;
+  private JobInputHandler jobInputHandler;
+  private JobHistoryHandler jobHistoryHandler;
+  private ReplicationHydrationHandler handler;
+
+  @BeforeEach
+  void setup() throws Exception {
+    destinationService = mock(DestinationService.class);
+    actorDefinitionVersionHandler = mock(ActorDefinitionVersionHandler.class);
+    connectionsHandler = mock(ConnectionsHandler.class);
+    stateHandler = mock(StateHandler.class);
+    jobInputHandler = mock(JobInputHandler.class);
+    jobHistoryHandler = mock(JobHistoryHandler.class);
+    handler = new ReplicationHydrationHandler(destinationService, actorDefinitionVersionHandler, connectionsHandler, stateHandler, jobInputHandler,
+        jobHistoryHandler);
+
+    when(destinationService.getDestinationConnection(DESTINATION_ID))
+        .thenReturn(new DestinationConnection().withDestinationId(DESTINATION_ID).withDestinationDefinitionId(DESTINATION_DEFINITION_ID));
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void testGetReplicationHydrationInput(final boolean supportsRefreshes) throws Exception {
+    final ResolveActorDefinitionVersionResponse destinationVersion = new ResolveActorDefinitionVersionResponse()
+        .versionId(UUID.randomUUID())
+        .dockerImageTag(DOCKER_IMAGE_TAG)
+        .supportRefreshes(supportsRefreshes);
+    when(actorDefinitionVersionHandler.resolveActorDefinitionVersionByTag(new ResolveActorDefinitionVersionRequestBody()
+        .actorDefinitionId(DESTINATION_DEFINITION_ID)
+        .actorType(ActorType.DESTINATION)
+        .dockerImageTag(DOCKER_IMAGE_TAG))).thenReturn(destinationVersion);
+    final ConnectionRead connection = new ConnectionRead().connectionId(CONNECTION_ID);
+    when(connectionsHandler.getConnectionForJob(CONNECTION_ID, JOB_ID)).thenReturn(connection);
+    when(connectionsHandler.getConnection(CONNECTION_ID)).thenReturn(connection);
+    final ConnectionState state = new ConnectionState().connectionId(CONNECTION_ID);
+    when(stateHandler.getState(new ConnectionIdRequestBody().connectionId(CONNECTION_ID))).thenReturn(state);
+    final Object jobInput = new Object();
+    when(jobInputHandler.getJobInput(new SyncInput().jobId(JOB_ID).attemptNumber(ATTEMPT_NUMBER))).thenReturn(jobInput);
+
+    final ReplicationHydrationInputRead result = handler.getReplicationHydrationInput(getRequest(false));
+
+    assertEquals(destinationVersion, result.getDestinationVersion());
+    assertEquals(connection, result.getConnection());
+    assertEquals(state, result.getState());
+    assertEquals(jobInput, result.getJobInput());
+    assertNull(result.getLastReplicationJob());
+    if (supportsRefreshes) {
+      verify(connectionsHandler).getConnectionForJob(CONNECTION_ID, JOB_ID);
+      verify(connectionsHandler, never()).getConnection(any());
+    } else {
+      verify(connectionsHandler).getConnection(CONNECTION_ID);
+      verify(connectionsHandler, never()).getConnectionForJob(any(), any());
+    }
+    verify(jobHistoryHandler, never()).getLastReplicationJob(any());
+  }
+
+  @Test
+  void testGetReplicationHydrationInputWithLastReplicationJob() throws Exception {
+    when(actorDefinitionVersionHandler.resolveActorDefinitionVersionByTag(any()))
+        .thenReturn(new ResolveActorDefinitionVersionResponse().supportRefreshes(false));
+    final JobOptionalRead lastReplicationJob = new JobOptionalRead();
+    when(jobHistoryHandler.getLastReplicationJob(new ConnectionIdRequestBody().connectionId(CONNECTION_ID))).thenReturn(lastReplicationJob);
+
+    final ReplicationHydrationInputRead result = handler.getReplicationHydrationInput(getRequest(true));
+
+    assertEquals(lastReplicationJob, result.getLastReplicationJob());
+  }
+
+  private static ReplicationHydrationInputRequestBody getRequest(final boolean includeLastReplicationJob) {
+    return new ReplicationHydrationInputRequestBody()
+        .jobId(JOB_ID)
+        .attemptNumber(ATTEMPT_NUMBER)
+        .connectionId(CONNECTION_ID)
+        .destinationId(DESTINATION_ID)
+        .destinationDockerImageTag(DOCKER_IMAGE_TAG)
+        .includeLastReplicationJob(includeLastReplicationJob);
+  }
+
+}
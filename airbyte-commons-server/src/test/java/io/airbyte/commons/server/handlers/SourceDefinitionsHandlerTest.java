@@ -14,6 +14,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -41,6 +42,7 @@ import io.airbyte.commons.server.converters.ApiPojoConverters;
 import io.airbyte.commons.server.errors.IdNotFoundKnownException;
 import io.airbyte.commons.server.errors.UnsupportedProtocolVersionException;
 import io.airbyte.commons.server.handlers.helpers.ActorDefinitionHandlerHelper;
+import io.airbyte.commons.server.handlers.helpers.ActorDefinitionsSnapshot;
 import io.airbyte.commons.version.Version;
 import io.airbyte.config.AbInternal;
 import io.airbyte.config.ActorDefinitionBreakingChange;
@@ -62,6 +64,7 @@ import io.airbyte.config.persistence.ActorDefinitionVersionHelper;
 import io.airbyte.config.specs.RemoteDefinitionsProvider;
 import io.airbyte.data.exceptions.ConfigNotFoundException;
 import io.airbyte.data.services.ActorDefinitionService;
+import io.airbyte.data.services.DestinationService;
 import io.airbyte.data.services.SourceService;
 import io.airbyte.data.services.WorkspaceService;
 import io.airbyte.featureflag.FeatureFlagClient;
@@ -75,6 +78,7 @@ import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.Collections;
 import java.util.Date;
@@ -113,6 +117,7 @@ class SourceDefinitionsHandlerTest {
   private AirbyteCompatibleConnectorsValidator airbyteCompatibleConnectorsValidator;
   private SourceService sourceService;
   private WorkspaceService workspaceService;
+  private ActorDefinitionsSnapshot actorDefinitionsSnapshot;
 
   @SuppressWarnings("unchecked")
   @BeforeEach
@@ -134,6 +139,8 @@ class SourceDefinitionsHandlerTest {
     airbyteCompatibleConnectorsValidator = mock(AirbyteCompatibleConnectorsValidator.class);
     sourceService = mock(SourceService.class);
     workspaceService = mock(WorkspaceService.class);
+    actorDefinitionsSnapshot =
+        new ActorDefinitionsSnapshot(actorDefinitionService, sourceService, mock(DestinationService.class), Duration.ofMinutes(1));
 
     sourceDefinitionsHandler =
         new SourceDefinitionsHandler(
@@ -147,7 +154,8 @@ class SourceDefinitionsHandlerTest {
             actorDefinitionVersionHelper,
             airbyteCompatibleConnectorsValidator,
             sourceService,
-            workspaceService);
+            workspaceService,
+            actorDefinitionsSnapshot);
   }
 
   private StandardSourceDefinition generateSourceDefinition() {
@@ -298,9 +306,12 @@ class SourceDefinitionsHandlerTest {
     final ActorDefinitionVersion sourceDefinitionVersion2 = generateVersionFromSourceDefinition(sourceDefinition2);
 
     when(featureFlagClient.boolVariation(eq(HideActorDefinitionFromList.INSTANCE), any())).thenReturn(false);
-    when(sourceService.listPublicSourceDefinitions(false)).thenReturn(Lists.newArrayList(sourceDefinition));
+    when(sourceService.listStandardSourceDefinitions(false)).thenReturn(Lists.newArrayList(sourceDefinition.withPublic(true), sourceDefinition2));
+    when(actorDefinitionService.getActorDefinitionVersions(List.of(sourceDefinition.getDefaultVersionId(), sourceDefinition2.getDefaultVersionId())))
+        .thenReturn(Lists.newArrayList(sourceDefinitionVersion, sourceDefinitionVersion2));
     when(sourceService.listGrantedSourceDefinitions(workspaceId, false)).thenReturn(Lists.newArrayList(sourceDefinition2));
-    when(actorDefinitionVersionHelper.getSourceVersions(List.of(sourceDefinition, sourceDefinition2), workspaceId))
+    when(actorDefinitionVersionHelper.getSourceVersions(List.of(sourceDefinition, sourceDefinition2), workspaceId,
+        Map.of(sourceDefinition.getDefaultVersionId(), sourceDefinitionVersion, sourceDefinition2.getDefaultVersionId(), sourceDefinitionVersion2)))
         .thenReturn(
             Map.of(
                 sourceDefinitionVersion.getActorDefinitionId(), sourceDefinitionVersion,
@@ -357,9 +368,14 @@ class SourceDefinitionsHandlerTest {
     when(featureFlagClient.boolVariation(HideActorDefinitionFromList.INSTANCE,
         new Multi(List.of(new SourceDefinition(hiddenSourceDefinition.getSourceDefinitionId()), new Workspace(workspaceId))))).thenReturn(true);
 
-    when(sourceService.listPublicSourceDefinitions(false)).thenReturn(Lists.newArrayList(hiddenSourceDefinition, sourceDefinition));
+    when(sourceService.listStandardSourceDefinitions(false))
+        .thenReturn(Lists.newArrayList(hiddenSourceDefinition.withPublic(true), sourceDefinition.withPublic(true)));
+    when(actorDefinitionService.getActorDefinitionVersions(
+        List.of(hiddenSourceDefinition.getDefaultVersionId(), sourceDefinition.getDefaultVersionId())))
+            .thenReturn(Lists.newArrayList(sourceDefinitionVersion));
     when(sourceService.listGrantedSourceDefinitions(workspaceId, false)).thenReturn(Lists.newArrayList(sourceDefinition2));
-    when(actorDefinitionVersionHelper.getSourceVersions(List.of(sourceDefinition, sourceDefinition2), workspaceId))
+    when(actorDefinitionVersionHelper.getSourceVersions(List.of(sourceDefinition, sourceDefinition2), workspaceId,
+        Map.of(sourceDefinition.getDefaultVersionId(), sourceDefinitionVersion)))
         .thenReturn(Map.of(
             sourceDefinitionVersion.getActorDefinitionId(), sourceDefinitionVersion,
             sourceDefinitionVersion2.getActorDefinitionId(), sourceDefinitionVersion2));
@@ -466,6 +482,54 @@ class SourceDefinitionsHandlerTest {
     assertEquals(expectedSourceDefinitionRead, actualSourceDefinitionRead);
   }
 
+  @Test
+  @DisplayName("getSourceDefinition should read the definitions snapshot until a source definition is written")
+  void testGetSourceDefinitionFromSnapshot()
+      throws JsonValidationException, ConfigNotFoundException, IOException, io.airbyte.config.persistence.ConfigNotFoundException {
+    final SourceDefinitionIdRequestBody sourceDefinitionIdRequestBody =
+        new SourceDefinitionIdRequestBody().sourceDefinitionId(sourceDefinition.getSourceDefinitionId());
+    when(sourceService.listStandardSourceDefinitions(false)).thenReturn(List.of(sourceDefinition));
+    when(actorDefinitionService.getActorDefinitionVersions(List.of(sourceDefinition.getDefaultVersionId())))
+        .thenReturn(List.of(sourceDefinitionVersion));
+
+    final SourceDefinitionRead firstRead = sourceDefinitionsHandler.getSourceDefinition(sourceDefinitionIdRequestBody);
+    final SourceDefinitionRead secondRead = sourceDefinitionsHandler.getSourceDefinition(sourceDefinitionIdRequestBody);
+
+    assertEquals(sourceDefinitionVersion.getDockerImageTag(), firstRead.getDockerImageTag());
+    assertEquals(firstRead, secondRead);
+    verify(sourceService, times(1)).listStandardSourceDefinitions(false);
+    verify(sourceService, never()).getStandardSourceDefinition(any());
+
+    when(sourceService.getStandardSourceDefinition(sourceDefinition.getSourceDefinitionId())).thenReturn(sourceDefinition);
+    when(sourceHandler.listSourcesForSourceDefinition(sourceDefinitionIdRequestBody)).thenReturn(new SourceReadList().sources(List.of()));
+    sourceDefinitionsHandler.deleteSourceDefinition(sourceDefinitionIdRequestBody);
+    sourceDefinitionsHandler.getSourceDefinition(sourceDefinitionIdRequestBody);
+
+    verify(sourceService, times(2)).listStandardSourceDefinitions(false);
+  }
+
+  @Test
+  @DisplayName("getSourceDefinition should read custom source definitions from the database")
+  void testGetCustomSourceDefinitionFromDatabase()
+      throws JsonValidationException, ConfigNotFoundException, IOException, io.airbyte.config.persistence.ConfigNotFoundException {
+    final StandardSourceDefinition customDefinition = generateSourceDefinition().withCustom(true);
+    final ActorDefinitionVersion snapshotVersion = generateVersionFromSourceDefinition(customDefinition);
+    when(sourceService.listStandardSourceDefinitions(false)).thenReturn(List.of(customDefinition));
+    when(actorDefinitionService.getActorDefinitionVersions(List.of(customDefinition.getDefaultVersionId())))
+        .thenReturn(List.of(snapshotVersion));
+
+    // A new manifest was published through another instance since the snapshot was loaded.
+    final StandardSourceDefinition publishedDefinition = Jsons.clone(customDefinition).withDefaultVersionId(UUID.randomUUID());
+    final ActorDefinitionVersion publishedVersion = generateVersionFromSourceDefinition(publishedDefinition).withDockerImageTag("12.4");
+    when(sourceService.getStandardSourceDefinition(customDefinition.getSourceDefinitionId())).thenReturn(publishedDefinition);
+    when(actorDefinitionService.getActorDefinitionVersion(publishedDefinition.getDefaultVersionId())).thenReturn(publishedVersion);
+
+    final SourceDefinitionRead read = sourceDefinitionsHandler.getSourceDefinition(
+        new SourceDefinitionIdRequestBody().sourceDefinitionId(customDefinition.getSourceDefinitionId()));
+
+    assertEquals("12.4", read.getDockerImageTag());
+  }
+
   @Test
   @DisplayName("getSourceDefinitionForWorkspace should throw an exception for a missing grant")
   void testGetDefinitionWithoutGrantForWorkspace() throws IOException {
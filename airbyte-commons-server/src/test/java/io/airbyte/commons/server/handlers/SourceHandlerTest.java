@@ -6,7 +6,9 @@ package io.airbyte.commons.server.handlers;
 
 import static io.airbyte.protocol.models.CatalogHelpers.createAirbyteStream;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -37,11 +39,13 @@ import io.airbyte.api.model.generated.SupportState;
 import io.airbyte.api.model.generated.WorkspaceIdRequestBody;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.server.converters.ConfigurationUpdate;
+import io.airbyte.commons.server.errors.BadRequestException;
 import io.airbyte.commons.server.handlers.helpers.ActorDefinitionHandlerHelper;
 import io.airbyte.commons.server.handlers.helpers.CatalogConverter;
 import io.airbyte.commons.server.helpers.ConnectionHelpers;
 import io.airbyte.commons.server.helpers.ConnectorSpecificationHelpers;
 import io.airbyte.commons.server.helpers.SourceHelpers;
+import io.airbyte.commons.storage.ChunkedDocumentStore;
 import io.airbyte.config.ActorDefinitionVersion;
 import io.airbyte.config.SourceConnection;
 import io.airbyte.config.StandardSourceDefinition;
@@ -61,6 +65,7 @@ import io.airbyte.data.services.WorkspaceService;
 import io.airbyte.featureflag.TestClient;
 import io.airbyte.persistence.job.factory.OAuthConfigSupplier;
 import io.airbyte.protocol.models.AirbyteCatalog;
+import io.airbyte.protocol.models.AirbyteStream;
 import io.airbyte.protocol.models.CatalogHelpers;
 import io.airbyte.protocol.models.ConnectorSpecification;
 import io.airbyte.protocol.models.Field;
@@ -74,6 +79,7 @@ import java.util.UUID;
 import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 class SourceHandlerTest {
@@ -110,6 +116,7 @@ class SourceHandlerTest {
   private SecretPersistenceConfigService secretPersistenceConfigService;
   private ActorDefinitionHandlerHelper actorDefinitionHandlerHelper;
   private CatalogService catalogService;
+  private ChunkedDocumentStore discoveredCatalogStore;
 
   @SuppressWarnings("unchecked")
   @BeforeEach
@@ -129,6 +136,7 @@ class SourceHandlerTest {
     secretPersistenceConfigService = mock(SecretPersistenceConfigService.class);
     actorDefinitionHandlerHelper = mock(ActorDefinitionHandlerHelper.class);
     actorDefinitionVersionUpdater = mock(ActorDefinitionVersionUpdater.class);
+    discoveredCatalogStore = mock(ChunkedDocumentStore.class);
 
     connectorSpecification = ConnectorSpecificationHelpers.generateConnectorSpecification();
 
@@ -168,7 +176,8 @@ class SourceHandlerTest {
         workspaceService,
         secretPersistenceConfigService,
         actorDefinitionHandlerHelper,
-        actorDefinitionVersionUpdater);
+        actorDefinitionVersionUpdater,
+        discoveredCatalogStore);
   }
 
   @Test
@@ -535,6 +544,45 @@ class SourceHandlerTest {
     assert (result.getCatalogId()).equals(catalogId);
   }
 
+  @Test
+  @SuppressWarnings("unchecked")
+  void testWriteDiscoverCatalogResultFromStorage() throws JsonValidationException, IOException {
+    final UUID actorId = UUID.randomUUID();
+    final UUID catalogId = UUID.randomUUID();
+    final String connectorVersion = "0.0.1";
+    final String hashValue = "0123456789abcd";
+    final String catalogStorageId = "discovered-catalog";
+    final List<AirbyteStream> streams = List.of(
+        createAirbyteStream(SHOES, Field.of(SKU, JsonSchemaType.STRING)),
+        createAirbyteStream("hats", Field.of(SKU, JsonSchemaType.STRING)));
+
+    final SourceDiscoverSchemaWriteRequestBody request = new SourceDiscoverSchemaWriteRequestBody()
+        .catalogStorageId(catalogStorageId)
+        .sourceId(actorId)
+        .connectorVersion(connectorVersion)
+        .configurationHash(hashValue);
+
+    when(discoveredCatalogStore.readLines(catalogStorageId)).thenReturn(streams.stream().map(Jsons::serialize).toList());
+    when(catalogService.writeActorCatalogFetchEventFromStreams(any(), eq(actorId), eq(connectorVersion), eq(hashValue))).thenReturn(catalogId);
+    final DiscoverCatalogResult result = sourceHandler.writeDiscoverCatalogResult(request);
+
+    final ArgumentCaptor<Iterable<AirbyteStream>> writtenStreams = ArgumentCaptor.forClass(Iterable.class);
+    verify(catalogService).writeActorCatalogFetchEventFromStreams(writtenStreams.capture(), eq(actorId), eq(connectorVersion), eq(hashValue));
+    assertEquals(streams, Lists.newArrayList(writtenStreams.getValue()));
+    verify(catalogService, never()).writeActorCatalogFetchEvent(any(), any(), any(), any());
+    assertEquals(catalogId, result.getCatalogId());
+  }
+
+  @Test
+  void testWriteDiscoverCatalogResultRequiresACatalog() {
+    final SourceDiscoverSchemaWriteRequestBody request = new SourceDiscoverSchemaWriteRequestBody()
+        .sourceId(UUID.randomUUID())
+        .connectorVersion("0.0.1")
+        .configurationHash("0123456789abcd");
+
+    assertThrows(BadRequestException.class, () -> sourceHandler.writeDiscoverCatalogResult(request));
+  }
+
   @Test
   @SuppressWarnings("PMD")
   void testCatalogResultSelectedStreams() {
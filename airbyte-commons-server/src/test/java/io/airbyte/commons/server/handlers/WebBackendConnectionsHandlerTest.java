@@ -8,6 +8,7 @@ import static io.airbyte.commons.server.helpers.ConnectionHelpers.SECOND_FIELD_N
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -69,12 +70,14 @@ import io.airbyte.api.model.generated.SynchronousJobRead;
 import io.airbyte.api.model.generated.WebBackendConnectionCreate;
 import io.airbyte.api.model.generated.WebBackendConnectionListItem;
 import io.airbyte.api.model.generated.WebBackendConnectionListRequestBody;
+import io.airbyte.api.model.generated.WebBackendConnectionListSortKey;
 import io.airbyte.api.model.generated.WebBackendConnectionRead;
 import io.airbyte.api.model.generated.WebBackendConnectionReadList;
 import io.airbyte.api.model.generated.WebBackendConnectionRequestBody;
 import io.airbyte.api.model.generated.WebBackendConnectionUpdate;
 import io.airbyte.api.model.generated.WebBackendOperationCreateOrUpdate;
 import io.airbyte.api.model.generated.WebBackendWorkspaceState;
+import io.airbyte.api.problems.throwable.generated.BadRequestProblem;
 import io.airbyte.commons.enums.Enums;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.server.converters.ConfigurationUpdate;
@@ -84,6 +87,7 @@ import io.airbyte.commons.server.helpers.ConnectionHelpers;
 import io.airbyte.commons.server.helpers.DestinationHelpers;
 import io.airbyte.commons.server.helpers.SourceHelpers;
 import io.airbyte.commons.server.scheduler.EventRunner;
+import io.airbyte.commons.storage.ChunkedDocumentStore;
 import io.airbyte.commons.temporal.TemporalClient.ManualOperationResult;
 import io.airbyte.config.ActorCatalog;
 import io.airbyte.config.ActorCatalogFetchEvent;
@@ -110,9 +114,12 @@ import io.airbyte.data.services.DestinationService;
 import io.airbyte.data.services.SecretPersistenceConfigService;
 import io.airbyte.data.services.SourceService;
 import io.airbyte.data.services.WorkspaceService;
+import io.airbyte.data.services.shared.ConnectionListCursor;
+import io.airbyte.data.services.shared.ConnectionSortKey;
 import io.airbyte.data.services.shared.DestinationAndDefinition;
 import io.airbyte.data.services.shared.SourceAndDefinition;
 import io.airbyte.data.services.shared.StandardSyncQuery;
+import io.airbyte.data.services.shared.StandardSyncsQueryCursorPaginated;
 import io.airbyte.featureflag.FeatureFlagClient;
 import io.airbyte.featureflag.TestClient;
 import io.airbyte.persistence.job.factory.OAuthConfigSupplier;
@@ -124,10 +131,13 @@ import io.airbyte.validation.json.JsonSchemaValidator;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -233,7 +243,8 @@ class WebBackendConnectionsHandlerTest {
         workspaceService,
         secretPersistenceConfigService,
         actorDefinitionHandlerHelper,
-        actorDefinitionVersionUpdater);
+        actorDefinitionVersionUpdater,
+        mock(ChunkedDocumentStore.class));
 
     wbHandler = spy(new WebBackendConnectionsHandler(
         actorDefinitionVersionHandler,
@@ -482,6 +493,62 @@ class WebBackendConnectionsHandlerTest {
     assertEquals(expectedListItem.getDestination().getIcon(), ICON_URL);
   }
 
+  @Test
+  void testWebBackendListConnectionsForWorkspacePaginated()
+      throws IOException, JsonValidationException, ConfigNotFoundException, io.airbyte.config.persistence.ConfigNotFoundException {
+    final StandardSync nextStandardSync = ConnectionHelpers.generateSyncWithSourceAndDestinationId(
+        expectedListItem.getSource().getSourceId(), expectedListItem.getDestination().getDestinationId(), false, Status.ACTIVE);
+    final StandardSync firstStandardSync = connectionService.listWorkspaceStandardSyncs(
+        new StandardSyncQuery(sourceRead.getWorkspaceId(), List.of(), List.of(), false)).get(0);
+    when(connectionService.listWorkspaceStandardSyncsCursorPaginated(any()))
+        .thenReturn(List.of(firstStandardSync, nextStandardSync));
+
+    final WebBackendConnectionListRequestBody webBackendConnectionListRequestBody = new WebBackendConnectionListRequestBody()
+        .workspaceId(sourceRead.getWorkspaceId())
+        .pageSize(1)
+        .sortKey(WebBackendConnectionListSortKey.SOURCE_NAME_ASC);
+
+    final WebBackendConnectionReadList webBackendConnectionReadList =
+        wbHandler.webBackendListConnectionsForWorkspace(webBackendConnectionListRequestBody);
+
+    assertEquals(List.of(expectedListItem), webBackendConnectionReadList.getConnections());
+    assertEquals(new ConnectionListCursor(expectedListItem.getSource().getName(), expectedListItem.getConnectionId()),
+        WebBackendConnectionsHandler.decodeListCursor(ConnectionSortKey.SOURCE_NAME_ASC, webBackendConnectionReadList.getNextCursor()));
+
+    final ArgumentCaptor<StandardSyncsQueryCursorPaginated> queryCaptor = ArgumentCaptor.forClass(StandardSyncsQueryCursorPaginated.class);
+    verify(connectionService).listWorkspaceStandardSyncsCursorPaginated(queryCaptor.capture());
+    assertEquals(ConnectionSortKey.SOURCE_NAME_ASC, queryCaptor.getValue().sortKey());
+    assertEquals(2, queryCaptor.getValue().pageSize());
+  }
+
+  @Test
+  void testListCursorIsBoundToSortKey() {
+    final ConnectionListCursor cursor = new ConnectionListCursor("name", UUID.randomUUID());
+    final String encodedCursor = WebBackendConnectionsHandler.encodeListCursor(ConnectionSortKey.CONNECTION_NAME_DESC, cursor);
+
+    assertEquals(cursor, WebBackendConnectionsHandler.decodeListCursor(ConnectionSortKey.CONNECTION_NAME_DESC, encodedCursor));
+    assertThrows(BadRequestProblem.class,
+        () -> WebBackendConnectionsHandler.decodeListCursor(ConnectionSortKey.CONNECTION_NAME_ASC, encodedCursor));
+    assertThrows(BadRequestProblem.class,
+        () -> WebBackendConnectionsHandler.decodeListCursor(ConnectionSortKey.CONNECTION_NAME_DESC, "not a cursor"));
+  }
+
+  @Test
+  void testListCursorWithMalformedValuesIsRejected() {
+    final Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+    final String malformedConnectionId = encoder.encodeToString(Jsons.serialize(Map.of(
+        "sortKey", ConnectionSortKey.CONNECTION_NAME_ASC.name(), "sortValue", "name", "connectionId", "not-a-uuid"))
+        .getBytes(StandardCharsets.UTF_8));
+    final String malformedSortValue = encoder.encodeToString(Jsons.serialize(Map.of(
+        "sortKey", ConnectionSortKey.CONNECTION_NAME_ASC.name(), "sortValue", List.of("name"), "connectionId", UUID.randomUUID().toString()))
+        .getBytes(StandardCharsets.UTF_8));
+
+    assertThrows(BadRequestProblem.class,
+        () -> WebBackendConnectionsHandler.decodeListCursor(ConnectionSortKey.CONNECTION_NAME_ASC, malformedConnectionId));
+    assertThrows(BadRequestProblem.class,
+        () -> WebBackendConnectionsHandler.decodeListCursor(ConnectionSortKey.CONNECTION_NAME_ASC, malformedSortValue));
+  }
+
   @Test
   void testWebBackendGetConnection()
       throws ConfigNotFoundException, IOException, JsonValidationException, io.airbyte.config.persistence.ConfigNotFoundException {
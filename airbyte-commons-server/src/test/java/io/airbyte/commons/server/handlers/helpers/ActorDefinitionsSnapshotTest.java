@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.server.handlers.helpers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.airbyte.config.ActorDefinitionVersion;
+import io.airbyte.config.StandardSourceDefinition;
+import io.airbyte.data.services.ActorDefinitionService;
+import io.airbyte.data.services.DestinationService;
+import io.airbyte.data.services.SourceService;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ActorDefinitionsSnapshotTest {
+
+  private ActorDefinitionService actorDefinitionService;
+  private SourceService sourceService;
+  private DestinationService destinationService;
+
+  @BeforeEach
+  void setup() throws IOException {
+    actorDefinitionService = mock(ActorDefinitionService.class);
+    sourceService = mock(SourceService.class);
+    destinationService = mock(DestinationService.class);
+    when(sourceService.listStandardSourceDefinitions(false)).thenReturn(List.of());
+    when(destinationService.listStandardDestinationDefinitions(false)).thenReturn(List.of());
+    when(actorDefinitionService.getActorDefinitionVersions(any())).thenReturn(List.of());
+  }
+
+  private static StandardSourceDefinition sourceDefinition() {
+    return new StandardSourceDefinition().withSourceDefinitionId(UUID.randomUUID()).withDefaultVersionId(UUID.randomUUID());
+  }
+
+  @Test
+  void testSnapshotIsKeptForTheTtl() throws IOException {
+    final ActorDefinitionsSnapshot snapshot = new ActorDefinitionsSnapshot(actorDefinitionService, sourceService, destinationService,
+        Duration.ofHours(1));
+
+    final ActorDefinitionsSnapshot.SourceDefinitions first = snapshot.getSourceDefinitions();
+
+    assertSame(first, snapshot.getSourceDefinitions());
+    verify(sourceService, times(1)).listStandardSourceDefinitions(false);
+  }
+
+  @Test
+  void testSnapshotIsReloadedOnceTheTtlElapsed() throws IOException {
+    final ActorDefinitionsSnapshot snapshot = new ActorDefinitionsSnapshot(actorDefinitionService, sourceService, destinationService,
+        Duration.ZERO);
+
+    snapshot.getSourceDefinitions();
+    snapshot.getSourceDefinitions();
+
+    verify(sourceService, times(2)).listStandardSourceDefinitions(false);
+  }
+
+  @Test
+  void testInvalidationOnlyDropsItsKindOfDefinitions() throws IOException {
+    final ActorDefinitionsSnapshot snapshot = new ActorDefinitionsSnapshot(actorDefinitionService, sourceService, destinationService,
+        Duration.ofHours(1));
+    snapshot.getSourceDefinitions();
+    snapshot.getDestinationDefinitions();
+
+    snapshot.invalidateSourceDefinitions();
+    snapshot.getSourceDefinitions();
+    snapshot.getDestinationDefinitions();
+
+    verify(sourceService, times(2)).listStandardSourceDefinitions(false);
+    verify(destinationService, times(1)).listStandardDestinationDefinitions(false);
+  }
+
+  @Test
+  void testLoadStartedBeforeAnInvalidationIsNotKept() throws Exception {
+    final StandardSourceDefinition staleDefinition = sourceDefinition();
+    final StandardSourceDefinition writtenDefinition = sourceDefinition();
+    final CountDownLatch loadStarted = new CountDownLatch(1);
+    final CountDownLatch loadReleased = new CountDownLatch(1);
+    when(sourceService.listStandardSourceDefinitions(false)).thenAnswer(invocation -> {
+      loadStarted.countDown();
+      loadReleased.await();
+      return List.of(staleDefinition);
+    }).thenReturn(List.of(writtenDefinition));
+    final ActorDefinitionsSnapshot snapshot = new ActorDefinitionsSnapshot(actorDefinitionService, sourceService, destinationService,
+        Duration.ofHours(1));
+
+    final CompletableFuture<ActorDefinitionsSnapshot.SourceDefinitions> staleLoad = CompletableFuture.supplyAsync(() -> {
+      try {
+        return snapshot.getSourceDefinitions();
+      } catch (final IOException e) {
+        throw new RuntimeException(e);
+      }
+    });
+    assertTrue(loadStarted.await(5, TimeUnit.SECONDS));
+    // A definition is written while the snapshot is loading, which may or may not see the write.
+    snapshot.invalidateSourceDefinitions();
+    loadReleased.countDown();
+
+    // The caller that started the load gets what it loaded, but later callers load the written definition.
+    assertEquals(List.of(staleDefinition), staleLoad.get(5, TimeUnit.SECONDS).definitions());
+    assertEquals(List.of(writtenDefinition), snapshot.getSourceDefinitions().definitions());
+    assertEquals(List.of(writtenDefinition), snapshot.getSourceDefinitions().definitions());
+    verify(sourceService, times(2)).listStandardSourceDefinitions(false);
+  }
+
+  @Test
+  void testDefaultVersionsAreIndexed() throws IOException {
+    final StandardSourceDefinition definition = sourceDefinition();
+    final ActorDefinitionVersion defaultVersion = new ActorDefinitionVersion()
+        .withVersionId(definition.getDefaultVersionId())
+        .withActorDefinitionId(definition.getSourceDefinitionId());
+    when(sourceService.listStandardSourceDefinitions(false)).thenReturn(List.of(definition));
+    when(actorDefinitionService.getActorDefinitionVersions(List.of(definition.getDefaultVersionId()))).thenReturn(List.of(defaultVersion));
+    final ActorDefinitionsSnapshot snapshot = new ActorDefinitionsSnapshot(actorDefinitionService, sourceService, destinationService,
+        Duration.ofHours(1));
+
+    final ActorDefinitionsSnapshot.SourceDefinitions sourceDefinitions = snapshot.getSourceDefinitions();
+
+    assertEquals(definition, sourceDefinitions.find(definition.getSourceDefinitionId()).orElseThrow());
+    assertEquals(defaultVersion, sourceDefinitions.findDefaultVersion(definition).orElseThrow());
+    assertEquals(defaultVersion, sourceDefinitions.defaultVersionsByDefinitionId().get(definition.getSourceDefinitionId()));
+  }
+
+}
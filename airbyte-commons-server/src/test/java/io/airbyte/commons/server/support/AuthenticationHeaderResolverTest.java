@@ -22,6 +22,8 @@ import static io.airbyte.commons.server.support.AuthenticationHttpHeaders.WORKSP
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.airbyte.api.model.generated.PermissionIdRequestBody;
@@ -217,6 +219,22 @@ class AuthenticationHeaderResolverTest {
     assertEquals(List.of(organizationId), result);
   }
 
+  @Test
+  void testPermissionHeaderLookupsAreCached() throws IOException, io.airbyte.config.persistence.ConfigNotFoundException {
+    final UUID workspaceId = UUID.randomUUID();
+    final UUID permissionId = UUID.randomUUID();
+    final Map<String, String> properties = Map.of(PERMISSION_ID_HEADER, permissionId.toString());
+    when(permissionHandler.getPermission(new PermissionIdRequestBody().permissionId(permissionId)))
+        .thenReturn(new PermissionRead().workspaceId(workspaceId));
+
+    resolver.resolveWorkspace(properties);
+    resolver.resolveOrganization(properties);
+    final List<UUID> result = resolver.resolveWorkspace(properties);
+
+    assertEquals(List.of(workspaceId), result);
+    verify(permissionHandler, times(1)).getPermission(new PermissionIdRequestBody().permissionId(permissionId));
+  }
+
   @Test
   void testResolvingAuthUserFromUserId() throws Exception {
     final UUID userId = UUID.randomUUID();
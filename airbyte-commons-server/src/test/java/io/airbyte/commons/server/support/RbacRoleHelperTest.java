@@ -5,6 +5,8 @@
 package io.airbyte.commons.server.support;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.airbyte.commons.auth.AuthRole;
@@ -13,9 +15,11 @@ import io.airbyte.commons.auth.OrganizationAuthRole;
 import io.airbyte.commons.auth.WorkspaceAuthRole;
 import io.airbyte.config.Permission.PermissionType;
 import io.airbyte.config.persistence.PermissionPersistence;
+import io.airbyte.data.services.shared.PermissionChangedEvent;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.netty.NettyHttpHeaders;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
@@ -55,7 +59,8 @@ class RbacRoleHelperTest {
 
   @BeforeEach
   void setUp() {
-    rbacRoleHelper = new RbacRoleHelper(mHeaderResolver, mPermissionPersistence);
+    // A ttl of zero disables caching, so that every test sees the current stubs.
+    rbacRoleHelper = new RbacRoleHelper(mHeaderResolver, new PermissionDecisionCache(mPermissionPersistence, Duration.ZERO));
     Mockito.lenient().when(mRequest.getHeaders()).thenReturn(mHeaders);
   }
 
@@ -210,6 +215,33 @@ class RbacRoleHelperTest {
     Assertions.assertEquals(Set.of(OrganizationAuthRole.NONE.getLabel()), actualRoles);
   }
 
+  @Test
+  void getRbacRolesCachesPermissionLookupsUntilAPermissionChanges() throws IOException {
+    final PermissionDecisionCache permissionDecisionCache = new PermissionDecisionCache(mPermissionPersistence, Duration.ofMinutes(1));
+    final RbacRoleHelper cachingRbacRoleHelper = new RbacRoleHelper(mHeaderResolver, permissionDecisionCache);
+
+    when(mHeaderResolver.resolveWorkspace(any())).thenReturn(List.of(WORKSPACE_ID));
+    when(mPermissionPersistence.findPermissionTypeForUserAndWorkspace(WORKSPACE_ID, AUTH_USER_ID))
+        .thenReturn(PermissionType.WORKSPACE_ADMIN);
+
+    cachingRbacRoleHelper.getRbacRoles(AUTH_USER_ID, mRequest);
+    final Set<String> actualRoles = new HashSet<>(cachingRbacRoleHelper.getRbacRoles(AUTH_USER_ID, mRequest));
+
+    Assertions.assertEquals(WorkspaceAuthRole.buildWorkspaceAuthRolesSet(WorkspaceAuthRole.WORKSPACE_ADMIN), actualRoles);
+    verify(mPermissionPersistence, times(1)).findPermissionTypeForUserAndWorkspace(WORKSPACE_ID, AUTH_USER_ID);
+    verify(mPermissionPersistence, times(1)).isAuthUserInstanceAdmin(AUTH_USER_ID);
+
+    // a permission write drops the cached decisions
+    when(mPermissionPersistence.findPermissionTypeForUserAndWorkspace(WORKSPACE_ID, AUTH_USER_ID))
+        .thenReturn(PermissionType.WORKSPACE_READER);
+    permissionDecisionCache.onPermissionChanged(new PermissionChangedEvent(Set.of(UUID.randomUUID())));
+
+    final Set<String> rolesAfterInvalidation = new HashSet<>(cachingRbacRoleHelper.getRbacRoles(AUTH_USER_ID, mRequest));
+
+    Assertions.assertEquals(WorkspaceAuthRole.buildWorkspaceAuthRolesSet(WorkspaceAuthRole.WORKSPACE_READER), rolesAfterInvalidation);
+    verify(mPermissionPersistence, times(2)).findPermissionTypeForUserAndWorkspace(WORKSPACE_ID, AUTH_USER_ID);
+  }
+
   @Test
   void getInstanceAdminRoles() {
     final Set<String> expectedRoles = Set.of(
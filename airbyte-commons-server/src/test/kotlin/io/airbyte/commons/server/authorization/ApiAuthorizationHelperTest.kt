@@ -9,6 +9,7 @@ import io.airbyte.commons.server.handlers.PermissionHandler
 import io.airbyte.commons.server.support.AuthenticationHeaderResolver
 import io.airbyte.commons.server.support.AuthenticationHttpHeaders.ORGANIZATION_ID_HEADER
 import io.airbyte.commons.server.support.CurrentUserService
+import io.airbyte.commons.server.support.PermissionDecisionCache
 import io.airbyte.commons.server.support.RbacRoleHelper
 import io.mockk.every
 import io.mockk.mockk
@@ -23,7 +24,9 @@ class ApiAuthorizationHelperTest {
   private val currentUserService = mockk<CurrentUserService>()
   private val permissionHandler = mockk<PermissionHandler>()
   private val rbacRoleHelper = mockk<RbacRoleHelper>()
-  private val apiAuthorizationHelper = ApiAuthorizationHelper(authenticationHeaderResolver, permissionHandler, currentUserService, rbacRoleHelper)
+  private val permissionDecisionCache = mockk<PermissionDecisionCache>()
+  private val apiAuthorizationHelper =
+    ApiAuthorizationHelper(authenticationHeaderResolver, permissionHandler, currentUserService, rbacRoleHelper, permissionDecisionCache)
 
   private val userId = UUID.randomUUID()
   private val authUserId = UUID.randomUUID()
@@ -40,7 +43,7 @@ class ApiAuthorizationHelperTest {
 
   @Test
   fun `test checkWorkspacePermissions for instance admin`() {
-    every { permissionHandler.isUserInstanceAdmin(any()) } returns true
+    every { permissionDecisionCache.isUserInstanceAdmin(any()) } returns true
     // shouldn't matter because we're an instance admin.
     every { permissionHandler.permissionsCheckMultipleWorkspaces(any()) } returns
       PermissionCheckRead().message("no").status(PermissionCheckRead.StatusEnum.FAILED)
@@ -54,7 +57,7 @@ class ApiAuthorizationHelperTest {
 
   @Test
   fun `test checkWorkspacePermissions with empty workspace Ids`() {
-    every { permissionHandler.isUserInstanceAdmin(any()) } returns false
+    every { permissionDecisionCache.isUserInstanceAdmin(any()) } returns false
 
     val permissionTypes = setOf(PermissionType.WORKSPACE_EDITOR, PermissionType.ORGANIZATION_EDITOR)
 
@@ -75,7 +78,7 @@ class ApiAuthorizationHelperTest {
 
   @Test
   fun `test checkWorkspacePermissions with null workspace Ids`() {
-    every { permissionHandler.isUserInstanceAdmin(any()) } returns false
+    every { permissionDecisionCache.isUserInstanceAdmin(any()) } returns false
 
     val ids = listOf(UUID.randomUUID().toString())
     val permissionTypes = setOf(PermissionType.WORKSPACE_EDITOR, PermissionType.ORGANIZATION_EDITOR)
@@ -90,7 +93,7 @@ class ApiAuthorizationHelperTest {
 
   @Test
   fun `test checkWorkspacePermissions for passing and failing permission checks`() {
-    every { permissionHandler.isUserInstanceAdmin(any()) } returns false
+    every { permissionDecisionCache.isUserInstanceAdmin(any()) } returns false
 
     val ids = listOf(UUID.randomUUID().toString())
     val scope = Scope.WORKSPACES
@@ -0,0 +1,185 @@
+package io.airbyte.commons.server.handlers
+
+import io.airbyte.api.model.generated.AttemptStats
+import io.airbyte.api.model.generated.AttemptStreamStats
+import io.airbyte.api.model.generated.ConnectionSyncProgressRead
+import io.airbyte.api.model.generated.JobConfigType
+import io.airbyte.api.model.generated.SaveStatsRequestBody
+import io.airbyte.api.model.generated.StreamSyncProgressReadItem
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.verify
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.Test
+import java.time.Duration
+import java.util.UUID
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+internal class SyncProgressBroadcasterTest {
+  private val connectionId = UUID.randomUUID()
+  private val jobHistoryHandler: JobHistoryHandler = mockk()
+  private val broadcaster = SyncProgressBroadcaster(jobHistoryHandler, Duration.ofHours(1))
+
+  @Test
+  fun `test that stats are pushed as deltas once the attempt is tracked`() {
+    every { jobHistoryHandler.getConnectionSyncProgress(any()) } returnsMany listOf(progress(10, 10, 5), progress(15, 15, 5))
+    val updates = CopyOnWriteArrayList<ConnectionSyncProgressUpdate>()
+
+    val subscription = broadcaster.subscribe(connectionId).subscribe { updates.add(it) }
+    // The first stats of an attempt reload the progress, as they may follow stats posted to another instance.
+    broadcaster.onStats(stats(15, 15, 5))
+    awaitUpdates(updates, 2)
+    broadcaster.onStats(stats(25, 20, 5))
+    subscription.dispose()
+
+    assertEquals(
+      listOf(ConnectionSyncProgressUpdate.Type.SNAPSHOT, ConnectionSyncProgressUpdate.Type.SNAPSHOT, ConnectionSyncProgressUpdate.Type.DELTA),
+      updates.map { it.type },
+    )
+    assertEquals(15L, updates[1].progress.recordsEmitted)
+    val delta = updates[2].progress
+    assertEquals(25L, delta.recordsEmitted)
+    assertEquals(listOf("users"), delta.streams.map { it.streamName })
+    assertEquals(20L, delta.streams.first().recordsEmitted)
+    verify(exactly = 2) { jobHistoryHandler.getConnectionSyncProgress(any()) }
+  }
+
+  @Test
+  fun `test that stats without changes are not pushed`() {
+    every { jobHistoryHandler.getConnectionSyncProgress(any()) } returns progress(10, 10, 0)
+    val updates = CopyOnWriteArrayList<ConnectionSyncProgressUpdate>()
+
+    val subscription = broadcaster.subscribe(connectionId).subscribe { updates.add(it) }
+    broadcaster.onStats(stats(10, 10, 0))
+    awaitUpdates(updates, 2)
+    broadcaster.onStats(stats(10, 10, 0))
+    subscription.dispose()
+
+    assertEquals(listOf(ConnectionSyncProgressUpdate.Type.SNAPSHOT, ConnectionSyncProgressUpdate.Type.SNAPSHOT), updates.map { it.type })
+  }
+
+  @Test
+  fun `test that stats are saved without waiting for the progress to be reloaded`() {
+    val reloadStarted = CountDownLatch(1)
+    val reloadReleased = CountDownLatch(1)
+    every { jobHistoryHandler.getConnectionSyncProgress(any()) } returns progress(10, 10, 0) andThenAnswer {
+      reloadStarted.countDown()
+      reloadReleased.await()
+      progress(15, 15, 0)
+    } andThen progress(20, 20, 0)
+    val updates = CopyOnWriteArrayList<ConnectionSyncProgressUpdate>()
+
+    val subscription = broadcaster.subscribe(connectionId).subscribe { updates.add(it) }
+    broadcaster.onStats(stats(15, 15, 0))
+    assertTrue(reloadStarted.await(5, TimeUnit.SECONDS))
+    // Stats posted while the reload runs may be missing from what it loads, so the progress is loaded once more.
+    broadcaster.onStats(stats(20, 20, 0))
+    reloadReleased.countDown()
+    awaitUpdates(updates, 2)
+    subscription.dispose()
+
+    assertEquals(20L, updates[1].progress.recordsEmitted)
+    verify(exactly = 3) { jobHistoryHandler.getConnectionSyncProgress(any()) }
+  }
+
+  @Test
+  fun `test that streams are told apart by name and namespace`() {
+    every { jobHistoryHandler.getConnectionSyncProgress(any()) } returns
+      ConnectionSyncProgressRead()
+        .connectionId(connectionId)
+        .jobId(JOB_ID)
+        .streams(
+          listOf(
+            StreamSyncProgressReadItem().streamName("a-b").streamNamespace("c").recordsEmitted(0),
+            StreamSyncProgressReadItem().streamName("a").streamNamespace("b-c").recordsEmitted(0),
+          ),
+        )
+    val updates = CopyOnWriteArrayList<ConnectionSyncProgressUpdate>()
+
+    val subscription = broadcaster.subscribe(connectionId).subscribe { updates.add(it) }
+    broadcaster.onStats(streamStats("a-b", "c", 0))
+    awaitUpdates(updates, 2)
+    broadcaster.onStats(streamStats("a-b", "c", 5))
+    subscription.dispose()
+
+    val delta = updates.last().progress
+    assertEquals(listOf("a-b" to "c"), delta.streams.map { it.streamName to it.streamNamespace })
+    assertEquals(5L, delta.streams.first().recordsEmitted)
+  }
+
+  @Test
+  fun `test that stats of connections without subscribers are ignored`() {
+    every { jobHistoryHandler.getConnectionSyncProgress(any()) } returns progress(10, 10, 0)
+
+    broadcaster.subscribe(connectionId).subscribe().dispose()
+    broadcaster.onStats(stats(15, 15, 0))
+
+    verify(exactly = 1) { jobHistoryHandler.getConnectionSyncProgress(any()) }
+  }
+
+  private fun progress(
+    recordsEmitted: Long,
+    usersRecordsEmitted: Long,
+    ordersRecordsEmitted: Long,
+  ): ConnectionSyncProgressRead =
+    ConnectionSyncProgressRead()
+      .connectionId(connectionId)
+      .jobId(JOB_ID)
+      .configType(JobConfigType.SYNC)
+      .recordsEmitted(recordsEmitted)
+      .streams(
+        listOf(
+          StreamSyncProgressReadItem().streamName("users").streamNamespace("public").configType(JobConfigType.SYNC)
+            .recordsEmitted(usersRecordsEmitted),
+          StreamSyncProgressReadItem().streamName("orders").streamNamespace("public").configType(JobConfigType.SYNC)
+            .recordsEmitted(ordersRecordsEmitted),
+        ),
+      )
+
+  private fun stats(
+    recordsEmitted: Long,
+    usersRecordsEmitted: Long,
+    ordersRecordsEmitted: Long,
+  ): SaveStatsRequestBody =
+    SaveStatsRequestBody()
+      .connectionId(connectionId)
+      .jobId(JOB_ID)
+      .attemptNumber(0)
+      .stats(AttemptStats().recordsEmitted(recordsEmitted))
+      .streamStats(
+        listOf(
+          AttemptStreamStats().streamName("users").streamNamespace("public").stats(AttemptStats().recordsEmitted(usersRecordsEmitted)),
+          AttemptStreamStats().streamName("orders").streamNamespace("public").stats(AttemptStats().recordsEmitted(ordersRecordsEmitted)),
+        ),
+      )
+
+  private fun streamStats(
+    name: String,
+    namespace: String,
+    recordsEmitted: Long,
+  ): SaveStatsRequestBody =
+    SaveStatsRequestBody()
+      .connectionId(connectionId)
+      .jobId(JOB_ID)
+      .attemptNumber(0)
+      .stats(AttemptStats().recordsEmitted(recordsEmitted))
+      .streamStats(listOf(AttemptStreamStats().streamName(name).streamNamespace(namespace).stats(AttemptStats().recordsEmitted(recordsEmitted))))
+
+  private fun awaitUpdates(
+    updates: List<ConnectionSyncProgressUpdate>,
+    count: Int,
+  ) {
+    val deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5)
+    while (updates.size < count && System.nanoTime() < deadline) {
+      Thread.sleep(10)
+    }
+    assertEquals(count, updates.size)
+  }
+
+  companion object {
+    private const val JOB_ID = 42L
+  }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.storage
+
+import io.airbyte.commons.json.Jsons
+import java.io.ByteArrayOutputStream
+import java.nio.charset.StandardCharsets
+import java.util.Base64
+import java.util.zip.GZIPInputStream
+import java.util.zip.GZIPOutputStream
+
+/**
+ * Stores documents made of lines that are too large to be held or sent as a whole, e.g. a discovered catalog with
+ * one stream per line.
+ *
+ * A document is written as a series of gzip-compressed chunks of lines followed by a manifest holding the number of
+ * chunks. As [StorageClient] only stores strings, the compressed chunks are base64 encoded. Both writing and reading
+ * only hold one chunk in memory at a time.
+ *
+ * @param storageClient the client the chunks are stored with
+ * @param maxChunkBytes the number of uncompressed bytes after which a chunk is closed and written
+ */
+class ChunkedDocumentStore
+  @JvmOverloads
+  constructor(
+    private val storageClient: StorageClient,
+    private val maxChunkBytes: Int = DEFAULT_MAX_CHUNK_BYTES,
+  ) {
+    /**
+     * Returns a writer for the document with the given id. The document can only be read once the writer is closed.
+     */
+    fun writer(id: String): Writer = Writer(id)
+
+    /**
+     * Lazily reads the lines of the document with the given id, one chunk at a time. Every iteration of the returned
+     * [Iterable] reads the chunks from storage again, so it can be iterated several times without holding the whole
+     * document.
+     *
+     * @throws IllegalStateException if the document does not exist
+     */
+    fun readLines(id: String): Iterable<String> {
+      val manifest = storageClient.read(manifestId(id)) ?: throw IllegalStateException("No document found at $id")
+      val chunks = Jsons.deserialize(manifest).get(CHUNKS_FIELD).asInt()
+      return Iterable {
+        (0 until chunks)
+          .asSequence()
+          .flatMap { chunk -> readChunk(id, chunk) }
+          .iterator()
+      }
+    }
+
+    /**
+     * Deletes the document with the given id, including the chunks of a document whose writer did not complete.
+     */
+    fun delete(id: String) {
+      var chunk = 0
+      while (storageClient.delete(chunkId(id, chunk))) {
+        chunk++
+      }
+      storageClient.delete(manifestId(id))
+    }
+
+    private fun readChunk(
+      id: String,
+      chunk: Int,
+    ): List<String> {
+      val document = storageClient.read(chunkId(id, chunk)) ?: throw IllegalStateException("Chunk $chunk of $id is missing")
+      return GZIPInputStream(Base64.getDecoder().decode(document).inputStream())
+        .bufferedReader(StandardCharsets.UTF_8)
+        .use { it.readLines() }
+    }
+
+    /**
+     * Writes the lines of a document, compressing them as they are appended.
+     */
+    inner class Writer internal constructor(
+      private val id: String,
+    ) : AutoCloseable {
+      private val compressed = ByteArrayOutputStream()
+      private var gzip = GZIPOutputStream(compressed)
+      private var chunkBytes = 0L
+      private var chunks = 0
+
+      /**
+       * Appends a line to the document.
+       *
+       * @param line the line to append, which must not contain a line break
+       */
+      fun append(line: String) {
+        require(line.indexOf('\n') < 0) { "A line of a chunked document cannot contain a line break" }
+        if (chunkBytes > 0) {
+          gzip.write('\n'.code)
+        }
+        val bytes = line.toByteArray(StandardCharsets.UTF_8)
+        gzip.write(bytes)
+        chunkBytes += bytes.size + 1
+        if (chunkBytes >= maxChunkBytes) {
+          writeChunk()
+        }
+      }
+
+      /**
+       * Writes the last chunk and the manifest, which makes the document readable.
+       */
+      override fun close() {
+        if (chunkBytes > 0) {
+          writeChunk()
+        }
+        storageClient.write(manifestId(id), Jsons.serialize(mapOf(CHUNKS_FIELD to chunks)))
+      }
+
+      private fun writeChunk() {
+        gzip.close()
+        storageClient.write(chunkId(id, chunks), Base64.getEncoder().encodeToString(compressed.toByteArray()))
+        chunks++
+        compressed.reset()
+        gzip = GZIPOutputStream(compressed)
+        chunkBytes = 0
+      }
+    }
+
+    companion object {
+      const val DEFAULT_MAX_CHUNK_BYTES = 8 * 1024 * 1024
+      private const val CHUNKS_FIELD = "chunks"
+
+      private fun manifestId(id: String) = "$id/manifest"
+
+      private fun chunkId(
+        id: String,
+        chunk: Int,
+      ) = "$id/chunk-$chunk"
+    }
+  }
@@ -95,6 +95,7 @@ enum class DocumentType(
   STATE(prefix = Path.of("/state")),
   WORKLOAD_OUTPUT(prefix = Path.of("/workload/output")),
   ACTIVITY_PAYLOADS(prefix = Path.of("/activity-payloads")),
+  DISCOVERED_CATALOGS(prefix = Path.of("/discovered-catalogs")),
 }
 
 /**
@@ -568,4 +569,6 @@ fun StorageConfig.bucketName(type: DocumentType): String =
     DocumentType.WORKLOAD_OUTPUT -> this.buckets.workloadOutput
     DocumentType.LOGS -> this.buckets.log
     DocumentType.ACTIVITY_PAYLOADS -> this.buckets.activityPayload
+    // discovered catalogs only live until the server has persisted them, like the workload output
+    DocumentType.DISCOVERED_CATALOGS -> this.buckets.workloadOutput
   }
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.storage
+
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertNull
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import org.junit.jupiter.api.io.TempDir
+import java.nio.file.Path
+
+private const val DOCUMENT_ID = "source/discover"
+
+internal class ChunkedDocumentStoreTest {
+  private val buckets = StorageBucketConfig(log = "log", state = "state", workloadOutput = "workload", activityPayload = "payload")
+
+  private fun storageClient(root: Path) =
+    LocalStorageClient(config = LocalStorageConfig(buckets = buckets, root = root.toString()), type = DocumentType.DISCOVERED_CATALOGS)
+
+  @Test
+  fun `lines are read back in order across chunks`(
+    @TempDir tempDir: Path,
+  ) {
+    val client = storageClient(tempDir)
+    val store = ChunkedDocumentStore(client, maxChunkBytes = 16)
+    val lines = (0 until 10).map { """{"name":"stream_$it"}""" }
+
+    store.writer(DOCUMENT_ID).use { writer -> lines.forEach { writer.append(it) } }
+
+    assertEquals(lines, store.readLines(DOCUMENT_ID).toList())
+    // the iterable reads the chunks again on every iteration
+    assertEquals(lines, store.readLines(DOCUMENT_ID).toList())
+    assertEquals("""{"chunks":10}""", client.read("$DOCUMENT_ID/manifest"))
+  }
+
+  @Test
+  fun `chunks are compressed`(
+    @TempDir tempDir: Path,
+  ) {
+    val client = storageClient(tempDir)
+    val store = ChunkedDocumentStore(client)
+    val line = """{"name":"stream","json_schema":{"type":"object","properties":{}}}"""
+
+    store.writer(DOCUMENT_ID).use { writer -> repeat(1000) { writer.append(line) } }
+
+    assertEquals(List(1000) { line }, store.readLines(DOCUMENT_ID).toList())
+    assertTrue(client.read("$DOCUMENT_ID/chunk-0")!!.length < line.length * 10)
+  }
+
+  @Test
+  fun `an empty document has no chunks`(
+    @TempDir tempDir: Path,
+  ) {
+    val store = ChunkedDocumentStore(storageClient(tempDir))
+
+    store.writer(DOCUMENT_ID).close()
+
+    assertEquals(emptyList<String>(), store.readLines(DOCUMENT_ID).toList())
+  }
+
+  @Test
+  fun `a document must be complete to be read`(
+    @TempDir tempDir: Path,
+  ) {
+    val store = ChunkedDocumentStore(storageClient(tempDir), maxChunkBytes = 1)
+
+    store.writer(DOCUMENT_ID).append("line")
+
+    assertThrows<IllegalStateException> { store.readLines(DOCUMENT_ID) }
+  }
+
+  @Test
+  fun `lines cannot contain line breaks`(
+    @TempDir tempDir: Path,
+  ) {
+    val store = ChunkedDocumentStore(storageClient(tempDir))
+
+    assertThrows<IllegalArgumentException> { store.writer(DOCUMENT_ID).append("a\nb") }
+  }
+
+  @Test
+  fun `delete removes the chunks of complete and incomplete documents`(
+    @TempDir tempDir: Path,
+  ) {
+    val client = storageClient(tempDir)
+    val store = ChunkedDocumentStore(client, maxChunkBytes = 1)
+    store.writer(DOCUMENT_ID).use { writer -> repeat(3) { writer.append("line") } }
+    store.writer("incomplete").append("line")
+
+    store.delete(DOCUMENT_ID)
+    store.delete("incomplete")
+
+    (0 until 3).forEach { assertNull(client.read("$DOCUMENT_ID/chunk-$it")) }
+    assertNull(client.read("$DOCUMENT_ID/manifest"))
+    assertNull(client.read("incomplete/chunk-0"))
+  }
+}
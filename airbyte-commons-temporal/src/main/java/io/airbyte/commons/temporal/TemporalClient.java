@@ -8,6 +8,7 @@ import static io.airbyte.commons.temporal.scheduling.ConnectionManagerWorkflow.N
 import static io.airbyte.featureflag.ContextKt.ANONYMOUS;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.CaseFormat;
 import com.google.protobuf.ByteString;
 import io.airbyte.commons.temporal.exception.DeletedWorkflowException;
 import io.airbyte.commons.temporal.exception.UnreachableWorkflowException;
@@ -35,17 +36,22 @@ import io.airbyte.metrics.lib.MetricTags;
 import io.airbyte.metrics.lib.OssMetricsRegistry;
 import io.airbyte.persistence.job.models.IntegrationLauncherConfig;
 import io.airbyte.persistence.job.models.JobRunConfig;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
 import io.temporal.api.common.v1.WorkflowType;
 import io.temporal.api.enums.v1.WorkflowExecutionStatus;
 import io.temporal.api.workflowservice.v1.ListClosedWorkflowExecutionsRequest;
 import io.temporal.api.workflowservice.v1.ListClosedWorkflowExecutionsResponse;
 import io.temporal.api.workflowservice.v1.ListOpenWorkflowExecutionsRequest;
 import io.temporal.api.workflowservice.v1.ListOpenWorkflowExecutionsResponse;
+import io.temporal.api.workflowservice.v1.ListWorkflowExecutionsRequest;
+import io.temporal.api.workflowservice.v1.ListWorkflowExecutionsResponse;
 import jakarta.annotation.Nullable;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Instant;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
@@ -114,7 +120,26 @@ public class TemporalClient {
    * @return set of connection ids that were restarted, primarily used for tracking purposes
    */
   public int restartClosedWorkflowByStatus(final WorkflowExecutionStatus executionStatus) {
-    final Set<UUID> workflowExecutionInfos = fetchClosedWorkflowsByStatus(executionStatus);
+    return restartClosedWorkflowByStatus(executionStatus, null);
+  }
+
+  /**
+   * Restart connection manager workflows stuck in a certain status, only considering workflows closed
+   * since the given time.
+   *
+   * @param executionStatus execution status
+   * @param closedSince only consider workflows closed at or after this time, or all closed workflows
+   *        if null
+   * @return number of connections that were restarted, primarily used for tracking purposes
+   */
+  public int restartClosedWorkflowByStatus(final WorkflowExecutionStatus executionStatus, @Nullable final Instant closedSince) {
+    final Set<UUID> workflowExecutionInfos = closedSince == null
+        ? fetchClosedWorkflowsByStatus(executionStatus)
+        : fetchClosedWorkflowsByStatus(executionStatus, closedSince);
+    if (workflowExecutionInfos.isEmpty()) {
+      // Nothing to heal, so there is no need to list the open workflows.
+      return 0;
+    }
 
     final Set<UUID> nonRunningWorkflow = filterOutRunningWorkspaceId(workflowExecutionInfos);
     nonRunningWorkflow.forEach(connectionId -> {
@@ -126,6 +151,61 @@ public class TemporalClient {
     return nonRunningWorkflow.size();
   }
 
+  /**
+   * Fetch the connection ids of connection manager workflows in the given status that closed at or
+   * after the given time. The filtering is done by the Temporal visibility store, so the cost of a
+   * call depends on the size of the time window rather than on the size of the namespace history.
+   * <p>
+   * Standard (SQL) visibility only accepts a single attribute next to a time range, so the workflow
+   * type is filtered here. If the visibility store rejects the query anyway, all the closed workflows
+   * are scanned instead.
+   */
+  @VisibleForTesting
+  Set<UUID> fetchClosedWorkflowsByStatus(final WorkflowExecutionStatus executionStatus, final Instant closedSince) {
+    final String query = buildClosedWorkflowsQuery(executionStatus, closedSince);
+    final String connectionManagerWorkflowType = ConnectionManagerWorkflow.class.getSimpleName();
+
+    ByteString token = ByteString.EMPTY;
+    final Set<UUID> connectionIds = new HashSet<>();
+    try {
+      do {
+        final ListWorkflowExecutionsResponse response = serviceStubsWrapped.blockingStubListWorkflowExecutions(
+            ListWorkflowExecutionsRequest.newBuilder()
+                .setNamespace(workflowClientWrapped.getNamespace())
+                .setQuery(query)
+                .setNextPageToken(token)
+                .build());
+        response.getExecutionsList().stream()
+            .filter(workflowExecutionInfo -> connectionManagerWorkflowType.equals(workflowExecutionInfo.getType().getName()))
+            .flatMap(workflowExecutionInfo -> extractConnectionIdFromWorkflowId(workflowExecutionInfo.getExecution().getWorkflowId()).stream())
+            .forEach(connectionIds::add);
+        token = response.getNextPageToken();
+      } while (token != null && token.size() > 0);
+    } catch (final StatusRuntimeException e) {
+      if (e.getStatus().getCode() != Status.Code.INVALID_ARGUMENT && e.getStatus().getCode() != Status.Code.UNIMPLEMENTED) {
+        throw e;
+      }
+      log.warn("The visibility store rejected the query '{}', scanning all closed workflows instead", query, e);
+      return fetchClosedWorkflowsByStatus(executionStatus);
+    }
+
+    return connectionIds;
+  }
+
+  @VisibleForTesting
+  static String buildClosedWorkflowsQuery(final WorkflowExecutionStatus executionStatus, final Instant closedSince) {
+    return String.format("ExecutionStatus = '%s' AND CloseTime >= '%s'", toVisibilityQueryStatus(executionStatus), closedSince);
+  }
+
+  /**
+   * Visibility queries use the camel-cased status name, e.g. WORKFLOW_EXECUTION_STATUS_TIMED_OUT is
+   * 'TimedOut'.
+   */
+  @VisibleForTesting
+  static String toVisibilityQueryStatus(final WorkflowExecutionStatus executionStatus) {
+    return CaseFormat.UPPER_UNDERSCORE.to(CaseFormat.UPPER_CAMEL, StringUtils.removeStart(executionStatus.name(), "WORKFLOW_EXECUTION_STATUS_"));
+  }
+
   Set<UUID> fetchClosedWorkflowsByStatus(final WorkflowExecutionStatus executionStatus) {
     ByteString token;
     ListClosedWorkflowExecutionsRequest workflowExecutionsRequest =
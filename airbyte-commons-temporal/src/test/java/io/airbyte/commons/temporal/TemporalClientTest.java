@@ -48,9 +48,15 @@ import io.airbyte.config.persistence.StreamResetPersistence;
 import io.airbyte.metrics.lib.MetricClient;
 import io.airbyte.persistence.job.models.IntegrationLauncherConfig;
 import io.airbyte.persistence.job.models.JobRunConfig;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.temporal.api.common.v1.WorkflowExecution;
+import io.temporal.api.common.v1.WorkflowType;
 import io.temporal.api.enums.v1.WorkflowExecutionStatus;
 import io.temporal.api.workflow.v1.WorkflowExecutionInfo;
 import io.temporal.api.workflowservice.v1.DescribeWorkflowExecutionResponse;
+import io.temporal.api.workflowservice.v1.ListWorkflowExecutionsRequest;
+import io.temporal.api.workflowservice.v1.ListWorkflowExecutionsResponse;
 import io.temporal.api.workflowservice.v1.WorkflowServiceGrpc.WorkflowServiceBlockingStub;
 import io.temporal.client.BatchRequest;
 import io.temporal.client.WorkflowClient;
@@ -62,6 +68,7 @@ import io.temporal.workflow.Functions.Proc;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Instant;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -169,6 +176,61 @@ public class TemporalClientTest {
       verify(mConnectionManagerUtils).startConnectionManagerNoSignal(eq(connectionId));
     }
 
+    @Test
+    void testRestartFailedSinceSkipsOpenScanWhenNothingClosed() {
+      final Instant closedSince = Instant.parse("2024-01-01T00:00:00Z");
+      doReturn(Set.of())
+          .when(temporalClient).fetchClosedWorkflowsByStatus(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED, closedSince);
+
+      assertEquals(0, temporalClient.restartClosedWorkflowByStatus(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED, closedSince));
+      verify(temporalClient, times(0)).fetchClosedWorkflowsByStatus(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED);
+      verify(temporalClient, times(0)).filterOutRunningWorkspaceId(any());
+    }
+
+    @Test
+    void testFetchClosedWorkflowsSinceQueriesStatusAndCloseTime() {
+      final Instant closedSince = Instant.parse("2024-01-01T00:00:00Z");
+      final UUID connectionId = UUID.randomUUID();
+      when(workflowServiceBlockingStub.listWorkflowExecutions(any())).thenReturn(ListWorkflowExecutionsResponse.newBuilder()
+          .addExecutions(closedWorkflow("connection_manager_" + connectionId, ConnectionManagerWorkflow.class.getSimpleName()))
+          .addExecutions(closedWorkflow("sync_" + UUID.randomUUID(), "SyncWorkflow"))
+          .build());
+
+      assertEquals(Set.of(connectionId),
+          temporalClient.fetchClosedWorkflowsByStatus(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED, closedSince));
+
+      final ArgumentCaptor<ListWorkflowExecutionsRequest> requestCaptor = ArgumentCaptor.forClass(ListWorkflowExecutionsRequest.class);
+      verify(workflowServiceBlockingStub).listWorkflowExecutions(requestCaptor.capture());
+      assertEquals("ExecutionStatus = 'Failed' AND CloseTime >= '2024-01-01T00:00:00Z'", requestCaptor.getValue().getQuery());
+      verify(temporalClient, times(0)).fetchClosedWorkflowsByStatus(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED);
+    }
+
+    @Test
+    void testFetchClosedWorkflowsSinceFallsBackToFullScanWhenQueryIsRejected() {
+      final Instant closedSince = Instant.parse("2024-01-01T00:00:00Z");
+      final Set<UUID> connectionIds = Set.of(UUID.randomUUID());
+      when(workflowServiceBlockingStub.listWorkflowExecutions(any())).thenThrow(new StatusRuntimeException(Status.INVALID_ARGUMENT));
+      doReturn(connectionIds)
+          .when(temporalClient).fetchClosedWorkflowsByStatus(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED);
+
+      assertEquals(connectionIds,
+          temporalClient.fetchClosedWorkflowsByStatus(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED, closedSince));
+    }
+
+    private WorkflowExecutionInfo closedWorkflow(final String workflowId, final String workflowType) {
+      return WorkflowExecutionInfo.newBuilder()
+          .setExecution(WorkflowExecution.newBuilder().setWorkflowId(workflowId).build())
+          .setType(WorkflowType.newBuilder().setName(workflowType).build())
+          .setStatus(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED)
+          .build();
+    }
+
+    @Test
+    void testVisibilityQueryStatus() {
+      assertEquals("Failed", TemporalClient.toVisibilityQueryStatus(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED));
+      assertEquals("TimedOut", TemporalClient.toVisibilityQueryStatus(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_TIMED_OUT));
+    }
+
   }
 
   @Nested
@@ -6,6 +6,7 @@ package io.airbyte.workers;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import dev.failsafe.Failsafe;
 import dev.failsafe.RetryPolicy;
 import dev.failsafe.function.CheckedSupplier;
@@ -19,7 +20,10 @@ import io.airbyte.api.client.model.generated.ConnectionStateCreateOrUpdate;
 import io.airbyte.api.client.model.generated.ConnectionStateType;
 import io.airbyte.api.client.model.generated.DestinationIdRequestBody;
 import io.airbyte.api.client.model.generated.JobOptionalRead;
+import io.airbyte.api.client.model.generated.ReplicationHydrationInputRead;
+import io.airbyte.api.client.model.generated.ReplicationHydrationInputRequestBody;
 import io.airbyte.api.client.model.generated.ResolveActorDefinitionVersionRequestBody;
+import io.airbyte.api.client.model.generated.ResolveActorDefinitionVersionResponse;
 import io.airbyte.api.client.model.generated.SaveStreamAttemptMetadataRequestBody;
 import io.airbyte.api.client.model.generated.ScopeType;
 import io.airbyte.api.client.model.generated.SecretPersistenceConfig;
@@ -42,8 +46,10 @@ import io.airbyte.config.helpers.CatalogTransforms;
 import io.airbyte.config.helpers.StateMessageHelper;
 import io.airbyte.config.secrets.SecretsRepositoryReader;
 import io.airbyte.config.secrets.persistence.RuntimeSecretPersistence;
+import io.airbyte.featureflag.Connection;
 import io.airbyte.featureflag.FeatureFlagClient;
 import io.airbyte.featureflag.Organization;
+import io.airbyte.featureflag.UseReplicationHydrationBundle;
 import io.airbyte.featureflag.UseRuntimeSecretPersistence;
 import io.airbyte.metrics.lib.ApmTraceUtils;
 import io.airbyte.persistence.job.models.ReplicationInput;
@@ -59,30 +65,75 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 
 public class ReplicationInputHydrator {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(ReplicationInputHydrator.class);
 
+  public static final String GET_CONNECTION = "get_connection";
+  public static final String GET_DESTINATION = "get_destination";
+  public static final String GET_JOB_INPUT = "get_job_input";
+  public static final String GET_LAST_REPLICATION_JOB = "get_last_replication_job";
+  public static final String GET_REPLICATION_HYDRATION_INPUT = "get_replication_hydration_input";
+  public static final String GET_SECRET_PERSISTENCE_CONFIG = "get_secret_persistence_config";
+  public static final String GET_STATE = "get_state";
+  public static final String RESOLVE_DESTINATION_VERSION = "resolve_destination_version";
+  public static final String CREATE_OR_UPDATE_STATE = "create_or_update_state";
+  public static final String SAVE_STREAM_METADATA = "save_stream_metadata";
+
+  // The hydration calls are blocking HTTP calls, so they get their own pool rather than the common
+  // fork-join pool. Threads are daemons so that they never keep a finished process alive.
+  private static final ExecutorService DEFAULT_EXECUTOR = Executors.newCachedThreadPool(
+      new ThreadFactoryBuilder().setNameFormat("replication-input-hydrator-%d").setDaemon(true).build());
+
   private final AirbyteApiClient airbyteApiClient;
   private final ResumableFullRefreshStatsHelper resumableFullRefreshStatsHelper;
   private final SecretsRepositoryReader secretsRepositoryReader;
   private final FeatureFlagClient featureFlagClient;
+  private final Executor executor;
 
   public ReplicationInputHydrator(final AirbyteApiClient airbyteApiClient,
                                   final ResumableFullRefreshStatsHelper resumableFullRefreshStatsHelper,
                                   final SecretsRepositoryReader secretsRepositoryReader,
                                   final FeatureFlagClient featureFlagClient) {
+    this(airbyteApiClient, resumableFullRefreshStatsHelper, secretsRepositoryReader, featureFlagClient, DEFAULT_EXECUTOR);
+  }
+
+  public ReplicationInputHydrator(final AirbyteApiClient airbyteApiClient,
+                                  final ResumableFullRefreshStatsHelper resumableFullRefreshStatsHelper,
+                                  final SecretsRepositoryReader secretsRepositoryReader,
+                                  final FeatureFlagClient featureFlagClient,
+                                  final Executor executor) {
     this.airbyteApiClient = airbyteApiClient;
     this.resumableFullRefreshStatsHelper = resumableFullRefreshStatsHelper;
     this.secretsRepositoryReader = secretsRepositoryReader;
     this.featureFlagClient = featureFlagClient;
+    this.executor = executor;
   }
 
+  /**
+   * The reads needed to hydrate a replication input, however they were fetched.
+   */
+  private record HydrationInputs(@Nullable Object jobInput,
+                                 ResolveActorDefinitionVersionResponse destinationVersion,
+                                 ConnectionRead connection,
+                                 @Nullable ConnectionState state,
+                                 @Nullable JobOptionalRead lastReplicationJob,
+                                 @Nullable SecretPersistenceConfig secretPersistenceConfig) {}
+
   private <T> T retry(final CheckedSupplier<T> supplier) {
     return Failsafe.with(
         RetryPolicy.builder()
@@ -92,28 +143,6 @@ public class ReplicationInputHydrator {
         .get(supplier);
   }
 
-  private void refreshSecretsReferences(final ReplicationActivityInput parsed) {
-    final Object jobInput = retry(() -> airbyteApiClient.getJobsApi().getJobInput(
-        new SyncInput(
-            Long.parseLong(parsed.getJobRunConfig().getJobId()),
-            parsed.getJobRunConfig().getAttemptId().intValue())));
-
-    if (jobInput != null) {
-      final JobInput apiResult = Jsons.convertValue(jobInput, JobInput.class);
-      if (apiResult != null && apiResult.getSyncInput() != null) {
-        final StandardSyncInput syncInput = apiResult.getSyncInput();
-
-        if (syncInput.getSourceConfiguration() != null) {
-          parsed.setSourceConfiguration(syncInput.getSourceConfiguration());
-        }
-
-        if (syncInput.getDestinationConfiguration() != null) {
-          parsed.setDestinationConfiguration(syncInput.getDestinationConfiguration());
-        }
-      }
-    }
-  }
-
   /**
    * Converts a ReplicationActivityInput -- passed through Temporal to the replication activity -- to
    * a ReplicationInput which will be passed down the stack to the actual
@@ -125,13 +154,35 @@ public class ReplicationInputHydrator {
    * @throws Exception from the Airbyte API
    */
   public ReplicationInput getHydratedReplicationInput(final ReplicationActivityInput replicationActivityInput) throws Exception {
+    return getHydratedReplicationInput(replicationActivityInput, new ConcurrentHashMap<>());
+  }
+
+  /**
+   * Same as {@link #getHydratedReplicationInput(ReplicationActivityInput)}, additionally recording
+   * how long each Airbyte API call took.
+   *
+   * @param replicationActivityInput the input passed from the sync workflow to the replication
+   *        activity
+   * @param callDurations populated with the wall-clock duration of each API call, keyed by call
+   *        name; calls run concurrently so the map must be thread-safe
+   * @return the input to be passed down to the source/destination/orchestrator processes
+   * @throws Exception from the Airbyte API
+   */
+  public ReplicationInput getHydratedReplicationInput(final ReplicationActivityInput replicationActivityInput,
+                                                      final Map<String, Duration> callDurations)
+      throws Exception {
     ApmTraceUtils.addTagsToTrace(Map.of("api_base_url", airbyteApiClient.getDestinationApi().getBaseUrl()));
-    refreshSecretsReferences(replicationActivityInput);
-    final var destination =
-        airbyteApiClient.getDestinationApi().getDestination(new DestinationIdRequestBody(replicationActivityInput.getDestinationId()));
-    final var tag = DockerImageName.INSTANCE.extractTag(replicationActivityInput.getDestinationLauncherConfig().getDockerImage());
-    final var resolvedDestinationVersion = airbyteApiClient.getActorDefinitionVersionApi().resolveActorDefinitionVersionByTag(
-        new ResolveActorDefinitionVersionRequestBody(destination.getDestinationDefinitionId(), ActorType.DESTINATION, tag));
+    final UUID organizationId = replicationActivityInput.getConnectionContext().getOrganizationId();
+    final boolean useRuntimeSecretPersistence =
+        organizationId != null && featureFlagClient.boolVariation(UseRuntimeSecretPersistence.INSTANCE, new Organization(organizationId));
+
+    final HydrationInputs inputs =
+        featureFlagClient.boolVariation(UseReplicationHydrationBundle.INSTANCE, new Connection(replicationActivityInput.getConnectionId()))
+            ? fetchHydrationBundle(replicationActivityInput, useRuntimeSecretPersistence ? organizationId : null, callDurations)
+            : fetchHydrationInputs(replicationActivityInput, useRuntimeSecretPersistence ? organizationId : null, callDurations);
+
+    refreshSecretsReferences(replicationActivityInput, inputs.jobInput());
+    final ResolveActorDefinitionVersionResponse resolvedDestinationVersion = inputs.destinationVersion();
 
     final SourceActorConfig sourceActorConfig = Jsons.object(replicationActivityInput.getSourceConfiguration(), SourceActorConfig.class);
     if (sourceActorConfig.getUseFileTransfer() && !resolvedDestinationVersion.getSupportFileTransfer()) {
@@ -139,33 +190,33 @@ public class ReplicationInputHydrator {
       throw new WorkerException("Destination does not support file transfers, but source requires it.");
     }
 
-    // Retrieve the connection, which we need in a few places.
     final long jobId = Long.parseLong(replicationActivityInput.getJobRunConfig().getJobId());
-    final ConnectionRead connectionInfo = resolvedDestinationVersion.getSupportRefreshes()
-        ? airbyteApiClient.getConnectionApi()
-            .getConnectionForJob(new ConnectionAndJobIdRequestBody(replicationActivityInput.getConnectionId(), jobId))
-        : airbyteApiClient.getConnectionApi().getConnection(new ConnectionIdRequestBody(replicationActivityInput.getConnectionId()));
+    final ConnectionRead connectionInfo = inputs.connection();
 
     final ConfiguredAirbyteCatalog catalog = retrieveCatalog(connectionInfo);
     if (replicationActivityInput.getIsReset()) {
       // If this is a reset, we need to set the streams being reset to Full Refresh | Overwrite.
-      updateCatalogForReset(replicationActivityInput, catalog);
+      updateCatalogForReset(inputs.lastReplicationJob(), catalog);
     }
-    // Retrieve the state.
-    State state = retrieveState(replicationActivityInput);
+    State state = toInternalState(inputs.state());
     List<StreamDescriptor> streamsToBackfill = null;
     if (BackfillHelper.syncShouldBackfill(replicationActivityInput, connectionInfo)) {
       streamsToBackfill = BackfillHelper.getStreamsToBackfill(replicationActivityInput.getSchemaRefreshOutput().getAppliedDiff(), catalog);
-      state =
-          getUpdatedStateForBackfill(state, replicationActivityInput.getSchemaRefreshOutput(), replicationActivityInput.getConnectionId(), catalog);
+      state = getUpdatedStateForBackfill(state, replicationActivityInput.getSchemaRefreshOutput(), replicationActivityInput.getConnectionId(), catalog,
+          callDurations);
     }
 
     try {
-      trackBackfillAndResume(
-          jobId,
-          replicationActivityInput.getJobRunConfig().getAttemptId(),
-          resumableFullRefreshStatsHelper.getStreamsWithStates(state).stream().toList(),
-          streamsToBackfill);
+      final State finalState = state;
+      final List<StreamDescriptor> finalStreamsToBackfill = streamsToBackfill;
+      timed(callDurations, SAVE_STREAM_METADATA, () -> {
+        trackBackfillAndResume(
+            jobId,
+            replicationActivityInput.getJobRunConfig().getAttemptId(),
+            resumableFullRefreshStatsHelper.getStreamsWithStates(finalState).stream().toList(),
+            finalStreamsToBackfill);
+        return null;
+      });
     } catch (final Exception e) {
       LOGGER.error("Failed to track stream metadata for connectionId:{} attempt:{}", replicationActivityInput.getConnectionId(),
           replicationActivityInput.getJobRunConfig().getAttemptId(), e);
@@ -174,21 +225,14 @@ public class ReplicationInputHydrator {
     // Hydrate the secrets.
     final JsonNode fullDestinationConfig;
     final JsonNode fullSourceConfig;
-    final UUID organizationId = replicationActivityInput.getConnectionContext().getOrganizationId();
-    if (organizationId != null && featureFlagClient.boolVariation(UseRuntimeSecretPersistence.INSTANCE, new Organization(organizationId))) {
-      try {
-        final SecretPersistenceConfig secretPersistenceConfig = airbyteApiClient.getSecretPersistenceConfigApi().getSecretsPersistenceConfig(
-            new SecretPersistenceConfigGetRequestBody(ScopeType.ORGANIZATION, organizationId));
-        final RuntimeSecretPersistence runtimeSecretPersistence = new RuntimeSecretPersistence(
-            fromApiSecretPersistenceConfig(secretPersistenceConfig));
-        fullSourceConfig = secretsRepositoryReader.hydrateConfigFromRuntimeSecretPersistence(replicationActivityInput.getSourceConfiguration(),
-            runtimeSecretPersistence);
-        fullDestinationConfig =
-            secretsRepositoryReader.hydrateConfigFromRuntimeSecretPersistence(replicationActivityInput.getDestinationConfiguration(),
-                runtimeSecretPersistence);
-      } catch (final IOException e) {
-        throw new RuntimeException(e);
-      }
+    if (inputs.secretPersistenceConfig() != null) {
+      final RuntimeSecretPersistence runtimeSecretPersistence = new RuntimeSecretPersistence(
+          fromApiSecretPersistenceConfig(inputs.secretPersistenceConfig()));
+      fullSourceConfig = secretsRepositoryReader.hydrateConfigFromRuntimeSecretPersistence(replicationActivityInput.getSourceConfiguration(),
+          runtimeSecretPersistence);
+      fullDestinationConfig =
+          secretsRepositoryReader.hydrateConfigFromRuntimeSecretPersistence(replicationActivityInput.getDestinationConfiguration(),
+              runtimeSecretPersistence);
     } else {
       fullSourceConfig = secretsRepositoryReader.hydrateConfigFromDefaultSecretPersistence(replicationActivityInput.getSourceConfiguration());
       fullDestinationConfig =
@@ -202,6 +246,145 @@ public class ReplicationInputHydrator {
         .withDestinationSupportsRefreshes(resolvedDestinationVersion.getSupportRefreshes());
   }
 
+  /**
+   * Fetches all the reads the hydration needs with a single call to the server, which assembles
+   * them in-process. Only the secret persistence config, which lives behind a different API, is
+   * fetched separately and concurrently.
+   */
+  private HydrationInputs fetchHydrationBundle(final ReplicationActivityInput replicationActivityInput,
+                                               @Nullable final UUID runtimeSecretPersistenceOrganizationId,
+                                               final Map<String, Duration> callDurations)
+      throws Exception {
+    final CompletableFuture<SecretPersistenceConfig> secretPersistenceConfig =
+        fetchSecretPersistenceConfig(runtimeSecretPersistenceOrganizationId, callDurations);
+
+    final ReplicationHydrationInputRequestBody request = new ReplicationHydrationInputRequestBody(
+        Long.parseLong(replicationActivityInput.getJobRunConfig().getJobId()),
+        replicationActivityInput.getJobRunConfig().getAttemptId().intValue(),
+        replicationActivityInput.getConnectionId(),
+        replicationActivityInput.getDestinationId(),
+        DockerImageName.INSTANCE.extractTag(replicationActivityInput.getDestinationLauncherConfig().getDockerImage()),
+        replicationActivityInput.getIsReset());
+    final ReplicationHydrationInputRead bundle = timed(callDurations, GET_REPLICATION_HYDRATION_INPUT,
+        () -> retry(() -> airbyteApiClient.getJobsApi().getReplicationHydrationInput(request)));
+
+    return new HydrationInputs(
+        bundle.getJobInput(),
+        bundle.getDestinationVersion(),
+        bundle.getConnection(),
+        bundle.getState(),
+        bundle.getLastReplicationJob(),
+        await(secretPersistenceConfig));
+  }
+
+  /**
+   * Fetches the reads the hydration needs with one call per read. Independent calls are issued
+   * concurrently; only the connection read waits on the destination version, which decides whether
+   * the catalog must be the one pinned to the job.
+   */
+  private HydrationInputs fetchHydrationInputs(final ReplicationActivityInput replicationActivityInput,
+                                               @Nullable final UUID runtimeSecretPersistenceOrganizationId,
+                                               final Map<String, Duration> callDurations)
+      throws Exception {
+    final long jobId = Long.parseLong(replicationActivityInput.getJobRunConfig().getJobId());
+    final UUID connectionId = replicationActivityInput.getConnectionId();
+
+    final CompletableFuture<Object> jobInput = supplyAsync(callDurations, GET_JOB_INPUT,
+        () -> retry(() -> airbyteApiClient.getJobsApi().getJobInput(
+            new SyncInput(jobId, replicationActivityInput.getJobRunConfig().getAttemptId().intValue()))));
+    final CompletableFuture<ConnectionState> state = supplyAsync(callDurations, GET_STATE,
+        () -> airbyteApiClient.getStateApi().getState(new ConnectionIdRequestBody(connectionId)));
+    final CompletableFuture<JobOptionalRead> lastReplicationJob = replicationActivityInput.getIsReset()
+        ? supplyAsync(callDurations, GET_LAST_REPLICATION_JOB,
+            () -> airbyteApiClient.getJobsApi().getLastReplicationJob(new ConnectionIdRequestBody(connectionId)))
+        : CompletableFuture.completedFuture(null);
+    final CompletableFuture<SecretPersistenceConfig> secretPersistenceConfig =
+        fetchSecretPersistenceConfig(runtimeSecretPersistenceOrganizationId, callDurations);
+
+    final CompletableFuture<ResolveActorDefinitionVersionResponse> destinationVersion = supplyAsync(callDurations, GET_DESTINATION,
+        () -> airbyteApiClient.getDestinationApi().getDestination(new DestinationIdRequestBody(replicationActivityInput.getDestinationId())))
+            .thenCompose(destination -> supplyAsync(callDurations, RESOLVE_DESTINATION_VERSION,
+                () -> airbyteApiClient.getActorDefinitionVersionApi().resolveActorDefinitionVersionByTag(
+                    new ResolveActorDefinitionVersionRequestBody(
+                        destination.getDestinationDefinitionId(),
+                        ActorType.DESTINATION,
+                        DockerImageName.INSTANCE.extractTag(replicationActivityInput.getDestinationLauncherConfig().getDockerImage())))));
+    final CompletableFuture<ConnectionRead> connection = destinationVersion
+        .thenCompose(version -> supplyAsync(callDurations, GET_CONNECTION,
+            () -> version.getSupportRefreshes()
+                ? airbyteApiClient.getConnectionApi().getConnectionForJob(new ConnectionAndJobIdRequestBody(connectionId, jobId))
+                : airbyteApiClient.getConnectionApi().getConnection(new ConnectionIdRequestBody(connectionId))));
+
+    return new HydrationInputs(
+        await(jobInput),
+        await(destinationVersion),
+        await(connection),
+        await(state),
+        await(lastReplicationJob),
+        await(secretPersistenceConfig));
+  }
+
+  private CompletableFuture<SecretPersistenceConfig> fetchSecretPersistenceConfig(@Nullable final UUID organizationId,
+                                                                                  final Map<String, Duration> callDurations) {
+    if (organizationId == null) {
+      return CompletableFuture.completedFuture(null);
+    }
+    return supplyAsync(callDurations, GET_SECRET_PERSISTENCE_CONFIG,
+        () -> airbyteApiClient.getSecretPersistenceConfigApi().getSecretsPersistenceConfig(
+            new SecretPersistenceConfigGetRequestBody(ScopeType.ORGANIZATION, organizationId)));
+  }
+
+  private <T> CompletableFuture<T> supplyAsync(final Map<String, Duration> callDurations, final String call, final Callable<T> callable) {
+    final Map<String, String> mdc = MDC.getCopyOfContextMap();
+    return CompletableFuture.supplyAsync(() -> {
+      if (mdc != null) {
+        MDC.setContextMap(mdc);
+      }
+      try {
+        return timed(callDurations, call, callable);
+      } catch (final Exception e) {
+        throw new CompletionException(e);
+      }
+    }, executor);
+  }
+
+  private static <T> T timed(final Map<String, Duration> callDurations, final String call, final Callable<T> callable) throws Exception {
+    final long start = System.nanoTime();
+    try {
+      return callable.call();
+    } finally {
+      callDurations.put(call, Duration.ofNanos(System.nanoTime() - start));
+    }
+  }
+
+  private static <T> T await(final CompletableFuture<T> future) throws Exception {
+    try {
+      return future.join();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof Exception cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  private void refreshSecretsReferences(final ReplicationActivityInput parsed, @Nullable final Object jobInput) {
+    if (jobInput != null) {
+      final JobInput apiResult = Jsons.convertValue(jobInput, JobInput.class);
+      if (apiResult != null && apiResult.getSyncInput() != null) {
+        final StandardSyncInput syncInput = apiResult.getSyncInput();
+
+        if (syncInput.getSourceConfiguration() != null) {
+          parsed.setSourceConfiguration(syncInput.getSourceConfiguration());
+        }
+
+        if (syncInput.getDestinationConfiguration() != null) {
+          parsed.setDestinationConfiguration(syncInput.getDestinationConfiguration());
+        }
+      }
+    }
+  }
+
   /**
    * Converts ReplicationActivityInput to ReplicationInput by mapping basic files. Does NOT perform
    * any hydration. Does not copy unhydrated config.
@@ -256,7 +439,8 @@ public class ReplicationInputHydrator {
   private State getUpdatedStateForBackfill(final State state,
                                            final RefreshSchemaActivityOutput schemaRefreshOutput,
                                            final UUID connectionId,
-                                           final ConfiguredAirbyteCatalog catalog)
+                                           final ConfiguredAirbyteCatalog catalog,
+                                           final Map<String, Duration> callDurations)
       throws Exception {
     if (schemaRefreshOutput != null && schemaRefreshOutput.getAppliedDiff() != null) {
       final var streamsToBackfill = BackfillHelper.getStreamsToBackfill(schemaRefreshOutput.getAppliedDiff(), catalog);
@@ -267,7 +451,10 @@ public class ReplicationInputHydrator {
         // backfill process.
         // TODO(mfsiega-airbyte): move all of the state handling into a separate activity.
         LOGGER.debug("Resetting state for connection: {}", connectionId);
-        persistState(resetState, connectionId);
+        timed(callDurations, CREATE_OR_UPDATE_STATE, () -> {
+          persistState(resetState, connectionId);
+          return null;
+        });
       }
 
       return resetState;
@@ -292,20 +479,14 @@ public class ReplicationInputHydrator {
     airbyteApiClient.getStateApi().createOrUpdateState(new ConnectionStateCreateOrUpdate(connectionId, connectionState));
   }
 
-  private State retrieveState(final ReplicationActivityInput replicationActivityInput) throws IOException {
-    final ConnectionState connectionState =
-        airbyteApiClient.getStateApi().getState(new ConnectionIdRequestBody(replicationActivityInput.getConnectionId()));
-    final State state =
-        connectionState != null && !ConnectionStateType.NOT_SET.equals(connectionState.getStateType())
-            ? StateMessageHelper.getState(StateConverter.toInternal(StateConverter.fromClientToApi(connectionState)))
-            : null;
-    return state;
+  @Nullable
+  private State toInternalState(@Nullable final ConnectionState connectionState) {
+    return connectionState != null && !ConnectionStateType.NOT_SET.equals(connectionState.getStateType())
+        ? StateMessageHelper.getState(StateConverter.toInternal(StateConverter.fromClientToApi(connectionState)))
+        : null;
   }
 
-  private void updateCatalogForReset(final ReplicationActivityInput replicationActivityInput, final ConfiguredAirbyteCatalog catalog)
-      throws IOException {
-    final JobOptionalRead jobInfo = airbyteApiClient.getJobsApi().getLastReplicationJob(
-        new ConnectionIdRequestBody(replicationActivityInput.getConnectionId()));
+  private void updateCatalogForReset(@Nullable final JobOptionalRead jobInfo, final ConfiguredAirbyteCatalog catalog) {
     final boolean hasStreamsToReset = jobInfo != null && jobInfo.getJob() != null && jobInfo.getJob().getResetConfig() != null
         && jobInfo.getJob().getResetConfig().getStreamsToReset() != null;
     if (hasStreamsToReset) {
@@ -7,6 +7,7 @@ package io.airbyte.workers.internal;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.base.Suppliers;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.logging.MdcScope;
 import io.airbyte.commons.protocol.AirbyteMessageMigrator;
@@ -22,7 +23,9 @@ import io.airbyte.commons.protocol.serde.AirbyteMessageV1Serializer;
 import io.airbyte.commons.version.AirbyteProtocolVersion;
 import io.airbyte.commons.version.Version;
 import io.airbyte.config.ConfiguredAirbyteCatalog;
+import io.airbyte.metrics.lib.AggregatingMetricRecorder;
 import io.airbyte.metrics.lib.MetricAttribute;
+import io.airbyte.metrics.lib.MetricClient;
 import io.airbyte.metrics.lib.MetricClientFactory;
 import io.airbyte.metrics.lib.MetricTags;
 import io.airbyte.metrics.lib.OssMetricsRegistry;
@@ -33,11 +36,13 @@ import io.micronaut.core.util.StringUtils;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -79,6 +84,17 @@ public class VersionedAirbyteStreamFactory<T> implements AirbyteStreamFactory {
   private static final String TYPE_FIELD_NAME = "type";
   private static final int MAXIMUM_CHARACTERS_ALLOWED = 20_000_000;
 
+  // Metrics emitted for every line are aggregated in process and flushed periodically, rather than
+  // sent to the metric client one line at a time.
+  private static final Duration METRIC_FLUSH_INTERVAL = Duration.ofSeconds(10);
+  private static final int MAX_METRIC_SAMPLES_PER_FLUSH = 200;
+  private static final Supplier<AggregatingMetricRecorder> METRIC_RECORDER = Suppliers.memoize(() -> {
+    final AggregatingMetricRecorder recorder =
+        new AggregatingMetricRecorder(MetricClientFactory::getMetricClient, METRIC_FLUSH_INTERVAL, MAX_METRIC_SAMPLES_PER_FLUSH);
+    Runtime.getRuntime().addShutdownHook(new Thread(recorder::close));
+    return recorder;
+  });
+
   // BASIC PROCESSING FIELDS
   protected final Logger logger;
   private final Optional<UUID> connectionId;
@@ -220,13 +236,10 @@ public class VersionedAirbyteStreamFactory<T> implements AirbyteStreamFactory {
   }
 
   private Stream<AirbyteMessage> addLineReadLogic(final BufferedReader bufferedReader) {
-    final var metricClient = MetricClientFactory.getMetricClient();
+    final MetricClient.BoundDistribution messageSizes = METRIC_RECORDER.get().distribution(OssMetricsRegistry.JSON_STRING_LENGTH);
     return bufferedReader
         .lines()
-        .peek(str -> {
-          final long messageSize = str.getBytes(StandardCharsets.UTF_8).length;
-          metricClient.distribution(OssMetricsRegistry.JSON_STRING_LENGTH, messageSize);
-        })
+        .peek(str -> messageSizes.record(str.getBytes(StandardCharsets.UTF_8).length))
         .flatMap(this::toAirbyteMessage)
         .filter(this::filterLog);
   }
@@ -347,10 +360,10 @@ public class VersionedAirbyteStreamFactory<T> implements AirbyteStreamFactory {
   private void logLargeRecordWarning(final String line) {
     try (final MdcScope ignored = containerLogMdcBuilder.build()) {
       if (line.length() >= MAXIMUM_CHARACTERS_ALLOWED) {
-        connectionId.ifPresentOrElse(c -> MetricClientFactory.getMetricClient().count(OssMetricsRegistry.LINE_SKIPPED_TOO_LONG, 1,
+        connectionId.ifPresentOrElse(c -> METRIC_RECORDER.get().count(OssMetricsRegistry.LINE_SKIPPED_TOO_LONG, 1,
             new MetricAttribute(MetricTags.CONNECTION_ID, c.toString())),
-            () -> MetricClientFactory.getMetricClient().count(OssMetricsRegistry.LINE_SKIPPED_TOO_LONG, 1));
-        MetricClientFactory.getMetricClient().distribution(OssMetricsRegistry.TOO_LONG_LINES_DISTRIBUTION, line.length());
+            () -> METRIC_RECORDER.get().count(OssMetricsRegistry.LINE_SKIPPED_TOO_LONG, 1));
+        METRIC_RECORDER.get().distribution(OssMetricsRegistry.TOO_LONG_LINES_DISTRIBUTION, line.length());
         if (invalidLineFailureConfiguration.printLongRecordPks) {
           logger.warn("[LARGE RECORD] Risk of Destinations not being able to properly handle: " + line.length());
           configuredAirbyteCatalog.ifPresent(
@@ -407,6 +420,7 @@ public class VersionedAirbyteStreamFactory<T> implements AirbyteStreamFactory {
     }
   }
 
+  // Tagged with the length of each line, which has too many values to be aggregated in process.
   private MetricAttribute[] malformedLogAttributes(final String line, final Optional<UUID> connectionId) {
     final List<MetricAttribute> attributes = new ArrayList<>();
     attributes.add(new MetricAttribute(MetricTags.MALFORMED_LOG_LINE_LENGTH, String.valueOf(StringUtils.isNotEmpty(line) ? line.length() : 0)));
@@ -285,6 +285,10 @@ class ReplicationWorkerHelper(
     // This is triggered to allow emission of successful state checksum events
     // in case no checksum errors were found throughout the sync
     messageTracker.endOfReplication((!_cancelled.get() && !hasFailed.get() && !shouldAbort))
+    // Stream statuses are sent in batches, make sure the latest status of every stream is sent.
+    if (::streamStatusTracker.isInitialized) {
+      streamStatusTracker.close()
+    }
 
     analyticsMessageTracker.flush()
   }
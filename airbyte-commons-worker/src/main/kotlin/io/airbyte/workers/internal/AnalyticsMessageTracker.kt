@@ -8,15 +8,20 @@ import io.airbyte.protocol.models.AirbyteMessage
 import io.airbyte.protocol.models.AirbyteTraceMessage
 import io.airbyte.workers.context.ReplicationContext
 import io.airbyte.workers.internal.bookkeeping.AirbyteMessageOrigin
-import java.util.Collections
 import java.util.concurrent.atomic.AtomicInteger
 
 const val MAX_ANALYTICS_MESSAGES_PER_SYNC = 1000
 const val MAX_ANALYTICS_MESSAGES_PER_BATCH = 100
 
+/**
+ * Collects the analytics messages of a sync and hands them to the [TrackingClient] in batches. The tracking client
+ * sends them asynchronously, so a full batch only costs the replication thread the serialization of the batch.
+ */
 class AnalyticsMessageTracker(private val trackingClient: TrackingClient) {
   var ctx: ReplicationContext? = null
-  private val messages = Collections.synchronizedList(mutableListOf<JsonNode>())
+
+  // Guarded by itself, so that a full batch is taken by a single caller.
+  private val messages = mutableListOf<JsonNode>()
   private val totalNumberOfMessages = AtomicInteger(0)
 
   fun addMessage(
@@ -30,7 +35,7 @@ class AnalyticsMessageTracker(private val trackingClient: TrackingClient) {
       return
     }
 
-    messages.add(
+    val message =
       Jsons.jsonNode(
         mapOf(
           "origin" to origin.toString(),
@@ -38,11 +43,13 @@ class AnalyticsMessageTracker(private val trackingClient: TrackingClient) {
           "value" to msg.trace.analytics.value,
           "timestamp" to System.currentTimeMillis(),
         ),
-      ),
-    )
-    if (messages.size >= MAX_ANALYTICS_MESSAGES_PER_BATCH) {
-      flush()
-    }
+      )
+    val fullBatch =
+      synchronized(messages) {
+        messages.add(message)
+        if (messages.size >= MAX_ANALYTICS_MESSAGES_PER_BATCH) getCurrentMessages() else null
+      }
+    fullBatch?.let { track(it) }
   }
 
   private fun generateAnalyticsMetadata(currentMessages: List<JsonNode>): Map<String, Any?> {
@@ -59,19 +66,22 @@ class AnalyticsMessageTracker(private val trackingClient: TrackingClient) {
     )
   }
 
-  @Synchronized
-  private fun getCurrentMessages(): List<JsonNode> {
-    val currentMessages = messages.toList()
-    messages.clear()
+  private fun getCurrentMessages(): List<JsonNode> =
+    synchronized(messages) {
+      val currentMessages = messages.toList()
+      messages.clear()
 
-    return currentMessages
-  }
+      currentMessages
+    }
 
-  fun flush() {
-    val currentMessages = getCurrentMessages()
+  private fun track(currentMessages: List<JsonNode>) {
     if (currentMessages.isNotEmpty()) {
       val context = requireNotNull(ctx)
       trackingClient.track(context.workspaceId, "analytics_messages", generateAnalyticsMetadata(currentMessages))
     }
   }
+
+  fun flush() {
+    track(getCurrentMessages())
+  }
 }
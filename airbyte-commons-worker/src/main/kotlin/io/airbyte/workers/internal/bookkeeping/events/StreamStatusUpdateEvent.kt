@@ -9,8 +9,14 @@ import io.airbyte.api.client.model.generated.StreamStatusRunState as ApiEnum
 data class StreamStatusUpdateEvent(
   // TODO: move cache to client proper when Docker uses Orchestrator
   val cache: MutableMap<StreamStatusKey, StreamStatusRead>,
+  // At most one update per stream, the latest run state it transitioned to.
+  val updates: List<StreamStatusUpdate>,
+  val ctx: ReplicationContext,
+)
+
+data class StreamStatusUpdate(
   val key: StreamStatusKey,
   val runState: ApiEnum,
   val metadata: StreamStatusRateLimitedMetadata? = null,
-  val ctx: ReplicationContext,
+  val transitionedAt: Long,
 )
@@ -8,6 +8,5 @@ import jakarta.inject.Singleton
 class StreamStatusUpdateEventListener(
   private val streamStatusCacheClient: StreamStatusCachingApiClient,
 ) : ApplicationEventListener<StreamStatusUpdateEvent> {
-  override fun onApplicationEvent(event: StreamStatusUpdateEvent): Unit =
-    streamStatusCacheClient.put(event.cache, event.key, event.runState, event.metadata, event.ctx)
+  override fun onApplicationEvent(event: StreamStatusUpdateEvent): Unit = streamStatusCacheClient.putAll(event.cache, event.updates, event.ctx)
 }
@@ -2,102 +2,66 @@ package io.airbyte.workers.internal.bookkeeping.streamstatus
 
 import com.google.common.annotations.VisibleForTesting
 import io.airbyte.api.client.AirbyteApiClient
-import io.airbyte.api.client.model.generated.StreamStatusCreateRequestBody
+import io.airbyte.api.client.model.generated.StreamStatusBatchUpsertRequestBody
 import io.airbyte.api.client.model.generated.StreamStatusIncompleteRunCause
 import io.airbyte.api.client.model.generated.StreamStatusJobType
-import io.airbyte.api.client.model.generated.StreamStatusRateLimitedMetadata
 import io.airbyte.api.client.model.generated.StreamStatusRead
-import io.airbyte.api.client.model.generated.StreamStatusUpdateRequestBody
+import io.airbyte.api.client.model.generated.StreamStatusUpsertRequestBody
 import io.airbyte.workers.context.ReplicationContext
+import io.airbyte.workers.internal.bookkeeping.events.StreamStatusUpdate
 import io.github.oshai.kotlinlogging.KotlinLogging
 import jakarta.inject.Singleton
-import java.time.Clock
 import java.util.UUID
 import io.airbyte.api.client.model.generated.StreamStatusRunState as ApiEnum
 
 private val logger = KotlinLogging.logger {}
 
 /**
- * Consumes StreamStatusUpdateEvents and emits a create or update request for the stream status depending on
- * the contents of its cache.
+ * Consumes StreamStatusUpdateEvents and upserts the stream statuses depending on the contents of its cache, in a
+ * single request per event.
  *
  * API layer.
  */
 @Singleton
 class StreamStatusCachingApiClient(
   private val airbyteApiClient: AirbyteApiClient,
-  private val clock: Clock,
 ) {
-  fun put(
+  fun putAll(
     cache: MutableMap<StreamStatusKey, StreamStatusRead>,
-    key: StreamStatusKey,
-    runState: ApiEnum,
-    metadata: StreamStatusRateLimitedMetadata? = null,
+    updates: List<StreamStatusUpdate>,
     ctx: ReplicationContext,
   ) {
-    logger.info { "Stream Status Update Received: ${key.toDisplayName()} - $runState" }
-
-    val value = cache[key]
-
-    if (value == null) {
-      logger.info { "Creating status: ${key.toDisplayName()} - $runState" }
-      val req = buildCreateReq(key.streamNamespace, key.streamName, ctx, runState, metadata)
-
-      val resp = airbyteApiClient.streamStatusesApi.createStreamStatus(req)
-      cache[key] = resp
-    } else if (value.runState != runState) {
-      logger.info { "Updating status: ${key.toDisplayName()} - $runState" }
-      val req = buildUpdateReq(value.id, key.streamNamespace, key.streamName, ctx, runState, metadata)
-
-      val resp = airbyteApiClient.streamStatusesApi.updateStreamStatus(req)
-      cache[key] = resp
-    } else {
-      logger.info { "Stream ${key.toDisplayName()} is already set to $runState. Ignoring..." }
+    val changed =
+      updates.filter { update ->
+        val value = cache[update.key]
+        if (value == null) {
+          logger.info { "Creating status: ${update.key.toDisplayName()} - ${update.runState}" }
+          true
+        } else if (value.runState != update.runState) {
+          logger.info { "Updating status: ${update.key.toDisplayName()} - ${update.runState}" }
+          true
+        } else {
+          logger.info { "Stream ${update.key.toDisplayName()} is already set to ${update.runState}. Ignoring..." }
+          false
+        }
+      }
+    if (changed.isEmpty()) {
+      return
     }
-  }
 
-  @VisibleForTesting
-  fun buildCreateReq(
-    streamNamespace: String?,
-    streamName: String,
-    ctx: ReplicationContext,
-    runState: ApiEnum,
-    metadata: StreamStatusRateLimitedMetadata? = null,
-  ): StreamStatusCreateRequestBody =
-    StreamStatusCreateRequestBody(
-      attemptNumber = ctx.attempt,
-      connectionId = ctx.connectionId,
-      jobId = ctx.jobId,
-      jobType =
-        if (ctx.isReset) {
-          StreamStatusJobType.RESET
-        } else {
-          StreamStatusJobType.SYNC
-        },
-      runState = runState,
-      streamName = streamName,
-      transitionedAt = clock.millis(),
-      workspaceId = ctx.workspaceId,
-      incompleteRunCause =
-        if (runState == ApiEnum.INCOMPLETE) {
-          StreamStatusIncompleteRunCause.FAILED
-        } else {
-          null
-        },
-      streamNamespace = streamNamespace,
-      metadata = metadata,
-    )
+    val reqs = changed.map { buildUpsertReq(cache[it.key]?.id, it, ctx) }
+    val resp = airbyteApiClient.streamStatusesApi.upsertStreamStatuses(StreamStatusBatchUpsertRequestBody(streamStatuses = reqs))
+    // The statuses are returned in the order of the request.
+    changed.zip(resp.streamStatuses.orEmpty()).forEach { (update, read) -> cache[update.key] = read }
+  }
 
   @VisibleForTesting
-  fun buildUpdateReq(
-    id: UUID,
-    streamNamespace: String?,
-    streamName: String,
+  fun buildUpsertReq(
+    id: UUID?,
+    update: StreamStatusUpdate,
     ctx: ReplicationContext,
-    runState: ApiEnum,
-    metadata: StreamStatusRateLimitedMetadata? = null,
-  ): StreamStatusUpdateRequestBody =
-    StreamStatusUpdateRequestBody(
+  ): StreamStatusUpsertRequestBody =
+    StreamStatusUpsertRequestBody(
       id = id,
       attemptNumber = ctx.attempt,
       connectionId = ctx.connectionId,
@@ -108,17 +72,17 @@ class StreamStatusCachingApiClient(
         } else {
           StreamStatusJobType.SYNC
         },
-      runState = runState,
-      streamName = streamName,
-      transitionedAt = clock.millis(),
+      runState = update.runState,
+      streamName = update.key.streamName,
+      transitionedAt = update.transitionedAt,
       workspaceId = ctx.workspaceId,
       incompleteRunCause =
-        if (runState == ApiEnum.INCOMPLETE) {
+        if (update.runState == ApiEnum.INCOMPLETE) {
           StreamStatusIncompleteRunCause.FAILED
         } else {
           null
         },
-      streamNamespace = streamNamespace,
-      metadata = metadata,
+      streamNamespace = update.key.streamNamespace,
+      metadata = update.metadata,
     )
 }
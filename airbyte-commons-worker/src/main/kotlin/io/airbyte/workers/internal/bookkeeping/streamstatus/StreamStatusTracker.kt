@@ -1,6 +1,7 @@
 package io.airbyte.workers.internal.bookkeeping.streamstatus
 
 import com.google.common.annotations.VisibleForTesting
+import com.google.common.util.concurrent.ThreadFactoryBuilder
 import io.airbyte.api.client.model.generated.StreamStatusRateLimitedMetadata
 import io.airbyte.api.client.model.generated.StreamStatusRead
 import io.airbyte.protocol.models.AirbyteMessage
@@ -11,10 +12,16 @@ import io.airbyte.protocol.models.StreamDescriptor
 import io.airbyte.workers.context.ReplicationContext
 import io.airbyte.workers.general.RateLimitedMessageHelper
 import io.airbyte.workers.helper.AirbyteMessageDataExtractor
+import io.airbyte.workers.internal.bookkeeping.events.StreamStatusUpdate
 import io.airbyte.workers.internal.bookkeeping.events.StreamStatusUpdateEvent
 import io.airbyte.workers.models.StateWithId
 import io.github.oshai.kotlinlogging.KotlinLogging
 import io.micronaut.context.event.ApplicationEventPublisher
+import java.time.Clock
+import java.time.Duration
+import java.util.concurrent.Executors
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.TimeUnit
 import io.airbyte.api.client.model.generated.StreamStatusRunState as ApiEnum
 import io.airbyte.protocol.models.AirbyteStreamStatusTraceMessage.AirbyteStreamStatus as ProtocolEnum
 
@@ -24,7 +31,11 @@ private val logger = KotlinLogging.logger {}
  * Responds to messages from the source and destination and maps them to the appropriate state updates
  * in the store.
  *
- * When state changes occur, it dispatches StreamStatusUpdateEvents for reconciling with the API.
+ * When state changes occur, it queues them and dispatches them as a StreamStatusUpdateEvent for reconciling with the
+ * API every [flushInterval], so that a sync over many streams doesn't make an API call per transition. Only the
+ * latest transition of each stream is dispatched, and flushes never overlap, so the statuses of a stream reach the
+ * API in order. [close] dispatches whatever is still queued and must be called at the end of the replication.
+ * A zero [flushInterval] dispatches each transition right away.
  *
  * Dispatch layer.
  */
@@ -33,12 +44,27 @@ class StreamStatusTracker(
   private val store: StreamStatusStateStore,
   private val eventPublisher: ApplicationEventPublisher<StreamStatusUpdateEvent>,
   private val ctx: ReplicationContext,
+  private val clock: Clock,
+  private val flushInterval: Duration = Duration.ZERO,
   // TODO: move cache to client proper when Docker uses Orchestrator
   // Cache for api responses — we put this here so it gets GC'd when the sync
   // finishes for Docker. The client is a singleton and in Docker runs in the worker
   // so will never be torn down, so we create it in the Tracker which is unique per sync.
   private val apiResponseCache: MutableMap<StreamStatusKey, StreamStatusRead> = HashMap(),
-) {
+) : AutoCloseable {
+  // Insertion ordered, so that streams are dispatched in the order of their latest transition.
+  private val pendingUpdates = LinkedHashMap<StreamStatusKey, StreamStatusUpdate>()
+  private val flushLock = Any()
+  private val flushExecutor: ScheduledExecutorService? =
+    if (flushInterval.isZero) {
+      null
+    } else {
+      Executors.newSingleThreadScheduledExecutor(ThreadFactoryBuilder().setNameFormat("stream-status-flush-%d").setDaemon(true).build())
+        .also {
+          it.scheduleWithFixedDelay({ flushQuietly() }, flushInterval.toMillis(), flushInterval.toMillis(), TimeUnit.MILLISECONDS)
+        }
+    }
+
   fun track(msg: AirbyteMessage) {
     val stream = dataExtractor.getStreamFromMessage(msg)
     if (stream == null) {
@@ -168,11 +194,71 @@ class StreamStatusTracker(
     }
   }
 
+  /**
+   * Dispatch the queued transitions. If dispatching fails, the transitions that weren't superseded in the meantime
+   * are queued again and the exception is rethrown.
+   */
+  fun flush() {
+    synchronized(flushLock) {
+      val updates =
+        synchronized(pendingUpdates) {
+          pendingUpdates.values.toList().also { pendingUpdates.clear() }
+        }
+      if (updates.isEmpty()) {
+        return
+      }
+      try {
+        eventPublisher.publishEvent(StreamStatusUpdateEvent(apiResponseCache, updates, ctx))
+      } catch (e: Exception) {
+        synchronized(pendingUpdates) {
+          val superseding = LinkedHashMap(pendingUpdates)
+          pendingUpdates.clear()
+          updates.filter { it.key !in superseding }.forEach { pendingUpdates[it.key] = it }
+          pendingUpdates.putAll(superseding)
+        }
+        throw e
+      }
+    }
+  }
+
+  /**
+   * Stop the periodic flush and dispatch the transitions that are still queued, so that the latest status of every
+   * stream is reported by the end of the replication.
+   */
+  override fun close() {
+    flushExecutor?.let {
+      it.shutdown()
+      if (!it.awaitTermination(FLUSH_TERMINATION_TIMEOUT_IN_SECONDS, TimeUnit.SECONDS)) {
+        logger.warn { "Periodic stream status flush did not terminate in time" }
+      }
+    }
+    flush()
+  }
+
+  private fun flushQuietly() {
+    try {
+      flush()
+    } catch (e: Exception) {
+      logger.warn(e) { "Failed to send stream status updates, they will be retried as part of the next flush" }
+    }
+  }
+
   private fun sendUpdate(
     key: StreamStatusKey,
     runState: ApiEnum,
     metadata: StreamStatusRateLimitedMetadata?,
   ) {
-    eventPublisher.publishEvent(StreamStatusUpdateEvent(apiResponseCache, key, runState, metadata, ctx))
+    synchronized(pendingUpdates) {
+      // Removed first so that the stream moves to the end of the queue.
+      pendingUpdates.remove(key)
+      pendingUpdates[key] = StreamStatusUpdate(key, runState, metadata, clock.millis())
+    }
+    if (flushExecutor == null) {
+      flush()
+    }
+  }
+
+  companion object {
+    private const val FLUSH_TERMINATION_TIMEOUT_IN_SECONDS = 60L
   }
 }
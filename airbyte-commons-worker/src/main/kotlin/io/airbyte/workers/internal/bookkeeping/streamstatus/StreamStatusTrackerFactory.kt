@@ -3,8 +3,11 @@ package io.airbyte.workers.internal.bookkeeping.streamstatus
 import io.airbyte.workers.context.ReplicationContext
 import io.airbyte.workers.helper.AirbyteMessageDataExtractor
 import io.airbyte.workers.internal.bookkeeping.events.StreamStatusUpdateEvent
+import io.micronaut.context.annotation.Value
 import io.micronaut.context.event.ApplicationEventPublisher
 import jakarta.inject.Singleton
+import java.time.Clock
+import java.time.Duration
 
 /**
  * Because Docker does not use a short-lived orchestrator app per sync,
@@ -16,6 +19,8 @@ import jakarta.inject.Singleton
 class StreamStatusTrackerFactory(
   private val dataExtractor: AirbyteMessageDataExtractor,
   private val eventPublisher: ApplicationEventPublisher<StreamStatusUpdateEvent>,
+  private val clock: Clock,
+  @Value("\${airbyte.worker.replication.stream-status-flush-interval:5s}") private val flushInterval: Duration,
 ) {
   fun create(ctx: ReplicationContext): StreamStatusTracker {
     return StreamStatusTracker(
@@ -23,6 +28,8 @@ class StreamStatusTrackerFactory(
       StreamStatusStateStore(),
       eventPublisher,
       ctx,
+      clock,
+      flushInterval,
     )
   }
 }
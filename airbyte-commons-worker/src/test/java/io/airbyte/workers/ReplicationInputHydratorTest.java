@@ -6,9 +6,12 @@ package io.airbyte.workers;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.JsonNode;
@@ -38,6 +41,7 @@ import io.airbyte.api.client.model.generated.JobConfigType;
 import io.airbyte.api.client.model.generated.JobOptionalRead;
 import io.airbyte.api.client.model.generated.JobRead;
 import io.airbyte.api.client.model.generated.JobStatus;
+import io.airbyte.api.client.model.generated.ReplicationHydrationInputRead;
 import io.airbyte.api.client.model.generated.ResetConfig;
 import io.airbyte.api.client.model.generated.ResolveActorDefinitionVersionResponse;
 import io.airbyte.api.client.model.generated.SaveStreamAttemptMetadataRequestBody;
@@ -57,6 +61,7 @@ import io.airbyte.config.helpers.StateMessageHelper;
 import io.airbyte.config.secrets.SecretsRepositoryReader;
 import io.airbyte.featureflag.FeatureFlagClient;
 import io.airbyte.featureflag.TestClient;
+import io.airbyte.featureflag.UseReplicationHydrationBundle;
 import io.airbyte.persistence.job.models.IntegrationLauncherConfig;
 import io.airbyte.persistence.job.models.JobRunConfig;
 import io.airbyte.persistence.job.models.ReplicationInput;
@@ -66,9 +71,11 @@ import io.airbyte.workers.helper.ResumableFullRefreshStatsHelper;
 import io.airbyte.workers.models.RefreshSchemaActivityOutput;
 import io.airbyte.workers.models.ReplicationActivityInput;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import org.assertj.core.api.CollectionAssert;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -315,6 +322,44 @@ class ReplicationInputHydratorTest {
     assertEquals(JsonNodeFactory.instance.nullNode(), typedState.get().getStateMessages().get(0).getStream().getStreamState());
   }
 
+  @Test
+  void testGenerateReplicationInputFromHydrationBundle() throws Exception {
+    when(featureFlagClient.boolVariation(eq(UseReplicationHydrationBundle.INSTANCE), any())).thenReturn(true);
+    when(jobsApi.getReplicationHydrationInput(any())).thenReturn(new ReplicationHydrationInputRead(
+        new ResolveActorDefinitionVersionResponse(UUID.randomUUID(), "dockerRepo", "dockerTag", true, false),
+        new ConnectionRead(CONNECTION_ID, CONNECTION_NAME, SOURCE_ID, DESTINATION_ID, SYNC_CATALOG, ConnectionStatus.ACTIVE, false, null,
+            null, null, null, null, null, null, null, null, null, null, null, null, null, null, null),
+        null,
+        CONNECTION_STATE_RESPONSE,
+        null));
+    final ReplicationInputHydrator replicationInputHydrator = getReplicationInputHydrator();
+    final Map<String, Duration> callDurations = new ConcurrentHashMap<>();
+
+    final var replicationInput = replicationInputHydrator.getHydratedReplicationInput(getDefaultReplicationActivityInputForTest(), callDurations);
+
+    assertEquals(EXPECTED_STATE, replicationInput.getState());
+    assertEquals(1, replicationInput.getCatalog().getStreams().size());
+    assertTrue(replicationInput.getDestinationSupportsRefreshes());
+    assertTrue(callDurations.containsKey(ReplicationInputHydrator.GET_REPLICATION_HYDRATION_INPUT));
+    verifyNoInteractions(connectionApi, stateApi, actorDefinitionVersionApi);
+  }
+
+  @Test
+  void testGenerateReplicationInputRecordsCallDurations() throws Exception {
+    mockNonRefresh();
+    final ReplicationInputHydrator replicationInputHydrator = getReplicationInputHydrator();
+    final Map<String, Duration> callDurations = new ConcurrentHashMap<>();
+
+    replicationInputHydrator.getHydratedReplicationInput(getDefaultReplicationActivityInputForTest(), callDurations);
+
+    assertTrue(callDurations.keySet().containsAll(List.of(
+        ReplicationInputHydrator.GET_JOB_INPUT,
+        ReplicationInputHydrator.GET_DESTINATION,
+        ReplicationInputHydrator.RESOLVE_DESTINATION_VERSION,
+        ReplicationInputHydrator.GET_CONNECTION,
+        ReplicationInputHydrator.GET_STATE)));
+  }
+
   @Test
   void testGenerateReplicationFailsIfNonCompatibleFileTransfer() throws Exception {
     mockNonRefresh();
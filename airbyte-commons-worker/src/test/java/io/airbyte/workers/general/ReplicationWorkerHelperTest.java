@@ -215,6 +215,7 @@ class ReplicationWorkerHelperTest {
     verify(analyticsMessageTracker, times(1)).addMessage(sourceMessage, AirbyteMessageOrigin.SOURCE);
     verify(analyticsMessageTracker, times(1)).addMessage(destinationMessage, AirbyteMessageOrigin.DESTINATION);
     verify(analyticsMessageTracker, times(1)).flush();
+    verify(streamStatusTracker, times(1)).close();
   }
 
   @Test
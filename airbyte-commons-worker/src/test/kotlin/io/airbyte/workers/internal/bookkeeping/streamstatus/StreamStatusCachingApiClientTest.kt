@@ -2,20 +2,21 @@ package io.airbyte.workers.internal.bookkeeping.streamstatus
 
 import io.airbyte.api.client.AirbyteApiClient
 import io.airbyte.api.client.generated.StreamStatusesApi
+import io.airbyte.api.client.model.generated.StreamStatusBatchUpsertRequestBody
 import io.airbyte.api.client.model.generated.StreamStatusIncompleteRunCause
 import io.airbyte.api.client.model.generated.StreamStatusJobType
 import io.airbyte.api.client.model.generated.StreamStatusRateLimitedMetadata
 import io.airbyte.api.client.model.generated.StreamStatusRead
+import io.airbyte.api.client.model.generated.StreamStatusReadList
 import io.airbyte.api.client.model.generated.StreamStatusRunState
-import io.airbyte.metrics.lib.MetricClient
 import io.airbyte.workers.context.ReplicationContext
+import io.airbyte.workers.internal.bookkeeping.events.StreamStatusUpdate
 import io.mockk.every
 import io.mockk.mockk
 import io.mockk.verify
 import org.junit.jupiter.api.Assertions
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.Test
-import java.time.Clock
 import java.util.UUID
 
 class StreamStatusCachingApiClientTest {
@@ -23,89 +24,82 @@ class StreamStatusCachingApiClientTest {
 
   private lateinit var rawClient: StreamStatusesApi
   private lateinit var rawClientWrapper: AirbyteApiClient
-  private lateinit var metricClient: MetricClient
-  private lateinit var clock: Clock
 
   @BeforeEach
   fun setup() {
     rawClient = mockk()
     rawClientWrapper = mockk { every { streamStatusesApi } returns rawClient }
-    metricClient = mockk()
-    clock = mockk()
-    every { clock.millis() } returns Fixtures.nowMillis
 
-    client = StreamStatusCachingApiClient(rawClientWrapper, clock)
+    client = StreamStatusCachingApiClient(rawClientWrapper)
   }
 
   @Test
   fun createsStatusIfNotPresentInCache() {
-    every { rawClient.createStreamStatus(any()) } returns Fixtures.streamStatusRead(StreamStatusRunState.RUNNING)
+    val reqs = mutableListOf<StreamStatusBatchUpsertRequestBody>()
+    every { rawClient.upsertStreamStatuses(capture(reqs)) } returns Fixtures.streamStatusReadList(StreamStatusRunState.RUNNING)
 
-    client.put(Fixtures.cache(), Fixtures.key1, StreamStatusRunState.RUNNING, null, Fixtures.syncCtx)
+    val cache = Fixtures.cache()
+    client.putAll(cache, listOf(Fixtures.update(StreamStatusRunState.RUNNING)), Fixtures.syncCtx)
 
-    verify(exactly = 1) { rawClient.createStreamStatus(any()) }
+    verify(exactly = 1) { rawClient.upsertStreamStatuses(any()) }
+    Assertions.assertNull(reqs.single().streamStatuses.single().id)
+    Assertions.assertEquals(StreamStatusRunState.RUNNING, cache[Fixtures.key1]?.runState)
   }
 
   @Test
   fun updatesStatusIfPresentInCache() {
-    every { rawClient.createStreamStatus(any()) } returns Fixtures.streamStatusRead(StreamStatusRunState.RUNNING)
-    every { rawClient.updateStreamStatus(any()) } returns Fixtures.streamStatusRead(StreamStatusRunState.RUNNING)
+    val reqs = mutableListOf<StreamStatusBatchUpsertRequestBody>()
+    val created = Fixtures.streamStatusReadList(StreamStatusRunState.RUNNING)
+    every { rawClient.upsertStreamStatuses(capture(reqs)) } returns created andThen Fixtures.streamStatusReadList(StreamStatusRunState.COMPLETE)
 
     val cache = Fixtures.cache()
 
-    client.put(cache, Fixtures.key1, StreamStatusRunState.RUNNING, null, Fixtures.syncCtx)
-    client.put(cache, Fixtures.key1, StreamStatusRunState.COMPLETE, null, Fixtures.syncCtx)
+    client.putAll(cache, listOf(Fixtures.update(StreamStatusRunState.RUNNING)), Fixtures.syncCtx)
+    client.putAll(cache, listOf(Fixtures.update(StreamStatusRunState.COMPLETE)), Fixtures.syncCtx)
 
-    verify(exactly = 1) { rawClient.updateStreamStatus(any()) }
+    verify(exactly = 2) { rawClient.upsertStreamStatuses(any()) }
+    Assertions.assertEquals(created.streamStatuses!!.single().id, reqs[1].streamStatuses.single().id)
+    Assertions.assertEquals(StreamStatusRunState.COMPLETE, cache[Fixtures.key1]?.runState)
   }
 
   @Test
   fun ignoresDuplicates() {
-    every { rawClient.createStreamStatus(any()) } returns Fixtures.streamStatusRead(StreamStatusRunState.RUNNING)
+    every { rawClient.upsertStreamStatuses(any()) } returns Fixtures.streamStatusReadList(StreamStatusRunState.RUNNING)
+
+    val cache = Fixtures.cache()
 
-    client.put(Fixtures.cache(), Fixtures.key1, StreamStatusRunState.RUNNING, null, Fixtures.syncCtx)
-    client.put(Fixtures.cache(), Fixtures.key1, StreamStatusRunState.RUNNING, null, Fixtures.syncCtx)
+    client.putAll(cache, listOf(Fixtures.update(StreamStatusRunState.RUNNING)), Fixtures.syncCtx)
+    client.putAll(cache, listOf(Fixtures.update(StreamStatusRunState.RUNNING)), Fixtures.syncCtx)
 
-    verify(exactly = 0) { rawClient.updateStreamStatus(any()) }
+    verify(exactly = 1) { rawClient.upsertStreamStatuses(any()) }
   }
 
   @Test
-  fun buildCreateAndUpdateReqHandleJobType() {
-    val client1 = StreamStatusCachingApiClient(rawClientWrapper, clock)
-
-    val createResult1 = client1.buildCreateReq("namespace", "name", Fixtures.resetCtx, StreamStatusRunState.RUNNING)
-    val createResult2 = client1.buildCreateReq("namespace", "name", Fixtures.syncCtx, StreamStatusRunState.RUNNING)
-    val updateResult1 = client1.buildUpdateReq(UUID.randomUUID(), "namespace", "name", Fixtures.resetCtx, StreamStatusRunState.RUNNING)
-    val updateResult2 = client1.buildUpdateReq(UUID.randomUUID(), "namespace", "name", Fixtures.syncCtx, StreamStatusRunState.RUNNING)
-    Assertions.assertEquals(StreamStatusJobType.RESET, createResult1.jobType)
-    Assertions.assertEquals(StreamStatusJobType.SYNC, createResult2.jobType)
-    Assertions.assertEquals(StreamStatusJobType.RESET, updateResult1.jobType)
-    Assertions.assertEquals(StreamStatusJobType.SYNC, updateResult2.jobType)
+  fun buildUpsertReqHandlesJobType() {
+    val result1 = client.buildUpsertReq(null, Fixtures.update(StreamStatusRunState.RUNNING), Fixtures.resetCtx)
+    val result2 = client.buildUpsertReq(UUID.randomUUID(), Fixtures.update(StreamStatusRunState.RUNNING), Fixtures.syncCtx)
+
+    Assertions.assertEquals(StreamStatusJobType.RESET, result1.jobType)
+    Assertions.assertEquals(StreamStatusJobType.SYNC, result2.jobType)
   }
 
   @Test
-  fun buildCreateAndUpdateReqSetIncompleteRunCauseToFailed() {
-    val createResult1 = client.buildCreateReq("namespace", "name", Fixtures.syncCtx, StreamStatusRunState.INCOMPLETE)
-    val createResult2 = client.buildCreateReq("namespace", "name", Fixtures.syncCtx, StreamStatusRunState.RUNNING)
-    val updateResult1 = client.buildUpdateReq(UUID.randomUUID(), "namespace", "name", Fixtures.syncCtx, StreamStatusRunState.INCOMPLETE)
-    val updateResult2 = client.buildUpdateReq(UUID.randomUUID(), "namespace", "name", Fixtures.syncCtx, StreamStatusRunState.RUNNING)
-
-    Assertions.assertEquals(StreamStatusIncompleteRunCause.FAILED, createResult1.incompleteRunCause)
-    Assertions.assertNull(createResult2.incompleteRunCause)
-    Assertions.assertEquals(StreamStatusIncompleteRunCause.FAILED, updateResult1.incompleteRunCause)
-    Assertions.assertNull(updateResult2.incompleteRunCause)
+  fun buildUpsertReqSetsIncompleteRunCauseToFailed() {
+    val result1 = client.buildUpsertReq(null, Fixtures.update(StreamStatusRunState.INCOMPLETE), Fixtures.syncCtx)
+    val result2 = client.buildUpsertReq(UUID.randomUUID(), Fixtures.update(StreamStatusRunState.RUNNING), Fixtures.syncCtx)
+
+    Assertions.assertEquals(StreamStatusIncompleteRunCause.FAILED, result1.incompleteRunCause)
+    Assertions.assertNull(result2.incompleteRunCause)
   }
 
   @Test
-  fun buildCreateAndUpdateReqHandleMetadata() {
-    val metadata1 = StreamStatusRateLimitedMetadata(quotaReset = 123L)
-    val metadata2 = StreamStatusRateLimitedMetadata(quotaReset = 456L)
+  fun buildUpsertReqHandlesMetadataAndTransitionTime() {
+    val metadata = StreamStatusRateLimitedMetadata(quotaReset = 123L)
 
-    val createResult1 = client.buildCreateReq("namespace", "name", Fixtures.syncCtx, StreamStatusRunState.INCOMPLETE, metadata1)
-    val updateResult1 = client.buildUpdateReq(UUID.randomUUID(), "namespace", "name", Fixtures.syncCtx, StreamStatusRunState.RUNNING, metadata2)
+    val result = client.buildUpsertReq(null, Fixtures.update(StreamStatusRunState.RATE_LIMITED, metadata), Fixtures.syncCtx)
 
-    Assertions.assertEquals(metadata1, createResult1.metadata)
-    Assertions.assertEquals(metadata2, updateResult1.metadata)
+    Assertions.assertEquals(metadata, result.metadata)
+    Assertions.assertEquals(Fixtures.nowMillis, result.transitionedAt)
   }
 
   object Fixtures {
@@ -128,6 +122,14 @@ class StreamStatusCachingApiClientTest {
         metadata = null,
       )
 
+    fun streamStatusReadList(runState: StreamStatusRunState): StreamStatusReadList =
+      StreamStatusReadList(streamStatuses = listOf(streamStatusRead(runState)))
+
+    fun update(
+      runState: StreamStatusRunState,
+      metadata: StreamStatusRateLimitedMetadata? = null,
+    ) = StreamStatusUpdate(key1, runState, metadata, nowMillis)
+
     fun cache() = mutableMapOf<StreamStatusKey, StreamStatusRead>()
 
     val syncCtx = ctx(false)
@@ -13,6 +13,7 @@ import io.airbyte.protocol.models.AirbyteTraceMessage
 import io.airbyte.protocol.models.StreamDescriptor
 import io.airbyte.workers.context.ReplicationContext
 import io.airbyte.workers.helper.AirbyteMessageDataExtractor
+import io.airbyte.workers.internal.bookkeeping.events.StreamStatusUpdate
 import io.airbyte.workers.internal.bookkeeping.events.StreamStatusUpdateEvent
 import io.micronaut.context.event.ApplicationEventPublisher
 import io.mockk.every
@@ -21,9 +22,14 @@ import io.mockk.spyk
 import io.mockk.verify
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
 import org.junit.jupiter.params.ParameterizedTest
 import org.junit.jupiter.params.provider.Arguments
 import org.junit.jupiter.params.provider.MethodSource
+import java.time.Clock
+import java.time.Duration
+import java.time.Instant
+import java.time.ZoneOffset
 import java.util.UUID
 import java.util.stream.Stream
 import io.airbyte.api.client.model.generated.StreamStatusRunState as ApiEnum
@@ -37,6 +43,8 @@ class StreamStatusTrackerTest {
   private lateinit var eventPublisher: ApplicationEventPublisher<StreamStatusUpdateEvent>
   private lateinit var apiCache: MutableMap<StreamStatusKey, StreamStatusRead>
 
+  private val clock = Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC)
+
   @BeforeEach
   fun setup() {
     dataExtractor = mockk()
@@ -44,7 +52,7 @@ class StreamStatusTrackerTest {
     eventPublisher = mockk()
     apiCache = HashMap()
 
-    tracker = StreamStatusTracker(dataExtractor, store, eventPublisher, Fixtures.ctx, apiCache)
+    tracker = StreamStatusTracker(dataExtractor, store, eventPublisher, Fixtures.ctx, clock, Duration.ZERO, apiCache)
 
     every { dataExtractor.getStreamFromMessage(any()) } returns Fixtures.streamDescriptor1
     every { store.get(any()) } returns null
@@ -159,10 +167,9 @@ class StreamStatusTrackerTest {
       eventPublisher.publishEvent(
         eq(
           StreamStatusUpdateEvent(
-            key = Fixtures.key1,
-            runState = ApiEnum.COMPLETE,
-            ctx = Fixtures.ctx,
             cache = apiCache,
+            updates = listOf(StreamStatusUpdate(Fixtures.key1, ApiEnum.COMPLETE, transitionedAt = NOW)),
+            ctx = Fixtures.ctx,
           ),
         ),
       )
@@ -171,10 +178,9 @@ class StreamStatusTrackerTest {
       eventPublisher.publishEvent(
         eq(
           StreamStatusUpdateEvent(
-            key = Fixtures.key2,
-            runState = ApiEnum.COMPLETE,
-            ctx = Fixtures.ctx,
             cache = apiCache,
+            updates = listOf(StreamStatusUpdate(Fixtures.key2, ApiEnum.COMPLETE, transitionedAt = NOW)),
+            ctx = Fixtures.ctx,
           ),
         ),
       )
@@ -183,10 +189,9 @@ class StreamStatusTrackerTest {
       eventPublisher.publishEvent(
         eq(
           StreamStatusUpdateEvent(
-            key = Fixtures.key3,
-            runState = ApiEnum.COMPLETE,
-            ctx = Fixtures.ctx,
             cache = apiCache,
+            updates = listOf(StreamStatusUpdate(Fixtures.key3, ApiEnum.COMPLETE, transitionedAt = NOW)),
+            ctx = Fixtures.ctx,
           ),
         ),
       )
@@ -197,10 +202,9 @@ class StreamStatusTrackerTest {
       eventPublisher.publishEvent(
         eq(
           StreamStatusUpdateEvent(
-            key = Fixtures.key4,
-            runState = ApiEnum.COMPLETE,
-            ctx = Fixtures.ctx,
             cache = apiCache,
+            updates = listOf(StreamStatusUpdate(Fixtures.key4, ApiEnum.COMPLETE, transitionedAt = NOW)),
+            ctx = Fixtures.ctx,
           ),
         ),
       )
@@ -364,10 +368,9 @@ class StreamStatusTrackerTest {
       eventPublisher.publishEvent(
         eq(
           StreamStatusUpdateEvent(
-            key = Fixtures.key1,
-            runState = updatedRunState,
-            ctx = Fixtures.ctx,
             cache = apiCache,
+            updates = listOf(StreamStatusUpdate(Fixtures.key1, updatedRunState, transitionedAt = NOW)),
+            ctx = Fixtures.ctx,
           ),
         ),
       )
@@ -385,7 +388,63 @@ class StreamStatusTrackerTest {
     verify(exactly = 0) { eventPublisher.publishEvent(any()) }
   }
 
+  @Test
+  fun publishesLatestRunStateOfEachStreamOnClose() {
+    val batchingTracker = StreamStatusTracker(dataExtractor, store, eventPublisher, Fixtures.ctx, clock, Duration.ofHours(1), apiCache)
+    every { store.setRunState(any(), any()) } returnsMany
+      listOf(
+        StreamStatusValue(runState = ApiEnum.RUNNING),
+        StreamStatusValue(runState = ApiEnum.INCOMPLETE),
+      )
+    every { eventPublisher.publishEvent(any()) } returns Unit
+
+    batchingTracker.track(Fixtures.traceMsg(status = ProtocolEnum.STARTED))
+    batchingTracker.track(Fixtures.traceMsg(status = ProtocolEnum.INCOMPLETE))
+
+    verify(exactly = 0) { eventPublisher.publishEvent(any()) }
+
+    batchingTracker.close()
+
+    verify(exactly = 1) {
+      eventPublisher.publishEvent(
+        eq(
+          StreamStatusUpdateEvent(
+            cache = apiCache,
+            updates = listOf(StreamStatusUpdate(Fixtures.key1, ApiEnum.INCOMPLETE, transitionedAt = NOW)),
+            ctx = Fixtures.ctx,
+          ),
+        ),
+      )
+    }
+  }
+
+  @Test
+  fun requeuesUpdatesIfPublishingFails() {
+    val batchingTracker = StreamStatusTracker(dataExtractor, store, eventPublisher, Fixtures.ctx, clock, Duration.ofHours(1), apiCache)
+    every { store.setRunState(any(), any()) } returns StreamStatusValue(runState = ApiEnum.RUNNING)
+    every { eventPublisher.publishEvent(any()) } throws RuntimeException("boom") andThen Unit
+
+    batchingTracker.track(Fixtures.traceMsg(status = ProtocolEnum.STARTED))
+
+    assertThrows<RuntimeException> { batchingTracker.flush() }
+    batchingTracker.close()
+
+    verify(exactly = 2) {
+      eventPublisher.publishEvent(
+        eq(
+          StreamStatusUpdateEvent(
+            cache = apiCache,
+            updates = listOf(StreamStatusUpdate(Fixtures.key1, ApiEnum.RUNNING, transitionedAt = NOW)),
+            ctx = Fixtures.ctx,
+          ),
+        ),
+      )
+    }
+  }
+
   companion object {
+    private const val NOW = 1_700_000_000_000L
+
     @JvmStatic
     fun runStateTransitionMatrix(): Stream<Arguments> {
       return Stream.of(
@@ -7,6 +7,8 @@ package io.airbyte.commons.json;
 import static java.util.Collections.singletonMap;
 import static java.util.stream.Collectors.toMap;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.StreamReadConstraints;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -16,6 +18,7 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -25,6 +28,8 @@ import com.google.common.base.Preconditions;
 import io.airbyte.commons.jackson.MoreMappers;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -730,6 +735,51 @@ public class Jsons {
     }
   }
 
+  /**
+   * Streaming variant of {@link #canonicalJsonSerialize(Object)}. Writes exactly the same bytes to the
+   * output stream, without building a sorted copy of the tree or materializing the serialized string.
+   * The output stream is flushed but not closed.
+   *
+   * @param object the object to serialize
+   * @param outputStream the stream to write the canonical JSON to
+   * @throws IOException if there is an error serializing the object
+   */
+  public static void canonicalJsonSerialize(final Object object, final OutputStream outputStream) throws IOException {
+    final ObjectMapper mapper = new ObjectMapper();
+    final JsonNode jsonNode = mapper.valueToTree(object);
+    // scalar values are written through the mapper so they are rendered exactly as in the String
+    // variant, without flushing the generator after each of them
+    final ObjectWriter valueWriter = mapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    final JsonGenerator generator = mapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8);
+    generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    writeSortedProperties(valueWriter, generator, jsonNode);
+    generator.close();
+  }
+
+  private static void writeSortedProperties(final ObjectWriter valueWriter, final JsonGenerator generator, final JsonNode jsonNode)
+      throws IOException {
+    if (jsonNode.isObject()) {
+      final List<String> fieldNames = new ArrayList<>();
+      jsonNode.fieldNames().forEachRemaining(fieldNames::add);
+      Collections.sort(fieldNames);
+
+      generator.writeStartObject();
+      for (final String fieldName : fieldNames) {
+        generator.writeFieldName(fieldName);
+        writeSortedProperties(valueWriter, generator, jsonNode.get(fieldName));
+      }
+      generator.writeEndObject();
+    } else if (jsonNode.isArray()) {
+      generator.writeStartArray();
+      for (final JsonNode element : jsonNode) {
+        writeSortedProperties(valueWriter, generator, element);
+      }
+      generator.writeEndArray();
+    } else {
+      valueWriter.writeValue(generator, jsonNode);
+    }
+  }
+
   /**
    * If the supplied object is a TextNode, attempt to deserialize it and return the result. Otherwise,
    * return the object as-is.
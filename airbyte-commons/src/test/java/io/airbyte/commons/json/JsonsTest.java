@@ -24,6 +24,7 @@ import io.airbyte.protocol.models.AirbyteCatalog;
 import io.airbyte.protocol.models.CatalogHelpers;
 import io.airbyte.protocol.models.Field;
 import io.airbyte.protocol.models.JsonSchemaType;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
@@ -424,6 +425,18 @@ class JsonsTest {
     assertEquals(expectedJson, actualJson);
   }
 
+  @Test
+  void testCanonicalJsonSerializeToStream() throws IOException {
+    final AirbyteCatalog actorCatalog = CatalogHelpers.createAirbyteCatalog("clothes",
+        Field.of("name", JsonSchemaType.STRING), Field.of("size", JsonSchemaType.NUMBER),
+        Field.of("color", JsonSchemaType.STRING), Field.of("price", JsonSchemaType.NUMBER));
+
+    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    Jsons.canonicalJsonSerialize(actorCatalog, outputStream);
+
+    assertEquals(Jsons.canonicalJsonSerialize(actorCatalog), outputStream.toString(StandardCharsets.UTF_8));
+  }
+
   @Test
   void testDeserializeIfTextOnTextNode() {
     final TextNode textNode = TextNode.valueOf("{\"key1\": \"value1\"}");
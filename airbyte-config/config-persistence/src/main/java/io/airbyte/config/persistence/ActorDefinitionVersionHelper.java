@@ -4,22 +4,29 @@
 
 package io.airbyte.config.persistence;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.ActorDefinitionVersion;
 import io.airbyte.config.ReleaseStage;
 import io.airbyte.config.StandardDestinationDefinition;
 import io.airbyte.config.StandardSourceDefinition;
 import io.airbyte.config.persistence.version_overrides.DefinitionVersionOverrideProvider;
 import io.airbyte.data.services.ActorDefinitionService;
+import io.airbyte.data.services.shared.ScopedConfigurationChangedEvent;
 import io.airbyte.validation.json.JsonValidationException;
+import io.micronaut.runtime.event.annotation.EventListener;
 import jakarta.annotation.Nullable;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -41,10 +48,28 @@ public class ActorDefinitionVersionHelper {
    */
   public record ActorDefinitionVersionWithOverrideStatus(ActorDefinitionVersion actorDefinitionVersion, boolean isOverrideApplied) {}
 
+  /**
+   * Cache key for a resolved version. The default version id is part of the key so that changing a
+   * definition's default version never serves the previously resolved version.
+   */
+  private record ResolvedVersionKey(UUID actorDefinitionId, UUID defaultVersionId, UUID workspaceId, @Nullable UUID actorId) {}
+
   private static final Logger LOGGER = LoggerFactory.getLogger(ActorDefinitionVersionHelper.class);
 
+  // Resolutions are repeated many times within a single API request. Scoped configuration writes made
+  // by this process invalidate the cache; the TTL bounds staleness for writes made by other processes.
+  // Custom definitions aren't cached: declarative sources update their default version in place when
+  // a manifest is published, which neither changes the cache key nor goes through this process.
+  // Cached versions are shared, so they are copied on the way out.
+  private static final Duration RESOLVED_VERSION_CACHE_TTL = Duration.ofSeconds(30);
+  private static final long RESOLVED_VERSION_CACHE_MAX_SIZE = 10_000;
+
   private final ActorDefinitionService actorDefinitionService;
   private final DefinitionVersionOverrideProvider configOverrideProvider;
+  private final Cache<ResolvedVersionKey, ActorDefinitionVersionWithOverrideStatus> resolvedVersionCache = CacheBuilder.newBuilder()
+      .expireAfterWrite(RESOLVED_VERSION_CACHE_TTL)
+      .maximumSize(RESOLVED_VERSION_CACHE_MAX_SIZE)
+      .build();
 
   public ActorDefinitionVersionHelper(final ActorDefinitionService actorDefinitionService,
                                       @Named("configurationVersionOverrideProvider") final DefinitionVersionOverrideProvider configOverrideProvider) {
@@ -88,6 +113,22 @@ public class ActorDefinitionVersionHelper {
    * @return Map of ids to definition versions
    */
   public Map<UUID, ActorDefinitionVersion> getSourceVersions(List<StandardSourceDefinition> shownSourceDefs, UUID workspaceId) {
+    return getSourceVersions(shownSourceDefs, workspaceId, Map.of());
+  }
+
+  /**
+   * Getting versions from a list of definitions, reusing default versions the caller already loaded.
+   *
+   * @param shownSourceDefs Definitions to get versions for.
+   * @param workspaceId UUID of the workspace, not currently used
+   * @param knownDefaultVersions default versions already loaded, by version id. Definitions whose
+   *        default version is missing from it are looked up in the database.
+   *
+   * @return Map of ids to definition versions
+   */
+  public Map<UUID, ActorDefinitionVersion> getSourceVersions(List<StandardSourceDefinition> shownSourceDefs,
+                                                             UUID workspaceId,
+                                                             Map<UUID, ActorDefinitionVersion> knownDefaultVersions) {
     try {
       var overrides = configOverrideProvider.getOverrides(
           shownSourceDefs
@@ -102,16 +143,24 @@ public class ActorDefinitionVersionHelper {
                   defWithOverride -> defWithOverride.actorDefinitionVersion.getActorDefinitionId(),
                   defWithOverride -> defWithOverride.actorDefinitionVersion));
 
-      // Get all the actorDefinitionVersions for definitions that do not have an override.
-      var sourceVersions = actorDefinitionService.getActorDefinitionVersions(
-          shownSourceDefs
-              .stream()
-              // Filter out definitions that have a version override
-              .filter(version -> overrides.get(version.getSourceDefinitionId()) == null)
-              .map(StandardSourceDefinition::getDefaultVersionId)
-              .toList())
-          .stream()
-          .collect(Collectors.toMap(ActorDefinitionVersion::getActorDefinitionId, Function.identity()));
+      // Get the default versions of the definitions that do not have an override.
+      final Map<UUID, ActorDefinitionVersion> sourceVersions = new HashMap<>();
+      final List<UUID> missingVersionIds = new ArrayList<>();
+      for (final StandardSourceDefinition definition : shownSourceDefs) {
+        if (overrides.get(definition.getSourceDefinitionId()) != null) {
+          continue;
+        }
+        final ActorDefinitionVersion knownVersion = knownDefaultVersions.get(definition.getDefaultVersionId());
+        if (knownVersion != null) {
+          sourceVersions.put(definition.getSourceDefinitionId(), knownVersion);
+        } else {
+          missingVersionIds.add(definition.getDefaultVersionId());
+        }
+      }
+      if (!missingVersionIds.isEmpty()) {
+        actorDefinitionService.getActorDefinitionVersions(missingVersionIds)
+            .forEach(version -> sourceVersions.put(version.getActorDefinitionId(), version));
+      }
 
       // Merge overrides and non-overrides together
       sourceVersions.putAll(overrides);
@@ -132,6 +181,22 @@ public class ActorDefinitionVersionHelper {
    * @return Map of ids to definition versions
    */
   public Map<UUID, ActorDefinitionVersion> getDestinationVersions(List<StandardDestinationDefinition> shownDestinationDefs, UUID workspaceId) {
+    return getDestinationVersions(shownDestinationDefs, workspaceId, Map.of());
+  }
+
+  /**
+   * Getting versions from a list of definitions, reusing default versions the caller already loaded.
+   *
+   * @param shownDestinationDefs Definitions to get versions for.
+   * @param workspaceId UUID of the workspace, not currently used
+   * @param knownDefaultVersions default versions already loaded, by version id. Definitions whose
+   *        default version is missing from it are looked up in the database.
+   *
+   * @return Map of ids to definition versions
+   */
+  public Map<UUID, ActorDefinitionVersion> getDestinationVersions(List<StandardDestinationDefinition> shownDestinationDefs,
+                                                                  UUID workspaceId,
+                                                                  Map<UUID, ActorDefinitionVersion> knownDefaultVersions) {
     try {
       var overrides = configOverrideProvider.getOverrides(
           shownDestinationDefs
@@ -146,16 +211,24 @@ public class ActorDefinitionVersionHelper {
                   defWithOverride -> defWithOverride.actorDefinitionVersion.getActorDefinitionId(),
                   defWithOverride -> defWithOverride.actorDefinitionVersion));
 
-      // Get all the actorDefinitionVersions for definitions that do not have an override.
-      var destinationVersions = actorDefinitionService.getActorDefinitionVersions(
-          shownDestinationDefs
-              .stream()
-              // Filter out definitions that have a version override
-              .filter(version -> overrides.get(version.getDestinationDefinitionId()) == null)
-              .map(StandardDestinationDefinition::getDefaultVersionId)
-              .toList())
-          .stream()
-          .collect(Collectors.toMap(ActorDefinitionVersion::getActorDefinitionId, Function.identity()));
+      // Get the default versions of the definitions that do not have an override.
+      final Map<UUID, ActorDefinitionVersion> destinationVersions = new HashMap<>();
+      final List<UUID> missingVersionIds = new ArrayList<>();
+      for (final StandardDestinationDefinition definition : shownDestinationDefs) {
+        if (overrides.get(definition.getDestinationDefinitionId()) != null) {
+          continue;
+        }
+        final ActorDefinitionVersion knownVersion = knownDefaultVersions.get(definition.getDefaultVersionId());
+        if (knownVersion != null) {
+          destinationVersions.put(definition.getDestinationDefinitionId(), knownVersion);
+        } else {
+          missingVersionIds.add(definition.getDefaultVersionId());
+        }
+      }
+      if (!missingVersionIds.isEmpty()) {
+        actorDefinitionService.getActorDefinitionVersions(missingVersionIds)
+            .forEach(version -> destinationVersions.put(version.getActorDefinitionId(), version));
+      }
 
       // Merge overrides and non-overrides together
       destinationVersions.putAll(overrides);
@@ -179,6 +252,14 @@ public class ActorDefinitionVersionHelper {
                                                                                      final UUID workspaceId,
                                                                                      @Nullable final UUID actorId)
       throws IOException, JsonValidationException, io.airbyte.data.exceptions.ConfigNotFoundException {
+    final boolean cacheable = !Boolean.TRUE.equals(sourceDefinition.getCustom());
+    final ResolvedVersionKey cacheKey =
+        new ResolvedVersionKey(sourceDefinition.getSourceDefinitionId(), sourceDefinition.getDefaultVersionId(), workspaceId, actorId);
+    final ActorDefinitionVersionWithOverrideStatus cached = cacheable ? resolvedVersionCache.getIfPresent(cacheKey) : null;
+    if (cached != null) {
+      return copyOf(cached);
+    }
+
     final ActorDefinitionVersion defaultVersion = getDefaultSourceVersion(sourceDefinition);
 
     final Optional<ActorDefinitionVersionWithOverrideStatus> versionOverride = configOverrideProvider.getOverride(
@@ -186,7 +267,30 @@ public class ActorDefinitionVersionHelper {
         workspaceId,
         actorId);
 
-    return versionOverride.orElse(new ActorDefinitionVersionWithOverrideStatus(defaultVersion, false));
+    final ActorDefinitionVersionWithOverrideStatus resolved =
+        versionOverride.orElse(new ActorDefinitionVersionWithOverrideStatus(defaultVersion, false));
+    if (cacheable) {
+      resolvedVersionCache.put(cacheKey, copyOf(resolved));
+    }
+    return resolved;
+  }
+
+  /**
+   * Get the actor definition versions to use for a page of sources of the same definition, and
+   * whether an override was applied. Overrides for all sources are resolved with a single batch of
+   * queries instead of one lookup per source.
+   *
+   * @param sourceDefinition source definition
+   * @param workspaceId workspace id
+   * @param sourceIds source ids
+   * @return map of source id to actor definition version with override status
+   */
+  public Map<UUID, ActorDefinitionVersionWithOverrideStatus> getSourceVersionsWithOverrideStatus(final StandardSourceDefinition sourceDefinition,
+                                                                                                  final UUID workspaceId,
+                                                                                                  final List<UUID> sourceIds)
+      throws IOException, io.airbyte.data.exceptions.ConfigNotFoundException {
+    return getVersionsWithOverrideStatus(sourceDefinition.getSourceDefinitionId(), sourceDefinition.getDefaultVersionId(),
+        !Boolean.TRUE.equals(sourceDefinition.getCustom()), workspaceId, sourceIds, () -> getDefaultSourceVersion(sourceDefinition));
   }
 
   /**
@@ -228,6 +332,14 @@ public class ActorDefinitionVersionHelper {
                                                                                           final UUID workspaceId,
                                                                                           @Nullable final UUID actorId)
       throws IOException, JsonValidationException, io.airbyte.data.exceptions.ConfigNotFoundException {
+    final boolean cacheable = !Boolean.TRUE.equals(destinationDefinition.getCustom());
+    final ResolvedVersionKey cacheKey = new ResolvedVersionKey(destinationDefinition.getDestinationDefinitionId(),
+        destinationDefinition.getDefaultVersionId(), workspaceId, actorId);
+    final ActorDefinitionVersionWithOverrideStatus cached = cacheable ? resolvedVersionCache.getIfPresent(cacheKey) : null;
+    if (cached != null) {
+      return copyOf(cached);
+    }
+
     final ActorDefinitionVersion defaultVersion = getDefaultDestinationVersion(destinationDefinition);
 
     final Optional<ActorDefinitionVersionWithOverrideStatus> versionOverride = configOverrideProvider.getOverride(
@@ -235,7 +347,91 @@ public class ActorDefinitionVersionHelper {
         workspaceId,
         actorId);
 
-    return versionOverride.orElse(new ActorDefinitionVersionWithOverrideStatus(defaultVersion, false));
+    final ActorDefinitionVersionWithOverrideStatus resolved =
+        versionOverride.orElse(new ActorDefinitionVersionWithOverrideStatus(defaultVersion, false));
+    if (cacheable) {
+      resolvedVersionCache.put(cacheKey, copyOf(resolved));
+    }
+    return resolved;
+  }
+
+  /**
+   * Get the actor definition versions to use for a page of destinations of the same definition, and
+   * whether an override was applied. Overrides for all destinations are resolved with a single batch
+   * of queries instead of one lookup per destination.
+   *
+   * @param destinationDefinition destination definition
+   * @param workspaceId workspace id
+   * @param destinationIds destination ids
+   * @return map of destination id to actor definition version with override status
+   */
+  public Map<UUID, ActorDefinitionVersionWithOverrideStatus> getDestinationVersionsWithOverrideStatus(
+                                                                                                       final StandardDestinationDefinition destinationDefinition,
+                                                                                                       final UUID workspaceId,
+                                                                                                       final List<UUID> destinationIds)
+      throws IOException, io.airbyte.data.exceptions.ConfigNotFoundException {
+    return getVersionsWithOverrideStatus(destinationDefinition.getDestinationDefinitionId(), destinationDefinition.getDefaultVersionId(),
+        !Boolean.TRUE.equals(destinationDefinition.getCustom()), workspaceId, destinationIds,
+        () -> getDefaultDestinationVersion(destinationDefinition));
+  }
+
+  @FunctionalInterface
+  private interface DefaultVersionSupplier {
+
+    ActorDefinitionVersion get() throws IOException, io.airbyte.data.exceptions.ConfigNotFoundException;
+
+  }
+
+  private Map<UUID, ActorDefinitionVersionWithOverrideStatus> getVersionsWithOverrideStatus(final UUID actorDefinitionId,
+                                                                                            final UUID defaultVersionId,
+                                                                                            final boolean cacheable,
+                                                                                            final UUID workspaceId,
+                                                                                            final List<UUID> actorIds,
+                                                                                            final DefaultVersionSupplier defaultVersionSupplier)
+      throws IOException, io.airbyte.data.exceptions.ConfigNotFoundException {
+    final Map<UUID, ActorDefinitionVersionWithOverrideStatus> resolved = new HashMap<>();
+    final List<UUID> uncachedActorIds = new ArrayList<>();
+    for (final UUID actorId : actorIds) {
+      final ActorDefinitionVersionWithOverrideStatus cached = cacheable
+          ? resolvedVersionCache.getIfPresent(new ResolvedVersionKey(actorDefinitionId, defaultVersionId, workspaceId, actorId))
+          : null;
+      if (cached != null) {
+        resolved.put(actorId, copyOf(cached));
+      } else {
+        uncachedActorIds.add(actorId);
+      }
+    }
+    if (uncachedActorIds.isEmpty()) {
+      return resolved;
+    }
+
+    final Map<UUID, ActorDefinitionVersionWithOverrideStatus> overrides =
+        configOverrideProvider.getOverridesForActors(actorDefinitionId, workspaceId, uncachedActorIds);
+    final ActorDefinitionVersionWithOverrideStatus defaultVersion = overrides.keySet().containsAll(uncachedActorIds)
+        ? null
+        : new ActorDefinitionVersionWithOverrideStatus(defaultVersionSupplier.get(), false);
+
+    for (final UUID actorId : uncachedActorIds) {
+      final ActorDefinitionVersionWithOverrideStatus version = overrides.getOrDefault(actorId, defaultVersion);
+      if (cacheable) {
+        resolvedVersionCache.put(new ResolvedVersionKey(actorDefinitionId, defaultVersionId, workspaceId, actorId), copyOf(version));
+      }
+      // actors sharing the default version each get their own copy
+      resolved.put(actorId, version == defaultVersion ? copyOf(version) : version);
+    }
+    return resolved;
+  }
+
+  private static ActorDefinitionVersionWithOverrideStatus copyOf(final ActorDefinitionVersionWithOverrideStatus version) {
+    return new ActorDefinitionVersionWithOverrideStatus(Jsons.clone(version.actorDefinitionVersion()), version.isOverrideApplied());
+  }
+
+  /**
+   * Drop all resolved versions whenever scoped configurations (e.g. version pins) change.
+   */
+  @EventListener
+  public void onScopedConfigurationChanged(final ScopedConfigurationChangedEvent event) {
+    resolvedVersionCache.invalidateAll();
   }
 
   /**
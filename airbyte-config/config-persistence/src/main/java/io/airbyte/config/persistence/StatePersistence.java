@@ -65,7 +65,7 @@ public class StatePersistence {
       return Optional.empty();
     }
 
-    return switch (getStateType(connectionId, records)) {
+    return switch (getStateType(connectionId, records.stream().map(StateRecord::type).toList())) {
       case GLOBAL -> Optional.of(buildGlobalState(records));
       case STREAM -> Optional.of(buildStreamState(records));
       default -> Optional.of(buildLegacyState(records));
@@ -85,25 +85,36 @@ public class StatePersistence {
    */
   public void updateOrCreateState(final UUID connectionId, final StateWrapper state)
       throws IOException {
-    final Optional<StateWrapper> previousState = getCurrentState(connectionId);
     final StateType currentStateType = state.getStateType();
-    final boolean isMigration = StateMessageHelper.isMigration(currentStateType, previousState);
-
-    // The only case where we allow a state migration is moving from LEGACY.
-    // We expect any other migration to go through an explicit reset.
-    if (!isMigration && previousState.isPresent() && previousState.get().getStateType() != currentStateType) {
-      throw new IllegalStateException("Unexpected type migration from '" + previousState.get().getStateType() + "' to '" + currentStateType
-          + "'. Migration of StateType need to go through an explicit reset.");
-    }
 
     this.database.transaction(ctx -> {
+      // Only the narrow (type, stream_name, namespace) projection is needed to validate the type
+      // migration and to decide between insert and update, so we avoid reloading the stored states.
+      final List<StateKeyRecord> storedKeys = getStateKeyRecords(ctx, connectionId);
+      final Optional<StateType> previousStateType = storedKeys.isEmpty()
+          ? Optional.empty()
+          : Optional.of(Enums.convertTo(getStateType(connectionId, storedKeys.stream().map(StateKeyRecord::type).toList()), StateType.class));
+      final boolean isMigration = StateMessageHelper.isMigration(currentStateType, previousStateType.orElse(null));
+
+      // The only case where we allow a state migration is moving from LEGACY.
+      // We expect any other migration to go through an explicit reset.
+      if (!isMigration && previousStateType.isPresent() && previousStateType.get() != currentStateType) {
+        throw new IllegalStateException("Unexpected type migration from '" + previousStateType.get() + "' to '" + currentStateType
+            + "'. Migration of StateType need to go through an explicit reset.");
+      }
+
+      final Set<StreamKey> existingStreams;
       if (isMigration) {
         clearLegacyState(ctx, connectionId);
+        existingStreams = Set.of();
+      } else {
+        existingStreams = storedKeys.stream().map(r -> new StreamKey(r.streamName(), r.namespace())).collect(Collectors.toSet());
       }
+
       switch (state.getStateType()) {
-        case GLOBAL -> saveGlobalState(ctx, connectionId, state.getGlobal().getGlobal());
-        case STREAM -> saveStreamState(ctx, connectionId, state.getStateMessages());
-        case LEGACY -> saveLegacyState(ctx, connectionId, state.getLegacyState());
+        case GLOBAL -> saveGlobalState(ctx, connectionId, state.getGlobal().getGlobal(), existingStreams);
+        case STREAM -> saveStreamState(ctx, connectionId, state.getStateMessages(), existingStreams);
+        case LEGACY -> saveLegacyState(ctx, connectionId, state.getLegacyState(), existingStreams);
         default -> {
           // no op
         }
@@ -162,13 +173,16 @@ public class StatePersistence {
 
   private static void clearLegacyState(final DSLContext ctx, final UUID connectionId) {
     final StateUpdateBatch stateUpdateBatch = new StateUpdateBatch();
-    writeStateToDb(ctx, connectionId, null, null, StateType.LEGACY, null, stateUpdateBatch);
+    writeStateToDb(ctx, connectionId, null, null, StateType.LEGACY, null, Set.of(), stateUpdateBatch);
     stateUpdateBatch.save(ctx);
   }
 
-  private static void saveGlobalState(final DSLContext ctx, final UUID connectionId, final AirbyteGlobalState globalState) {
+  private static void saveGlobalState(final DSLContext ctx,
+                                      final UUID connectionId,
+                                      final AirbyteGlobalState globalState,
+                                      final Set<StreamKey> existingStreams) {
     final StateUpdateBatch stateUpdateBatch = new StateUpdateBatch();
-    writeStateToDb(ctx, connectionId, null, null, StateType.GLOBAL, globalState.getSharedState(), stateUpdateBatch);
+    writeStateToDb(ctx, connectionId, null, null, StateType.GLOBAL, globalState.getSharedState(), existingStreams, stateUpdateBatch);
     for (final AirbyteStreamState streamState : globalState.getStreamStates()) {
       writeStateToDb(ctx,
           connectionId,
@@ -176,12 +190,16 @@ public class StatePersistence {
           streamState.getStreamDescriptor().getNamespace(),
           StateType.GLOBAL,
           streamState.getStreamState(),
+          existingStreams,
           stateUpdateBatch);
     }
     stateUpdateBatch.save(ctx);
   }
 
-  private static void saveStreamState(final DSLContext ctx, final UUID connectionId, final List<AirbyteStateMessage> stateMessages) {
+  private static void saveStreamState(final DSLContext ctx,
+                                      final UUID connectionId,
+                                      final List<AirbyteStateMessage> stateMessages,
+                                      final Set<StreamKey> existingStreams) {
     final StateUpdateBatch stateUpdateBatch = new StateUpdateBatch();
     for (final AirbyteStateMessage stateMessage : stateMessages) {
       final AirbyteStreamState streamState = stateMessage.getStream();
@@ -191,21 +209,24 @@ public class StatePersistence {
           streamState.getStreamDescriptor().getNamespace(),
           StateType.STREAM,
           streamState.getStreamState(),
+          existingStreams,
           stateUpdateBatch);
     }
     stateUpdateBatch.save(ctx);
   }
 
-  private static void saveLegacyState(final DSLContext ctx, final UUID connectionId, final JsonNode state) {
+  private static void saveLegacyState(final DSLContext ctx, final UUID connectionId, final JsonNode state, final Set<StreamKey> existingStreams) {
     final StateUpdateBatch stateUpdateBatch = new StateUpdateBatch();
-    writeStateToDb(ctx, connectionId, null, null, StateType.LEGACY, state, stateUpdateBatch);
+    writeStateToDb(ctx, connectionId, null, null, StateType.LEGACY, state, existingStreams, stateUpdateBatch);
     stateUpdateBatch.save(ctx);
   }
 
   /**
    * Performs the actual SQL operation depending on the state.
    *
-   * If the state is null, it will delete the row, otherwise do an insert or update on conflict
+   * If the state is null, it will delete the row, otherwise do an insert or update on conflict. Updates
+   * only touch the row if the stored content differs from the new one, so unchanged streams of a
+   * large state don't rewrite their row on every flush.
    */
   static void writeStateToDb(final DSLContext ctx,
                              final UUID connectionId,
@@ -213,12 +234,10 @@ public class StatePersistence {
                              final String namespace,
                              final StateType stateType,
                              final JsonNode state,
+                             final Set<StreamKey> existingStreams,
                              final StateUpdateBatch stateUpdateBatch) {
     if (state != null) {
-      final boolean hasState = ctx.fetchExists(STATE,
-          STATE.CONNECTION_ID.eq(connectionId),
-          PersistenceHelpers.isNullOrEquals(STATE.STREAM_NAME, streamName),
-          PersistenceHelpers.isNullOrEquals(STATE.NAMESPACE, namespace));
+      final boolean hasState = existingStreams.contains(new StreamKey(streamName, namespace));
 
       // NOTE: the legacy code was storing a State object instead of just the State data field. We kept
       // the same behavior for consistency.
@@ -255,7 +274,9 @@ public class StatePersistence {
                 .where(
                     STATE.CONNECTION_ID.eq(connectionId),
                     PersistenceHelpers.isNullOrEquals(STATE.STREAM_NAME, streamName),
-                    PersistenceHelpers.isNullOrEquals(STATE.NAMESPACE, namespace)));
+                    PersistenceHelpers.isNullOrEquals(STATE.NAMESPACE, namespace),
+                    // jsonb equality is semantic (key order and whitespace insensitive)
+                    STATE.STATE_.isDistinctFrom(jsonbState)));
       }
 
     } else {
@@ -274,16 +295,15 @@ public class StatePersistence {
    *
    * @param connectionId The connectionId of the records, used to add more debugging context if an
    *        error is detected
-   * @param records The list of StateRecords to process, must not be empty
+   * @param recordTypes The types of the StateRecords to process, must not be empty
    * @return the StateType of the records
    * @throws IllegalStateException If StateRecords have inconsistent types
    */
   @SuppressWarnings("PMD.AvoidLiteralsInIfCondition")
   private static io.airbyte.db.instance.configs.jooq.generated.enums.StateType getStateType(
                                                                                             final UUID connectionId,
-                                                                                            final List<StateRecord> records) {
-    final Set<io.airbyte.db.instance.configs.jooq.generated.enums.StateType> types =
-        records.stream().map(r -> r.type).collect(Collectors.toSet());
+                                                                                            final List<io.airbyte.db.instance.configs.jooq.generated.enums.StateType> recordTypes) {
+    final Set<io.airbyte.db.instance.configs.jooq.generated.enums.StateType> types = Set.copyOf(recordTypes);
     if (types.size() == 1) {
       return types.stream().findFirst().get();
     }
@@ -307,6 +327,20 @@ public class StatePersistence {
         .stream().toList();
   }
 
+  /**
+   * Get the type and stream descriptor of the state records from the DB, without the state payload.
+   *
+   * @param ctx A valid DSL context to use for the query
+   * @param connectionId the ID of the connection
+   * @return The StateKeyRecords for the connectionId
+   */
+  private static List<StateKeyRecord> getStateKeyRecords(final DSLContext ctx, final UUID connectionId) {
+    return ctx.select(STATE.TYPE, STATE.STREAM_NAME, STATE.NAMESPACE)
+        .from(STATE)
+        .where(STATE.CONNECTION_ID.eq(connectionId))
+        .fetch(record -> new StateKeyRecord(record.value1(), record.value2(), record.value3()));
+  }
+
   /**
    * Delete all connection state records from the DB.
    *
@@ -393,4 +427,11 @@ public class StatePersistence {
                              String namespace,
                              JsonNode state) {}
 
+  private record StateKeyRecord(
+                                io.airbyte.db.instance.configs.jooq.generated.enums.StateType type,
+                                String streamName,
+                                String namespace) {}
+
+  record StreamKey(String streamName, String namespace) {}
+
 }
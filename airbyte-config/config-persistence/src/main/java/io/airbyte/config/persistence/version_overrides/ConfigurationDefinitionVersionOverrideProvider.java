@@ -15,6 +15,7 @@ import io.airbyte.data.exceptions.ConfigNotFoundException;
 import io.airbyte.data.services.ActorDefinitionService;
 import io.airbyte.data.services.ScopedConfigurationService;
 import io.airbyte.data.services.WorkspaceService;
+import io.airbyte.data.services.shared.ConfigScopeMapWithId;
 import io.airbyte.data.services.shared.ConnectorVersionKey;
 import io.airbyte.validation.json.JsonValidationException;
 import jakarta.inject.Named;
@@ -22,6 +23,7 @@ import jakarta.inject.Singleton;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -139,4 +141,59 @@ public class ConfigurationDefinitionVersionOverrideProvider implements Definitio
     return overrides;
   }
 
+  @Override
+  public Map<UUID, ActorDefinitionVersionWithOverrideStatus> getOverridesForActors(final UUID actorDefinitionId,
+                                                                                   final UUID workspaceId,
+                                                                                   final List<UUID> actorIds) {
+    if (actorIds.isEmpty()) {
+      return Map.of();
+    }
+
+    final UUID organizationId = getOrganizationId(workspaceId);
+    final List<ConfigScopeMapWithId> scopeMaps = actorIds.stream()
+        .distinct()
+        .map(actorId -> {
+          final Map<ConfigScopeType, UUID> scopes = new EnumMap<>(Map.of(
+              ConfigScopeType.ACTOR, actorId,
+              ConfigScopeType.WORKSPACE, workspaceId));
+          if (organizationId != null) {
+            scopes.put(ConfigScopeType.ORGANIZATION, organizationId);
+          }
+          return new ConfigScopeMapWithId(actorId, scopes);
+        })
+        .toList();
+
+    // One query per scope type for the whole page of actors, rather than one lookup per actor.
+    final Map<UUID, ScopedConfiguration> configsByActorId = scopedConfigurationService.getScopedConfigurations(
+        ConnectorVersionKey.INSTANCE,
+        ConfigResourceType.ACTOR_DEFINITION,
+        actorDefinitionId,
+        scopeMaps);
+    if (configsByActorId.isEmpty()) {
+      return Map.of();
+    }
+
+    final Map<UUID, ActorDefinitionVersion> versionsById;
+    try {
+      versionsById = actorDefinitionService.getActorDefinitionVersions(
+          configsByActorId.values().stream().map(config -> UUID.fromString(config.getValue())).distinct().toList())
+          .stream()
+          .collect(Collectors.toMap(ActorDefinitionVersion::getVersionId, Function.identity()));
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+
+    final Map<UUID, ActorDefinitionVersionWithOverrideStatus> overrides = new HashMap<>();
+    for (final Map.Entry<UUID, ScopedConfiguration> entry : configsByActorId.entrySet()) {
+      final UUID versionId = UUID.fromString(entry.getValue().getValue());
+      final ActorDefinitionVersion version = versionsById.get(versionId);
+      if (version == null) {
+        throw new RuntimeException(String.format("Pinned actor definition version %s does not exist (Actor ID: %s)", versionId, entry.getKey()));
+      }
+      final boolean isManualOverride = entry.getValue().getOriginType() == ConfigOriginType.USER;
+      overrides.put(entry.getKey(), new ActorDefinitionVersionWithOverrideStatus(version, isManualOverride));
+    }
+    return overrides;
+  }
+
 }
@@ -7,6 +7,7 @@ package io.airbyte.config.persistence.version_overrides;
 import io.airbyte.config.persistence.ActorDefinitionVersionHelper.ActorDefinitionVersionWithOverrideStatus;
 import jakarta.annotation.Nullable;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -24,4 +25,13 @@ public interface DefinitionVersionOverrideProvider {
   List<ActorDefinitionVersionWithOverrideStatus> getOverrides(final List<UUID> actorDefinitionIds,
                                                               final UUID workspaceId);
 
+  /**
+   * Resolve the overrides for many actors of the same definition within a workspace at once.
+   *
+   * @return map of actor id to override, only containing actors that have an override
+   */
+  Map<UUID, ActorDefinitionVersionWithOverrideStatus> getOverridesForActors(final UUID actorDefinitionId,
+                                                                            final UUID workspaceId,
+                                                                            final List<UUID> actorIds);
+
 }
@@ -447,6 +447,47 @@ class ActorDefinitionPersistenceTest extends BaseConfigDatabaseTest {
     assertThrows(ConfigNotFoundException.class, () -> sourceService.updateStandardSourceDefinition(sourceDefinition));
   }
 
+  @Test
+  void testUpdateStandardSourceDefinitionsOnlyWritesChangedDefinitions() throws IOException, JsonValidationException, ConfigNotFoundException {
+    final StandardSourceDefinition unchangedDefinition = createBaseSourceDef();
+    final StandardSourceDefinition changedDefinition = createBaseSourceDef();
+    sourceService.writeConnectorMetadata(unchangedDefinition, createBaseActorDefVersion(unchangedDefinition.getSourceDefinitionId()),
+        Collections.emptyList());
+    sourceService.writeConnectorMetadata(changedDefinition, createBaseActorDefVersion(changedDefinition.getSourceDefinitionId()),
+        Collections.emptyList());
+
+    final int updatedCount = sourceService.updateStandardSourceDefinitions(List.of(
+        unchangedDefinition,
+        changedDefinition.withName("new name").withTombstone(true),
+        createBaseSourceDef()));
+
+    assertEquals(1, updatedCount);
+    final StandardSourceDefinition changedDefinitionFromDB = sourceService.getStandardSourceDefinition(changedDefinition.getSourceDefinitionId());
+    assertEquals("new name", changedDefinitionFromDB.getName());
+    assertTrue(changedDefinitionFromDB.getTombstone());
+    assertEquals(unchangedDefinition.getName(), sourceService.getStandardSourceDefinition(unchangedDefinition.getSourceDefinitionId()).getName());
+  }
+
+  @Test
+  void testUpdateStandardDestinationDefinitionsOnlyWritesChangedDefinitions()
+      throws IOException, JsonValidationException, ConfigNotFoundException {
+    final StandardDestinationDefinition unchangedDefinition = createBaseDestDef();
+    final StandardDestinationDefinition changedDefinition = createBaseDestDef();
+    destinationService.writeConnectorMetadata(unchangedDefinition,
+        createBaseActorDefVersion(unchangedDefinition.getDestinationDefinitionId()), Collections.emptyList());
+    destinationService.writeConnectorMetadata(changedDefinition,
+        createBaseActorDefVersion(changedDefinition.getDestinationDefinitionId()), Collections.emptyList());
+
+    final int updatedCount = destinationService.updateStandardDestinationDefinitions(List.of(
+        unchangedDefinition,
+        changedDefinition.withIcon("updated icon"),
+        createBaseDestDef()));
+
+    assertEquals(1, updatedCount);
+    assertEquals("updated icon",
+        destinationService.getStandardDestinationDefinition(changedDefinition.getDestinationDefinitionId()).getIcon());
+  }
+
   @Test
   void testUpdateStandardDestinationDefinition() throws IOException, JsonValidationException, ConfigNotFoundException {
     final StandardDestinationDefinition destinationDefinition = createBaseDestDef();
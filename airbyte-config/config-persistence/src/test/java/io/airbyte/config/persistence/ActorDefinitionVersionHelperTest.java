@@ -6,10 +6,12 @@ package io.airbyte.config.persistence;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -22,6 +24,7 @@ import io.airbyte.config.persistence.ActorDefinitionVersionHelper.ActorDefinitio
 import io.airbyte.config.persistence.version_overrides.ConfigurationDefinitionVersionOverrideProvider;
 import io.airbyte.config.persistence.version_overrides.DefinitionVersionOverrideProvider;
 import io.airbyte.data.services.ActorDefinitionService;
+import io.airbyte.data.services.shared.ScopedConfigurationChangedEvent;
 import io.airbyte.protocol.models.ConnectorSpecification;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
@@ -199,6 +202,81 @@ class ActorDefinitionVersionHelperTest {
     verify(mConfigOverrideProvider).getOverride(ACTOR_DEFINITION_ID, WORKSPACE_ID, null);
   }
 
+  @Test
+  void testResolvedVersionIsCachedUntilScopedConfigurationChanges()
+      throws ConfigNotFoundException, IOException, JsonValidationException, io.airbyte.data.exceptions.ConfigNotFoundException {
+    final StandardSourceDefinition sourceDefinition = new StandardSourceDefinition()
+        .withSourceDefinitionId(ACTOR_DEFINITION_ID)
+        .withDefaultVersionId(DEFAULT_VERSION_ID);
+
+    assertEquals(DEFAULT_VERSION, actorDefinitionVersionHelper.getSourceVersion(sourceDefinition, WORKSPACE_ID, ACTOR_ID));
+    assertEquals(DEFAULT_VERSION, actorDefinitionVersionHelper.getSourceVersion(sourceDefinition, WORKSPACE_ID, ACTOR_ID));
+    verify(mConfigOverrideProvider, times(1)).getOverride(ACTOR_DEFINITION_ID, WORKSPACE_ID, ACTOR_ID);
+
+    when(mConfigOverrideProvider.getOverride(ACTOR_DEFINITION_ID, WORKSPACE_ID, ACTOR_ID))
+        .thenReturn(Optional.of(new ActorDefinitionVersionWithOverrideStatus(OVERRIDDEN_VERSION, true)));
+    actorDefinitionVersionHelper.onScopedConfigurationChanged(new ScopedConfigurationChangedEvent(List.of(UUID.randomUUID())));
+
+    assertEquals(OVERRIDDEN_VERSION, actorDefinitionVersionHelper.getSourceVersion(sourceDefinition, WORKSPACE_ID, ACTOR_ID));
+    verify(mConfigOverrideProvider, times(2)).getOverride(ACTOR_DEFINITION_ID, WORKSPACE_ID, ACTOR_ID);
+  }
+
+  @Test
+  void testCachedVersionsAreCopies()
+      throws ConfigNotFoundException, IOException, JsonValidationException, io.airbyte.data.exceptions.ConfigNotFoundException {
+    final StandardSourceDefinition sourceDefinition = new StandardSourceDefinition()
+        .withSourceDefinitionId(ACTOR_DEFINITION_ID)
+        .withDefaultVersionId(DEFAULT_VERSION_ID);
+
+    actorDefinitionVersionHelper.getSourceVersion(sourceDefinition, WORKSPACE_ID, ACTOR_ID).setDockerImageTag(DOCKER_IMAGE_TAG_2);
+
+    assertEquals(DEFAULT_VERSION, actorDefinitionVersionHelper.getSourceVersion(sourceDefinition, WORKSPACE_ID, ACTOR_ID));
+    assertNotSame(actorDefinitionVersionHelper.getSourceVersion(sourceDefinition, WORKSPACE_ID, ACTOR_ID),
+        actorDefinitionVersionHelper.getSourceVersion(sourceDefinition, WORKSPACE_ID, ACTOR_ID));
+    verify(mConfigOverrideProvider, times(1)).getOverride(ACTOR_DEFINITION_ID, WORKSPACE_ID, ACTOR_ID);
+  }
+
+  @Test
+  void testCustomDefinitionVersionsAreNotCached()
+      throws ConfigNotFoundException, IOException, JsonValidationException, io.airbyte.data.exceptions.ConfigNotFoundException {
+    final StandardSourceDefinition sourceDefinition = new StandardSourceDefinition()
+        .withSourceDefinitionId(ACTOR_DEFINITION_ID)
+        .withDefaultVersionId(DEFAULT_VERSION_ID)
+        .withCustom(true);
+    final ActorDefinitionVersion publishedVersion = Jsons.clone(DEFAULT_VERSION).withDockerImageTag(DOCKER_IMAGE_TAG_2).withSpec(SPEC_2);
+
+    assertEquals(DEFAULT_VERSION, actorDefinitionVersionHelper.getSourceVersion(sourceDefinition, WORKSPACE_ID, ACTOR_ID));
+
+    // publishing a declarative manifest updates the default version in place
+    when(actorDefinitionService.getActorDefinitionVersion(DEFAULT_VERSION_ID)).thenReturn(publishedVersion);
+
+    assertEquals(publishedVersion, actorDefinitionVersionHelper.getSourceVersion(sourceDefinition, WORKSPACE_ID, ACTOR_ID));
+    assertEquals(new ActorDefinitionVersionWithOverrideStatus(publishedVersion, false),
+        actorDefinitionVersionHelper.getSourceVersionsWithOverrideStatus(sourceDefinition, WORKSPACE_ID, List.of(ACTOR_ID)).get(ACTOR_ID));
+  }
+
+  @Test
+  void testGetSourceVersionsWithOverrideStatusForActors()
+      throws ConfigNotFoundException, IOException, JsonValidationException, io.airbyte.data.exceptions.ConfigNotFoundException {
+    final UUID otherActorId = UUID.randomUUID();
+    when(mConfigOverrideProvider.getOverridesForActors(ACTOR_DEFINITION_ID, WORKSPACE_ID, List.of(ACTOR_ID, otherActorId)))
+        .thenReturn(Map.of(ACTOR_ID, new ActorDefinitionVersionWithOverrideStatus(OVERRIDDEN_VERSION, true)));
+
+    final StandardSourceDefinition sourceDefinition = new StandardSourceDefinition()
+        .withSourceDefinitionId(ACTOR_DEFINITION_ID)
+        .withDefaultVersionId(DEFAULT_VERSION_ID);
+
+    final Map<UUID, ActorDefinitionVersionWithOverrideStatus> versions =
+        actorDefinitionVersionHelper.getSourceVersionsWithOverrideStatus(sourceDefinition, WORKSPACE_ID, List.of(ACTOR_ID, otherActorId));
+    assertEquals(new ActorDefinitionVersionWithOverrideStatus(OVERRIDDEN_VERSION, true), versions.get(ACTOR_ID));
+    assertEquals(new ActorDefinitionVersionWithOverrideStatus(DEFAULT_VERSION, false), versions.get(otherActorId));
+
+    // Single-actor lookups are served from the batch result
+    assertEquals(OVERRIDDEN_VERSION, actorDefinitionVersionHelper.getSourceVersion(sourceDefinition, WORKSPACE_ID, ACTOR_ID));
+    assertEquals(DEFAULT_VERSION, actorDefinitionVersionHelper.getSourceVersion(sourceDefinition, WORKSPACE_ID, otherActorId));
+    verify(mConfigOverrideProvider, times(0)).getOverride(any(), any(), any());
+  }
+
   @Test
   void testGetDefaultSourceVersion()
       throws ConfigNotFoundException, IOException, JsonValidationException, io.airbyte.data.exceptions.ConfigNotFoundException {
@@ -410,6 +410,75 @@ class ConfigRepositoryE2EReadWriteTest extends BaseConfigDatabaseTest {
     assertEquals(1, catalogDbEntry2);
   }
 
+  @Test
+  void testBackfilledActorCatalogIsDeduplicated() throws IOException, SQLException {
+    final StandardWorkspace workspace = MockData.standardWorkspaces().get(0);
+    final StandardSourceDefinition sourceDefinition = new StandardSourceDefinition()
+        .withSourceDefinitionId(UUID.randomUUID())
+        .withSourceType(SourceType.DATABASE)
+        .withName("sourceDefinition");
+    final ActorDefinitionVersion actorDefinitionVersion = MockData.actorDefinitionVersion()
+        .withActorDefinitionId(sourceDefinition.getSourceDefinitionId())
+        .withVersionId(sourceDefinition.getDefaultVersionId());
+    sourceService.writeConnectorMetadata(sourceDefinition, actorDefinitionVersion, Collections.emptyList());
+
+    final SourceConnection source = new SourceConnection()
+        .withSourceDefinitionId(sourceDefinition.getSourceDefinitionId())
+        .withSourceId(UUID.randomUUID())
+        .withName("SomeConnector")
+        .withWorkspaceId(workspace.getWorkspaceId())
+        .withConfiguration(Jsons.deserialize("{}"));
+    sourceService.writeSourceConnectionNoSecrets(source);
+
+    // catalog stored before the digest column existed
+    final AirbyteCatalog airbyteCatalog = CatalogHelpers.createAirbyteCatalog("clothes", Field.of("name", JsonSchemaType.STRING));
+    final UUID legacyCatalogId = UUID.randomUUID();
+    writeActorCatalog(database, List.of(new ActorCatalog()
+        .withId(legacyCatalogId)
+        .withCatalog(Jsons.jsonNode(airbyteCatalog))
+        .withCatalogHash("legacy")));
+
+    assertEquals(Optional.of(legacyCatalogId), catalogService.backfillActorCatalogDigests(null, 10));
+    assertEquals(Optional.empty(), catalogService.backfillActorCatalogDigests(legacyCatalogId, 10));
+
+    final UUID catalogId = catalogService.writeActorCatalogFetchEvent(airbyteCatalog, source.getSourceId(), DOCKER_IMAGE_TAG, CONFIG_HASH);
+    assertEquals(legacyCatalogId, catalogId);
+    assertEquals(1, database.query(ctx -> ctx.selectCount().from(ACTOR_CATALOG)).fetchOne().into(int.class));
+  }
+
+  @Test
+  void testActorCatalogWrittenFromStreamsMatchesTheCatalog() throws IOException, SQLException, ConfigNotFoundException {
+    final StandardWorkspace workspace = MockData.standardWorkspaces().get(0);
+    final StandardSourceDefinition sourceDefinition = new StandardSourceDefinition()
+        .withSourceDefinitionId(UUID.randomUUID())
+        .withSourceType(SourceType.DATABASE)
+        .withName("sourceDefinition");
+    final ActorDefinitionVersion actorDefinitionVersion = MockData.actorDefinitionVersion()
+        .withActorDefinitionId(sourceDefinition.getSourceDefinitionId())
+        .withVersionId(sourceDefinition.getDefaultVersionId());
+    sourceService.writeConnectorMetadata(sourceDefinition, actorDefinitionVersion, Collections.emptyList());
+
+    final SourceConnection source = new SourceConnection()
+        .withSourceDefinitionId(sourceDefinition.getSourceDefinitionId())
+        .withSourceId(UUID.randomUUID())
+        .withName("SomeConnector")
+        .withWorkspaceId(workspace.getWorkspaceId())
+        .withConfiguration(Jsons.deserialize("{}"));
+    sourceService.writeSourceConnectionNoSecrets(source);
+
+    final AirbyteCatalog airbyteCatalog = new AirbyteCatalog().withStreams(List.of(
+        CatalogHelpers.createAirbyteStream("clothes", Field.of("name", JsonSchemaType.STRING)),
+        CatalogHelpers.createAirbyteStream("shoes", Field.of("size", JsonSchemaType.NUMBER))));
+
+    final UUID streamsCatalogId =
+        catalogService.writeActorCatalogFetchEventFromStreams(airbyteCatalog.getStreams(), source.getSourceId(), DOCKER_IMAGE_TAG, CONFIG_HASH);
+    final UUID catalogId = catalogService.writeActorCatalogFetchEvent(airbyteCatalog, source.getSourceId(), DOCKER_IMAGE_TAG, CONFIG_HASH);
+
+    assertEquals(streamsCatalogId, catalogId);
+    assertEquals(1, database.query(ctx -> ctx.selectCount().from(ACTOR_CATALOG)).fetchOne().into(int.class));
+    assertEquals(Jsons.jsonNode(airbyteCatalog), catalogService.getActorCatalogById(catalogId).getCatalog());
+  }
+
   @Test
   void testListWorkspaceStandardSyncAll() throws IOException {
     final List<StandardSync> expectedSyncs = copyWithV1Types(MockData.standardSyncs().subList(0, 4));
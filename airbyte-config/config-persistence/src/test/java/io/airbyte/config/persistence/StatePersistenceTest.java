@@ -47,6 +47,7 @@ import io.airbyte.test.utils.BaseConfigDatabaseTest;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.sql.SQLException;
+import java.time.OffsetDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -537,6 +538,43 @@ class StatePersistenceTest extends BaseConfigDatabaseTest {
     Assertions.assertTrue(fullResetResult.isEmpty());
   }
 
+  @Test
+  void testStreamUpdateSkipsUnchangedStreams() throws IOException, SQLException {
+    final StateWrapper state0 = new StateWrapper()
+        .withStateType(StateType.STREAM)
+        .withStateMessages(Arrays.asList(
+            new AirbyteStateMessage()
+                .withType(AirbyteStateType.STREAM)
+                .withStream(new AirbyteStreamState()
+                    .withStreamDescriptor(new StreamDescriptor().withName("s1").withNamespace("n1"))
+                    .withStreamState(Jsons.deserialize(STATE_WITH_NAMESPACE))),
+            new AirbyteStateMessage()
+                .withType(AirbyteStateType.STREAM)
+                .withStream(new AirbyteStreamState()
+                    .withStreamDescriptor(new StreamDescriptor().withName("s2"))
+                    .withStreamState(Jsons.deserialize(STREAM_STATE_2)))));
+    statePersistence.updateOrCreateState(connectionId, state0);
+    final OffsetDateTime s1UpdatedAt = getStreamUpdatedAt("s1");
+    final OffsetDateTime s2UpdatedAt = getStreamUpdatedAt("s2");
+
+    // Only s2 changes, s1 is written again with the same content
+    final StateWrapper state1 = clone(state0);
+    state1.getStateMessages().get(1).getStream().withStreamState(Jsons.deserialize("\"updated state s2\""));
+    statePersistence.updateOrCreateState(connectionId, state1);
+
+    assertEquals(state1, statePersistence.getCurrentState(connectionId).orElseThrow());
+    Assertions.assertEquals(s1UpdatedAt, getStreamUpdatedAt("s1"));
+    Assertions.assertNotEquals(s2UpdatedAt, getStreamUpdatedAt("s2"));
+  }
+
+  private OffsetDateTime getStreamUpdatedAt(final String streamName) throws SQLException {
+    return database.query(ctx -> ctx.select(DSL.field("updated_at", OffsetDateTime.class))
+        .from(DSL.table(STATE))
+        .where(DSL.field("connection_id").eq(connectionId), DSL.field("stream_name").eq(streamName))
+        .fetchOne()
+        .value1());
+  }
+
   @Test
   void testInconsistentTypeUpdates() throws IOException, SQLException {
     final StateWrapper streamState = new StateWrapper()
@@ -29,6 +29,7 @@ import io.airbyte.data.exceptions.ConfigNotFoundException;
 import io.airbyte.data.services.ActorDefinitionService;
 import io.airbyte.data.services.ScopedConfigurationService;
 import io.airbyte.data.services.WorkspaceService;
+import io.airbyte.data.services.shared.ConfigScopeMapWithId;
 import io.airbyte.data.services.shared.ConnectorVersionKey;
 import io.airbyte.protocol.models.ConnectorSpecification;
 import io.airbyte.validation.json.JsonValidationException;
@@ -202,6 +203,41 @@ class ConfigurationDefinitionVersionOverrideProviderTest {
     verifyNoMoreInteractions(mScopedConfigurationService, mActorDefinitionService);
   }
 
+  @Test
+  void testGetOverridesForActors() throws IOException {
+    final UUID otherActorId = UUID.randomUUID();
+    final ScopedConfiguration versionConfig = new ScopedConfiguration()
+        .withId(UUID.randomUUID())
+        .withScopeType(ConfigScopeType.ACTOR)
+        .withScopeId(ACTOR_ID)
+        .withResourceType(ConfigResourceType.ACTOR_DEFINITION)
+        .withResourceId(ACTOR_DEFINITION_ID)
+        .withValue(OVERRIDE_VERSION.getVersionId().toString())
+        .withOriginType(ConfigOriginType.USER);
+
+    final List<ConfigScopeMapWithId> scopeMaps = List.of(
+        new ConfigScopeMapWithId(ACTOR_ID, Map.of(
+            ConfigScopeType.ACTOR, ACTOR_ID,
+            ConfigScopeType.WORKSPACE, WORKSPACE_ID,
+            ConfigScopeType.ORGANIZATION, ORGANIZATION_ID)),
+        new ConfigScopeMapWithId(otherActorId, Map.of(
+            ConfigScopeType.ACTOR, otherActorId,
+            ConfigScopeType.WORKSPACE, WORKSPACE_ID,
+            ConfigScopeType.ORGANIZATION, ORGANIZATION_ID)));
+    when(mScopedConfigurationService.getScopedConfigurations(ConnectorVersionKey.INSTANCE, ConfigResourceType.ACTOR_DEFINITION, ACTOR_DEFINITION_ID,
+        scopeMaps)).thenReturn(Map.of(ACTOR_ID, versionConfig));
+    when(mActorDefinitionService.getActorDefinitionVersions(List.of(OVERRIDE_VERSION.getVersionId()))).thenReturn(List.of(OVERRIDE_VERSION));
+
+    final Map<UUID, ActorDefinitionVersionWithOverrideStatus> result =
+        overrideProvider.getOverridesForActors(ACTOR_DEFINITION_ID, WORKSPACE_ID, List.of(ACTOR_ID, otherActorId));
+
+    assertEquals(Map.of(ACTOR_ID, new ActorDefinitionVersionWithOverrideStatus(OVERRIDE_VERSION, true)), result);
+    verify(mScopedConfigurationService).getScopedConfigurations(ConnectorVersionKey.INSTANCE, ConfigResourceType.ACTOR_DEFINITION,
+        ACTOR_DEFINITION_ID, scopeMaps);
+    verify(mActorDefinitionService).getActorDefinitionVersions(List.of(OVERRIDE_VERSION.getVersionId()));
+    verifyNoMoreInteractions(mScopedConfigurationService, mActorDefinitionService);
+  }
+
   @Test
   void testThrowsIfVersionIdDoesNotExist() throws ConfigNotFoundException, IOException {
     final UUID versionId = UUID.randomUUID();
@@ -22,6 +22,7 @@ dependencies {
   api(libs.micronaut.data.tx)
   api(libs.aws.java.sdk.sts)
   api(project(":oss:airbyte-commons"))
+  implementation(libs.micronaut.cache.caffeine)
 
   /*
    * Marked as "implementation" to avoid leaking these dependencies to services
@@ -10,14 +10,10 @@ import com.fasterxml.jackson.databind.node.ObjectNode
 import com.google.common.annotations.VisibleForTesting
 import com.google.common.base.Preconditions
 import io.airbyte.commons.constants.AirbyteSecretConstants
-import io.airbyte.commons.json.JsonPaths
-import io.airbyte.commons.json.JsonSchemas
 import io.airbyte.commons.json.Jsons
-import io.airbyte.commons.util.MoreIterators
 import io.airbyte.validation.json.JsonSchemaValidator
 import io.github.oshai.kotlinlogging.KotlinLogging
 import java.util.Optional
-import java.util.stream.Collectors
 
 private val logger = KotlinLogging.logger {}
 
@@ -29,7 +25,7 @@ class JsonSecretsProcessor(private val copySecrets: Boolean = false) {
 
     /**
      * Given a JSONSchema object and an object that conforms to that schema, obfuscate all fields in the
-     * object that are a secret.
+     * object that are a secret. The secrets of the schema are located once per schema, see [SecretMaskingPlan].
      *
      * @param json - json object that conforms to the schema
      * @param schema - jsonschema object
@@ -38,28 +34,7 @@ class JsonSecretsProcessor(private val copySecrets: Boolean = false) {
     fun maskAllSecrets(
       json: JsonNode,
       schema: JsonNode?,
-    ): JsonNode {
-      val pathsWithSecrets =
-        JsonSchemas.collectPathsThatMeetCondition(
-          schema,
-        ) { node: JsonNode ->
-          MoreIterators.toList(node.fields())
-            .stream()
-            .anyMatch { (key): Map.Entry<String, JsonNode> -> AirbyteSecretConstants.AIRBYTE_SECRET_FIELD == key }
-        }
-          .stream()
-          .map { jsonSchemaPath: List<JsonSchemas.FieldNameOrList?>? ->
-            JsonPaths.mapJsonSchemaPathToJsonPath(
-              jsonSchemaPath,
-            )
-          }
-          .collect(Collectors.toSet())
-      var copy = Jsons.clone(json)
-      for (path in pathsWithSecrets) {
-        copy = JsonPaths.replaceAtString(copy, path, AirbyteSecretConstants.SECRETS_MASK)
-      }
-      return copy
-    }
+    ): JsonNode = SecretMaskingPlan.forSpec(schema!!).mask(json)
 
     fun isSecret(obj: JsonNode): Boolean {
       return obj.isObject && obj.has(AirbyteSecretConstants.AIRBYTE_SECRET_FIELD) && obj[AirbyteSecretConstants.AIRBYTE_SECRET_FIELD].asBoolean()
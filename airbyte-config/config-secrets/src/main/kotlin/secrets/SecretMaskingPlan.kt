@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.secrets
+
+import com.fasterxml.jackson.databind.JsonNode
+import com.fasterxml.jackson.databind.node.ArrayNode
+import com.fasterxml.jackson.databind.node.ObjectNode
+import com.github.benmanes.caffeine.cache.Cache
+import com.github.benmanes.caffeine.cache.Caffeine
+import io.airbyte.commons.constants.AirbyteSecretConstants
+import io.airbyte.commons.json.JsonPaths
+import io.airbyte.commons.json.JsonSchemas
+
+/**
+ * The locations of the secrets of a connector spec, compiled once per spec so that configs can be
+ * masked in a single pass over the config, without walking the spec again.
+ *
+ * The plan is a tree of the fields leading to a secret. Masking replaces the value of every secret
+ * field present in the config, mirroring what setting the mask at each JSONPath of
+ * [secretPaths] does: fields missing from the config aren't added, and a list step applies to
+ * each element of an array or each value of an object.
+ */
+class SecretMaskingPlan private constructor(
+  /**
+   * The unique JSONPaths of the secrets of the spec, in ascending alphabetical order.
+   */
+  val secretPaths: List<String>,
+  private val root: Step,
+) {
+  private class Step {
+    val fields = mutableMapOf<String, Step>()
+    var listItems: Step? = null
+    var isSecret = false
+  }
+
+  /**
+   * Returns a copy of the config in which every secret is masked.
+   */
+  fun mask(config: JsonNode): JsonNode {
+    val copy = config.deepCopy<JsonNode>()
+    maskInPlace(copy, root)
+    return copy
+  }
+
+  private fun maskInPlace(
+    json: JsonNode,
+    step: Step,
+  ) {
+    if (json is ObjectNode) {
+      for ((fieldName, fieldStep) in step.fields) {
+        val value = json.get(fieldName) ?: continue
+        if (fieldStep.isSecret) {
+          json.put(fieldName, AirbyteSecretConstants.SECRETS_MASK)
+        } else {
+          maskInPlace(value, fieldStep)
+        }
+      }
+    }
+    val listItems = step.listItems ?: return
+    when (json) {
+      is ArrayNode -> maskElements(json, listItems)
+      is ObjectNode -> json.fieldNames().asSequence().toList().forEach { maskElement(json, it, listItems) }
+      else -> {}
+    }
+  }
+
+  private fun maskElements(
+    array: ArrayNode,
+    step: Step,
+  ) {
+    for (i in 0 until array.size()) {
+      if (step.isSecret) {
+        array.set(i, AirbyteSecretConstants.SECRETS_MASK)
+      } else {
+        maskInPlace(array[i], step)
+      }
+    }
+  }
+
+  private fun maskElement(
+    json: ObjectNode,
+    fieldName: String,
+    step: Step,
+  ) {
+    if (step.isSecret) {
+      json.put(fieldName, AirbyteSecretConstants.SECRETS_MASK)
+    } else {
+      maskInPlace(json[fieldName], step)
+    }
+  }
+
+  companion object {
+    private const val MAX_CACHED_PLANS = 1_000L
+
+    // Keyed by the content of the spec: the same spec is read for each actor of a connector version, while the spec
+    // of a version may change in place, e.g. for declarative connectors.
+    private val plans: Cache<JsonNode, SecretMaskingPlan> = Caffeine.newBuilder().maximumSize(MAX_CACHED_PLANS).build()
+
+    /**
+     * Get the plan of a spec, compiling it if it isn't cached yet.
+     */
+    @JvmStatic
+    fun forSpec(spec: JsonNode): SecretMaskingPlan {
+      plans.getIfPresent(spec)?.let { return it }
+      val plan = compile(spec)
+      // Keyed by a copy, as callers may modify the spec they hold afterwards.
+      plans.put(spec.deepCopy(), plan)
+      return plan
+    }
+
+    private fun compile(spec: JsonNode): SecretMaskingPlan {
+      val schemaPaths =
+        JsonSchemas.collectPathsThatMeetCondition(spec) { node: JsonNode ->
+          node.has(AirbyteSecretConstants.AIRBYTE_SECRET_FIELD)
+        }.distinct()
+
+      val root = Step()
+      for (schemaPath in schemaPaths) {
+        // A secret at the root can't be replaced in place, so it is never masked.
+        if (schemaPath.isEmpty()) {
+          continue
+        }
+        var step = root
+        for (fieldNameOrList in schemaPath) {
+          step =
+            if (fieldNameOrList.isList) {
+              step.listItems ?: Step().also { step.listItems = it }
+            } else {
+              step.fields.getOrPut(fieldNameOrList.fieldName) { Step() }
+            }
+        }
+        step.isSecret = true
+      }
+
+      val secretPaths = schemaPaths.map { JsonPaths.mapJsonSchemaPathToJsonPath(it) }.distinct().sorted()
+      return SecretMaskingPlan(secretPaths, root)
+    }
+  }
+}
@@ -10,9 +10,7 @@ import com.fasterxml.jackson.databind.node.JsonNodeFactory
 import com.fasterxml.jackson.databind.node.ObjectNode
 import com.fasterxml.jackson.databind.node.TextNode
 import com.google.common.annotations.VisibleForTesting
-import io.airbyte.commons.constants.AirbyteSecretConstants
 import io.airbyte.commons.json.JsonPaths
-import io.airbyte.commons.json.JsonSchemas
 import io.airbyte.commons.json.Jsons
 import io.airbyte.config.secrets.persistence.ReadOnlySecretPersistence
 import io.airbyte.config.secrets.persistence.SecretPersistence
@@ -150,6 +148,11 @@ object SecretsHelpers {
    * Replaces {"_secret": "full_coordinate"} objects in the partial config with the string secret
    * payloads loaded from the secret persistence at those coordinates.
    *
+   * This works in two phases: all the coordinates of the config are collected first and resolved with
+   * a single [ReadOnlySecretPersistence.readBatch] call, then the config is copied with each
+   * coordinate object replaced by its payload. Only containers are copied; value nodes are immutable
+   * and are shared with the partial config.
+   *
    * @param partialConfig configuration containing secret coordinates (references to secrets)
    * @param secretPersistence secret storage mechanism
    * @return full config including actual secret values
@@ -158,56 +161,55 @@ object SecretsHelpers {
     partialConfig: JsonNode?,
     secretPersistence: ReadOnlySecretPersistence,
   ): JsonNode {
-    return if (partialConfig != null) {
-      val config = partialConfig.deepCopy<JsonNode>()
+    if (partialConfig == null) {
+      return JsonNodeFactory.instance.objectNode()
+    }
 
-      // if the entire config is a secret coordinate object
-      if (config.has(COORDINATE_FIELD)) {
-        val coordinateNode = config[COORDINATE_FIELD]
-        val coordinate: SecretCoordinate = getCoordinateFromTextNode(coordinateNode)
-        return TextNode(getOrThrowSecretValue(secretPersistence, coordinate))
-      }
+    val coordinates = LinkedHashSet<SecretCoordinate>()
+    collectCoordinates(partialConfig, coordinates)
+    val secrets = if (coordinates.isEmpty()) emptyMap() else secretPersistence.readBatch(coordinates)
+    return replaceCoordinates(partialConfig, secrets)
+  }
 
-      // otherwise iterate through all object fields
-      config.fields().forEachRemaining { (fieldName, fieldNode): Map.Entry<String, JsonNode> ->
-        if (fieldNode is ArrayNode) {
-          for (i in 0 until fieldNode.size()) {
-            fieldNode[i] = combineConfig(fieldNode[i], secretPersistence)
-          }
-        } else if (fieldNode is ObjectNode) {
-          (config as ObjectNode).replace(fieldName, combineConfig(fieldNode, secretPersistence))
-        }
-      }
-      config
-    } else {
-      JsonNodeFactory.instance.objectNode()
+  private fun collectCoordinates(
+    node: JsonNode,
+    coordinates: MutableSet<SecretCoordinate>,
+  ) {
+    if (node.has(COORDINATE_FIELD)) {
+      coordinates.add(getCoordinateFromTextNode(node[COORDINATE_FIELD]))
+    } else if (node.isContainerNode) {
+      node.elements().forEachRemaining { collectCoordinates(it, coordinates) }
     }
   }
 
+  private fun replaceCoordinates(
+    node: JsonNode,
+    secrets: Map<SecretCoordinate, String>,
+  ): JsonNode =
+    when {
+      node.has(COORDINATE_FIELD) -> {
+        val coordinate = getCoordinateFromTextNode(node[COORDINATE_FIELD])
+        TextNode(getOrThrowSecretValue(secrets[coordinate] ?: "", coordinate))
+      }
+      node is ObjectNode -> {
+        val copy = JsonNodeFactory.instance.objectNode()
+        node.fields().forEachRemaining { (fieldName, fieldNode) -> copy.replace(fieldName, replaceCoordinates(fieldNode, secrets)) }
+        copy
+      }
+      node is ArrayNode -> {
+        val copy = JsonNodeFactory.instance.arrayNode(node.size())
+        node.elements().forEachRemaining { copy.add(replaceCoordinates(it, secrets)) }
+        copy
+      }
+      else -> node
+    }
+
   /**
    * This returns all the unique path to the airbyte secrets based on a schema spec. The path will be
    * return in an ascending alphabetical order.
    */
   @VisibleForTesting
-  fun getSortedSecretPaths(spec: JsonNode?): List<String> =
-    JsonSchemas
-      .collectPathsThatMeetCondition(
-        spec,
-      ) { node: JsonNode ->
-        node
-          .fields()
-          .asSequence()
-          .toList()
-          .stream()
-          .anyMatch { (key): Map.Entry<String, JsonNode> -> AirbyteSecretConstants.AIRBYTE_SECRET_FIELD == key }
-      }.stream()
-      .map { jsonSchemaPath: List<JsonSchemas.FieldNameOrList?>? ->
-        JsonPaths.mapJsonSchemaPathToJsonPath(
-          jsonSchemaPath,
-        )
-      }.distinct()
-      .sorted()
-      .toList()
+  fun getSortedSecretPaths(spec: JsonNode?): List<String> = SecretMaskingPlan.forSpec(spec!!).secretPaths
 
   fun getExistingCoordinateIfExists(json: JsonNode?): String? =
     if (json != null && json.has(COORDINATE_FIELD)) {
@@ -275,8 +277,13 @@ object SecretsHelpers {
   private fun getOrThrowSecretValue(
     secretPersistence: ReadOnlySecretPersistence,
     coordinate: SecretCoordinate,
+  ): String = getOrThrowSecretValue(secretPersistence.read(coordinate), coordinate)
+
+  @Throws(RuntimeException::class)
+  private fun getOrThrowSecretValue(
+    secret: String,
+    coordinate: SecretCoordinate,
   ): String {
-    val secret: String = secretPersistence.read(coordinate)
     if (secret.isNotBlank()) {
       return secret
     } else {
@@ -9,33 +9,45 @@ import io.airbyte.config.secrets.SecretsHelpers
 import io.airbyte.config.secrets.persistence.RuntimeSecretPersistence
 import io.airbyte.config.secrets.persistence.SecretPersistence
 import io.micronaut.context.annotation.Requires
+import jakarta.inject.Inject
 import jakarta.inject.Singleton
+import java.time.Duration
+
+private const val DEFAULT_SCOPE = "default"
 
 /**
- * Adds secrets to a partial config based off a persistence.
+ * Adds secrets to a partial config based off a persistence. Full configs are resolved through the
+ * [SecretPayloadCache].
  */
 @Requires(bean = SecretPersistence::class)
 @Singleton
-class RealSecretsHydrator(private val secretPersistence: SecretPersistence) : SecretsHydrator {
-  override fun hydrateFromDefaultSecretPersistence(partialConfig: JsonNode): JsonNode {
-    return SecretsHelpers.combineConfig(partialConfig, secretPersistence)
-  }
+class RealSecretsHydrator
+  @Inject
+  constructor(
+    private val secretPersistence: SecretPersistence,
+    private val secretPayloadCache: SecretPayloadCache,
+  ) : SecretsHydrator {
+    constructor(secretPersistence: SecretPersistence) : this(secretPersistence, SecretPayloadCache(Duration.ZERO))
 
-  override fun hydrateFromRuntimeSecretPersistence(
-    partialConfig: JsonNode,
-    runtimeSecretPersistence: RuntimeSecretPersistence,
-  ): JsonNode {
-    return SecretsHelpers.combineConfig(partialConfig, runtimeSecretPersistence)
-  }
+    override fun hydrateFromDefaultSecretPersistence(partialConfig: JsonNode): JsonNode {
+      return SecretsHelpers.combineConfig(partialConfig, secretPayloadCache.wrap(DEFAULT_SCOPE, secretPersistence))
+    }
 
-  override fun hydrateSecretCoordinateFromDefaultSecretPersistence(secretCoordinate: JsonNode): JsonNode {
-    return SecretsHelpers.hydrateSecretCoordinate(secretCoordinate, secretPersistence)
-  }
+    override fun hydrateFromRuntimeSecretPersistence(
+      partialConfig: JsonNode,
+      runtimeSecretPersistence: RuntimeSecretPersistence,
+    ): JsonNode {
+      return SecretsHelpers.combineConfig(partialConfig, secretPayloadCache.wrap(runtimeSecretPersistence.cacheScope, runtimeSecretPersistence))
+    }
+
+    override fun hydrateSecretCoordinateFromDefaultSecretPersistence(secretCoordinate: JsonNode): JsonNode {
+      return SecretsHelpers.hydrateSecretCoordinate(secretCoordinate, secretPersistence)
+    }
 
-  override fun hydrateSecretCoordinateFromRuntimeSecretPersistence(
-    secretCoordinate: JsonNode,
-    runtimeSecretPersistence: RuntimeSecretPersistence,
-  ): JsonNode {
-    return SecretsHelpers.hydrateSecretCoordinate(secretCoordinate, runtimeSecretPersistence)
+    override fun hydrateSecretCoordinateFromRuntimeSecretPersistence(
+      secretCoordinate: JsonNode,
+      runtimeSecretPersistence: RuntimeSecretPersistence,
+    ): JsonNode {
+      return SecretsHelpers.hydrateSecretCoordinate(secretCoordinate, runtimeSecretPersistence)
+    }
   }
-}
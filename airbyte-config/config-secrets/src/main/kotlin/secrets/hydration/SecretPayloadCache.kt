@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.secrets.hydration
+
+import com.google.common.cache.Cache
+import com.google.common.cache.CacheBuilder
+import io.airbyte.config.secrets.SecretCoordinate
+import io.airbyte.config.secrets.persistence.ReadOnlySecretPersistence
+import io.micronaut.context.annotation.Value
+import jakarta.inject.Singleton
+import java.time.Duration
+
+private const val MAXIMUM_SIZE = 10_000L
+
+/**
+ * Short-lived, process-wide cache of secret payloads, so that hydrating many configs that reference
+ * the same secrets doesn't go back to the secret store for each of them.
+ *
+ * Coordinates carry a version and updating a secret writes a new version, so a cached payload is
+ * never served for an updated secret in stores that honour versions. Stores that ignore the version
+ * (AWS) can serve a stale payload for at most the TTL. Missing secrets are never cached. A zero TTL
+ * disables the cache.
+ */
+@Singleton
+class SecretPayloadCache(
+  @Value("\${airbyte.secret.hydration.cache-ttl:30s}") ttl: Duration,
+) {
+  private val cache: Cache<Pair<String, SecretCoordinate>, String>? =
+    if (ttl.isZero || ttl.isNegative) {
+      null
+    } else {
+      CacheBuilder.newBuilder().expireAfterWrite(ttl).maximumSize(MAXIMUM_SIZE).build()
+    }
+
+  /**
+   * Wraps the given persistence so that its reads go through this cache. The scope identifies the
+   * backing store, so that the same coordinate in two stores can't collide.
+   */
+  fun wrap(
+    scope: String,
+    delegate: ReadOnlySecretPersistence,
+  ): ReadOnlySecretPersistence {
+    val cache = cache ?: return delegate
+    return object : ReadOnlySecretPersistence {
+      override fun read(coordinate: SecretCoordinate): String = readBatch(listOf(coordinate))[coordinate] ?: ""
+
+      override fun readBatch(coordinates: Collection<SecretCoordinate>): Map<SecretCoordinate, String> {
+        val payloads = mutableMapOf<SecretCoordinate, String>()
+        val misses = mutableListOf<SecretCoordinate>()
+        for (coordinate in coordinates) {
+          val payload = cache.getIfPresent(scope to coordinate)
+          if (payload != null) payloads[coordinate] = payload else misses.add(coordinate)
+        }
+        if (misses.isNotEmpty()) {
+          delegate.readBatch(misses).forEach { (coordinate, payload) ->
+            if (payload.isNotBlank()) {
+              cache.put(scope to coordinate, payload)
+            }
+            payloads[coordinate] = payload
+          }
+        }
+        return payloads
+      }
+    }
+  }
+}
@@ -50,6 +50,8 @@ class AwsSecretManagerPersistence(private val awsClient: AwsClient, private val
     return secretString
   }
 
+  override fun readBatch(coordinates: Collection<SecretCoordinate>): Map<SecretCoordinate, String> = readInParallel(coordinates, ::read)
+
   override fun write(
     coordinate: SecretCoordinate,
     payload: String,
@@ -31,6 +31,8 @@ class AzureKeyVaultPersistence(private val secretClient: AzureKeyVaultClient) :
     ).value
   }
 
+  override fun readBatch(coordinates: Collection<SecretCoordinate>): Map<SecretCoordinate, String> = readInParallel(coordinates, ::read)
+
   override fun write(
     coordinate: SecretCoordinate,
     payload: String,
@@ -55,10 +55,37 @@ class GoogleSecretManagerPersistence(
   override fun read(coordinate: SecretCoordinate): String {
     try {
       googleSecretManagerServiceClient.createClient().use { client ->
-        val secretVersionName = SecretVersionName.of(gcpProjectId, coordinate.fullCoordinate, LATEST)
-        val response = client.accessSecretVersion(secretVersionName)
-        return response.payload.data.toStringUtf8()
+        return read(client, coordinate)
       }
+    } catch (e: Exception) {
+      logger.error(e) { "Unable to read secret for coordinate ${coordinate.fullCoordinate}. " }
+      return ""
+    }
+  }
+
+  /**
+   * Secret Manager has no batch access call, so the secrets are read in parallel. They share a single
+   * client, which is expensive to create and safe to use concurrently.
+   */
+  override fun readBatch(coordinates: Collection<SecretCoordinate>): Map<SecretCoordinate, String> {
+    try {
+      googleSecretManagerServiceClient.createClient().use { client ->
+        return readInParallel(coordinates) { coordinate -> read(client, coordinate) }
+      }
+    } catch (e: Exception) {
+      logger.error(e) { "Unable to read secrets for ${coordinates.size} coordinates. " }
+      return coordinates.associateWith { "" }
+    }
+  }
+
+  private fun read(
+    client: SecretManagerServiceClient,
+    coordinate: SecretCoordinate,
+  ): String {
+    try {
+      val secretVersionName = SecretVersionName.of(gcpProjectId, coordinate.fullCoordinate, LATEST)
+      val response = client.accessSecretVersion(secretVersionName)
+      return response.payload.data.toStringUtf8()
     } catch (e: NotFoundException) {
       logger.warn { "Unable to locate secret for coordinate ${coordinate.fullCoordinate}." }
       return ""
@@ -11,6 +11,7 @@ import jakarta.inject.Singleton
 import jakarta.transaction.Transactional
 import org.jooq.DSLContext
 import org.jooq.exception.DataAccessException
+import org.jooq.impl.DSL
 import io.micronaut.transaction.annotation.Transactional as TransactionalAdvice
 
 @Singleton
@@ -45,6 +46,25 @@ open class LocalTestingSecretPersistence(
     }
   }
 
+  @Throws(DataAccessException::class)
+  @Transactional
+  @TransactionalAdvice("local-secrets")
+  override fun readBatch(coordinates: Collection<SecretCoordinate>): Map<SecretCoordinate, String> {
+    initialize()
+    if (coordinates.isEmpty()) {
+      return emptyMap()
+    }
+    val coordinateField = DSL.field("coordinate", String::class.java)
+    val payloadField = DSL.field("payload", String::class.java)
+    val payloads =
+      dslContext
+        .select(coordinateField, payloadField)
+        .from(DSL.table("secrets"))
+        .where(coordinateField.`in`(coordinates.map { it.fullCoordinate }))
+        .fetchMap(coordinateField, payloadField)
+    return coordinates.associateWith { payloads[it.fullCoordinate] ?: "" }
+  }
+
   @Transactional
   @TransactionalAdvice("local-secrets")
   override fun write(
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.secrets.persistence
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder
+import io.airbyte.config.secrets.SecretCoordinate
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionException
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+
+/**
+ * Upper bound on the number of reads in flight against a secret store that has no batch read API,
+ * so that a config with many secrets can't flood the store with requests.
+ */
+internal const val MAX_PARALLEL_SECRET_READS = 8
+
+private val secretReadExecutor: ExecutorService =
+  Executors.newFixedThreadPool(
+    MAX_PARALLEL_SECRET_READS,
+    ThreadFactoryBuilder().setNameFormat("secret-reader-%d").setDaemon(true).build(),
+  )
+
+/**
+ * Reads the given coordinates concurrently, with at most [MAX_PARALLEL_SECRET_READS] reads in
+ * flight across the whole process. Meant for [ReadOnlySecretPersistence.readBatch] implementations
+ * of stores that can only read one secret per request.
+ */
+internal fun readInParallel(
+  coordinates: Collection<SecretCoordinate>,
+  read: (SecretCoordinate) -> String,
+): Map<SecretCoordinate, String> {
+  val distinctCoordinates = coordinates.distinct()
+  if (distinctCoordinates.size <= 1) {
+    return distinctCoordinates.associateWith(read)
+  }
+  return distinctCoordinates
+    .associateWith { coordinate -> CompletableFuture.supplyAsync({ read(coordinate) }, secretReadExecutor) }
+    .mapValues { (_, future) ->
+      try {
+        future.join()
+      } catch (e: CompletionException) {
+        throw e.cause ?: e
+      }
+    }
+}
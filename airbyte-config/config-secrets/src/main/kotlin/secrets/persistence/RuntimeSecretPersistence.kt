@@ -25,6 +25,11 @@ class RuntimeSecretPersistence(private val secretPersistenceConfig: SecretPersis
   private val awsAccessKey: String? = System.getenv(AWS_ASSUME_ROLE_ACCESS_KEY_ID)
   private val awsSecretKey: String? = System.getenv(AWS_ASSUME_ROLE_SECRET_ACCESS_KEY)
 
+  /**
+   * Identifies the backing store in caches shared with other persistences.
+   */
+  internal val cacheScope: String = "${secretPersistenceConfig.scopeType}:${secretPersistenceConfig.scopeId}"
+
   private fun buildSecretPersistence(secretPersistenceConfig: SecretPersistenceConfig): SecretPersistence {
     return when (secretPersistenceConfig.secretPersistenceType) {
       SecretPersistenceConfig.SecretPersistenceType.TESTING -> {
@@ -67,6 +72,12 @@ class RuntimeSecretPersistence(private val secretPersistenceConfig: SecretPersis
     return secretPersistence.read(coordinate)
   }
 
+  override fun readBatch(coordinates: Collection<SecretCoordinate>): Map<SecretCoordinate, String> {
+    // Build the backing persistence once for the whole batch rather than once per secret.
+    val secretPersistence = buildSecretPersistence(secretPersistenceConfig)
+    return secretPersistence.readBatch(coordinates)
+  }
+
   override fun write(
     coordinate: SecretCoordinate,
     payload: String,
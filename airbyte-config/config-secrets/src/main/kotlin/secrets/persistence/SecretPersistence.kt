@@ -13,6 +13,15 @@ import java.time.Instant
  */
 fun interface ReadOnlySecretPersistence {
   fun read(coordinate: SecretCoordinate): String
+
+  /**
+   * Reads several secrets at once. Missing secrets map to an empty string, as with [read].
+   *
+   * The default implementation reads the coordinates one after the other. Backing stores override it
+   * with a native batch call, or with bounded parallel reads (see [readInParallel]) when they have no
+   * such call.
+   */
+  fun readBatch(coordinates: Collection<SecretCoordinate>): Map<SecretCoordinate, String> = coordinates.associateWith { read(it) }
 }
 
 /**
@@ -45,6 +45,8 @@ class VaultSecretPersistence(
     }
   }
 
+  override fun readBatch(coordinates: Collection<SecretCoordinate>): Map<SecretCoordinate, String> = readInParallel(coordinates, ::read)
+
   override fun write(
     coordinate: SecretCoordinate,
     payload: String,
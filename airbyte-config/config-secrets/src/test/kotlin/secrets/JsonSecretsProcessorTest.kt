@@ -7,6 +7,7 @@ package io.airbyte.config.secrets
 import com.fasterxml.jackson.core.JsonProcessingException
 import com.fasterxml.jackson.databind.JsonNode
 import com.fasterxml.jackson.databind.ObjectMapper
+import com.fasterxml.jackson.databind.node.ObjectNode
 import com.google.common.collect.ImmutableMap
 import io.airbyte.commons.constants.AirbyteSecretConstants
 import io.airbyte.commons.json.Jsons
@@ -509,6 +510,25 @@ internal class JsonSecretsProcessorTest {
     Assertions.assertEquals(expected, actual)
   }
 
+  @Test
+  fun testMaskingFollowsChangesToTheSpec() {
+    val spec = Jsons.clone(SCHEMA_ONE_LAYER)
+    val config = Jsons.jsonNode(mapOf("secret1" to "donttellanyone", "field1" to "value1"))
+
+    val masked = processor.prepareSecretsForOutput(config, spec)
+    Assertions.assertEquals(Jsons.jsonNode(mapOf("secret1" to AirbyteSecretConstants.SECRETS_MASK, "field1" to "value1")), masked)
+    // the config itself is left untouched
+    Assertions.assertEquals("donttellanyone", config["secret1"].asText())
+
+    // specs are cached by content, so a spec that changed in place gets masked with its new secrets
+    (spec["properties"]["field1"] as ObjectNode).put(AirbyteSecretConstants.AIRBYTE_SECRET_FIELD, true)
+    val maskedAfterChange = processor.prepareSecretsForOutput(config, spec)
+    Assertions.assertEquals(
+      Jsons.jsonNode(mapOf("secret1" to AirbyteSecretConstants.SECRETS_MASK, "field1" to AirbyteSecretConstants.SECRETS_MASK)),
+      maskedAfterChange,
+    )
+  }
+
   @Test
   @Throws(JsonProcessingException::class)
   fun copiesSecretsInNestedNonCombinationNode() {
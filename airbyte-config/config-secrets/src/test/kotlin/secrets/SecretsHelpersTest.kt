@@ -6,6 +6,7 @@ package io.airbyte.config.secrets
 
 import com.fasterxml.jackson.databind.JsonNode
 import com.fasterxml.jackson.databind.node.JsonNodeFactory
+import io.airbyte.commons.json.Jsons
 import io.airbyte.config.secrets.persistence.ReadOnlySecretPersistence
 import io.airbyte.config.secrets.persistence.SecretPersistence
 import io.airbyte.config.secrets.test.cases.ArrayOneOfTestCase
@@ -21,6 +22,7 @@ import io.airbyte.validation.json.JsonSchemaValidator
 import io.airbyte.validation.json.JsonValidationException
 import io.mockk.every
 import io.mockk.mockk
+import io.mockk.verify
 import org.junit.jupiter.api.Assertions
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.params.ParameterizedTest
@@ -158,7 +160,7 @@ internal class SecretsHelpersTest {
   fun testMissingSecretShouldThrowException() {
     val testCase = SimpleTestCase()
     val secretPersistence: ReadOnlySecretPersistence = mockk()
-    every { secretPersistence.read(any()) } returns ""
+    every { secretPersistence.readBatch(any()) } answers { firstArg<Collection<SecretCoordinate>>().associateWith { "" } }
 
     Assertions.assertThrows(
       RuntimeException::class.java,
@@ -170,6 +172,40 @@ internal class SecretsHelpersTest {
     }
   }
 
+  @Test
+  fun testCombineResolvesAllSecretsInOneBatch() {
+    val partialConfig =
+      Jsons.deserialize(
+        """
+        {
+          "username": "airbyte",
+          "password": { "_secret": "airbyte_workspace_password_secret_v1" },
+          "tunnel": { "ssh_key": { "_secret": "airbyte_workspace_ssh_key_secret_v2" } },
+          "keys": [{ "_secret": "airbyte_workspace_key_secret_v1" }, { "_secret": "airbyte_workspace_password_secret_v1" }]
+        }
+        """.trimIndent(),
+      )
+    val secretPersistence: ReadOnlySecretPersistence = mockk()
+    every { secretPersistence.readBatch(any()) } answers { firstArg<Collection<SecretCoordinate>>().associateWith { it.coordinateBase } }
+
+    val actualCombinedConfig = SecretsHelpers.combineConfig(partialConfig, secretPersistence)
+
+    val expectedCombinedConfig =
+      Jsons.deserialize(
+        """
+        {
+          "username": "airbyte",
+          "password": "airbyte_workspace_password_secret",
+          "tunnel": { "ssh_key": "airbyte_workspace_ssh_key_secret" },
+          "keys": ["airbyte_workspace_key_secret", "airbyte_workspace_password_secret"]
+        }
+        """.trimIndent(),
+      )
+    Assertions.assertEquals(expectedCombinedConfig, actualCombinedConfig)
+    verify(exactly = 1) { secretPersistence.readBatch(match { it.size == 3 }) }
+    verify(exactly = 0) { secretPersistence.read(any()) }
+  }
+
   @Test
   fun testUpdatingSecretsOneAtATimeShouldAlwaysIncrementAllVersions() {
     val uuidIterator = SecretsTestCase.UUIDS.iterator()
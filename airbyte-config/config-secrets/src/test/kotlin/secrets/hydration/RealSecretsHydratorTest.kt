@@ -5,11 +5,14 @@
 package io.airbyte.config.secrets.hydration
 
 import io.airbyte.commons.json.Jsons
+import io.airbyte.config.secrets.SecretCoordinate
 import io.airbyte.config.secrets.persistence.SecretPersistence
 import io.mockk.every
 import io.mockk.mockk
+import io.mockk.verify
 import org.junit.jupiter.api.Assertions
 import org.junit.jupiter.api.Test
+import java.time.Duration
 
 class RealSecretsHydratorTest {
   @Test
@@ -17,13 +20,40 @@ class RealSecretsHydratorTest {
     val coordinate = "secret_coordinate_v1"
     val secretValue = "secret_value"
     val secretPersistence: SecretPersistence = mockk()
-    every { secretPersistence.read(any()) } returns secretValue
+    every { secretPersistence.readBatch(any()) } answers { firstArg<Collection<SecretCoordinate>>().associateWith { secretValue } }
     val hydrator = RealSecretsHydrator(secretPersistence)
     val partialConfig = Jsons.jsonNode(mapOf("_secret" to coordinate))
     val hydratedConfig = hydrator.hydrateFromDefaultSecretPersistence(partialConfig)
     Assertions.assertEquals(secretValue, hydratedConfig.asText())
   }
 
+  @Test
+  fun `test secret hydration reuses cached payloads`() {
+    val coordinate = "secret_coordinate_v1"
+    val secretValue = "secret_value"
+    val secretPersistence: SecretPersistence = mockk()
+    every { secretPersistence.readBatch(any()) } answers { firstArg<Collection<SecretCoordinate>>().associateWith { secretValue } }
+    val hydrator = RealSecretsHydrator(secretPersistence, SecretPayloadCache(Duration.ofMinutes(1)))
+    val partialConfig = Jsons.jsonNode(mapOf("_secret" to coordinate))
+    repeat(2) {
+      Assertions.assertEquals(secretValue, hydrator.hydrateFromDefaultSecretPersistence(partialConfig).asText())
+    }
+    verify(exactly = 1) { secretPersistence.readBatch(any()) }
+  }
+
+  @Test
+  fun `test missing secrets are not cached`() {
+    val coordinate = "secret_coordinate_v1"
+    val secretPersistence: SecretPersistence = mockk()
+    every { secretPersistence.readBatch(any()) } answers { firstArg<Collection<SecretCoordinate>>().associateWith { "" } }
+    val hydrator = RealSecretsHydrator(secretPersistence, SecretPayloadCache(Duration.ofMinutes(1)))
+    val partialConfig = Jsons.jsonNode(mapOf("_secret" to coordinate))
+    repeat(2) {
+      Assertions.assertThrows(RuntimeException::class.java) { hydrator.hydrateFromDefaultSecretPersistence(partialConfig) }
+    }
+    verify(exactly = 2) { secretPersistence.readBatch(any()) }
+  }
+
   @Test
   fun `test coordinate secret hydration`() {
     val coordinate = "secret_coordinate_v1"
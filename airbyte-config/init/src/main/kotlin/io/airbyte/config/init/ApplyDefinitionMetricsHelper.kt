@@ -35,6 +35,17 @@ object ApplyDefinitionMetricsHelper {
     return metricAttributes.toTypedArray()
   }
 
+  /**
+   * Get metric attributes for the duration of a phase of applying definitions.
+   *
+   * @param phase The phase that was timed.
+   * @return A list of attributes for the phase.
+   */
+  @JvmStatic
+  fun getPhaseMetricAttributes(phase: ApplyDefinitionsPhase): Array<MetricAttribute> {
+    return arrayOf(MetricAttribute("phase", phase.toString()))
+  }
+
   interface DefinitionProcessingOutcome {
     val status: String
   }
@@ -59,4 +70,12 @@ object ApplyDefinitionMetricsHelper {
     override val status: String
       get() = "failed"
   }
+
+  enum class ApplyDefinitionsPhase {
+    FETCH_LATEST_DEFINITIONS,
+    LOAD_CURRENT_DEFINITIONS,
+    APPLY_VERSION_CHANGES,
+    UPDATE_UNCHANGED_VERSIONS,
+    UPDATE_SUPPORT_STATES,
+  }
 }
@@ -13,10 +13,12 @@ import io.airbyte.config.ConnectorRegistrySourceDefinition
 import io.airbyte.config.StandardDestinationDefinition
 import io.airbyte.config.StandardSourceDefinition
 import io.airbyte.config.helpers.ConnectorRegistryConverters
+import io.airbyte.config.init.ApplyDefinitionMetricsHelper.ApplyDefinitionsPhase
 import io.airbyte.config.init.ApplyDefinitionMetricsHelper.DefinitionProcessingFailureReason
 import io.airbyte.config.init.ApplyDefinitionMetricsHelper.DefinitionProcessingOutcome
 import io.airbyte.config.init.ApplyDefinitionMetricsHelper.DefinitionProcessingSuccessOutcome
 import io.airbyte.config.init.ApplyDefinitionMetricsHelper.getMetricAttributes
+import io.airbyte.config.init.ApplyDefinitionMetricsHelper.getPhaseMetricAttributes
 import io.airbyte.config.persistence.ActorDefinitionVersionResolver
 import io.airbyte.config.persistence.ConfigNotFoundException
 import io.airbyte.config.specs.DefinitionsProvider
@@ -79,34 +81,66 @@ class ApplyDefinitionsHelper(
     updateAll: Boolean = false,
     reImportVersionInUse: Boolean = false,
   ) {
-    val latestSourceDefinitions = definitionsProvider.sourceDefinitions
-    val latestDestinationDefinitions = definitionsProvider.destinationDefinitions
-
-    val currentProtocolRange = jobPersistence.currentProtocolVersionRange
-    val protocolCompatibleSourceDefinitions =
-      filterOutIncompatibleSourceDefs(currentProtocolRange, latestSourceDefinitions)
-    val protocolCompatibleDestinationDefinitions =
-      filterOutIncompatibleDestDefs(currentProtocolRange, latestDestinationDefinitions)
-
-    val airbyteCompatibleSourceDefinitions =
-      filterOutIncompatibleSourceDefsWithCurrentAirbyteVersion(protocolCompatibleSourceDefinitions)
-    val airbyteCompatibleDestinationDefinitions =
-      filterOutIncompatibleDestinationDefsWithCurrentAirbyteVersion(protocolCompatibleDestinationDefinitions)
-    val actorDefinitionIdsToDefaultVersionsMap =
-      actorDefinitionService.actorDefinitionIdsToDefaultVersionsMap
-    val actorDefinitionIdsInUse = actorDefinitionService.actorDefinitionIdsInUse
+    val (airbyteCompatibleSourceDefinitions, airbyteCompatibleDestinationDefinitions) =
+      timePhase(ApplyDefinitionsPhase.FETCH_LATEST_DEFINITIONS) {
+        val latestSourceDefinitions = definitionsProvider.sourceDefinitions
+        val latestDestinationDefinitions = definitionsProvider.destinationDefinitions
+
+        val currentProtocolRange = jobPersistence.currentProtocolVersionRange
+        val protocolCompatibleSourceDefinitions =
+          filterOutIncompatibleSourceDefs(currentProtocolRange, latestSourceDefinitions)
+        val protocolCompatibleDestinationDefinitions =
+          filterOutIncompatibleDestDefs(currentProtocolRange, latestDestinationDefinitions)
+
+        Pair(
+          filterOutIncompatibleSourceDefsWithCurrentAirbyteVersion(protocolCompatibleSourceDefinitions),
+          filterOutIncompatibleDestinationDefsWithCurrentAirbyteVersion(protocolCompatibleDestinationDefinitions),
+        )
+      }
+    val (actorDefinitionIdsToDefaultVersionsMap, actorDefinitionIdsInUse) =
+      timePhase(ApplyDefinitionsPhase.LOAD_CURRENT_DEFINITIONS) {
+        Pair(actorDefinitionService.actorDefinitionIdsToDefaultVersionsMap, actorDefinitionService.actorDefinitionIdsInUse)
+      }
 
     newConnectorCount = 0
     changedConnectorCount = 0
-    for (def in airbyteCompatibleSourceDefinitions) {
-      applySourceDefinition(actorDefinitionIdsToDefaultVersionsMap, def, actorDefinitionIdsInUse, updateAll, reImportVersionInUse)
+    // Definitions whose default version stays the same only need their metadata refreshed, which is
+    // done for all of them at once after the version changes are applied.
+    val unchangedVersionSourceDefinitions = mutableListOf<StandardSourceDefinition>()
+    val unchangedVersionDestinationDefinitions = mutableListOf<StandardDestinationDefinition>()
+    timePhase(ApplyDefinitionsPhase.APPLY_VERSION_CHANGES) {
+      for (def in airbyteCompatibleSourceDefinitions) {
+        applySourceDefinition(
+          actorDefinitionIdsToDefaultVersionsMap,
+          def,
+          actorDefinitionIdsInUse,
+          updateAll,
+          reImportVersionInUse,
+          unchangedVersionSourceDefinitions,
+        )
+      }
+      for (def in airbyteCompatibleDestinationDefinitions) {
+        applyDestinationDefinition(
+          actorDefinitionIdsToDefaultVersionsMap,
+          def,
+          actorDefinitionIdsInUse,
+          updateAll,
+          reImportVersionInUse,
+          unchangedVersionDestinationDefinitions,
+        )
+      }
     }
-    for (def in airbyteCompatibleDestinationDefinitions) {
-      applyDestinationDefinition(actorDefinitionIdsToDefaultVersionsMap, def, actorDefinitionIdsInUse, updateAll, reImportVersionInUse)
+    val updatedDefinitionCount =
+      timePhase(ApplyDefinitionsPhase.UPDATE_UNCHANGED_VERSIONS) {
+        sourceService.updateStandardSourceDefinitions(unchangedVersionSourceDefinitions) +
+          destinationService.updateStandardDestinationDefinitions(unchangedVersionDestinationDefinitions)
+      }
+    timePhase(ApplyDefinitionsPhase.UPDATE_SUPPORT_STATES) {
+      supportStateUpdater.updateSupportStates()
     }
-    supportStateUpdater.updateSupportStates()
     log.info("New connectors added: {}", newConnectorCount)
     log.info("Version changes applied: {}", changedConnectorCount)
+    log.info("Definitions updated without a version change: {}", updatedDefinitionCount)
   }
 
   @Throws(IOException::class, JsonValidationException::class, ConfigNotFoundException::class)
@@ -116,6 +150,7 @@ class ApplyDefinitionsHelper(
     actorDefinitionIdsInUse: Set<UUID>,
     updateAll: Boolean,
     reImportVersionInUse: Boolean,
+    unchangedVersionSourceDefinitions: MutableList<StandardSourceDefinition>,
   ) {
     // Skip and log if unable to parse registry entry.
     val newSourceDef: StandardSourceDefinition
@@ -191,7 +226,7 @@ class ApplyDefinitionsHelper(
         trackDefinitionProcessed(newDef.dockerRepository, newDef.dockerImageTag, DefinitionProcessingSuccessOutcome.REFRESH_VERSION)
       }
     } else {
-      sourceService.updateStandardSourceDefinition(newSourceDef)
+      unchangedVersionSourceDefinitions.add(newSourceDef)
       trackDefinitionProcessed(newDef.dockerRepository, newDef.dockerImageTag, DefinitionProcessingSuccessOutcome.VERSION_UNCHANGED)
     }
 
@@ -242,6 +277,7 @@ class ApplyDefinitionsHelper(
     actorDefinitionIdsInUse: Set<UUID>,
     updateAll: Boolean,
     reImportVersionInUse: Boolean,
+    unchangedVersionDestinationDefinitions: MutableList<StandardDestinationDefinition>,
   ) {
     // Skip and log if unable to parse registry entry.
     val newDestinationDef: StandardDestinationDefinition
@@ -317,7 +353,7 @@ class ApplyDefinitionsHelper(
         trackDefinitionProcessed(newDef.dockerRepository, newDef.dockerImageTag, DefinitionProcessingSuccessOutcome.DEFAULT_VERSION_UPDATED)
       }
     } else {
-      destinationService.updateStandardDestinationDefinition(newDestinationDef)
+      unchangedVersionDestinationDefinitions.add(newDestinationDef)
       trackDefinitionProcessed(newDef.dockerRepository, newDef.dockerImageTag, DefinitionProcessingSuccessOutcome.VERSION_UNCHANGED)
     }
 
@@ -426,6 +462,22 @@ class ApplyDefinitionsHelper(
     return protocolVersionRange.isSupported(AirbyteProtocolVersion.getWithDefault(protocolVersion))
   }
 
+  private fun <T> timePhase(
+    phase: ApplyDefinitionsPhase,
+    block: () -> T,
+  ): T {
+    val start = System.currentTimeMillis()
+    try {
+      return block()
+    } finally {
+      metricClient.distribution(
+        OssMetricsRegistry.APPLY_DEFINITIONS_PHASE_DURATION_MS,
+        (System.currentTimeMillis() - start).toDouble(),
+        *getPhaseMetricAttributes(phase),
+      )
+    }
+  }
+
   private fun trackDefinitionProcessed(
     dockerRepository: String,
     dockerImageTag: String,
@@ -95,10 +95,11 @@ internal class ApplyDefinitionsHelperTest {
 
   private fun mockVoidReturningFunctions() {
     justRun { sourceService.writeConnectorMetadata(any(), any(), any()) }
-    justRun { sourceService.updateStandardSourceDefinition(any()) }
     justRun { destinationService.writeConnectorMetadata(any(), any(), any()) }
-    justRun { destinationService.updateStandardDestinationDefinition(any()) }
+    every { sourceService.updateStandardSourceDefinitions(any()) } returns 0
+    every { destinationService.updateStandardDestinationDefinitions(any()) } returns 0
     justRun { metricClient.count(any(), any(), *anyVararg<MetricAttribute>()) }
+    justRun { metricClient.distribution(any(), any(), *anyVararg<MetricAttribute>()) }
     justRun { supportStateUpdater.updateSupportStates() }
   }
 
@@ -116,6 +117,17 @@ internal class ApplyDefinitionsHelperTest {
   private fun verifyActorDefinitionServiceInteractions() {
     verify { actorDefinitionService.actorDefinitionIdsToDefaultVersionsMap }
     verify { actorDefinitionService.actorDefinitionIdsInUse }
+    verify { sourceService.updateStandardSourceDefinitions(any()) }
+    verify { destinationService.updateStandardDestinationDefinitions(any()) }
+    ApplyDefinitionMetricsHelper.ApplyDefinitionsPhase.entries.forEach { phase ->
+      verify {
+        metricClient.distribution(
+          OssMetricsRegistry.APPLY_DEFINITIONS_PHASE_DURATION_MS,
+          any(),
+          MetricAttribute("phase", phase.toString()),
+        )
+      }
+    }
   }
 
   @ParameterizedTest
@@ -446,10 +458,12 @@ internal class ApplyDefinitionsHelperTest {
         }
       }
     } else if (!reImport) {
-      verify { sourceService.updateStandardSourceDefinition(ConnectorRegistryConverters.toStandardSourceDefinition(SOURCE_POSTGRES_2)) }
       verify {
-        destinationService.updateStandardDestinationDefinition(
-          ConnectorRegistryConverters.toStandardDestinationDefinition(DESTINATION_S3_2),
+        sourceService.updateStandardSourceDefinitions(listOf(ConnectorRegistryConverters.toStandardSourceDefinition(SOURCE_POSTGRES_2)))
+      }
+      verify {
+        destinationService.updateStandardDestinationDefinitions(
+          listOf(ConnectorRegistryConverters.toStandardDestinationDefinition(DESTINATION_S3_2)),
         )
       }
       verify(exactly = 2) {
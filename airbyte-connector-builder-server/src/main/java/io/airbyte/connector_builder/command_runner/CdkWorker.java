@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.command_runner;
+
+import io.airbyte.commons.io.IOs;
+import io.airbyte.connector_builder.exceptions.CdkProcessException;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A long-lived CDK process serving requests one at a time over the line-delimited protocol of
+ * `cdk_worker.py`: one JSON request per line on stdin, one JSON response per line on stdout.
+ */
+class CdkWorker implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(CdkWorker.class);
+
+  private final Process process;
+  private final BufferedWriter stdin;
+  private final BufferedReader stdout;
+  private int requestCount;
+  private long lastUsedNanos;
+
+  CdkWorker(final Process process) {
+    this.process = process;
+    this.stdin = new BufferedWriter(new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8));
+    this.stdout = IOs.newBufferedReader(process.getInputStream());
+    this.lastUsedNanos = System.nanoTime();
+
+    final Thread stderrDrainer = new Thread(this::drainStderr, "cdk-worker-stderr-" + process.pid());
+    stderrDrainer.setDaemon(true);
+    stderrDrainer.start();
+  }
+
+  /**
+   * Wait for the worker to report that the CDK has been imported and that it can take requests.
+   */
+  void awaitReady(final Duration timeout, final ScheduledExecutorService scheduler) throws IOException {
+    final ScheduledFuture<?> killer = scheduler.schedule(process::destroyForcibly, timeout.toMillis(), TimeUnit.MILLISECONDS);
+    try {
+      if (stdout.readLine() == null) {
+        throw new CdkProcessException(killer.isDone()
+            ? String.format("CDK worker did not start within %s.", timeout)
+            : String.format("CDK worker exited on startup with exit code %d.", process.waitFor()));
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CdkProcessException("Interrupted while starting CDK worker.");
+    } finally {
+      killer.cancel(false);
+    }
+  }
+
+  /**
+   * Send a request and wait for its response. The worker is killed if it doesn't respond within the
+   * timeout, in which case it can't be reused.
+   */
+  String send(final String request, final Duration timeout, final ScheduledExecutorService scheduler) throws IOException {
+    requestCount++;
+    final ScheduledFuture<?> killer = scheduler.schedule(process::destroyForcibly, timeout.toMillis(), TimeUnit.MILLISECONDS);
+    try {
+      stdin.write(request);
+      stdin.newLine();
+      stdin.flush();
+      final String response = stdout.readLine();
+      if (response == null) {
+        throw new CdkProcessException(killer.isDone()
+            ? String.format("CDK worker did not respond within %s.", timeout)
+            : "CDK worker exited before responding.");
+      }
+      return response;
+    } finally {
+      killer.cancel(false);
+      lastUsedNanos = System.nanoTime();
+    }
+  }
+
+  boolean isAlive() {
+    return process.isAlive();
+  }
+
+  int getRequestCount() {
+    return requestCount;
+  }
+
+  Duration getIdleTime() {
+    return Duration.ofNanos(System.nanoTime() - lastUsedNanos);
+  }
+
+  /**
+   * Closing stdin asks the worker to exit once it's done with the current request; it's killed if it
+   * doesn't.
+   */
+  @Override
+  public void close() {
+    try {
+      stdin.close();
+    } catch (final IOException e) {
+      LOGGER.debug("Failed to close stdin of CDK worker {}.", process.pid(), e);
+    }
+    process.destroy();
+  }
+
+  private void drainStderr() {
+    try (final BufferedReader stderr = IOs.newBufferedReader(process.getErrorStream())) {
+      String line;
+      while ((line = stderr.readLine()) != null) {
+        LOGGER.debug("CDK worker {}: {}", process.pid(), line);
+      }
+    } catch (final IOException e) {
+      LOGGER.debug("Stopped reading stderr of CDK worker {}.", process.pid(), e);
+    }
+  }
+
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.command_runner;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.airbyte.connector_builder.exceptions.ConnectorBuilderException;
+import io.airbyte.metrics.lib.MetricAttribute;
+import io.airbyte.metrics.lib.MetricClient;
+import io.airbyte.metrics.lib.MetricTags;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pool of pre-warmed CDK workers.
+ * <p>
+ * At most `maxWorkers` requests are served at once; further requests wait up to `acquireTimeout`
+ * for a worker. `minIdleWorkers` workers are kept warm, idle workers above that are shut down after
+ * `idleTimeout`, and each worker is replaced after `maxRequestsPerWorker` requests so that state
+ * leaked by custom components doesn't accumulate.
+ */
+public class CdkWorkerPool implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(CdkWorkerPool.class);
+
+  static final String RETIRED_FAILED = "failed";
+  static final String RETIRED_IDLE = "idle";
+  static final String RETIRED_MAX_REQUESTS = "max_requests";
+
+  private final ProcessBuilder processBuilder;
+  private final int minIdleWorkers;
+  private final int maxWorkers;
+  private final int maxRequestsPerWorker;
+  private final Duration idleTimeout;
+  private final Duration startupTimeout;
+  private final Duration requestTimeout;
+  private final Duration acquireTimeout;
+  private final MetricClient metricClient;
+
+  private final Semaphore permits;
+  // Workers are taken from and returned to the head, so that the ones at the tail are the ones idle
+  // for the longest.
+  private final BlockingDeque<CdkWorker> idleWorkers = new LinkedBlockingDeque<>();
+  private final AtomicInteger liveWorkers = new AtomicInteger();
+  private final AtomicInteger inFlightRequests = new AtomicInteger();
+  private final ScheduledExecutorService scheduler;
+  private volatile boolean closed;
+
+  public CdkWorkerPool(final ProcessBuilder processBuilder,
+                       final int minIdleWorkers,
+                       final int maxWorkers,
+                       final int maxRequestsPerWorker,
+                       final Duration idleTimeout,
+                       final Duration startupTimeout,
+                       final Duration requestTimeout,
+                       final Duration acquireTimeout,
+                       final MetricClient metricClient) {
+    this.processBuilder = processBuilder;
+    this.minIdleWorkers = Math.min(minIdleWorkers, maxWorkers);
+    this.maxWorkers = maxWorkers;
+    this.maxRequestsPerWorker = maxRequestsPerWorker;
+    this.idleTimeout = idleTimeout;
+    this.startupTimeout = startupTimeout;
+    this.requestTimeout = requestTimeout;
+    this.acquireTimeout = acquireTimeout;
+    this.metricClient = metricClient;
+    this.permits = new Semaphore(maxWorkers, true);
+    // One thread maintains the pool while the other enforces timeouts, which must not wait for a
+    // worker to start.
+    this.scheduler = Executors.newScheduledThreadPool(2, new ThreadFactoryBuilder().setDaemon(true).setNameFormat("cdk-worker-pool-%d").build());
+
+    final long maintenanceIntervalMs = Math.max(1000, idleTimeout.toMillis() / 2);
+    this.scheduler.scheduleWithFixedDelay(this::maintain, 0, maintenanceIntervalMs, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Serve a request with a pooled worker and return the worker's response.
+   */
+  public String execute(final String cdkCommand, final String request) throws IOException {
+    final long start = System.nanoTime();
+    acquirePermit();
+    inFlightRequests.incrementAndGet();
+    reportUtilization();
+
+    CdkWorker worker = null;
+    boolean succeeded = false;
+    try {
+      worker = borrow();
+      final String response = worker.send(request, requestTimeout, scheduler);
+      succeeded = true;
+      return response;
+    } finally {
+      if (worker != null) {
+        giveBack(worker, succeeded);
+      }
+      inFlightRequests.decrementAndGet();
+      permits.release();
+      metricClient.distribution(OssMetricsRegistry.CDK_WORKER_REQUEST_DURATION_MS,
+          TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+          new MetricAttribute(MetricTags.CDK_COMMAND, cdkCommand),
+          new MetricAttribute(MetricTags.SUCCESS, String.valueOf(succeeded)));
+      reportUtilization();
+    }
+  }
+
+  private void acquirePermit() {
+    try {
+      if (!permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+        throw new ConnectorBuilderException(
+            String.format("All %d CDK workers are busy and none became available within %s.", maxWorkers, acquireTimeout));
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ConnectorBuilderException("Interrupted while waiting for a CDK worker.", e);
+    }
+  }
+
+  private CdkWorker borrow() throws IOException {
+    CdkWorker worker;
+    while ((worker = idleWorkers.pollFirst()) != null) {
+      if (worker.isAlive()) {
+        return worker;
+      }
+      retire(worker, RETIRED_FAILED);
+    }
+    return spawn();
+  }
+
+  private void giveBack(final CdkWorker worker, final boolean succeeded) {
+    if (closed) {
+      retire(worker, RETIRED_IDLE);
+    } else if (!succeeded || !worker.isAlive()) {
+      retire(worker, RETIRED_FAILED);
+    } else if (worker.getRequestCount() >= maxRequestsPerWorker) {
+      retire(worker, RETIRED_MAX_REQUESTS);
+    } else {
+      idleWorkers.offerFirst(worker);
+    }
+  }
+
+  private CdkWorker spawn() throws IOException {
+    final CdkWorker worker = new CdkWorker(processBuilder.start());
+    liveWorkers.incrementAndGet();
+    try {
+      worker.awaitReady(startupTimeout, scheduler);
+    } catch (final IOException | RuntimeException e) {
+      retire(worker, RETIRED_FAILED);
+      throw e;
+    }
+    return worker;
+  }
+
+  private void retire(final CdkWorker worker, final String reason) {
+    worker.close();
+    liveWorkers.decrementAndGet();
+    metricClient.count(OssMetricsRegistry.CDK_WORKERS_RETIRED, 1, new MetricAttribute(MetricTags.CDK_WORKER_RETIRE_REASON, reason));
+  }
+
+  /**
+   * Shut down the workers idle for too long, then start workers until `minIdleWorkers` are idle.
+   */
+  private void maintain() {
+    try {
+      final Iterator<CdkWorker> oldestFirst = idleWorkers.descendingIterator();
+      while (oldestFirst.hasNext() && idleWorkers.size() > minIdleWorkers) {
+        final CdkWorker worker = oldestFirst.next();
+        if (worker.getIdleTime().compareTo(idleTimeout) > 0 && idleWorkers.removeLastOccurrence(worker)) {
+          retire(worker, RETIRED_IDLE);
+        }
+      }
+      while (!closed && idleWorkers.size() < minIdleWorkers && liveWorkers.get() < maxWorkers) {
+        idleWorkers.offerLast(spawn());
+      }
+    } catch (final Exception e) {
+      LOGGER.warn("Failed to maintain the pool of CDK workers.", e);
+    } finally {
+      reportUtilization();
+    }
+  }
+
+  private void reportUtilization() {
+    metricClient.gauge(OssMetricsRegistry.CDK_WORKER_POOL_IN_FLIGHT_REQUESTS, inFlightRequests.get());
+    metricClient.gauge(OssMetricsRegistry.CDK_WORKER_POOL_WORKERS, liveWorkers.get());
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    scheduler.shutdownNow();
+    CdkWorker worker;
+    while ((worker = idleWorkers.pollFirst()) != null) {
+      retire(worker, RETIRED_IDLE);
+    }
+  }
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.command_runner;
+
+import datadog.trace.api.Trace;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.connector_builder.TracingHelper;
+import io.airbyte.connector_builder.exceptions.CdkUnknownException;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Communicates with the CDK's Connector Builder handler through a pool of long-lived Python
+ * workers, instead of launching a Python process per request.
+ */
+public class PooledPythonCdkCommandRunner implements SynchronousCdkCommandRunner {
+
+  private final CdkWorkerPool pool;
+
+  public PooledPythonCdkCommandRunner(final CdkWorkerPool pool) {
+    this.pool = pool;
+  }
+
+  @Override
+  @Trace(operationName = TracingHelper.CONNECTOR_BUILDER_OPERATION_NAME)
+  public AirbyteRecordMessage runCommand(
+                                         final String cdkCommand,
+                                         final String configContents,
+                                         final String catalogContents,
+                                         final String stateContents)
+      throws IOException {
+    final String request = Jsons.serialize(Map.of(
+        "config", configContents,
+        "catalog", catalogContents,
+        "state", stateContents));
+    final String response = pool.execute(cdkCommand, request);
+
+    final AirbyteMessage message;
+    try {
+      message = Jsons.deserialize(response, AirbyteMessage.class);
+    } catch (final RuntimeException e) {
+      throw new CdkUnknownException(String.format("The CDK command `%s` returned a malformed response: %s", cdkCommand, response));
+    }
+    if (message.getType() == AirbyteMessage.Type.RECORD) {
+      return message.getRecord();
+    }
+    if (message.getType() == AirbyteMessage.Type.TRACE) {
+      throw ProcessOutputParser.toInvalidInputException(message.getTrace());
+    }
+    throw new CdkUnknownException(
+        String.format("The CDK command `%s` completed properly but returned a %s message instead of a record.", cdkCommand, message.getType()));
+  }
+
+}
@@ -71,17 +71,20 @@ public class ProcessOutputParser {
         .findFirst();
 
     if (trace.isPresent()) {
-      final AirbyteTraceMessage traceMessage = trace.get();
-      LOGGER.debug(
-          "Error response from CDK: {}\n{}",
-          traceMessage.getError().getMessage(),
-          traceMessage.getError().getStackTrace());
-      throw new AirbyteCdkInvalidInputException(
-          String.format("AirbyteTraceMessage response from CDK: %s", traceMessage.getError().getMessage()), traceMessage);
+      throw toInvalidInputException(trace.get());
     }
     throw generateError(process, cdkCommand);
   }
 
+  static AirbyteCdkInvalidInputException toInvalidInputException(final AirbyteTraceMessage traceMessage) {
+    LOGGER.debug(
+        "Error response from CDK: {}\n{}",
+        traceMessage.getError().getMessage(),
+        traceMessage.getError().getStackTrace());
+    return new AirbyteCdkInvalidInputException(
+        String.format("AirbyteTraceMessage response from CDK: %s", traceMessage.getError().getMessage()), traceMessage);
+  }
+
   private void throwCdkException(final Process process, final String cdkCommand) {
     throw generateError(process, cdkCommand);
   }
@@ -6,17 +6,31 @@ package io.airbyte.connector_builder.config;
 
 import com.google.common.io.Resources;
 import io.airbyte.commons.envvar.EnvVar;
+import io.airbyte.connector_builder.command_runner.CdkWorkerPool;
+import io.airbyte.connector_builder.command_runner.PooledPythonCdkCommandRunner;
 import io.airbyte.connector_builder.command_runner.SynchronousCdkCommandRunner;
 import io.airbyte.connector_builder.command_runner.SynchronousPythonCdkCommandRunner;
 import io.airbyte.connector_builder.exceptions.ConnectorBuilderException;
 import io.airbyte.connector_builder.file_writer.AirbyteFileWriterImpl;
+import io.airbyte.metrics.lib.MetricClient;
+import io.airbyte.metrics.lib.MetricClientFactory;
+import io.airbyte.metrics.lib.MetricEmittingApps;
 import io.airbyte.workers.internal.VersionedAirbyteStreamFactory;
+import io.micronaut.context.annotation.Bean;
 import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Value;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -45,10 +59,14 @@ public class ApplicationBeanFactory {
   }
 
   /**
-   * Defines the instantiation of the SynchronousPythonCdkCommandRunner.
+   * Defines the instantiation of the SynchronousCdkCommandRunner. Requests are served by the pool of
+   * CDK workers when it is enabled, and by a new Python process per request otherwise.
    */
   @Singleton
-  public SynchronousCdkCommandRunner synchronousPythonCdkCommandRunner() {
+  public SynchronousCdkCommandRunner synchronousPythonCdkCommandRunner(final Optional<CdkWorkerPool> cdkWorkerPool) {
+    if (cdkWorkerPool.isPresent()) {
+      return new PooledPythonCdkCommandRunner(cdkWorkerPool.get());
+    }
     return new SynchronousPythonCdkCommandRunner(
         new AirbyteFileWriterImpl(),
         // This should eventually be constructed via DI.
@@ -58,6 +76,45 @@ public class ApplicationBeanFactory {
         this.getPythonPath());
   }
 
+  /**
+   * Defines the pool of long-lived CDK workers, each running `cdk_worker.py` on top of the CDK
+   * entrypoint.
+   */
+  @Singleton
+  @Bean(preDestroy = "close")
+  @Requires(property = "airbyte.connector-builder-server.cdk-worker-pool.enabled",
+            value = "true")
+  public CdkWorkerPool cdkWorkerPool(
+                                     @Value("${airbyte.connector-builder-server.cdk-worker-pool.min-idle-workers}") final int minIdleWorkers,
+                                     @Value("${airbyte.connector-builder-server.cdk-worker-pool.max-workers}") final int maxWorkers,
+                                     @Value("${airbyte.connector-builder-server.cdk-worker-pool.max-requests-per-worker}") final int maxRequestsPerWorker,
+                                     @Value("${airbyte.connector-builder-server.cdk-worker-pool.idle-timeout}") final Duration idleTimeout,
+                                     @Value("${airbyte.connector-builder-server.cdk-worker-pool.startup-timeout}") final Duration startupTimeout,
+                                     @Value("${airbyte.connector-builder-server.cdk-worker-pool.request-timeout}") final Duration requestTimeout,
+                                     @Value("${airbyte.connector-builder-server.cdk-worker-pool.acquire-timeout}") final Duration acquireTimeout,
+                                     final MetricClient metricClient)
+      throws IOException {
+    final ProcessBuilder processBuilder = new ProcessBuilder(this.getPython(), extractCdkWorkerScript().toString(), this.getCdkEntrypoint());
+    processBuilder.environment().put("PYTHONPATH", this.getPythonPath());
+    return new CdkWorkerPool(processBuilder, minIdleWorkers, maxWorkers, maxRequestsPerWorker, idleTimeout, startupTimeout, requestTimeout,
+        acquireTimeout, metricClient);
+  }
+
+  private static Path extractCdkWorkerScript() throws IOException {
+    final Path script = Files.createTempFile("cdk_worker", ".py");
+    script.toFile().deleteOnExit();
+    try (final InputStream resource = Resources.getResource("cdk_worker.py").openStream()) {
+      Files.copy(resource, script, StandardCopyOption.REPLACE_EXISTING);
+    }
+    return script;
+  }
+
+  @Singleton
+  public MetricClient metricClient() {
+    MetricClientFactory.initialize(MetricEmittingApps.CONNECTOR_BUILDER_SERVER);
+    return MetricClientFactory.getMetricClient();
+  }
+
   private String getPythonPath() {
     final String pathToConnectors = getPathToConnectors();
     final List<String> subdirectories = listSubdirectories(pathToConnectors);
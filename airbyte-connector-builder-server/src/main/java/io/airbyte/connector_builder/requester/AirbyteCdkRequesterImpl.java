@@ -22,10 +22,13 @@ import io.airbyte.connector_builder.command_runner.SynchronousCdkCommandRunner;
 import io.airbyte.connector_builder.exceptions.AirbyteCdkInvalidInputException;
 import io.airbyte.connector_builder.exceptions.CdkProcessException;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.micronaut.context.annotation.Value;
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -65,9 +68,20 @@ public class AirbyteCdkRequesterImpl implements AirbyteCdkRequester {
   private static final Logger LOGGER = LoggerFactory.getLogger(AirbyteCdkRequesterImpl.class);
 
   private final SynchronousCdkCommandRunner commandRunner;
+  private final ResolvedManifestCache resolvedManifestCache;
+  private final boolean useResolvedManifestForTestRead;
 
   public AirbyteCdkRequesterImpl(final SynchronousCdkCommandRunner commandRunner) {
+    this(commandRunner, ResolvedManifestCache.disabled(), false);
+  }
+
+  @Inject
+  public AirbyteCdkRequesterImpl(final SynchronousCdkCommandRunner commandRunner,
+                                 final ResolvedManifestCache resolvedManifestCache,
+                                 @Value("${airbyte.connector-builder-server.manifest-cache.use-for-test-read}") final boolean useResolvedManifestForTestRead) {
     this.commandRunner = commandRunner;
+    this.resolvedManifestCache = resolvedManifestCache;
+    this.useResolvedManifestForTestRead = useResolvedManifestForTestRead;
   }
 
   /**
@@ -86,7 +100,11 @@ public class AirbyteCdkRequesterImpl implements AirbyteCdkRequester {
     if (stream == null) {
       throw new AirbyteCdkInvalidInputException("Missing required `stream` field.");
     }
-    final AirbyteRecordMessage record = request(manifest, config, state, readStreamCommand, stream, recordLimit, pageLimit, sliceLimit);
+    // A manifest that was already resolved doesn't need its references to be resolved again.
+    final JsonNode manifestToRead = useResolvedManifestForTestRead
+        ? resolvedManifestCache.get(manifest, readStreamCommand).orElse(manifest)
+        : manifest;
+    final AirbyteRecordMessage record = request(manifestToRead, config, state, readStreamCommand, stream, recordLimit, pageLimit, sliceLimit);
     return recordToResponse(record);
   }
 
@@ -113,8 +131,14 @@ public class AirbyteCdkRequesterImpl implements AirbyteCdkRequester {
   @Trace(operationName = TracingHelper.CONNECTOR_BUILDER_OPERATION_NAME)
   public ResolveManifest resolveManifest(final JsonNode manifest)
       throws IOException, AirbyteCdkInvalidInputException, CdkProcessException {
+    final Optional<JsonNode> cachedManifest = resolvedManifestCache.get(manifest, resolveManifestCommand);
+    if (cachedManifest.isPresent()) {
+      return new ResolveManifest().manifest(cachedManifest.get());
+    }
     final AirbyteRecordMessage record = request(manifest, CONFIG_NODE, resolveManifestCommand);
-    return new ResolveManifest().manifest(record.getData().get("manifest"));
+    final JsonNode resolvedManifest = record.getData().get("manifest");
+    resolvedManifestCache.put(manifest, resolvedManifest);
+    return new ResolveManifest().manifest(resolvedManifest);
   }
 
   /**
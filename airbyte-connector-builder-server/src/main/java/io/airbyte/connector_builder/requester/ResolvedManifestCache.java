@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.requester;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.metrics.lib.MetricAttribute;
+import io.airbyte.metrics.lib.MetricClient;
+import io.airbyte.metrics.lib.MetricTags;
+import io.airbyte.metrics.lib.NotImplementedMetricClient;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
+import io.micronaut.context.annotation.Value;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded LRU cache of manifests resolved by the CDK, keyed by a hash of the manifest that doesn't
+ * depend on the order of its fields. Resolving a manifest doesn't depend on the config, so the
+ * manifest alone identifies the result.
+ * <p>
+ * The cache is bounded by the approximate size of the resolved manifests, in bytes of their JSON
+ * serialization.
+ */
+@Singleton
+public class ResolvedManifestCache {
+
+  private final Cache<HashCode, Entry> cache;
+  private final AtomicLong sizeBytes = new AtomicLong();
+  private final MetricClient metricClient;
+
+  private record Entry(JsonNode resolvedManifest, int sizeBytes) {}
+
+  @Inject
+  public ResolvedManifestCache(@Value("${airbyte.connector-builder-server.manifest-cache.max-size-bytes}") final long maxSizeBytes,
+                               @Value("${airbyte.connector-builder-server.manifest-cache.expire-after-access}") final Duration expireAfterAccess,
+                               final MetricClient metricClient) {
+    this.metricClient = metricClient;
+    this.cache = maxSizeBytes <= 0
+        ? null
+        : CacheBuilder.newBuilder()
+            .maximumWeight(maxSizeBytes)
+            .<HashCode, Entry>weigher((key, entry) -> entry.sizeBytes())
+            .expireAfterAccess(expireAfterAccess)
+            .removalListener((RemovalNotification<HashCode, Entry> notification) -> sizeBytes.addAndGet(-notification.getValue().sizeBytes()))
+            .build();
+  }
+
+  /**
+   * A cache that never holds anything.
+   */
+  public static ResolvedManifestCache disabled() {
+    return new ResolvedManifestCache(0, Duration.ZERO, new NotImplementedMetricClient());
+  }
+
+  /**
+   * Look up the resolved form of a manifest. The returned node is shared and must not be mutated.
+   *
+   * @param manifest the manifest as sent by the client
+   * @param cdkCommand the command the lookup is made for, to tag metrics
+   */
+  public Optional<JsonNode> get(final JsonNode manifest, final String cdkCommand) {
+    if (cache == null) {
+      return Optional.empty();
+    }
+    final Entry entry = cache.getIfPresent(canonicalHash(manifest));
+    metricClient.count(entry == null ? OssMetricsRegistry.RESOLVED_MANIFEST_CACHE_MISSES : OssMetricsRegistry.RESOLVED_MANIFEST_CACHE_HITS, 1,
+        new MetricAttribute(MetricTags.CDK_COMMAND, cdkCommand));
+    reportSize();
+    return Optional.ofNullable(entry).map(Entry::resolvedManifest);
+  }
+
+  public void put(final JsonNode manifest, final JsonNode resolvedManifest) {
+    if (cache == null || resolvedManifest == null) {
+      return;
+    }
+    final Entry entry = new Entry(resolvedManifest, Jsons.serialize(resolvedManifest).getBytes(StandardCharsets.UTF_8).length);
+    sizeBytes.addAndGet(entry.sizeBytes());
+    cache.put(canonicalHash(manifest), entry);
+    reportSize();
+  }
+
+  private void reportSize() {
+    metricClient.gauge(OssMetricsRegistry.RESOLVED_MANIFEST_CACHE_ENTRIES, cache.size());
+    metricClient.gauge(OssMetricsRegistry.RESOLVED_MANIFEST_CACHE_SIZE_BYTES, sizeBytes.get());
+  }
+
+  @VisibleForTesting
+  long getSizeBytes() {
+    return sizeBytes.get();
+  }
+
+  /**
+   * Hash a JSON document such that documents that only differ by the order of their object fields
+   * have the same hash.
+   */
+  @VisibleForTesting
+  static HashCode canonicalHash(final JsonNode node) {
+    final Hasher hasher = Hashing.sha256().newHasher();
+    putCanonical(hasher, Jsons.deserializeIfText(node));
+    return hasher.hash();
+  }
+
+  private static void putCanonical(final Hasher hasher, final JsonNode node) {
+    if (node.isObject()) {
+      final List<String> fieldNames = new ArrayList<>();
+      node.fieldNames().forEachRemaining(fieldNames::add);
+      fieldNames.sort(null);
+      hasher.putChar('{').putInt(fieldNames.size());
+      for (final String fieldName : fieldNames) {
+        hasher.putInt(fieldName.length()).putString(fieldName, StandardCharsets.UTF_8);
+        putCanonical(hasher, node.get(fieldName));
+      }
+    } else if (node.isArray()) {
+      hasher.putChar('[').putInt(node.size());
+      final Iterator<JsonNode> elements = node.elements();
+      while (elements.hasNext()) {
+        putCanonical(hasher, elements.next());
+      }
+    } else {
+      final String value = node.toString();
+      hasher.putChar('=').putInt(value.length()).putString(value, StandardCharsets.UTF_8);
+    }
+  }
+
+}
@@ -0,0 +1,77 @@
+#
+# Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+#
+
+"""
+Long-lived worker serving requests of the connector builder server.
+
+Starting the interpreter and importing the CDK dominate the latency of a one-shot run of the CDK's
+connector builder entrypoint, so this worker imports the entrypoint once and then serves requests
+read from stdin until stdin is closed. Each message is a single line of JSON:
+
+  ready:    {"status": "ready"}, written once the entrypoint has been imported
+  request:  {"config": "...", "catalog": "...", "state": "..."}
+  response: the AirbyteMessage returned by the entrypoint for the request
+
+Anything printed by the CDK or by custom components goes to stderr, so that stdout only carries
+responses.
+
+Usage: python cdk_worker.py <path to airbyte_cdk/connector_builder/main.py>
+"""
+
+import importlib.util
+import json
+import os
+import sys
+import tempfile
+
+
+def load_entrypoint(path):
+    spec = importlib.util.spec_from_file_location("connector_builder_main", path)
+    module = importlib.util.module_from_spec(spec)
+    spec.loader.exec_module(module)
+    return module
+
+
+def handle_request(entrypoint, request):
+    with tempfile.TemporaryDirectory() as directory:
+        args = ["read"]
+        for name in ("config", "catalog", "state"):
+            path = os.path.join(directory, f"{name}.json")
+            with open(path, "w") as f:
+                f.write(request.get(name) or "")
+            args += [f"--{name}", path]
+        return entrypoint.handle_request(args)
+
+
+def error_response(entrypoint, exc):
+    from airbyte_cdk.utils.traced_exception import AirbyteTracedException
+
+    message = AirbyteTracedException.from_exception(exc, message=f"Error handling request: {exc}").as_airbyte_message()
+    serializer = getattr(entrypoint, "AirbyteMessageSerializer", None)
+    if serializer is not None:
+        return json.dumps(serializer.dump(message))
+    return message.json(exclude_unset=True)
+
+
+def main():
+    responses = sys.stdout
+    sys.stdout = sys.stderr
+    entrypoint = load_entrypoint(sys.argv[1])
+
+    responses.write(json.dumps({"status": "ready"}) + "\n")
+    responses.flush()
+    for line in sys.stdin:
+        if not line.strip():
+            continue
+        try:
+            response = handle_request(entrypoint, json.loads(line))
+        except Exception as exc:
+            response = error_response(entrypoint, exc)
+        # Responses are framed by newlines, which JSON only allows as whitespace.
+        responses.write(response.replace("\n", " ") + "\n")
+        responses.flush()
+
+
+if __name__ == "__main__":
+    main()
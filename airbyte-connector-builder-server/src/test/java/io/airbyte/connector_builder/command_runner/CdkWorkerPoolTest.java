@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.command_runner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.airbyte.connector_builder.exceptions.CdkProcessException;
+import io.airbyte.metrics.lib.NotImplementedMetricClient;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.io.IOException;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class CdkWorkerPoolTest {
+
+  // Answers each request with the pid of the worker, so that tests can tell workers apart.
+  private static final String ANSWER_WITH_PID = "while read line; do echo $$; done";
+  private static final String PID_WORKER = "echo ready; " + ANSWER_WITH_PID;
+  private static final String COMMAND = "test_read";
+
+  @Test
+  void testWorkerIsReused() throws IOException {
+    try (final CdkWorkerPool pool = createPool(PID_WORKER, 10)) {
+      assertEquals(pool.execute(COMMAND, "{}"), pool.execute(COMMAND, "{}"));
+    }
+  }
+
+  @Test
+  void testWorkerIsRecycledAfterMaxRequests() throws IOException {
+    try (final CdkWorkerPool pool = createPool(PID_WORKER, 1)) {
+      assertNotEquals(pool.execute(COMMAND, "{}"), pool.execute(COMMAND, "{}"));
+    }
+  }
+
+  @Test
+  void testCrashedWorkerIsReplaced() throws IOException {
+    // The first worker exits without answering; the ones started after it answer normally.
+    final String marker = System.getProperty("java.io.tmpdir") + "/cdk-worker-pool-test-" + System.nanoTime();
+    final String worker = String.format("echo ready; if [ ! -f %1$s ]; then touch %1$s; read line; exit 1; fi; %2$s", marker, ANSWER_WITH_PID);
+    try (final CdkWorkerPool pool = createPool(worker, 10)) {
+      assertThrows(CdkProcessException.class, () -> pool.execute(COMMAND, "{}"));
+      assertEquals(pool.execute(COMMAND, "{}"), pool.execute(COMMAND, "{}"));
+    }
+  }
+
+  @Test
+  void testPooledRunnerReturnsRecord() throws IOException {
+    final String record = "{\"type\":\"RECORD\",\"record\":{\"stream\":\"s\",\"data\":{\"manifest\":{}},\"emitted_at\":1}}";
+    try (final CdkWorkerPool pool = createPool(String.format("echo ready; while read line; do echo '%s'; done", record), 10)) {
+      final AirbyteRecordMessage result = new PooledPythonCdkCommandRunner(pool).runCommand("resolve_manifest", "{}", "", "");
+      assertEquals("s", result.getStream());
+    }
+  }
+
+  private static CdkWorkerPool createPool(final String workerScript, final int maxRequestsPerWorker) {
+    return new CdkWorkerPool(
+        new ProcessBuilder("sh", "-c", workerScript),
+        0,
+        2,
+        maxRequestsPerWorker,
+        Duration.ofMinutes(5),
+        Duration.ofSeconds(10),
+        Duration.ofSeconds(10),
+        Duration.ofSeconds(10),
+        new NotImplementedMetricClient());
+  }
+
+}
@@ -9,6 +9,8 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -17,15 +19,19 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.airbyte.commons.json.Jsons;
 import io.airbyte.connector_builder.api.model.generated.StreamRead;
 import io.airbyte.connector_builder.api.model.generated.StreamReadAuxiliaryRequestsInner;
 import io.airbyte.connector_builder.api.model.generated.StreamReadSlicesInner;
 import io.airbyte.connector_builder.command_runner.SynchronousCdkCommandRunner;
 import io.airbyte.connector_builder.exceptions.AirbyteCdkInvalidInputException;
+import io.airbyte.metrics.lib.NotImplementedMetricClient;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -33,6 +39,7 @@ import org.mockito.ArgumentCaptor;
 class AirbyteCdkRequesterImplTest {
 
   private static final String READ_STREAM_COMMAND = "test_read";
+  private static final String RESOLVE_MANIFEST_COMMAND = "resolve_manifest";
   private static final JsonNode A_CONFIG;
   private static final JsonNode A_MANIFEST;
   private static final List<JsonNode> A_STATE;
@@ -138,6 +145,40 @@ class AirbyteCdkRequesterImplTest {
     assertThrows(AirbyteCdkInvalidInputException.class, () -> requester.readStream(A_MANIFEST, A_CONFIG, A_STATE, null, A_LIMIT, A_LIMIT, A_LIMIT));
   }
 
+  @Test
+  void whenManifestWasResolvedBeforeThenResolveManifestUsesCache() throws Exception {
+    final AirbyteCdkRequesterImpl cachingRequester = new AirbyteCdkRequesterImpl(commandRunner, createCache(), true);
+    final JsonNode resolvedManifest = new ObjectMapper().readTree("{\"resolved\": 1}");
+    when(commandRunner.runCommand(eq(RESOLVE_MANIFEST_COMMAND), any(), any(), any()))
+        .thenReturn(new AirbyteRecordMessage().withData(Jsons.jsonNode(Map.of("manifest", resolvedManifest))));
+
+    assertEquals(resolvedManifest, cachingRequester.resolveManifest(A_MANIFEST).getManifest());
+    // the same manifest with its fields in a different order
+    final JsonNode reorderedManifest = new ObjectMapper().readTree("{\"b\": [1, 2], \"a\": {\"d\": 4, \"c\": 3}}");
+    final JsonNode manifest = new ObjectMapper().readTree("{\"a\": {\"c\": 3, \"d\": 4}, \"b\": [1, 2]}");
+    cachingRequester.resolveManifest(manifest);
+    assertEquals(resolvedManifest, cachingRequester.resolveManifest(reorderedManifest).getManifest());
+    assertEquals(resolvedManifest, cachingRequester.resolveManifest(A_MANIFEST).getManifest());
+
+    verify(commandRunner, times(2)).runCommand(eq(RESOLVE_MANIFEST_COMMAND), any(), any(), any());
+  }
+
+  @Test
+  void whenManifestWasResolvedBeforeThenReadStreamSendsResolvedManifest() throws Exception {
+    requester = new AirbyteCdkRequesterImpl(commandRunner, createCache(), true);
+    final JsonNode resolvedManifest = new ObjectMapper().readTree("{\"resolved\": 1}");
+    when(commandRunner.runCommand(eq(RESOLVE_MANIFEST_COMMAND), any(), any(), any()))
+        .thenReturn(new AirbyteRecordMessage().withData(Jsons.jsonNode(Map.of("manifest", resolvedManifest))));
+    requester.resolveManifest(A_MANIFEST);
+
+    final ArgumentCaptor<String> configCaptor = testReadStreamSuccess(null, null, null);
+    assertEquals(resolvedManifest, new ObjectMapper().readTree(configCaptor.getValue()).get("__injected_declarative_manifest"));
+  }
+
+  private static ResolvedManifestCache createCache() {
+    return new ResolvedManifestCache(1024 * 1024, Duration.ofMinutes(1), new NotImplementedMetricClient());
+  }
+
   @Test
   void whenStateIsNotNullAdaptStateConvertsItDirectlyToString() throws IOException {
     String adaptedState = requester.adaptState(A_STATE);
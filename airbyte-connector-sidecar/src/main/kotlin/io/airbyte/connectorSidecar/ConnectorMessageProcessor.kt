@@ -4,11 +4,11 @@ import com.fasterxml.jackson.databind.JsonNode
 import com.google.common.annotations.VisibleForTesting
 import io.airbyte.api.client.AirbyteApiClient
 import io.airbyte.api.client.model.generated.SourceDiscoverSchemaWriteRequestBody
-import io.airbyte.commons.converters.CatalogClientConverters
 import io.airbyte.commons.converters.ConnectorConfigUpdater
 import io.airbyte.commons.enums.Enums
 import io.airbyte.commons.io.IOs
 import io.airbyte.commons.json.Jsons
+import io.airbyte.commons.storage.ChunkedDocumentStore
 import io.airbyte.config.ActorType
 import io.airbyte.config.ConnectorJobOutput
 import io.airbyte.config.FailureReason
@@ -17,6 +17,7 @@ import io.airbyte.config.StandardCheckConnectionOutput
 import io.airbyte.config.StandardDiscoverCatalogInput
 import io.airbyte.protocol.models.AirbyteCatalog
 import io.airbyte.protocol.models.AirbyteConnectionStatus
+import io.airbyte.protocol.models.AirbyteControlMessage
 import io.airbyte.protocol.models.AirbyteMessage
 import io.airbyte.protocol.models.AirbyteTraceMessage
 import io.airbyte.protocol.models.ConnectorSpecification
@@ -27,12 +28,13 @@ import io.airbyte.workers.helper.FailureHelper.ConnectorCommand
 import io.airbyte.workers.internal.AirbyteStreamFactory
 import io.airbyte.workers.models.SidecarInput.OperationType
 import io.github.oshai.kotlinlogging.KotlinLogging
+import jakarta.inject.Named
 import jakarta.inject.Singleton
 import java.io.IOException
 import java.io.InputStream
+import java.util.EnumMap
 import java.util.Optional
 import java.util.UUID
-import java.util.stream.Collectors
 import javax.naming.OperationNotSupportedException
 
 private val logger = KotlinLogging.logger {}
@@ -41,6 +43,7 @@ private val logger = KotlinLogging.logger {}
 class ConnectorMessageProcessor(
   private val connectorConfigUpdater: ConnectorConfigUpdater,
   private val airbyteApiClient: AirbyteApiClient,
+  @Named("discoveredCatalogStore") private val discoveredCatalogStore: ChunkedDocumentStore,
 ) {
   data class OperationResult(
     val connectionStatus: AirbyteConnectionStatus? = null,
@@ -59,10 +62,29 @@ class ConnectorMessageProcessor(
     input: OperationInput,
     exitCode: Int,
     operationType: OperationType,
+  ): ConnectorJobOutput {
+    val messagesByType =
+      try {
+        getMessagesByType(inputStream, streamFactory, operationType)
+      } catch (e: IOException) {
+        throw WorkerException("Lost connection to the connector", e)
+      } catch (e: Exception) {
+        throw WorkerException("Unexpected error performing $operationType. The exit of the connector was: $exitCode", e)
+      }
+    return run(messagesByType, input, exitCode, operationType)
+  }
+
+  /**
+   * Build the output of the operation from the messages collected by [getMessagesByType].
+   */
+  fun run(
+    messagesByType: Map<AirbyteMessage.Type, List<AirbyteMessage>>,
+    input: OperationInput,
+    exitCode: Int,
+    operationType: OperationType,
   ): ConnectorJobOutput {
     try {
       val jobOutput: ConnectorJobOutput = createBaseOutput(operationType)
-      val messagesByType: Map<AirbyteMessage.Type, List<AirbyteMessage>> = getMessagesByType(inputStream, streamFactory)
       val result =
         when (operationType) {
           OperationType.CHECK -> getConnectionStatus(messagesByType)
@@ -173,12 +195,20 @@ class ConnectorMessageProcessor(
 
       OperationType.DISCOVER ->
         if (result.catalog != null && input.discoveryInput != null) {
-          logger.info { "Writing catalog result to API..." }
-          val apiResult =
-            airbyteApiClient.sourceApi
-              .writeDiscoverCatalogResult(buildSourceDiscoverSchemaWriteRequestBody(input.discoveryInput, result.catalog))
-          logger.info { "Finished writing catalog result to API." }
-          jobOutput.discoverCatalogId = apiResult.catalogId
+          val catalogStorageId = UUID.randomUUID().toString()
+          try {
+            logger.info { "Uploading catalog result to storage..." }
+            uploadCatalog(catalogStorageId, result.catalog)
+            logger.info { "Writing catalog result to API..." }
+            val apiResult =
+              airbyteApiClient.sourceApi
+                .writeDiscoverCatalogResult(buildSourceDiscoverSchemaWriteRequestBody(input.discoveryInput, catalogStorageId))
+            logger.info { "Finished writing catalog result to API." }
+            jobOutput.discoverCatalogId = apiResult.catalogId
+          } finally {
+            // the server has persisted the catalog, or failed to, either way the upload is no longer needed
+            deleteUploadedCatalog(catalogStorageId)
+          }
         } else if (failureReason.isEmpty && exitCode == 0) {
           throw WorkerException("Connector exited successfully without an output for $operationType.")
         } else if (exitCode != 0) {
@@ -208,12 +238,33 @@ class ConnectorMessageProcessor(
       .withFailureOrigin(failureOrigin)
   }
 
+  /**
+   * Upload the catalog to storage one stream per line, in compressed chunks, instead of sending it in the request: a
+   * catalog with thousands of streams does not fit in a request body, nor in the server memory as a whole.
+   */
+  private fun uploadCatalog(
+    catalogStorageId: String,
+    catalog: AirbyteCatalog,
+  ) {
+    discoveredCatalogStore.writer(catalogStorageId).use { writer ->
+      catalog.streams.forEach { stream -> writer.append(Jsons.serialize(stream)) }
+    }
+  }
+
+  private fun deleteUploadedCatalog(catalogStorageId: String) {
+    try {
+      discoveredCatalogStore.delete(catalogStorageId)
+    } catch (e: Exception) {
+      logger.warn(e) { "Failed to delete the uploaded catalog $catalogStorageId" }
+    }
+  }
+
   private fun buildSourceDiscoverSchemaWriteRequestBody(
     discoverSchemaInput: StandardDiscoverCatalogInput,
-    catalog: AirbyteCatalog,
+    catalogStorageId: String,
   ): SourceDiscoverSchemaWriteRequestBody {
     return SourceDiscoverSchemaWriteRequestBody(
-      catalog = CatalogClientConverters.toAirbyteCatalogClientApi(catalog),
+      catalogStorageId = catalogStorageId,
       sourceId = if (discoverSchemaInput.sourceId == null) null else UUID.fromString(discoverSchemaInput.sourceId),
       connectorVersion = if (discoverSchemaInput.connectorVersion == null) "" else discoverSchemaInput.connectorVersion,
       configurationHash = discoverSchemaInput.configHash,
@@ -316,12 +367,35 @@ class ConnectorMessageProcessor(
       }
     }
 
+    /**
+     * Read the connector output as a stream and only keep the messages the operation uses: the first message with
+     * its result, the first error trace and the most recent connector config control message. Everything else, e.g.
+     * logs and records, is dropped as it is read, so the output is never buffered as a whole.
+     */
     fun getMessagesByType(
       inputStream: InputStream,
       streamFactory: AirbyteStreamFactory,
+      operationType: OperationType,
     ): Map<AirbyteMessage.Type, List<AirbyteMessage>> {
-      return streamFactory.create(IOs.newBufferedReader(inputStream))
-        .collect(Collectors.groupingBy { it.type })
+      val resultType =
+        when (operationType) {
+          OperationType.CHECK -> AirbyteMessage.Type.CONNECTION_STATUS
+          OperationType.DISCOVER -> AirbyteMessage.Type.CATALOG
+          OperationType.SPEC -> AirbyteMessage.Type.SPEC
+        }
+      val retainedMessages = EnumMap<AirbyteMessage.Type, AirbyteMessage>(AirbyteMessage.Type::class.java)
+      streamFactory.create(IOs.newBufferedReader(inputStream)).use { messages ->
+        messages.forEach { message ->
+          when {
+            message.type == resultType -> retainedMessages.putIfAbsent(resultType, message)
+            message.type == AirbyteMessage.Type.TRACE && message.trace?.type == AirbyteTraceMessage.Type.ERROR ->
+              retainedMessages.putIfAbsent(AirbyteMessage.Type.TRACE, message)
+            message.type == AirbyteMessage.Type.CONTROL && message.control?.type == AirbyteControlMessage.Type.CONNECTOR_CONFIG ->
+              retainedMessages[AirbyteMessage.Type.CONTROL] = message
+          }
+        }
+      }
+      return retainedMessages.mapValues { listOf(it.value) }
     }
   }
 }
@@ -53,6 +53,13 @@ class ConnectorWatcher(
   private val logContextFactory: SidecarLogContextFactory,
   private val heartbeatMonitor: HeartbeatMonitor,
 ) {
+  companion object {
+    /**
+     * Upper bound on how long to wait for a file change before checking the heartbeat and the timeout again.
+     */
+    private val FILE_CHANGE_WAIT: Duration = Duration.ofSeconds(1)
+  }
+
   fun run() {
     val sidecarInput = readSidecarInput()
     withLoggingContext(logContextFactory.create(sidecarInput.logPath)) {
@@ -62,13 +69,17 @@ class ConnectorWatcher(
         heartbeatMonitor.startHeartbeatThread(sidecarInput)
         heartbeatStarted = true
 
-        waitForConnectorOutput(sidecarInput)
+        val stopwatch = Stopwatch.createStarted()
+        val connectorOutput =
+          DirectoryWatcher(listOf(outputPath.toAbsolutePath().parent, Path.of(configDir))).use { directoryWatcher ->
+            waitForConnectorOutput(sidecarInput, stopwatch, directoryWatcher)
 
-        if (heartbeatMonitor.shouldAbort()) {
-          logger.warn { "Heartbeat indicates that the workload is in a terminal state, exiting process" }
-          exitInternalError()
-        }
-        val connectorOutput = processConnectorOutput(sidecarInput)
+            if (heartbeatMonitor.shouldAbort()) {
+              logger.warn { "Heartbeat indicates that the workload is in a terminal state, exiting process" }
+              exitInternalError()
+            }
+            processConnectorOutput(sidecarInput, stopwatch, directoryWatcher)
+          }
         saveConnectorOutput(sidecarInput.workloadId, connectorOutput)
         markWorkloadSuccess(sidecarInput.workloadId)
       } catch (e: Exception) {
@@ -88,56 +99,81 @@ class ConnectorWatcher(
     return Jsons.deserialize(inputContent, SidecarInput::class.java)
   }
 
-  private fun waitForConnectorOutput(input: SidecarInput) {
-    val stopwatch = Stopwatch.createStarted()
-    while (!areNeededFilesPresent()) {
-      Thread.sleep(100)
-      if (heartbeatMonitor.shouldAbort()) {
-        logger.warn { "Heartbeat indicates that the workload is in a terminal state, exiting process" }
-        exitInternalError()
-      }
-      val isWithinSync = input.discoverCatalogInput?.manual?.not() ?: false
-      if (hasFileTimeoutReached(stopwatch, isWithinSync)) {
-        val message = "Failed to find output files from connector within timeout of $fileTimeoutMinutes minute(s). Is the connector still running?"
-        logger.warn { message }
-        val failureReason =
-          FailureReason()
-            .withFailureOrigin(FailureReason.FailureOrigin.UNKNOWN)
-            .withExternalMessage(message)
-        failWorkload(input.workloadId, failureReason)
-        exitFileNotFound()
-      }
+  /**
+   * Wait for the connector to start writing its output, or to exit without an output.
+   */
+  private fun waitForConnectorOutput(
+    input: SidecarInput,
+    stopwatch: Stopwatch,
+    directoryWatcher: DirectoryWatcher,
+  ) {
+    while (!isOutputFilePresent() && !isExitCodeFilePresent()) {
+      awaitConnector(input, stopwatch, directoryWatcher)
     }
   }
 
-  private fun processConnectorOutput(input: SidecarInput): ConnectorJobOutput {
-    logger.info { "Connector exited, processing output" }
-    val outputStream = getConnectorOutputStream()
+  /**
+   * Wait for a change in the connector files, exiting if the workload was aborted or the connector didn't exit
+   * within the timeout.
+   */
+  private fun awaitConnector(
+    input: SidecarInput,
+    stopwatch: Stopwatch,
+    directoryWatcher: DirectoryWatcher,
+  ) {
+    directoryWatcher.awaitChange(FILE_CHANGE_WAIT)
+    if (heartbeatMonitor.shouldAbort()) {
+      logger.warn { "Heartbeat indicates that the workload is in a terminal state, exiting process" }
+      exitInternalError()
+    }
+    val isWithinSync = input.discoverCatalogInput?.manual?.not() ?: false
+    if (hasFileTimeoutReached(stopwatch, isWithinSync)) {
+      val message = "Failed to find output files from connector within timeout of $fileTimeoutMinutes minute(s). Is the connector still running?"
+      logger.warn { message }
+      val failureReason =
+        FailureReason()
+          .withFailureOrigin(FailureReason.FailureOrigin.UNKNOWN)
+          .withExternalMessage(message)
+      failWorkload(input.workloadId, failureReason)
+      exitFileNotFound()
+    }
+  }
+
+  /**
+   * Process the connector output while the connector is running, then read its exit code once it has exited.
+   */
+  private fun processConnectorOutput(
+    input: SidecarInput,
+    stopwatch: Stopwatch,
+    directoryWatcher: DirectoryWatcher,
+  ): ConnectorJobOutput {
+    logger.info { "Processing connector output" }
+    val streamFactory = getStreamFactory(input.integrationLauncherConfig)
+    val messagesByType =
+      getConnectorOutputStream(input, stopwatch, directoryWatcher).use {
+        ConnectorMessageProcessor.getMessagesByType(it, streamFactory, input.operationType!!)
+      }
     val exitCode = readFile(FileConstants.EXIT_CODE_FILE).trim().toInt()
     logger.info { "Connector exited with exit code $exitCode" }
-    val streamFactory = getStreamFactory(input.integrationLauncherConfig)
 
     return when (input.operationType!!) {
       SidecarInput.OperationType.CHECK ->
         connectorMessageProcessor.run(
-          outputStream,
-          streamFactory,
+          messagesByType,
           ConnectorMessageProcessor.OperationInput(checkInput = input.checkConnectionInput),
           exitCode,
           input.operationType,
         )
       SidecarInput.OperationType.DISCOVER ->
         connectorMessageProcessor.run(
-          outputStream,
-          streamFactory,
+          messagesByType,
           ConnectorMessageProcessor.OperationInput(discoveryInput = input.discoverCatalogInput),
           exitCode,
           input.operationType,
         )
       SidecarInput.OperationType.SPEC ->
         connectorMessageProcessor.run(
-          outputStream,
-          streamFactory,
+          messagesByType,
           ConnectorMessageProcessor.OperationInput(),
           exitCode,
           input.operationType,
@@ -145,11 +181,19 @@ class ConnectorWatcher(
     }
   }
 
-  private fun getConnectorOutputStream(): InputStream {
-    val outputFilePath = Path.of(FileConstants.JOB_OUTPUT_FILE)
-    return if (Files.exists(outputFilePath)) {
-      logger.info { "Output file ${FileConstants.JOB_OUTPUT_FILE} found" }
-      Files.newInputStream(outputFilePath)
+  /**
+   * Stream over the connector output that only ends once the connector has exited.
+   */
+  private fun getConnectorOutputStream(
+    input: SidecarInput,
+    stopwatch: Stopwatch,
+    directoryWatcher: DirectoryWatcher,
+  ): InputStream {
+    return if (isOutputFilePresent()) {
+      logger.info { "Output file $outputPath found" }
+      TailingInputStream(Files.newInputStream(outputPath), ::isExitCodeFilePresent) {
+        awaitConnector(input, stopwatch, directoryWatcher)
+      }
     } else {
       InputStream.nullInputStream()
     }
@@ -190,8 +234,13 @@ class ConnectorWatcher(
   }
 
   @VisibleForTesting
-  fun areNeededFilesPresent(): Boolean {
-    return Files.exists(outputPath) && Files.exists(Path.of(configDir, FileConstants.EXIT_CODE_FILE))
+  fun isOutputFilePresent(): Boolean {
+    return Files.exists(outputPath)
+  }
+
+  @VisibleForTesting
+  fun isExitCodeFilePresent(): Boolean {
+    return Files.exists(Path.of(configDir, FileConstants.EXIT_CODE_FILE))
   }
 
   @VisibleForTesting
@@ -0,0 +1,65 @@
+package io.airbyte.connectorSidecar
+
+import io.github.oshai.kotlinlogging.KotlinLogging
+import java.io.IOException
+import java.nio.file.Path
+import java.nio.file.StandardWatchEventKinds
+import java.nio.file.WatchService
+import java.time.Duration
+import java.util.concurrent.TimeUnit
+
+private val logger = KotlinLogging.logger {}
+
+/**
+ * Waits for files to be created or written in a set of directories, using the change notifications of the file
+ * system (inotify on Linux) rather than polling. If the directories can't be watched, waiting falls back to a
+ * short sleep so that callers re-checking the files in a loop still make progress.
+ */
+class DirectoryWatcher(directories: Collection<Path>) : AutoCloseable {
+  companion object {
+    val FALLBACK_POLL_INTERVAL: Duration = Duration.ofMillis(100)
+  }
+
+  private val watchService: WatchService? = createWatchService(directories.map { it.toAbsolutePath().normalize() }.distinct())
+
+  private fun createWatchService(directories: List<Path>): WatchService? {
+    if (directories.isEmpty()) {
+      return null
+    }
+    return try {
+      val service = directories.first().fileSystem.newWatchService()
+      try {
+        directories.forEach { it.register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY) }
+      } catch (e: IOException) {
+        service.close()
+        throw e
+      }
+      service
+    } catch (e: IOException) {
+      logger.warn(e) { "Unable to watch $directories for changes, falling back to polling" }
+      null
+    }
+  }
+
+  /**
+   * Block until a file is created or written in one of the watched directories, or until the timeout elapses.
+   * Callers must re-check the files they are waiting for, as a change may have happened before this call.
+   */
+  fun awaitChange(timeout: Duration) {
+    if (watchService == null) {
+      Thread.sleep(minOf(timeout, FALLBACK_POLL_INTERVAL).toMillis())
+      return
+    }
+    var key = watchService.poll(timeout.toMillis(), TimeUnit.MILLISECONDS)
+    // Drain every pending event so that a burst of writes results in a single wake up.
+    while (key != null) {
+      key.pollEvents()
+      key.reset()
+      key = watchService.poll()
+    }
+  }
+
+  override fun close() {
+    watchService?.close()
+  }
+}
@@ -0,0 +1,47 @@
+package io.airbyte.connectorSidecar
+
+import java.io.InputStream
+
+/**
+ * Reads a file that is still being written. When the end of the file is reached, it waits for more data with
+ * [awaitMoreData] until [isComplete] indicates that the writer is done, so that the content can be processed while
+ * it is produced.
+ */
+class TailingInputStream(
+  private val delegate: InputStream,
+  private val isComplete: () -> Boolean,
+  private val awaitMoreData: () -> Unit,
+) : InputStream() {
+  override fun read(): Int {
+    val buffer = ByteArray(1)
+    return if (read(buffer, 0, 1) < 0) -1 else buffer[0].toInt() and 0xff
+  }
+
+  override fun read(
+    b: ByteArray,
+    off: Int,
+    len: Int,
+  ): Int {
+    if (len == 0) {
+      return 0
+    }
+    while (true) {
+      // Checked before reading so that what was written right before the writer completed is still read.
+      val complete = isComplete()
+      val read = delegate.read(b, off, len)
+      if (read >= 0) {
+        return read
+      }
+      if (complete) {
+        return -1
+      }
+      awaitMoreData()
+    }
+  }
+
+  override fun available(): Int = delegate.available()
+
+  override fun close() {
+    delegate.close()
+  }
+}
@@ -1,5 +1,6 @@
 package io.airbyte.connectorSidecar.config
 
+import io.airbyte.commons.storage.ChunkedDocumentStore
 import io.airbyte.commons.storage.DocumentType
 import io.airbyte.commons.storage.StorageClient
 import io.airbyte.commons.storage.StorageClientFactory
@@ -15,6 +16,11 @@ class ApplicationFactory {
   @Named("outputDocumentStore")
   fun workloadStorageClient(factory: StorageClientFactory): StorageClient = factory.get(DocumentType.WORKLOAD_OUTPUT)
 
+  @Singleton
+  @Named("discoveredCatalogStore")
+  fun discoveredCatalogStore(factory: StorageClientFactory): ChunkedDocumentStore =
+    ChunkedDocumentStore(factory.get(DocumentType.DISCOVERED_CATALOGS))
+
   @Singleton
   fun metricClient(): MetricClient = NotImplementedMetricClient()
 }
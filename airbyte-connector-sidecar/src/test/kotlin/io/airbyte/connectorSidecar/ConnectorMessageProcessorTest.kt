@@ -4,8 +4,14 @@ import com.fasterxml.jackson.databind.JsonNode
 import io.airbyte.api.client.AirbyteApiClient
 import io.airbyte.api.client.generated.SourceApi
 import io.airbyte.api.client.model.generated.DiscoverCatalogResult
+import io.airbyte.api.client.model.generated.SourceDiscoverSchemaWriteRequestBody
 import io.airbyte.commons.converters.ConnectorConfigUpdater
 import io.airbyte.commons.json.Jsons
+import io.airbyte.commons.storage.ChunkedDocumentStore
+import io.airbyte.commons.storage.DocumentType
+import io.airbyte.commons.storage.LocalStorageClient
+import io.airbyte.commons.storage.LocalStorageConfig
+import io.airbyte.commons.storage.StorageBucketConfig
 import io.airbyte.config.ActorType
 import io.airbyte.config.ConnectorJobOutput
 import io.airbyte.config.FailureReason
@@ -21,6 +27,7 @@ import io.airbyte.protocol.models.AirbyteStream
 import io.airbyte.protocol.models.AirbyteTraceMessage
 import io.airbyte.protocol.models.Config
 import io.airbyte.protocol.models.ConnectorSpecification
+import io.airbyte.workers.exception.WorkerException
 import io.airbyte.workers.internal.AirbyteStreamFactory
 import io.airbyte.workers.models.SidecarInput
 import io.mockk.every
@@ -29,15 +36,20 @@ import io.mockk.junit5.MockKExtension
 import io.mockk.verify
 import org.junit.jupiter.api.Assertions.assertEquals
 import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertNull
 import org.junit.jupiter.api.Assertions.assertTrue
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
 import org.junit.jupiter.api.extension.ExtendWith
+import org.junit.jupiter.api.io.TempDir
 import org.junit.jupiter.params.ParameterizedTest
 import org.junit.jupiter.params.provider.EnumSource
 import java.io.ByteArrayInputStream
 import java.io.ByteArrayOutputStream
+import java.io.IOException
 import java.io.InputStream
+import java.nio.file.Path
 import java.util.Optional
 import java.util.UUID
 import java.util.stream.Stream
@@ -56,28 +68,70 @@ class ConnectorMessageProcessorTest {
   @MockK
   private lateinit var sourceApi: SourceApi
 
+  private lateinit var discoveredCatalogStore: ChunkedDocumentStore
+
   private lateinit var connectorMessageProcessor: ConnectorMessageProcessor
 
   @BeforeEach
-  fun init() {
+  fun init(
+    @TempDir tempDir: Path,
+  ) {
     every { airbyteApiClient.sourceApi } returns sourceApi
-    connectorMessageProcessor = ConnectorMessageProcessor(connectorConfigUpdater, airbyteApiClient)
+    val buckets = StorageBucketConfig(log = "log", state = "state", workloadOutput = "workload", activityPayload = "payload")
+    discoveredCatalogStore =
+      ChunkedDocumentStore(
+        LocalStorageClient(config = LocalStorageConfig(buckets = buckets, root = tempDir.toString()), type = DocumentType.DISCOVERED_CATALOGS),
+      )
+    connectorMessageProcessor = ConnectorMessageProcessor(connectorConfigUpdater, airbyteApiClient, discoveredCatalogStore)
   }
 
   @Test
-  fun `test that message are properly aggregated by type`() {
+  fun `test that only the messages needed by the operation are kept`() {
+    val firstCatalog = AirbyteMessage().withType(AirbyteMessage.Type.CATALOG).withCatalog(AirbyteCatalog().withAdditionalProperty("catalog", "one"))
+    val errorTrace =
+      AirbyteMessage()
+        .withType(AirbyteMessage.Type.TRACE)
+        .withTrace(AirbyteTraceMessage().withType(AirbyteTraceMessage.Type.ERROR).withAdditionalProperty("trace", "error"))
+    val lastConfigControl =
+      AirbyteMessage()
+        .withType(AirbyteMessage.Type.CONTROL)
+        .withControl(
+          AirbyteControlMessage()
+            .withType(AirbyteControlMessage.Type.CONNECTOR_CONFIG)
+            .withConnectorConfig(AirbyteControlConnectorConfigMessage().withConfig(Config().withAdditionalProperty("config", "two"))),
+        )
     every { streamFactory.create(any()) } returns
       Stream.of(
-        AirbyteMessage().withType(AirbyteMessage.Type.CONTROL).withAdditionalProperty("control", "one"),
-        AirbyteMessage().withType(AirbyteMessage.Type.RECORD).withAdditionalProperty("record", "two"),
-        AirbyteMessage().withType(AirbyteMessage.Type.RECORD).withAdditionalProperty("record", "three"),
+        AirbyteMessage().withType(AirbyteMessage.Type.RECORD).withAdditionalProperty("record", "one"),
+        AirbyteMessage()
+          .withType(AirbyteMessage.Type.TRACE)
+          .withTrace(AirbyteTraceMessage().withType(AirbyteTraceMessage.Type.ESTIMATE)),
+        firstCatalog,
+        errorTrace,
+        AirbyteMessage()
+          .withType(AirbyteMessage.Type.CONTROL)
+          .withControl(
+            AirbyteControlMessage()
+              .withType(AirbyteControlMessage.Type.CONNECTOR_CONFIG)
+              .withConnectorConfig(AirbyteControlConnectorConfigMessage().withConfig(Config().withAdditionalProperty("config", "one"))),
+          ),
+        lastConfigControl,
+        AirbyteMessage().withType(AirbyteMessage.Type.CATALOG).withCatalog(AirbyteCatalog().withAdditionalProperty("catalog", "two")),
+        AirbyteMessage().withType(AirbyteMessage.Type.SPEC).withSpec(ConnectorSpecification()),
+        AirbyteMessage().withType(AirbyteMessage.Type.LOG),
       )
 
-    val messageByType = ConnectorMessageProcessor.getMessagesByType(InputStream.nullInputStream(), streamFactory)
+    val messageByType =
+      ConnectorMessageProcessor.getMessagesByType(InputStream.nullInputStream(), streamFactory, SidecarInput.OperationType.DISCOVER)
 
-    assertEquals(2, messageByType.size)
-    assertEquals(1, messageByType[AirbyteMessage.Type.CONTROL]!!.size)
-    assertEquals(2, messageByType[AirbyteMessage.Type.RECORD]!!.size)
+    assertEquals(
+      mapOf(
+        AirbyteMessage.Type.CATALOG to listOf(firstCatalog),
+        AirbyteMessage.Type.TRACE to listOf(errorTrace),
+        AirbyteMessage.Type.CONTROL to listOf(lastConfigControl),
+      ),
+      messageByType,
+    )
   }
 
   @Test
@@ -491,7 +545,12 @@ class ConnectorMessageProcessorTest {
       )
 
     val discoveredCatalogId = UUID.randomUUID()
-    every { sourceApi.writeDiscoverCatalogResult(any()) } returns DiscoverCatalogResult(catalogId = discoveredCatalogId)
+    val requests = mutableListOf<SourceDiscoverSchemaWriteRequestBody>()
+    val uploadedStreams = mutableListOf<String>()
+    every { sourceApi.writeDiscoverCatalogResult(capture(requests)) } answers {
+      uploadedStreams.addAll(discoveredCatalogStore.readLines(requests.last().catalogStorageId!!))
+      DiscoverCatalogResult(catalogId = discoveredCatalogId)
+    }
 
     val output =
       connectorMessageProcessor.run(
@@ -508,6 +567,40 @@ class ConnectorMessageProcessorTest {
       )
 
     assertEquals(discoveredCatalogId, output.discoverCatalogId)
+    // the catalog is uploaded to storage rather than sent in the request
+    assertNull(requests.single().catalog)
+    assertEquals(listOf(Jsons.serialize(AirbyteStream().withName("name"))), uploadedStreams)
+    // and deleted once the server has persisted it
+    assertThrows<IllegalStateException> { discoveredCatalogStore.readLines(requests.single().catalogStorageId!!) }
+  }
+
+  @Test
+  fun `uploaded catalog is deleted when writing it fails`() {
+    val catalog =
+      AirbyteMessage()
+        .withType(AirbyteMessage.Type.CATALOG)
+        .withCatalog(AirbyteCatalog().withStreams(listOf(AirbyteStream().withName("name"))))
+
+    every { streamFactory.create(any()) } returns Stream.of(catalog)
+    val requests = mutableListOf<SourceDiscoverSchemaWriteRequestBody>()
+    every { sourceApi.writeDiscoverCatalogResult(capture(requests)) } throws IOException("server unavailable")
+
+    assertThrows<WorkerException> {
+      connectorMessageProcessor.run(
+        InputStream.nullInputStream(),
+        streamFactory,
+        ConnectorMessageProcessor.OperationInput(
+          discoveryInput =
+            StandardDiscoverCatalogInput()
+              .withConnectionConfiguration(Jsons.emptyObject())
+              .withSourceId(UUID.randomUUID().toString()),
+        ),
+        0,
+        SidecarInput.OperationType.DISCOVER,
+      )
+    }
+
+    assertThrows<IllegalStateException> { discoveredCatalogStore.readLines(requests.single().catalogStorageId!!) }
   }
 
   @Test
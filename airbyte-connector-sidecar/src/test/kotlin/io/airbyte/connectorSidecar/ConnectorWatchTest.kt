@@ -37,6 +37,7 @@ import org.junit.jupiter.api.extension.ExtendWith
 import org.junit.jupiter.params.ParameterizedTest
 import org.junit.jupiter.params.provider.EnumSource
 import java.nio.file.Path
+import java.util.stream.Stream
 
 @ExtendWith(MockKExtension::class)
 class ConnectorWatchTest {
@@ -105,7 +106,11 @@ class ConnectorWatchTest {
 
     every { connectorWatcher.readFile(FileConstants.EXIT_CODE_FILE) } returns "0"
 
-    every { connectorWatcher.areNeededFilesPresent() } returns true
+    every { connectorWatcher.isOutputFilePresent() } returns false
+
+    every { connectorWatcher.isExitCodeFilePresent() } returns true
+
+    every { streamFactory.create(any()) } returns Stream.empty()
 
     every { connectorWatcher.getStreamFactory(any()) } returns streamFactory
 
@@ -136,14 +141,14 @@ class ConnectorWatchTest {
     every { connectorWatcher.readFile(FileConstants.SIDECAR_INPUT_FILE) } returns
       Jsons.serialize(SidecarInput(checkInput, discoveryInput, workloadId, IntegrationLauncherConfig(), operationType, ""))
 
-    every { connectorMessageProcessor.run(any(), any(), any(), any(), eq(operationType)) } returns output
+    every { connectorMessageProcessor.run(any(), any(), any(), eq(operationType)) } returns output
 
     every { workloadApi.workloadSuccess(WorkloadSuccessRequest(workloadId)) } returns Unit
 
     connectorWatcher.run()
 
     verifyOrder {
-      connectorMessageProcessor.run(any(), any(), any(), any(), eq(operationType))
+      connectorMessageProcessor.run(any(), any(), any(), eq(operationType))
       jobOutputDocStore.write(workloadId, output)
       workloadApi.workloadSuccess(WorkloadSuccessRequest(workloadId))
       connectorWatcher.exitProperly()
@@ -160,14 +165,14 @@ class ConnectorWatchTest {
     every { connectorWatcher.readFile(FileConstants.SIDECAR_INPUT_FILE) } returns
       Jsons.serialize(SidecarInput(checkInput, discoveryInput, workloadId, IntegrationLauncherConfig(), operationType, ""))
 
-    every { connectorMessageProcessor.run(any(), any(), any(), any(), eq(operationType)) } returns output
+    every { connectorMessageProcessor.run(any(), any(), any(), eq(operationType)) } returns output
 
     every { workloadApi.workloadSuccess(WorkloadSuccessRequest(workloadId)) } returns Unit
 
     connectorWatcher.run()
 
     verifyOrder {
-      connectorMessageProcessor.run(any(), any(), any(), any(), eq(operationType))
+      connectorMessageProcessor.run(any(), any(), any(), eq(operationType))
       jobOutputDocStore.write(workloadId, output)
       workloadApi.workloadSuccess(WorkloadSuccessRequest(workloadId))
       connectorWatcher.exitProperly()
@@ -188,7 +193,7 @@ class ConnectorWatchTest {
     every { connectorWatcher.readFile(FileConstants.SIDECAR_INPUT_FILE) } returns
       Jsons.serialize(SidecarInput(checkInput, discoveryInput, workloadId, IntegrationLauncherConfig().withDockerImage(""), operationType, ""))
 
-    every { connectorMessageProcessor.run(any(), any(), any(), any(), eq(operationType)) } throws exception
+    every { connectorMessageProcessor.run(any(), any(), any(), eq(operationType)) } throws exception
 
     every {
       workloadApi.workloadFailure(
@@ -203,7 +208,7 @@ class ConnectorWatchTest {
     connectorWatcher.run()
 
     verifyOrder {
-      connectorMessageProcessor.run(any(), any(), any(), any(), eq(operationType))
+      connectorMessageProcessor.run(any(), any(), any(), eq(operationType))
       jobOutputDocStore.write(workloadId, output)
       workloadApi.workloadFailure(
         WorkloadFailureRequest(workloadId, output.failureReason.failureOrigin.value(), output.failureReason.externalMessage),
@@ -218,7 +223,7 @@ class ConnectorWatchTest {
     every { connectorWatcher.readFile(FileConstants.SIDECAR_INPUT_FILE) } returns
       Jsons.serialize(SidecarInput(checkInput, discoveryInput, workloadId, IntegrationLauncherConfig(), operationType, ""))
     var exitCauseFileWasNotFound = false
-    every { connectorWatcher.areNeededFilesPresent() } returns false
+    every { connectorWatcher.isExitCodeFilePresent() } returns false
 
     every { connectorWatcher.hasFileTimeoutReached(any(), any()) } returns true
     every { connectorWatcher.handleException(any(), any()) } just Runs
@@ -245,7 +250,7 @@ class ConnectorWatchTest {
     every { connectorWatcher.readFile(FileConstants.SIDECAR_INPUT_FILE) } returns
       Jsons.serialize(SidecarInput(checkInput, discoveryInput, workloadId, IntegrationLauncherConfig(), operationType, ""))
 
-    every { connectorMessageProcessor.run(any(), any(), any(), any(), eq(operationType)) } returns output
+    every { connectorMessageProcessor.run(any(), any(), any(), eq(operationType)) } returns output
 
     every { workloadApi.workloadSuccess(WorkloadSuccessRequest(workloadId)) } returns Unit
 
@@ -272,7 +277,7 @@ class ConnectorWatchTest {
     every { connectorWatcher.readFile(FileConstants.SIDECAR_INPUT_FILE) } returns
       Jsons.serialize(SidecarInput(checkInput, discoveryInput, workloadId, integrationLauncherConfig, operationType, ""))
 
-    every { connectorMessageProcessor.run(any(), any(), any(), any(), eq(operationType)) } returns output
+    every { connectorMessageProcessor.run(any(), any(), any(), eq(operationType)) } returns output
 
     every { workloadApi.workloadSuccess(WorkloadSuccessRequest(workloadId)) } returns Unit
 
@@ -0,0 +1,48 @@
+package io.airbyte.connectorSidecar
+
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.StandardOpenOption
+
+class TailingInputStreamTest {
+  @TempDir
+  lateinit var tempDir: Path
+
+  @Test
+  fun `reads what is written until the writer completes`() {
+    val file = Files.writeString(tempDir.resolve("output"), "first\n")
+    val writes = ArrayDeque(listOf("second\n", "third\n"))
+    var complete = false
+    var waits = 0
+
+    val content =
+      TailingInputStream(Files.newInputStream(file), { complete }) {
+        waits++
+        if (writes.isEmpty()) {
+          complete = true
+        } else {
+          Files.writeString(file, writes.removeFirst(), StandardOpenOption.APPEND)
+        }
+      }.use { String(it.readAllBytes()) }
+
+    assertEquals("first\nsecond\nthird\n", content)
+    assertEquals(3, waits)
+  }
+
+  @Test
+  fun `reads what was written right before the writer completed`() {
+    val file = Files.writeString(tempDir.resolve("output"), "first\n")
+    var complete = false
+
+    val content =
+      TailingInputStream(Files.newInputStream(file), { complete }) {
+        Files.writeString(file, "last\n", StandardOpenOption.APPEND)
+        complete = true
+      }.use { String(it.readAllBytes()) }
+
+    assertEquals("first\nlast\n", content)
+  }
+}
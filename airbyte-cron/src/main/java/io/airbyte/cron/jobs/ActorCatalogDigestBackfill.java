@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.cron.jobs;
+
+import static io.airbyte.cron.MicronautCronRunner.SCHEDULED_TRACE_OPERATION_NAME;
+
+import datadog.trace.api.Trace;
+import io.airbyte.data.services.CatalogService;
+import io.airbyte.metrics.lib.MetricAttribute;
+import io.airbyte.metrics.lib.MetricClient;
+import io.airbyte.metrics.lib.MetricTags;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
+import io.micronaut.scheduling.annotation.Scheduled;
+import jakarta.inject.Singleton;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Actor Catalog Digest Backfill.
+ *
+ * Computes the catalog digest of actor catalogs stored before the digest existed, so they can be
+ * found by the indexed de-duplication lookup. The table is walked once per process in small batches;
+ * once the end is reached the job is a no-op.
+ */
+@Singleton
+public class ActorCatalogDigestBackfill {
+
+  private static final Logger log = LoggerFactory.getLogger(ActorCatalogDigestBackfill.class);
+
+  private static final int BATCH_SIZE = 100;
+  private static final int MAX_BATCHES_PER_RUN = 50;
+
+  private final CatalogService catalogService;
+  private final MetricClient metricClient;
+
+  private UUID cursor;
+  private boolean done;
+
+  public ActorCatalogDigestBackfill(final CatalogService catalogService, final MetricClient metricClient) {
+    this.catalogService = catalogService;
+    this.metricClient = metricClient;
+  }
+
+  @Trace(operationName = SCHEDULED_TRACE_OPERATION_NAME)
+  @Scheduled(fixedDelay = "1m",
+             initialDelay = "5m")
+  synchronized void backfillDigests() throws IOException {
+    if (done) {
+      return;
+    }
+    metricClient.count(OssMetricsRegistry.CRON_JOB_RUN_BY_CRON_TYPE, 1, new MetricAttribute(MetricTags.CRON_TYPE, "actor_catalog_digest_backfill"));
+
+    for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+      final Optional<UUID> lastId = catalogService.backfillActorCatalogDigests(cursor, BATCH_SIZE);
+      if (lastId.isEmpty()) {
+        log.info("Done backfilling actor catalog digests.");
+        done = true;
+        return;
+      }
+      cursor = lastId.get();
+    }
+    log.info("Backfilled actor catalog digests up to {}", cursor);
+  }
+
+}
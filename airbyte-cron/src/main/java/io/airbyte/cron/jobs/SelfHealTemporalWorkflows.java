@@ -12,35 +12,91 @@ import io.airbyte.metrics.lib.MetricAttribute;
 import io.airbyte.metrics.lib.MetricClient;
 import io.airbyte.metrics.lib.MetricTags;
 import io.airbyte.metrics.lib.OssMetricsRegistry;
+import io.airbyte.persistence.job.MetadataPersistence;
 import io.micronaut.scheduling.annotation.Scheduled;
 import io.temporal.api.enums.v1.WorkflowExecutionStatus;
 import jakarta.inject.Singleton;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Temporal cleaner. Resets failed workflow executions.
+ * <p>
+ * Each run only scans the workflows that closed since the previous run. The high-watermark is
+ * persisted so that restarts of the cron do not fall back to scanning the whole namespace history.
  */
 @Singleton
 public class SelfHealTemporalWorkflows {
 
   private static final Logger log = LoggerFactory.getLogger(SelfHealTemporalWorkflows.class);
 
+  private static final String CRON_TYPE = "self_heal_temporal";
+
+  /**
+   * Closed workflows can show up in the visibility store a little after their close time, so each
+   * scan overlaps the end of the previous one.
+   */
+  private static final Duration SCAN_OVERLAP = Duration.ofMinutes(1);
+
   private final TemporalClient temporalClient;
   private final MetricClient metricClient;
+  private final MetadataPersistence metadataPersistence;
+
+  private Optional<Instant> watermark;
 
-  public SelfHealTemporalWorkflows(final TemporalClient temporalClient, final MetricClient metricClient) {
+  public SelfHealTemporalWorkflows(final TemporalClient temporalClient,
+                                   final MetricClient metricClient,
+                                   final MetadataPersistence metadataPersistence) {
     log.debug("Creating temporal self-healing");
     this.temporalClient = temporalClient;
     this.metricClient = metricClient;
+    this.metadataPersistence = metadataPersistence;
   }
 
   @Trace(operationName = SCHEDULED_TRACE_OPERATION_NAME)
   @Scheduled(fixedRate = "10s")
   void cleanTemporal() {
-    metricClient.count(OssMetricsRegistry.CRON_JOB_RUN_BY_CRON_TYPE, 1, new MetricAttribute(MetricTags.CRON_TYPE, "self_heal_temporal"));
-    final var numRestarted = temporalClient.restartClosedWorkflowByStatus(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED);
+    metricClient.count(OssMetricsRegistry.CRON_JOB_RUN_BY_CRON_TYPE, 1, new MetricAttribute(MetricTags.CRON_TYPE, CRON_TYPE));
+
+    final Optional<Instant> closedSince = getWatermark();
+    final Instant scanStart = Instant.now();
+    final var numRestarted =
+        temporalClient.restartClosedWorkflowByStatus(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED, closedSince.orElse(null));
+    metricClient.distribution(OssMetricsRegistry.WORKFLOWS_HEALED_SCAN_DURATION_MS, Duration.between(scanStart, Instant.now()).toMillis(),
+        new MetricAttribute(MetricTags.CRON_TYPE, CRON_TYPE));
     metricClient.count(OssMetricsRegistry.WORKFLOWS_HEALED, numRestarted);
+
+    // Only advance once the scan succeeded, so that a failed run is retried over the same window.
+    setWatermark(scanStart.minus(SCAN_OVERLAP));
+  }
+
+  private Optional<Instant> getWatermark() {
+    if (watermark == null) {
+      try {
+        watermark = metadataPersistence.getTemporalSelfHealWatermark();
+      } catch (final IOException e) {
+        log.warn("Unable to read the self-heal watermark, scanning all closed workflows", e);
+        return Optional.empty();
+      }
+      if (watermark.isEmpty()) {
+        log.info("No self-heal watermark found, scanning all closed workflows");
+      }
+    }
+    return watermark;
+  }
+
+  private void setWatermark(final Instant newWatermark) {
+    watermark = Optional.of(newWatermark);
+    try {
+      metadataPersistence.setTemporalSelfHealWatermark(newWatermark);
+    } catch (final IOException e) {
+      // The in-memory watermark keeps the next runs incremental; only a restart would rescan.
+      log.warn("Unable to persist the self-heal watermark", e);
+    }
   }
 
 }
@@ -9,6 +9,7 @@ import io.airbyte.config.ActorCatalogFetchEvent;
 import io.airbyte.config.ActorCatalogWithUpdatedAt;
 import io.airbyte.data.exceptions.ConfigNotFoundException;
 import io.airbyte.protocol.models.AirbyteCatalog;
+import io.airbyte.protocol.models.AirbyteStream;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
@@ -32,6 +33,12 @@ public interface CatalogService {
 
   UUID writeActorCatalogFetchEvent(AirbyteCatalog catalog, UUID actorId, String connectorVersion, String configurationHash) throws IOException;
 
+  UUID writeActorCatalogFetchEventFromStreams(Iterable<AirbyteStream> catalogStreams, UUID actorId, String connectorVersion,
+                                               String configurationHash)
+      throws IOException;
+
   Map<UUID, ActorCatalogFetchEvent> getMostRecentActorCatalogFetchEventForSources(final List<UUID> sourceIds) throws IOException;
 
+  Optional<UUID> backfillActorCatalogDigests(UUID afterId, int batchSize) throws IOException;
+
 }
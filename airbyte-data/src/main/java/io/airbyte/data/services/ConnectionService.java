@@ -10,6 +10,7 @@ import io.airbyte.config.StandardSync;
 import io.airbyte.config.StreamDescriptor;
 import io.airbyte.data.exceptions.ConfigNotFoundException;
 import io.airbyte.data.services.shared.StandardSyncQuery;
+import io.airbyte.data.services.shared.StandardSyncsQueryCursorPaginated;
 import io.airbyte.data.services.shared.StandardSyncsQueryPaginated;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
@@ -42,6 +43,9 @@ public interface ConnectionService {
 
   Map<UUID, List<StandardSync>> listWorkspaceStandardSyncsPaginated(StandardSyncsQueryPaginated standardSyncsQueryPaginated) throws IOException;
 
+  List<StandardSync> listWorkspaceStandardSyncsCursorPaginated(StandardSyncsQueryCursorPaginated standardSyncsQueryCursorPaginated)
+      throws IOException;
+
   List<StandardSync> listConnectionsBySource(UUID sourceId, boolean includeDeleted) throws IOException;
 
   List<StandardSync> listConnectionsByActorDefinitionIdAndType(UUID actorDefinitionId, String actorTypeValue, boolean includeDeleted)
@@ -44,6 +44,14 @@ public interface DestinationService {
   void updateStandardDestinationDefinition(StandardDestinationDefinition destinationDefinition)
       throws IOException, JsonValidationException, ConfigNotFoundException;
 
+  /**
+   * Update many existing destination definitions in one transaction, writing only the ones that
+   * differ from what is stored. Definitions that don't exist are ignored.
+   *
+   * @return the number of destination definitions that were written
+   */
+  int updateStandardDestinationDefinitions(List<StandardDestinationDefinition> destinationDefinitions) throws IOException;
+
   DestinationConnection getDestinationConnection(UUID destinationId) throws JsonValidationException, IOException, ConfigNotFoundException;
 
   void writeDestinationConnectionNoSecrets(DestinationConnection partialDestination) throws IOException;
@@ -39,6 +39,14 @@ public interface SourceService {
 
   void updateStandardSourceDefinition(StandardSourceDefinition sourceDefinition) throws IOException, JsonValidationException, ConfigNotFoundException;
 
+  /**
+   * Update many existing source definitions in one transaction, writing only the ones that differ
+   * from what is stored. Definitions that don't exist are ignored.
+   *
+   * @return the number of source definitions that were written
+   */
+  int updateStandardSourceDefinitions(List<StandardSourceDefinition> sourceDefinitions) throws IOException;
+
   SourceConnection getSourceConnection(UUID sourceId) throws JsonValidationException, ConfigNotFoundException, IOException;
 
   List<SourceConnection> listSourceConnection() throws IOException;
@@ -8,9 +8,8 @@ import static io.airbyte.db.instance.configs.jooq.generated.Tables.ACTOR_CATALOG
 import static io.airbyte.db.instance.configs.jooq.generated.Tables.ACTOR_CATALOG_FETCH_EVENT;
 
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.base.Charsets;
-import com.google.common.hash.HashFunction;
 import com.google.common.hash.Hashing;
+import com.google.common.hash.HashingOutputStream;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.ActorCatalog;
 import io.airbyte.config.ActorCatalogFetchEvent;
@@ -21,16 +20,20 @@ import io.airbyte.data.services.CatalogService;
 import io.airbyte.db.Database;
 import io.airbyte.db.ExceptionWrappingDatabase;
 import io.airbyte.protocol.models.AirbyteCatalog;
+import io.airbyte.protocol.models.AirbyteStream;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.jooq.DSLContext;
 import org.jooq.JSONB;
@@ -45,6 +48,8 @@ import org.slf4j.LoggerFactory;
 public class CatalogServiceJooqImpl implements CatalogService {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(CatalogServiceJooqImpl.class);
+  private static final String CATALOG_JSON_PREFIX = "{\"streams\":[";
+  private static final String CATALOG_JSON_SUFFIX = "]}";
   private final ExceptionWrappingDatabase database;
 
   @VisibleForTesting
@@ -176,10 +181,46 @@ public class CatalogServiceJooqImpl implements CatalogService {
                                           String connectorVersion,
                                           String configurationHash)
       throws IOException {
+    return writeActorCatalogFetchEvent(generateCatalogHashes(catalog), () -> Jsons.serialize(catalog), actorId, connectorVersion,
+        configurationHash);
+  }
+
+  /**
+   * Stores source catalog information, like
+   * {@link #writeActorCatalogFetchEvent(AirbyteCatalog, UUID, String, String)}, for a catalog
+   * provided as its streams.
+   * <p>
+   * The streams are iterated once to compute the digest of the catalog and a second time to build its
+   * JSON, only if the catalog is not stored yet. A large catalog read lazily from storage is thus
+   * never held as a whole object graph, only as the serialized JSON stored in the actor_catalog row.
+   *
+   * @param catalogStreams - streams of the catalog that was fetched, which can be iterated twice.
+   * @param actorId - actor the catalog was fetched by
+   * @param connectorVersion - version of the connector when catalog was fetched
+   * @param configurationHash - hash of the config of the connector when catalog was fetched
+   * @return The identifier (UUID) of the fetch event inserted in the database
+   * @throws IOException - error while interacting with db
+   */
+  @Override
+  public UUID writeActorCatalogFetchEventFromStreams(final Iterable<AirbyteStream> catalogStreams,
+                                                     final UUID actorId,
+                                                     final String connectorVersion,
+                                                     final String configurationHash)
+      throws IOException {
+    return writeActorCatalogFetchEvent(generateCatalogHashes(catalogStreams), () -> serializeCatalog(catalogStreams), actorId, connectorVersion,
+        configurationHash);
+  }
+
+  private UUID writeActorCatalogFetchEvent(final CatalogHashes catalogHashes,
+                                           final Supplier<String> catalogJson,
+                                           final UUID actorId,
+                                           final String connectorVersion,
+                                           final String configurationHash)
+      throws IOException {
     final OffsetDateTime timestamp = OffsetDateTime.now();
     final UUID fetchEventID = UUID.randomUUID();
     return database.transaction(ctx -> {
-      final UUID catalogId = getOrInsertActorCatalog(catalog, ctx, timestamp);
+      final UUID catalogId = getOrInsertActorCatalog(catalogHashes, catalogJson, ctx, timestamp);
       ctx.insertInto(ACTOR_CATALOG_FETCH_EVENT)
           .set(ACTOR_CATALOG_FETCH_EVENT.ID, fetchEventID)
           .set(ACTOR_CATALOG_FETCH_EVENT.ACTOR_ID, actorId)
@@ -225,96 +266,153 @@ public class CatalogServiceJooqImpl implements CatalogService {
         .collect(Collectors.toMap(ActorCatalogFetchEvent::getActorId, record -> record));
   }
 
+  /**
+   * Compute the digest of every actor catalog stored before the catalog_digest column existed. Rows
+   * are visited in id order starting after the provided cursor, so a caller can walk the whole table
+   * in small transactions. A row whose content is identical to an already digested catalog is left
+   * without digest, since the unique index only allows one row per content.
+   *
+   * @param afterId cursor returned by the previous call, null to start from the beginning
+   * @param batchSize maximum number of rows to visit
+   * @return the id of the last visited row, empty when there are no more rows to backfill
+   * @throws IOException - error while interacting with db
+   */
+  @Override
+  public Optional<UUID> backfillActorCatalogDigests(final UUID afterId, final int batchSize) throws IOException {
+    return database.transaction(ctx -> {
+      final Result<Record2<UUID, JSONB>> records = ctx.select(ACTOR_CATALOG.ID, ACTOR_CATALOG.CATALOG)
+          .from(ACTOR_CATALOG)
+          .where(ACTOR_CATALOG.CATALOG_DIGEST.isNull())
+          .and(afterId == null ? DSL.noCondition() : ACTOR_CATALOG.ID.gt(afterId))
+          .orderBy(ACTOR_CATALOG.ID)
+          .limit(batchSize)
+          .fetch();
+
+      UUID lastId = null;
+      for (final Record2<UUID, JSONB> record : records) {
+        lastId = record.value1();
+        // Same on-the-fly migration caveat as the lookup: the digest must be computed on the catalog as
+        // stored so that a new fetch of the same catalog maps to this row.
+        final AirbyteCatalog catalog = Jsons.deserialize(record.value2().data(), AirbyteCatalog.class);
+        final String digest = generateCatalogHashes(catalog).digest();
+        final int updated = ctx.update(ACTOR_CATALOG)
+            .set(ACTOR_CATALOG.CATALOG_DIGEST, digest)
+            .where(ACTOR_CATALOG.ID.eq(lastId))
+            .andNotExists(DSL.selectOne().from(ACTOR_CATALOG).where(ACTOR_CATALOG.CATALOG_DIGEST.eq(digest)))
+            .execute();
+        if (updated == 0) {
+          LOGGER.info("Actor catalog {} duplicates an already digested catalog, leaving its digest empty", lastId);
+        }
+      }
+      return Optional.ofNullable(lastId);
+    });
+  }
+
   /**
    * Store an Airbyte catalog in DB if it is not present already. Checks in the config DB if the
    * catalog is present already, if so returns it identifier. If not present, it is inserted in DB
    * with a new identifier and that identifier is returned.
+   * <p>
+   * Catalogs are identified by a sha-256 digest of their canonical JSON, backed by a unique index, so
+   * the lookup never has to load and compare stored catalogs. Catalogs stored before the digest
+   * existed are picked up by {@link #backfillActorCatalogDigests(UUID, int)}.
    *
-   * @param airbyteCatalog the catalog to be cached
+   * @param catalogHashes the hashes of the catalog to be cached
+   * @param catalogJson supplies the JSON of the catalog, only called when it has to be inserted
    * @param context - db context
    * @param timestamp - timestamp
    * @return the db identifier for the cached catalog.
    */
-  private UUID getOrInsertActorCatalog(final AirbyteCatalog airbyteCatalog,
+  private UUID getOrInsertActorCatalog(final CatalogHashes catalogHashes,
+                                       final Supplier<String> catalogJson,
                                        final DSLContext context,
                                        final OffsetDateTime timestamp) {
-
-    final String canonicalCatalogHash = generateCanonicalHash(airbyteCatalog);
-    UUID catalogId = lookupCatalogId(canonicalCatalogHash, airbyteCatalog, context);
-    if (catalogId != null) {
-      return catalogId;
+    final Optional<UUID> catalogId = findCatalogIdByDigest(catalogHashes.digest(), context);
+    if (catalogId.isPresent()) {
+      return catalogId.get();
     }
 
-    final String oldCatalogHash = generateOldHash(airbyteCatalog);
-    catalogId = lookupCatalogId(oldCatalogHash, airbyteCatalog, context);
-    if (catalogId != null) {
-      return catalogId;
+    final UUID newCatalogId = UUID.randomUUID();
+    final int inserted = context.insertInto(ACTOR_CATALOG)
+        .set(ACTOR_CATALOG.ID, newCatalogId)
+        .set(ACTOR_CATALOG.CATALOG, JSONB.valueOf(catalogJson.get()))
+        .set(ACTOR_CATALOG.CATALOG_HASH, catalogHashes.hash())
+        .set(ACTOR_CATALOG.CATALOG_DIGEST, catalogHashes.digest())
+        .set(ACTOR_CATALOG.CREATED_AT, timestamp)
+        .set(ACTOR_CATALOG.MODIFIED_AT, timestamp)
+        .onConflict(ACTOR_CATALOG.CATALOG_DIGEST)
+        .doNothing()
+        .execute();
+    if (inserted > 0) {
+      return newCatalogId;
     }
-
-    return insertCatalog(airbyteCatalog, canonicalCatalogHash, context, timestamp);
+    // A concurrent discover inserted the same catalog first.
+    return findCatalogIdByDigest(catalogHashes.digest(), context).orElseThrow();
   }
 
-  private String generateCanonicalHash(final AirbyteCatalog airbyteCatalog) {
-    final HashFunction hashFunction = Hashing.murmur3_32_fixed();
+  /**
+   * Computes both the legacy 32-bit hash (still stored in catalog_hash for compatibility) and the
+   * sha-256 digest in a single streaming pass over the canonical JSON of the catalog.
+   */
+  @VisibleForTesting
+  static CatalogHashes generateCatalogHashes(final AirbyteCatalog airbyteCatalog) {
+    final HashingOutputStream digestStream = new HashingOutputStream(Hashing.sha256(), OutputStream.nullOutputStream());
+    final HashingOutputStream hashStream = new HashingOutputStream(Hashing.murmur3_32_fixed(), digestStream);
     try {
-      return hashFunction.hashBytes(Jsons.canonicalJsonSerialize(airbyteCatalog)
-          .getBytes(Charsets.UTF_8)).toString();
+      Jsons.canonicalJsonSerialize(airbyteCatalog, hashStream);
     } catch (final IOException e) {
-      LOGGER.error("Failed to serialize AirbyteCatalog to canonical JSON", e);
-      return null;
+      throw new UncheckedIOException("Failed to serialize AirbyteCatalog to canonical JSON", e);
     }
+    return new CatalogHashes(hashStream.hash().toString(), digestStream.hash().toString());
   }
 
-  private UUID lookupCatalogId(final String catalogHash, final AirbyteCatalog airbyteCatalog, final DSLContext context) {
-    if (catalogHash == null) {
-      return null;
+  /**
+   * Computes the same hashes as {@link #generateCatalogHashes(AirbyteCatalog)} for a catalog made of
+   * the given streams, serializing one stream at a time. The canonical JSON of a catalog is the
+   * canonical JSON of its streams, in order, within {"streams":[...]}.
+   */
+  @VisibleForTesting
+  static CatalogHashes generateCatalogHashes(final Iterable<AirbyteStream> catalogStreams) {
+    final HashingOutputStream digestStream = new HashingOutputStream(Hashing.sha256(), OutputStream.nullOutputStream());
+    final HashingOutputStream hashStream = new HashingOutputStream(Hashing.murmur3_32_fixed(), digestStream);
+    try {
+      hashStream.write(CATALOG_JSON_PREFIX.getBytes(StandardCharsets.UTF_8));
+      boolean first = true;
+      for (final AirbyteStream stream : catalogStreams) {
+        if (!first) {
+          hashStream.write(',');
+        }
+        Jsons.canonicalJsonSerialize(stream, hashStream);
+        first = false;
+      }
+      hashStream.write(CATALOG_JSON_SUFFIX.getBytes(StandardCharsets.UTF_8));
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Failed to serialize AirbyteCatalog to canonical JSON", e);
     }
-    return findAndReturnCatalogId(catalogHash, airbyteCatalog, context);
-  }
-
-  private String generateOldHash(final AirbyteCatalog airbyteCatalog) {
-    final HashFunction hashFunction = Hashing.murmur3_32_fixed();
-    return hashFunction.hashBytes(Jsons.serialize(airbyteCatalog).getBytes(Charsets.UTF_8)).toString();
-  }
-
-  private UUID insertCatalog(final AirbyteCatalog airbyteCatalog,
-                             final String catalogHash,
-                             final DSLContext context,
-                             final OffsetDateTime timestamp) {
-    final UUID catalogId = UUID.randomUUID();
-    context.insertInto(ACTOR_CATALOG)
-        .set(ACTOR_CATALOG.ID, catalogId)
-        .set(ACTOR_CATALOG.CATALOG, JSONB.valueOf(Jsons.serialize(airbyteCatalog)))
-        .set(ACTOR_CATALOG.CATALOG_HASH, catalogHash)
-        .set(ACTOR_CATALOG.CREATED_AT, timestamp)
-        .set(ACTOR_CATALOG.MODIFIED_AT, timestamp).execute();
-    return catalogId;
+    return new CatalogHashes(hashStream.hash().toString(), digestStream.hash().toString());
   }
 
-  private UUID findAndReturnCatalogId(final String catalogHash, final AirbyteCatalog airbyteCatalog, final DSLContext context) {
-    final Map<UUID, AirbyteCatalog> catalogs = findCatalogByHash(catalogHash, context);
-    for (final Map.Entry<UUID, AirbyteCatalog> entry : catalogs.entrySet()) {
-      if (entry.getValue().equals(airbyteCatalog)) {
-        return entry.getKey();
+  private static String serializeCatalog(final Iterable<AirbyteStream> catalogStreams) {
+    final StringBuilder catalogJson = new StringBuilder(CATALOG_JSON_PREFIX);
+    boolean first = true;
+    for (final AirbyteStream stream : catalogStreams) {
+      if (!first) {
+        catalogJson.append(',');
       }
+      catalogJson.append(Jsons.serialize(stream));
+      first = false;
     }
-    return null;
+    return catalogJson.append(CATALOG_JSON_SUFFIX).toString();
   }
 
-  private Map<UUID, AirbyteCatalog> findCatalogByHash(final String catalogHash, final DSLContext context) {
-    final Result<Record2<UUID, JSONB>> records = context.select(ACTOR_CATALOG.ID, ACTOR_CATALOG.CATALOG)
+  private Optional<UUID> findCatalogIdByDigest(final String catalogDigest, final DSLContext context) {
+    return context.select(ACTOR_CATALOG.ID)
         .from(ACTOR_CATALOG)
-        .where(ACTOR_CATALOG.CATALOG_HASH.eq(catalogHash)).fetch();
-
-    final Map<UUID, AirbyteCatalog> result = new HashMap<>();
-    for (final Record record : records) {
-      // We do not apply the on-the-fly migration here because the only caller is getOrInsertActorCatalog
-      // which is using this to figure out if the catalog has already been inserted. Migrating on the fly
-      // here will cause us to add a duplicate each time we check for existence of a catalog.
-      final AirbyteCatalog catalog = Jsons.deserialize(record.get(ACTOR_CATALOG.CATALOG).toString(), AirbyteCatalog.class);
-      result.put(record.get(ACTOR_CATALOG.ID), catalog);
-    }
-    return result;
+        .where(ACTOR_CATALOG.CATALOG_DIGEST.eq(catalogDigest))
+        .fetchOptional(ACTOR_CATALOG.ID);
   }
 
+  @VisibleForTesting
+  record CatalogHashes(String hash, String digest) {}
+
 }
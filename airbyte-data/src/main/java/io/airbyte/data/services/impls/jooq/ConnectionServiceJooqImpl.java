@@ -31,6 +31,7 @@ import io.airbyte.config.helpers.ScheduleHelpers;
 import io.airbyte.data.exceptions.ConfigNotFoundException;
 import io.airbyte.data.services.ConnectionService;
 import io.airbyte.data.services.shared.StandardSyncQuery;
+import io.airbyte.data.services.shared.StandardSyncsQueryCursorPaginated;
 import io.airbyte.data.services.shared.StandardSyncsQueryPaginated;
 import io.airbyte.db.Database;
 import io.airbyte.db.ExceptionWrappingDatabase;
@@ -57,14 +58,18 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.jooq.Condition;
 import org.jooq.DSLContext;
+import org.jooq.Field;
 import org.jooq.JSONB;
 import org.jooq.Record;
 import org.jooq.Result;
+import org.jooq.Row2;
 import org.jooq.SelectJoinStep;
 import org.jooq.TableField;
+import org.jooq.impl.DSL;
 import org.jooq.impl.TableImpl;
 
 @Singleton
@@ -237,6 +242,89 @@ public class ConnectionServiceJooqImpl implements ConnectionService {
     return getStandardSyncsFromResult(connectionAndOperationIdsResult, getNotificationConfigurationByConnectionIds(connectionIds));
   }
 
+  /**
+   * List the connections of a workspace one page at a time. The page is selected with a narrow
+   * keyset query over the connection and its actors, so only the connections of the page are fully
+   * loaded.
+   *
+   * @param query query
+   * @return connections of the page, in the requested order
+   * @throws IOException if there is an issue while interacting with db.
+   */
+  @Override
+  public List<StandardSync> listWorkspaceStandardSyncsCursorPaginated(final StandardSyncsQueryCursorPaginated query) throws IOException {
+    final StandardSyncQuery standardSyncQuery = query.standardSyncQuery();
+    final var sourceActor = ACTOR.as("source_actor");
+    final var destinationActor = ACTOR.as("destination_actor");
+    final Field<String> sortName = switch (query.sortKey()) {
+      case CONNECTION_NAME_ASC, CONNECTION_NAME_DESC -> CONNECTION.NAME;
+      case SOURCE_NAME_ASC, SOURCE_NAME_DESC -> sourceActor.NAME;
+      case DESTINATION_NAME_ASC, DESTINATION_NAME_DESC -> destinationActor.NAME;
+    };
+    // a missing name sorts as an empty one, so that the (sort value, id) keyset stays comparable across pages
+    final Field<String> sortField = DSL.coalesce(DSL.lower(sortName), DSL.inline(""));
+    final boolean ascending = query.sortKey().isAscending();
+
+    final Condition cursorCondition;
+    if (query.cursor() == null) {
+      cursorCondition = noCondition();
+    } else {
+      final Row2<String, UUID> cursorRow = DSL.row(DSL.lower(DSL.val(query.cursor().sortValue())), DSL.val(query.cursor().connectionId()));
+      cursorCondition = ascending ? DSL.row(sortField, CONNECTION.ID).gt(cursorRow) : DSL.row(sortField, CONNECTION.ID).lt(cursorRow);
+    }
+
+    final Condition searchCondition = query.searchTerm() == null || query.searchTerm().isBlank() ? noCondition()
+        : CONNECTION.NAME.containsIgnoreCase(query.searchTerm())
+            .or(sourceActor.NAME.containsIgnoreCase(query.searchTerm()))
+            .or(destinationActor.NAME.containsIgnoreCase(query.searchTerm()));
+
+    final List<UUID> pageConnectionIds = database.query(ctx -> ctx
+        .select(CONNECTION.ID)
+        .from(CONNECTION)
+        .join(sourceActor).on(CONNECTION.SOURCE_ID.eq(sourceActor.ID))
+        .join(destinationActor).on(CONNECTION.DESTINATION_ID.eq(destinationActor.ID))
+        .where(sourceActor.WORKSPACE_ID.eq(standardSyncQuery.workspaceId()))
+        .and(standardSyncQuery.destinationId() == null || standardSyncQuery.destinationId().isEmpty() ? noCondition()
+            : CONNECTION.DESTINATION_ID.in(standardSyncQuery.destinationId()))
+        .and(standardSyncQuery.sourceId() == null || standardSyncQuery.sourceId().isEmpty() ? noCondition()
+            : CONNECTION.SOURCE_ID.in(standardSyncQuery.sourceId()))
+        .and(standardSyncQuery.includeDeleted() ? noCondition() : CONNECTION.STATUS.notEqual(StatusType.deprecated))
+        .and(query.sourceDefinitionIds() == null || query.sourceDefinitionIds().isEmpty() ? noCondition()
+            : sourceActor.ACTOR_DEFINITION_ID.in(query.sourceDefinitionIds()))
+        .and(query.destinationDefinitionIds() == null || query.destinationDefinitionIds().isEmpty() ? noCondition()
+            : destinationActor.ACTOR_DEFINITION_ID.in(query.destinationDefinitionIds()))
+        .and(query.statuses() == null || query.statuses().isEmpty() ? noCondition()
+            : CONNECTION.STATUS.in(query.statuses().stream()
+                .map(status -> Enums.toEnum(status.value(), StatusType.class).orElseThrow())
+                .toList()))
+        .and(searchCondition)
+        .and(cursorCondition)
+        .orderBy(ascending ? sortField.asc() : sortField.desc(), ascending ? CONNECTION.ID.asc() : CONNECTION.ID.desc())
+        .limit(query.pageSize())
+        .fetch(CONNECTION.ID));
+
+    if (pageConnectionIds.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    final Result<Record> connectionAndOperationIdsResult = database.query(ctx -> ctx
+        .select(
+            CONNECTION.asterisk(),
+            groupConcat(CONNECTION_OPERATION.OPERATION_ID).separator(OPERATION_IDS_AGG_DELIMITER).as(OPERATION_IDS_AGG_FIELD),
+            SCHEMA_MANAGEMENT.AUTO_PROPAGATION_STATUS, SCHEMA_MANAGEMENT.BACKFILL_PREFERENCE)
+        .from(CONNECTION)
+        .leftJoin(CONNECTION_OPERATION).on(CONNECTION_OPERATION.CONNECTION_ID.eq(CONNECTION.ID))
+        .leftJoin(SCHEMA_MANAGEMENT).on(SCHEMA_MANAGEMENT.CONNECTION_ID.eq(CONNECTION.ID))
+        .where(CONNECTION.ID.in(pageConnectionIds))
+        .groupBy(CONNECTION.ID, SCHEMA_MANAGEMENT.AUTO_PROPAGATION_STATUS, SCHEMA_MANAGEMENT.BACKFILL_PREFERENCE)).fetch();
+
+    final Map<UUID, StandardSync> standardSyncById = getStandardSyncsFromResult(connectionAndOperationIdsResult,
+        getNotificationConfigurationByConnectionIds(pageConnectionIds))
+            .stream()
+            .collect(Collectors.toMap(StandardSync::getConnectionId, Function.identity()));
+    return pageConnectionIds.stream().map(standardSyncById::get).toList();
+  }
+
   /**
    * List connections. Paginated.
    */
@@ -14,14 +14,19 @@ import io.airbyte.config.ActorDefinitionVersion;
 import io.airbyte.db.instance.configs.jooq.generated.Tables;
 import io.airbyte.db.instance.configs.jooq.generated.enums.ReleaseStage;
 import io.airbyte.db.instance.configs.jooq.generated.enums.SupportLevel;
+import io.airbyte.db.instance.configs.jooq.generated.tables.records.ActorDefinitionRecord;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import org.jooq.DSLContext;
+import org.jooq.Field;
 import org.jooq.JSONB;
 import org.jooq.Query;
 
@@ -208,4 +213,49 @@ public class ConnectorMetadataJooqHelper {
         .set(Tables.ACTOR_DEFINITION_BREAKING_CHANGE.UPDATED_AT, timestamp);
   }
 
+  /**
+   * Update the actor definitions whose stored columns differ from the given ones, with a single read
+   * and a single batch of updates. Actor definitions that don't exist or that are unchanged are left
+   * untouched, so their updated_at timestamp only moves when something actually changed.
+   *
+   * @param columnsByActorDefinitionId - the columns to set on each actor definition, by actor
+   *        definition id
+   * @param ctx database context
+   * @return the number of actor definitions updated
+   */
+  public static int updateChangedActorDefinitions(final Map<UUID, Map<Field<?>, Object>> columnsByActorDefinitionId, final DSLContext ctx) {
+    if (columnsByActorDefinitionId.isEmpty()) {
+      return 0;
+    }
+    final Map<UUID, ActorDefinitionRecord> currentRecords = ctx.selectFrom(ACTOR_DEFINITION)
+        .where(ACTOR_DEFINITION.ID.in(columnsByActorDefinitionId.keySet()))
+        .fetchMap(ACTOR_DEFINITION.ID);
+
+    final OffsetDateTime timestamp = OffsetDateTime.now();
+    final List<Query> updateQueries = new ArrayList<>();
+    columnsByActorDefinitionId.forEach((actorDefinitionId, columns) -> {
+      final ActorDefinitionRecord currentRecord = currentRecords.get(actorDefinitionId);
+      if (currentRecord == null || columns.entrySet().stream().allMatch(column -> isStoredValue(currentRecord, column.getKey(), column.getValue()))) {
+        return;
+      }
+      updateQueries.add(ctx.update(ACTOR_DEFINITION)
+          .set(columns)
+          .set(ACTOR_DEFINITION.UPDATED_AT, timestamp)
+          .where(ACTOR_DEFINITION.ID.eq(actorDefinitionId)));
+    });
+    if (!updateQueries.isEmpty()) {
+      ctx.batch(updateQueries).execute();
+    }
+    return updateQueries.size();
+  }
+
+  private static boolean isStoredValue(final ActorDefinitionRecord record, final Field<?> field, final Object value) {
+    final Object storedValue = record.get(field);
+    // Postgres normalizes jsonb, so compare the documents rather than their serializations.
+    if (storedValue instanceof JSONB && value instanceof JSONB) {
+      return Jsons.deserialize(((JSONB) storedValue).data()).equals(Jsons.deserialize(((JSONB) value).data()));
+    }
+    return Objects.equals(storedValue, value);
+  }
+
 }
@@ -51,6 +51,7 @@ import java.io.IOException;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -264,6 +265,21 @@ public class DestinationServiceJooqImpl implements DestinationService {
     });
   }
 
+  /**
+   * Update existing destination definitions in one transaction, only writing the ones that changed.
+   *
+   * @param destinationDefinitions destination definitions
+   * @return the number of destination definitions written
+   * @throws IOException - you never know when you IO
+   */
+  @Override
+  public int updateStandardDestinationDefinitions(final List<StandardDestinationDefinition> destinationDefinitions) throws IOException {
+    final Map<UUID, Map<Field<?>, Object>> columnsById = new LinkedHashMap<>();
+    destinationDefinitions.forEach(destinationDefinition -> columnsById.put(destinationDefinition.getDestinationDefinitionId(),
+        destinationDefinitionColumns(destinationDefinition)));
+    return database.transaction(ctx -> ConnectorMetadataJooqHelper.updateChangedActorDefinitions(columnsById, ctx));
+  }
+
   /**
    * Returns destination with a given id. Does not contain secrets.
    *
@@ -631,6 +647,28 @@ public class DestinationServiceJooqImpl implements DestinationService {
     return result.map(DbConverter::buildDestinationConnection).stream();
   }
 
+  /**
+   * Columns of the actor_definition table set when updating a destination definition.
+   */
+  private static Map<Field<?>, Object> destinationDefinitionColumns(final StandardDestinationDefinition standardDestinationDefinition) {
+    final Map<Field<?>, Object> columns = new LinkedHashMap<>();
+    columns.put(Tables.ACTOR_DEFINITION.ID, standardDestinationDefinition.getDestinationDefinitionId());
+    columns.put(Tables.ACTOR_DEFINITION.NAME, standardDestinationDefinition.getName());
+    columns.put(Tables.ACTOR_DEFINITION.ICON, standardDestinationDefinition.getIcon());
+    columns.put(Tables.ACTOR_DEFINITION.ICON_URL, standardDestinationDefinition.getIconUrl());
+    columns.put(Tables.ACTOR_DEFINITION.ACTOR_TYPE, ActorType.destination);
+    columns.put(Tables.ACTOR_DEFINITION.TOMBSTONE, standardDestinationDefinition.getTombstone());
+    columns.put(Tables.ACTOR_DEFINITION.PUBLIC, standardDestinationDefinition.getPublic());
+    columns.put(Tables.ACTOR_DEFINITION.CUSTOM, standardDestinationDefinition.getCustom());
+    columns.put(Tables.ACTOR_DEFINITION.RESOURCE_REQUIREMENTS,
+        standardDestinationDefinition.getResourceRequirements() == null ? null
+            : JSONB.valueOf(Jsons.serialize(standardDestinationDefinition.getResourceRequirements())));
+    columns.put(ACTOR_DEFINITION.METRICS,
+        standardDestinationDefinition.getMetrics() == null ? null
+            : JSONB.valueOf(Jsons.serialize(standardDestinationDefinition.getMetrics())));
+    return columns;
+  }
+
   static void writeStandardDestinationDefinition(final List<StandardDestinationDefinition> configs, final DSLContext ctx) {
     final OffsetDateTime timestamp = OffsetDateTime.now();
     configs.forEach((standardDestinationDefinition) -> {
@@ -640,20 +678,7 @@ public class DestinationServiceJooqImpl implements DestinationService {
 
       if (isExistingConfig) {
         ctx.update(Tables.ACTOR_DEFINITION)
-            .set(Tables.ACTOR_DEFINITION.ID, standardDestinationDefinition.getDestinationDefinitionId())
-            .set(Tables.ACTOR_DEFINITION.NAME, standardDestinationDefinition.getName())
-            .set(Tables.ACTOR_DEFINITION.ICON, standardDestinationDefinition.getIcon())
-            .set(Tables.ACTOR_DEFINITION.ICON_URL, standardDestinationDefinition.getIconUrl())
-            .set(Tables.ACTOR_DEFINITION.ACTOR_TYPE, ActorType.destination)
-            .set(Tables.ACTOR_DEFINITION.TOMBSTONE, standardDestinationDefinition.getTombstone())
-            .set(Tables.ACTOR_DEFINITION.PUBLIC, standardDestinationDefinition.getPublic())
-            .set(Tables.ACTOR_DEFINITION.CUSTOM, standardDestinationDefinition.getCustom())
-            .set(Tables.ACTOR_DEFINITION.RESOURCE_REQUIREMENTS,
-                standardDestinationDefinition.getResourceRequirements() == null ? null
-                    : JSONB.valueOf(Jsons.serialize(standardDestinationDefinition.getResourceRequirements())))
-            .set(ACTOR_DEFINITION.METRICS,
-                standardDestinationDefinition.getMetrics() == null ? null
-                    : JSONB.valueOf(Jsons.serialize(standardDestinationDefinition.getMetrics())))
+            .set(destinationDefinitionColumns(standardDestinationDefinition))
             .set(Tables.ACTOR_DEFINITION.UPDATED_AT, timestamp)
             .where(Tables.ACTOR_DEFINITION.ID.eq(standardDestinationDefinition.getDestinationDefinitionId()))
             .execute();
@@ -55,6 +55,7 @@ import java.io.IOException;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -252,6 +253,20 @@ public class SourceServiceJooqImpl implements SourceService {
     });
   }
 
+  /**
+   * Update existing source definitions in one transaction, only writing the ones that changed.
+   *
+   * @param sourceDefinitions source definitions
+   * @return the number of source definitions written
+   * @throws IOException - you never know when you IO
+   */
+  @Override
+  public int updateStandardSourceDefinitions(final List<StandardSourceDefinition> sourceDefinitions) throws IOException {
+    final Map<UUID, Map<Field<?>, Object>> columnsById = new LinkedHashMap<>();
+    sourceDefinitions.forEach(sourceDefinition -> columnsById.put(sourceDefinition.getSourceDefinitionId(), sourceDefinitionColumns(sourceDefinition)));
+    return database.transaction(ctx -> ConnectorMetadataJooqHelper.updateChangedActorDefinitions(columnsById, ctx));
+  }
+
   /**
    * Returns source with a given id. Does not contain secrets. To hydrate with secrets see { @link
    * SecretsRepositoryReader#getSourceConnectionWithSecrets(final UUID sourceId) }.
@@ -572,6 +587,35 @@ public class SourceServiceJooqImpl implements SourceService {
     return Map.entry(actorDefinition, granted);
   }
 
+  /**
+   * Columns of the actor_definition table set when updating a source definition.
+   */
+  private static Map<Field<?>, Object> sourceDefinitionColumns(final StandardSourceDefinition standardSourceDefinition) {
+    final Map<Field<?>, Object> columns = new LinkedHashMap<>();
+    columns.put(Tables.ACTOR_DEFINITION.ID, standardSourceDefinition.getSourceDefinitionId());
+    columns.put(Tables.ACTOR_DEFINITION.NAME, standardSourceDefinition.getName());
+    columns.put(Tables.ACTOR_DEFINITION.ICON, standardSourceDefinition.getIcon());
+    columns.put(Tables.ACTOR_DEFINITION.ICON_URL, standardSourceDefinition.getIconUrl());
+    columns.put(Tables.ACTOR_DEFINITION.ACTOR_TYPE, ActorType.source);
+    columns.put(Tables.ACTOR_DEFINITION.SOURCE_TYPE,
+        standardSourceDefinition.getSourceType() == null ? null
+            : Enums.toEnum(standardSourceDefinition.getSourceType().value(),
+                SourceType.class).orElseThrow());
+    columns.put(Tables.ACTOR_DEFINITION.TOMBSTONE, standardSourceDefinition.getTombstone());
+    columns.put(Tables.ACTOR_DEFINITION.PUBLIC, standardSourceDefinition.getPublic());
+    columns.put(Tables.ACTOR_DEFINITION.CUSTOM, standardSourceDefinition.getCustom());
+    columns.put(Tables.ACTOR_DEFINITION.RESOURCE_REQUIREMENTS,
+        standardSourceDefinition.getResourceRequirements() == null ? null
+            : JSONB.valueOf(Jsons.serialize(standardSourceDefinition.getResourceRequirements())));
+    columns.put(Tables.ACTOR_DEFINITION.MAX_SECONDS_BETWEEN_MESSAGES,
+        standardSourceDefinition.getMaxSecondsBetweenMessages() == null ? null
+            : standardSourceDefinition.getMaxSecondsBetweenMessages().intValue());
+    columns.put(ACTOR_DEFINITION.METRICS,
+        standardSourceDefinition.getMetrics() == null ? null
+            : JSONB.valueOf(Jsons.serialize(standardSourceDefinition.getMetrics())));
+    return columns;
+  }
+
   private static void writeStandardSourceDefinition(final List<StandardSourceDefinition> configs, final DSLContext ctx) {
     final OffsetDateTime timestamp = OffsetDateTime.now();
     configs.forEach((standardSourceDefinition) -> {
@@ -581,28 +625,8 @@ public class SourceServiceJooqImpl implements SourceService {
 
       if (isExistingConfig) {
         ctx.update(Tables.ACTOR_DEFINITION)
-            .set(Tables.ACTOR_DEFINITION.ID, standardSourceDefinition.getSourceDefinitionId())
-            .set(Tables.ACTOR_DEFINITION.NAME, standardSourceDefinition.getName())
-            .set(Tables.ACTOR_DEFINITION.ICON, standardSourceDefinition.getIcon())
-            .set(Tables.ACTOR_DEFINITION.ICON_URL, standardSourceDefinition.getIconUrl())
-            .set(Tables.ACTOR_DEFINITION.ACTOR_TYPE, ActorType.source)
-            .set(Tables.ACTOR_DEFINITION.SOURCE_TYPE,
-                standardSourceDefinition.getSourceType() == null ? null
-                    : Enums.toEnum(standardSourceDefinition.getSourceType().value(),
-                        SourceType.class).orElseThrow())
-            .set(Tables.ACTOR_DEFINITION.TOMBSTONE, standardSourceDefinition.getTombstone())
-            .set(Tables.ACTOR_DEFINITION.PUBLIC, standardSourceDefinition.getPublic())
-            .set(Tables.ACTOR_DEFINITION.CUSTOM, standardSourceDefinition.getCustom())
-            .set(Tables.ACTOR_DEFINITION.RESOURCE_REQUIREMENTS,
-                standardSourceDefinition.getResourceRequirements() == null ? null
-                    : JSONB.valueOf(Jsons.serialize(standardSourceDefinition.getResourceRequirements())))
+            .set(sourceDefinitionColumns(standardSourceDefinition))
             .set(Tables.ACTOR_DEFINITION.UPDATED_AT, timestamp)
-            .set(Tables.ACTOR_DEFINITION.MAX_SECONDS_BETWEEN_MESSAGES,
-                standardSourceDefinition.getMaxSecondsBetweenMessages() == null ? null
-                    : standardSourceDefinition.getMaxSecondsBetweenMessages().intValue())
-            .set(ACTOR_DEFINITION.METRICS,
-                standardSourceDefinition.getMetrics() == null ? null
-                    : JSONB.valueOf(Jsons.serialize(standardSourceDefinition.getMetrics())))
             .where(Tables.ACTOR_DEFINITION.ID.eq(standardSourceDefinition.getSourceDefinitionId()))
             .execute();
 
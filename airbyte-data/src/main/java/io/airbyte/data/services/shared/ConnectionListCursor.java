@@ -0,0 +1,18 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.data.services.shared;
+
+import jakarta.annotation.Nonnull;
+import java.util.UUID;
+
+/**
+ * Position of the last connection of a page, used to fetch the following page.
+ *
+ * @param sortValue value of the sort key for the last connection of the page
+ * @param connectionId id of the last connection of the page
+ */
+public record ConnectionListCursor(@Nonnull String sortValue, @Nonnull UUID connectionId) {
+
+}
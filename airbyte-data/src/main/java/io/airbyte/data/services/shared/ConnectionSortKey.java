@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.data.services.shared;
+
+/**
+ * Sort orders supported when listing the connections of a workspace. Ties are broken by connection
+ * id so that the order is total and can be used for cursor pagination.
+ */
+public enum ConnectionSortKey {
+
+  CONNECTION_NAME_ASC(true),
+  CONNECTION_NAME_DESC(false),
+  SOURCE_NAME_ASC(true),
+  SOURCE_NAME_DESC(false),
+  DESTINATION_NAME_ASC(true),
+  DESTINATION_NAME_DESC(false);
+
+  private final boolean ascending;
+
+  ConnectionSortKey(final boolean ascending) {
+    this.ascending = ascending;
+  }
+
+  public boolean isAscending() {
+    return ascending;
+  }
+
+}
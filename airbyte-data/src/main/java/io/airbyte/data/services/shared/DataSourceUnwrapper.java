@@ -25,7 +25,8 @@ public class DataSourceUnwrapper {
   public static DSLContext unwrapContext(final DSLContext context) {
     final var datasource = ((DataSourceConnectionProvider) context.configuration().connectionProvider()).dataSource();
 
-    return DSLContextFactory.create(unwrapDataSource(datasource), SQLDialect.POSTGRES);
+    // Carry over listeners (e.g. query metrics) registered on the framework-managed context.
+    return DSLContextFactory.create(unwrapDataSource(datasource), SQLDialect.POSTGRES, context.configuration().executeListenerProviders());
   }
 
 }
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.data.services.shared;
+
+import io.airbyte.config.StandardSync;
+import jakarta.annotation.Nonnull;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Query object for cursor paginated, sorted and filtered listing of the connections of a workspace.
+ *
+ * @param standardSyncQuery workspace, source and destination filters
+ * @param searchTerm case insensitive match on the connection, source or destination name
+ * @param sourceDefinitionIds source definitions to filter by
+ * @param destinationDefinitionIds destination definitions to filter by
+ * @param statuses connection statuses to filter by
+ * @param sortKey sort order
+ * @param cursor position of the last connection of the previous page, null for the first page
+ * @param pageSize limit
+ */
+public record StandardSyncsQueryCursorPaginated(
+                                                @Nonnull StandardSyncQuery standardSyncQuery,
+                                                String searchTerm,
+                                                List<UUID> sourceDefinitionIds,
+                                                List<UUID> destinationDefinitionIds,
+                                                List<StandardSync.Status> statuses,
+                                                @Nonnull ConnectionSortKey sortKey,
+                                                ConnectionListCursor cursor,
+                                                int pageSize) {
+
+}
@@ -14,6 +14,7 @@ import io.micronaut.data.annotation.Id
 import io.micronaut.data.annotation.MappedEntity
 import io.micronaut.data.annotation.Relation
 import io.micronaut.data.annotation.TypeDef
+import io.micronaut.data.jdbc.annotation.ColumnTransformer
 import io.micronaut.data.model.DataType
 import java.util.EnumSet
 
@@ -50,28 +51,31 @@ open class Job(
   var updatedAt: java.time.OffsetDateTime? = null,
 )
 
+/**
+ * A job and its attempts, as job lists read them. The config of the job is its summary, which leaves out the schemas of
+ * its configured streams, or its full config for jobs created before summaries were stored.
+ */
 @MappedEntity("jobs")
 class JobWithAttempts(
-  id: Long? = null,
-  configType: JobConfigType? = null,
-  scope: String? = null,
-  config: JsonNode? = null,
-  status: JobStatus? = null,
-  startedAt: java.time.OffsetDateTime? = null,
-  createdAt: java.time.OffsetDateTime? = null,
-  updatedAt: java.time.OffsetDateTime? = null,
+  @field:Id
+  @AutoPopulated
+  var id: Long? = null,
+  @field:TypeDef(type = DataType.OBJECT)
+  var configType: JobConfigType? = null,
+  var scope: String? = null,
+  @field:TypeDef(type = DataType.JSON)
+  @field:ColumnTransformer(read = "COALESCE(@.config_summary, @.config)")
+  var config: JsonNode? = null,
+  @field:TypeDef(type = DataType.OBJECT)
+  var status: JobStatus? = null,
+  var startedAt: java.time.OffsetDateTime? = null,
+  @DateCreated
+  var createdAt: java.time.OffsetDateTime? = null,
+  @DateUpdated
+  var updatedAt: java.time.OffsetDateTime? = null,
   @Relation(
     value = Relation.Kind.ONE_TO_MANY,
     mappedBy = "job",
   )
   var attempts: List<AttemptWithAssociations>? = null,
-) : Job(
-    id = id,
-    configType = configType,
-    scope = scope,
-    config = config,
-    status = status,
-    startedAt = startedAt,
-    createdAt = createdAt,
-    updatedAt = updatedAt,
-  )
+)
@@ -12,7 +12,9 @@ import io.airbyte.data.services.RemoveLastOrgAdminPermissionException
 import io.airbyte.data.services.WorkspaceService
 import io.airbyte.data.services.impls.data.mappers.toConfigModel
 import io.airbyte.data.services.impls.data.mappers.toEntity
+import io.airbyte.data.services.shared.PermissionChangedEvent
 import io.airbyte.db.instance.configs.jooq.generated.enums.PermissionType
+import io.micronaut.context.event.ApplicationEventPublisher
 import io.micronaut.transaction.annotation.Transactional
 import jakarta.inject.Singleton
 import java.util.UUID
@@ -21,6 +23,7 @@ import java.util.UUID
 open class PermissionServiceDataImpl(
   private val workspaceService: WorkspaceService,
   private val permissionRepository: PermissionRepository,
+  private val eventPublisher: ApplicationEventPublisher<PermissionChangedEvent>,
 ) : PermissionService {
   override fun listPermissions(): List<Permission> {
     return permissionRepository.find().map { it.toConfigModel() }
@@ -42,6 +45,7 @@ open class PermissionServiceDataImpl(
     val userPermissions = getPermissionsForUser(permissionsToDelete.first().userId)
     val workspacePermissionsToDelete = cascadeOrganizationPermissionDeletes(permissionsToDelete, userPermissions)
     permissionRepository.deleteByIdIn(listOf(permissionId) + workspacePermissionsToDelete)
+    eventPublisher.publishEvent(PermissionChangedEvent(setOf(permissionsToDelete.first().userId)))
   }
 
   @Transactional("config")
@@ -60,6 +64,7 @@ open class PermissionServiceDataImpl(
     val userPermissions = getPermissionsForUser(permissionsToDelete.first().userId)
     val workspacePermissionsToDelete = cascadeOrganizationPermissionDeletes(permissionsToDelete, userPermissions)
     permissionRepository.deleteByIdIn(permissionIds + workspacePermissionsToDelete)
+    eventPublisher.publishEvent(PermissionChangedEvent(setOf(permissionsToDelete.first().userId)))
   }
 
   @Transactional("config")
@@ -76,7 +81,9 @@ open class PermissionServiceDataImpl(
     // remove any permissions that would be made redundant by adding in the new permission
     deletePermissionsMadeRedundantByPermission(permission, existingUserPermissions)
 
-    return permissionRepository.save(permission.toEntity()).toConfigModel()
+    val createdPermission = permissionRepository.save(permission.toEntity()).toConfigModel()
+    eventPublisher.publishEvent(PermissionChangedEvent(setOf(permission.userId)))
+    return createdPermission
   }
 
   @Transactional("config")
@@ -89,6 +96,7 @@ open class PermissionServiceDataImpl(
     // remove the permission being updated if it is now redundant.
     if (isRedundantWorkspacePermission(permission, otherPermissionsForUser)) {
       permissionRepository.deleteById(permission.permissionId)
+      eventPublisher.publishEvent(PermissionChangedEvent(setOf(permission.userId)))
       return
     }
 
@@ -96,6 +104,7 @@ open class PermissionServiceDataImpl(
     deletePermissionsMadeRedundantByPermission(permission, otherPermissionsForUser)
 
     permissionRepository.update(permission.toEntity()).toConfigModel()
+    eventPublisher.publishEvent(PermissionChangedEvent(setOf(permission.userId)))
   }
 
   private fun deletePermissionsMadeRedundantByPermission(
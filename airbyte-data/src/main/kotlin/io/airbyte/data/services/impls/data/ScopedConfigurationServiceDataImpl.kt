@@ -11,13 +11,18 @@ import io.airbyte.data.services.ScopedConfigurationService
 import io.airbyte.data.services.impls.data.mappers.toConfigModel
 import io.airbyte.data.services.impls.data.mappers.toEntity
 import io.airbyte.data.services.shared.ConfigScopeMapWithId
+import io.airbyte.data.services.shared.ScopedConfigurationChangedEvent
 import io.airbyte.data.services.shared.ScopedConfigurationKey
+import io.micronaut.context.event.ApplicationEventPublisher
 import jakarta.inject.Singleton
 import java.util.Optional
 import java.util.UUID
 
 @Singleton
-class ScopedConfigurationServiceDataImpl(private val repository: ScopedConfigurationRepository) : ScopedConfigurationService {
+class ScopedConfigurationServiceDataImpl(
+  private val repository: ScopedConfigurationRepository,
+  private val eventPublisher: ApplicationEventPublisher<ScopedConfigurationChangedEvent>,
+) : ScopedConfigurationService {
   override fun getScopedConfiguration(configId: UUID): ScopedConfiguration {
     return repository.findById(configId).orElseThrow {
       ConfigNotFoundException(ConfigSchema.SCOPED_CONFIGURATION, configId)
@@ -161,15 +166,21 @@ class ScopedConfigurationServiceDataImpl(private val repository: ScopedConfigura
   }
 
   override fun writeScopedConfiguration(scopedConfiguration: ScopedConfiguration): ScopedConfiguration {
-    if (repository.existsById(scopedConfiguration.id)) {
-      return repository.update(scopedConfiguration.toEntity()).toConfigModel()
-    }
+    val written =
+      if (repository.existsById(scopedConfiguration.id)) {
+        repository.update(scopedConfiguration.toEntity()).toConfigModel()
+      } else {
+        repository.save(scopedConfiguration.toEntity()).toConfigModel()
+      }
 
-    return repository.save(scopedConfiguration.toEntity()).toConfigModel()
+    eventPublisher.publishEvent(ScopedConfigurationChangedEvent(listOf(written.id)))
+    return written
   }
 
   override fun insertScopedConfigurations(scopedConfigurations: List<ScopedConfiguration>): List<ScopedConfiguration> {
-    return repository.saveAll(scopedConfigurations.map { it.toEntity() }).map { it.toConfigModel() }
+    val inserted = repository.saveAll(scopedConfigurations.map { it.toEntity() }).map { it.toConfigModel() }
+    eventPublisher.publishEvent(ScopedConfigurationChangedEvent(inserted.map { it.id }))
+    return inserted
   }
 
   override fun listScopedConfigurations(): List<ScopedConfiguration> {
@@ -232,9 +243,11 @@ class ScopedConfigurationServiceDataImpl(private val repository: ScopedConfigura
 
   override fun deleteScopedConfiguration(configId: UUID) {
     repository.deleteById(configId)
+    eventPublisher.publishEvent(ScopedConfigurationChangedEvent(listOf(configId)))
   }
 
   override fun deleteScopedConfigurations(configIds: List<UUID>) {
     repository.deleteByIdInList(configIds)
+    eventPublisher.publishEvent(ScopedConfigurationChangedEvent(configIds))
   }
 }
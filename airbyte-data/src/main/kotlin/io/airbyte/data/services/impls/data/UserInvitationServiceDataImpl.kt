@@ -16,6 +16,8 @@ import io.airbyte.data.services.impls.data.mappers.EntityScopeType
 import io.airbyte.data.services.impls.data.mappers.EntityUserInvitation
 import io.airbyte.data.services.impls.data.mappers.toConfigModel
 import io.airbyte.data.services.impls.data.mappers.toEntity
+import io.airbyte.data.services.shared.PermissionChangedEvent
+import io.micronaut.context.event.ApplicationEventPublisher
 import io.micronaut.transaction.annotation.Transactional
 import jakarta.inject.Singleton
 import java.time.OffsetDateTime
@@ -25,6 +27,7 @@ import java.util.UUID
 open class UserInvitationServiceDataImpl(
   private val userInvitationRepository: UserInvitationRepository,
   private val permissionRepository: PermissionRepository,
+  private val eventPublisher: ApplicationEventPublisher<PermissionChangedEvent>,
 ) : UserInvitationService {
   override fun getUserInvitationByInviteCode(inviteCode: String): UserInvitation {
     return userInvitationRepository.findByInviteCode(inviteCode).orElseThrow {
@@ -97,6 +100,7 @@ open class UserInvitationServiceDataImpl(
         EntityScopeType.workspace -> workspaceId = invitation.scopeId
       }
     }.let { permissionRepository.save(it) }
+    eventPublisher.publishEvent(PermissionChangedEvent(setOf(acceptingUserId)))
 
     // mark the invitation as accepted
     invitation.status = EntityInvitationStatus.accepted
@@ -0,0 +1,11 @@
+package io.airbyte.data.services.shared
+
+import java.util.UUID
+
+/**
+ * Published whenever permissions are created, updated or deleted, so that in-memory state derived
+ * from them (e.g. cached authorization decisions) can be invalidated.
+ */
+data class PermissionChangedEvent(
+  val userIds: Set<UUID>,
+)
@@ -0,0 +1,11 @@
+package io.airbyte.data.services.shared
+
+import java.util.UUID
+
+/**
+ * Published whenever scoped configurations are written or deleted, so that in-memory state derived
+ * from them (e.g. resolved connector versions) can be invalidated.
+ */
+data class ScopedConfigurationChangedEvent(
+  val configIds: List<UUID>,
+)
@@ -16,16 +16,25 @@ import io.airbyte.config.StandardSync;
 import io.airbyte.config.helpers.CatalogHelpers;
 import io.airbyte.config.helpers.FieldGenerator;
 import io.airbyte.data.exceptions.ConfigNotFoundException;
+import io.airbyte.data.services.shared.ConnectionListCursor;
+import io.airbyte.data.services.shared.ConnectionSortKey;
+import io.airbyte.data.services.shared.StandardSyncQuery;
+import io.airbyte.data.services.shared.StandardSyncsQueryCursorPaginated;
 import io.airbyte.protocol.models.Field;
 import io.airbyte.protocol.models.JsonSchemaType;
 import io.airbyte.test.utils.BaseConfigDatabaseTest;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
@@ -97,6 +106,84 @@ class ConnectionServiceJooqImplTest extends BaseConfigDatabaseTest {
     }
   }
 
+  @ParameterizedTest
+  @EnumSource(value = ConnectionSortKey.class,
+              names = {"CONNECTION_NAME_ASC", "CONNECTION_NAME_DESC", "SOURCE_NAME_ASC", "SOURCE_NAME_DESC"})
+  void testListWorkspaceStandardSyncsCursorPaginated(final ConnectionSortKey sortKey)
+      throws IOException, JsonValidationException, ConfigNotFoundException {
+    final JooqTestDbSetupHelper jooqTestDbSetupHelper = new JooqTestDbSetupHelper();
+    jooqTestDbSetupHelper.setupForVersionUpgradeTest();
+    final SourceConnection source = jooqTestDbSetupHelper.getSource();
+    final SourceConnection otherSource = jooqTestDbSetupHelper.createActorForActorDefinition(jooqTestDbSetupHelper.getSourceDefinition());
+    final DestinationConnection destination = jooqTestDbSetupHelper.getDestination();
+
+    // equal names, and sources that all have the same name, need the connection id to break ties
+    final List<StandardSync> syncs = new ArrayList<>();
+    for (final String name : List.of("beta", "alpha", "Alpha", "gamma", "beta", "alpha")) {
+      final StandardSync sync = createStandardSync(syncs.size() % 2 == 0 ? source : otherSource, destination, List.of()).withName(name);
+      connectionServiceJooqImpl.writeStandardSync(sync);
+      syncs.add(sync);
+    }
+
+    // postgres compares uuids byte by byte, like their string representations
+    final Comparator<StandardSync> byId = Comparator.comparing(sync -> sync.getConnectionId().toString());
+    final Comparator<StandardSync> byName = switch (sortKey) {
+      case CONNECTION_NAME_ASC, CONNECTION_NAME_DESC -> Comparator.<StandardSync, String>comparing(sync -> sync.getName().toLowerCase(Locale.ROOT))
+          .thenComparing(byId);
+      default -> byId;
+    };
+    final List<UUID> expectedIds = syncs.stream()
+        .sorted(sortKey.isAscending() ? byName : byName.reversed())
+        .map(StandardSync::getConnectionId)
+        .toList();
+
+    for (final int pageSize : List.of(1, 2, 4, 10)) {
+      assertEquals(expectedIds, listAllPages(jooqTestDbSetupHelper.getWorkspace().getWorkspaceId(), sortKey, pageSize), "page size " + pageSize);
+    }
+  }
+
+  private List<UUID> listAllPages(final UUID workspaceId, final ConnectionSortKey sortKey, final int pageSize) throws IOException {
+    final List<UUID> connectionIds = new ArrayList<>();
+    ConnectionListCursor cursor = null;
+    while (true) {
+      final List<StandardSync> page = connectionServiceJooqImpl.listWorkspaceStandardSyncsCursorPaginated(new StandardSyncsQueryCursorPaginated(
+          new StandardSyncQuery(workspaceId, null, null, false), null, null, null, null, sortKey, cursor, pageSize));
+      page.forEach(sync -> connectionIds.add(sync.getConnectionId()));
+      if (page.size() < pageSize) {
+        return connectionIds;
+      }
+      final StandardSync last = page.get(page.size() - 1);
+      final String sortValue = switch (sortKey) {
+        case CONNECTION_NAME_ASC, CONNECTION_NAME_DESC -> last.getName();
+        default -> "source";
+      };
+      cursor = new ConnectionListCursor(sortValue, last.getConnectionId());
+    }
+  }
+
+  @Test
+  void testListWorkspaceStandardSyncsCursorPaginatedWithEmptySortValue()
+      throws IOException, JsonValidationException, ConfigNotFoundException {
+    final JooqTestDbSetupHelper jooqTestDbSetupHelper = new JooqTestDbSetupHelper();
+    jooqTestDbSetupHelper.setupForVersionUpgradeTest();
+    final SourceConnection source = jooqTestDbSetupHelper.getSource();
+    final DestinationConnection destination = jooqTestDbSetupHelper.getDestination();
+    final StandardSync unnamed = createStandardSync(source, destination, List.of()).withName("");
+    final StandardSync named = createStandardSync(source, destination, List.of()).withName("a");
+    connectionServiceJooqImpl.writeStandardSync(unnamed);
+    connectionServiceJooqImpl.writeStandardSync(named);
+    final StandardSyncQuery query = new StandardSyncQuery(jooqTestDbSetupHelper.getWorkspace().getWorkspaceId(), null, null, false);
+
+    // the cursor of a connection without a name, as the handler issues it, leads to the next page
+    final List<StandardSync> nextPage = connectionServiceJooqImpl.listWorkspaceStandardSyncsCursorPaginated(new StandardSyncsQueryCursorPaginated(
+        query, null, null, null, null, ConnectionSortKey.CONNECTION_NAME_ASC, new ConnectionListCursor("", unnamed.getConnectionId()), 10));
+    assertEquals(List.of(named.getConnectionId()), nextPage.stream().map(StandardSync::getConnectionId).toList());
+
+    final List<StandardSync> previousPage = connectionServiceJooqImpl.listWorkspaceStandardSyncsCursorPaginated(new StandardSyncsQueryCursorPaginated(
+        query, null, null, null, null, ConnectionSortKey.CONNECTION_NAME_DESC, new ConnectionListCursor("a", named.getConnectionId()), 10));
+    assertEquals(List.of(unnamed.getConnectionId()), previousPage.stream().map(StandardSync::getConnectionId).toList());
+  }
+
   private StandardSync createStandardSync(final SourceConnection source,
                                           final DestinationConnection destination,
                                           final List<ConfiguredAirbyteStream> streams) {
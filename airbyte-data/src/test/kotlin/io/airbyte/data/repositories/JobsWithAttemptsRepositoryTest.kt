@@ -213,4 +213,37 @@ internal class JobsWithAttemptsRepositoryTest : AbstractConfigRepositoryTest() {
     assertEquals(resultList2.size, 1)
     assertEquals(resultList2[0].id, savedJob.id)
   }
+
+  @Test
+  fun testFetchReadsTheConfigSummary() {
+    val scope = UUID.randomUUID().toString()
+    val config = Jsons.jsonNode(mapOf("streams" to listOf(mapOf("jsonSchema" to mapOf("type" to "object")))))
+    val summary = Jsons.jsonNode(mapOf("streams" to listOf(mapOf<String, String>())))
+    val summarizedJob =
+      jobsRepository.save(
+        Job(id = 1L, status = JobStatus.succeeded, scope = scope, configType = JobConfigType.sync, config = config),
+      )
+    val unsummarizedJob =
+      jobsRepository.save(
+        Job(id = 2L, status = JobStatus.succeeded, scope = scope, configType = JobConfigType.sync, config = config),
+      )
+    jooqDslContext.execute("UPDATE jobs SET config_summary = ?::jsonb WHERE id = ?", Jsons.serialize(summary), summarizedJob.id)
+
+    val results =
+      jobsWithAttemptsRepository
+        .findAll(
+          Specifications.jobWithAssociatedAttempts(
+            statuses = setOf(),
+            updatedAtStart = null,
+            createdAtStart = null,
+            updatedAtEnd = null,
+            createdAtEnd = null,
+            configTypes = setOf(),
+            scope = scope,
+          ),
+        ).associateBy { it.id }
+
+    assertEquals(summary, results[summarizedJob.id]?.config)
+    assertEquals(config, results[unsummarizedJob.id]?.config)
+  }
 }
@@ -8,6 +8,8 @@ import io.airbyte.data.services.PermissionRedundantException
 import io.airbyte.data.services.RemoveLastOrgAdminPermissionException
 import io.airbyte.data.services.WorkspaceService
 import io.airbyte.data.services.impls.data.mappers.toEntity
+import io.airbyte.data.services.shared.PermissionChangedEvent
+import io.micronaut.context.event.ApplicationEventPublisher
 import io.mockk.Runs
 import io.mockk.confirmVerified
 import io.mockk.every
@@ -27,13 +29,15 @@ class PermissionServiceDataImplTest {
 
   private lateinit var workspaceService: WorkspaceService
   private lateinit var permissionRepository: PermissionRepository
+  private lateinit var eventPublisher: ApplicationEventPublisher<PermissionChangedEvent>
   private lateinit var permissionService: PermissionServiceDataImpl
 
   @BeforeEach
   fun setUp() {
     workspaceService = mockk()
     permissionRepository = mockk()
-    permissionService = PermissionServiceDataImpl(workspaceService, permissionRepository)
+    eventPublisher = mockk(relaxed = true)
+    permissionService = PermissionServiceDataImpl(workspaceService, permissionRepository, eventPublisher)
   }
 
   @Nested
@@ -105,6 +109,7 @@ class PermissionServiceDataImplTest {
       verify { permissionRepository.findByOrganizationId(orgId) }
       verify { permissionRepository.deleteByIdIn(listOf(permId)) }
       confirmVerified(permissionRepository)
+      verify { eventPublisher.publishEvent(PermissionChangedEvent(setOf(testUserId))) }
     }
 
     @Test
@@ -139,6 +144,7 @@ class PermissionServiceDataImplTest {
       verify { permissionRepository.findByOrganizationId(orgId) }
       verify(exactly = 0) { permissionRepository.deleteByIdIn(any()) }
       confirmVerified(permissionRepository)
+      verify(exactly = 0) { eventPublisher.publishEvent(any()) }
     }
 
     @Test
@@ -507,6 +513,7 @@ class PermissionServiceDataImplTest {
       verify { permissionRepository.findByUserId(testUserId) }
       verify(exactly = 1) { permissionRepository.save(newPermission.toEntity()) }
       confirmVerified(permissionRepository)
+      verify { eventPublisher.publishEvent(PermissionChangedEvent(setOf(testUserId))) }
     }
 
     @Test
@@ -538,6 +545,7 @@ class PermissionServiceDataImplTest {
       // nothing saved or deleted
       verify(exactly = 0) { permissionRepository.save(any()) }
       verify(exactly = 0) { permissionRepository.deleteById(any()) }
+      verify(exactly = 0) { eventPublisher.publishEvent(any()) }
     }
 
     @Test
@@ -8,8 +8,10 @@ import io.airbyte.data.services.impls.data.mappers.ModelConfigOriginType
 import io.airbyte.data.services.impls.data.mappers.ModelConfigScopeType
 import io.airbyte.data.services.impls.data.mappers.toConfigModel
 import io.airbyte.data.services.shared.ConfigScopeMapWithId
+import io.airbyte.data.services.shared.ScopedConfigurationChangedEvent
 import io.airbyte.data.services.shared.ScopedConfigurationKey
 import io.airbyte.db.instance.configs.jooq.generated.enums.ConfigOriginType
+import io.micronaut.context.event.ApplicationEventPublisher
 import io.mockk.clearAllMocks
 import io.mockk.every
 import io.mockk.justRun
@@ -30,7 +32,8 @@ typealias ModelConfigResourceType = io.airbyte.config.ConfigResourceType
 
 internal class ScopedConfigurationServiceDataImplTest {
   private val scopedConfigurationRepository = mockk<ScopedConfigurationRepository>()
-  private val scopedConfigurationService = ScopedConfigurationServiceDataImpl(scopedConfigurationRepository)
+  private val eventPublisher = mockk<ApplicationEventPublisher<ScopedConfigurationChangedEvent>>(relaxed = true)
+  private val scopedConfigurationService = ScopedConfigurationServiceDataImpl(scopedConfigurationRepository, eventPublisher)
 
   @BeforeEach
   fun reset() {
@@ -674,6 +677,7 @@ internal class ScopedConfigurationServiceDataImplTest {
     verify {
       scopedConfigurationRepository.existsById(configId)
       scopedConfigurationRepository.update(config)
+      eventPublisher.publishEvent(ScopedConfigurationChangedEvent(listOf(configId)))
     }
   }
 
@@ -952,5 +956,6 @@ internal class ScopedConfigurationServiceDataImplTest {
     scopedConfigurationService.deleteScopedConfigurations(configIds)
 
     verifyAll { scopedConfigurationRepository.deleteByIdInList(configIds) }
+    verify { eventPublisher.publishEvent(ScopedConfigurationChangedEvent(configIds)) }
   }
 }
@@ -13,6 +13,8 @@ import io.airbyte.data.services.impls.data.mappers.EntityInvitationStatus
 import io.airbyte.data.services.impls.data.mappers.EntityPermissionType
 import io.airbyte.data.services.impls.data.mappers.EntityScopeType
 import io.airbyte.data.services.impls.data.mappers.toConfigModel
+import io.airbyte.data.services.shared.PermissionChangedEvent
+import io.micronaut.context.event.ApplicationEventPublisher
 import io.mockk.clearAllMocks
 import io.mockk.confirmVerified
 import io.mockk.every
@@ -31,7 +33,8 @@ import java.util.UUID
 internal class UserInvitationServiceDataImplTest {
   private val userInvitationRepository = mockk<UserInvitationRepository>()
   private val permissionRepository = mockk<PermissionRepository>()
-  private val userInvitationService = UserInvitationServiceDataImpl(userInvitationRepository, permissionRepository)
+  private val eventPublisher = mockk<ApplicationEventPublisher<PermissionChangedEvent>>(relaxed = true)
+  private val userInvitationService = UserInvitationServiceDataImpl(userInvitationRepository, permissionRepository, eventPublisher)
 
   private val invitation =
     UserInvitation(
@@ -142,6 +145,9 @@ internal class UserInvitationServiceDataImplTest {
 
     // verify the invitation status is updated to accepted
     verify { userInvitationRepository.update(expectedUpdatedInvitation) }
+
+    // verify the cached permission decisions of the invited user are invalidated
+    verify { eventPublisher.publishEvent(PermissionChangedEvent(setOf(invitedUserId))) }
   }
 
   @ParameterizedTest
@@ -7,8 +7,10 @@ package io.airbyte.db.factory;
 import java.util.Map;
 import javax.sql.DataSource;
 import org.jooq.DSLContext;
+import org.jooq.ExecuteListenerProvider;
 import org.jooq.SQLDialect;
 import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultConfiguration;
 
 /**
  * Temporary factory class that provides convenience methods for creating a {@link DSLContext}
@@ -28,6 +30,27 @@ public class DSLContextFactory {
     return DSL.using(dataSource, dialect);
   }
 
+  /**
+   * Constructs a configured {@link DSLContext} instance using the provided configuration, notifying
+   * the given listeners of every query it executes.
+   *
+   * @param dataSource The {@link DataSource} used to connect to the database.
+   * @param dialect The SQL dialect to use with objects created from this context.
+   * @param executeListenerProviders Providers of the listeners to attach (e.g. query metrics).
+   * @return The configured {@link DSLContext}.
+   */
+  public static DSLContext create(final DataSource dataSource,
+                                  final SQLDialect dialect,
+                                  final ExecuteListenerProvider... executeListenerProviders) {
+    if (executeListenerProviders.length == 0) {
+      return create(dataSource, dialect);
+    }
+    return DSL.using(new DefaultConfiguration()
+        .set(dataSource)
+        .set(dialect)
+        .set(executeListenerProviders));
+  }
+
   /**
    * Constructs a configured {@link DSLContext} instance using the provided configuration.
    *
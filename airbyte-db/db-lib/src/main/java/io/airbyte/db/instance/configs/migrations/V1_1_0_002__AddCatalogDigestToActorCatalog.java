@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.instance.configs.migrations;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Adds a nullable sha-256 digest of the canonical catalog to actor_catalog, with a unique index so
+ * de-duplication is a single indexed equality lookup. Existing rows are backfilled in the
+ * background, which is why the column is nullable.
+ */
+public class V1_1_0_002__AddCatalogDigestToActorCatalog extends BaseJavaMigration {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(V1_1_0_002__AddCatalogDigestToActorCatalog.class);
+
+  static final String ACTOR_CATALOG_TABLE = "actor_catalog";
+  static final String CATALOG_DIGEST_COLUMN = "catalog_digest";
+  static final String CATALOG_DIGEST_INDEX = "actor_catalog_catalog_digest_idx";
+
+  @Override
+  public void migrate(final Context context) throws Exception {
+    LOGGER.info("Running migration: {}", this.getClass().getSimpleName());
+
+    // Warning: please do not use any jOOQ generated code to write a migration.
+    // As database schema changes, the generated jOOQ code can be deprecated. So
+    // old migration may not compile if there is any generated code.
+    final DSLContext ctx = DSL.using(context.getConnection());
+    runMigration(ctx);
+  }
+
+  static void runMigration(final DSLContext ctx) {
+    ctx.alterTable(ACTOR_CATALOG_TABLE)
+        .addColumnIfNotExists(CATALOG_DIGEST_COLUMN, SQLDataType.VARCHAR(64).nullable(true))
+        .execute();
+
+    ctx.createUniqueIndexIfNotExists(CATALOG_DIGEST_INDEX)
+        .on(DSL.table(ACTOR_CATALOG_TABLE), DSL.field(CATALOG_DIGEST_COLUMN))
+        .execute();
+  }
+
+}
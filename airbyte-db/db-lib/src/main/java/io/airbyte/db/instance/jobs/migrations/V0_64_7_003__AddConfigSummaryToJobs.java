@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.instance.jobs.migrations;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.JSONB;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Adds a config_summary column to the jobs table, holding the config of a job without the schemas
+ * of its configured streams, for job lists to read instead of the full config. It is left null for
+ * existing jobs, which keep being listed from their config.
+ */
+public class V0_64_7_003__AddConfigSummaryToJobs extends BaseJavaMigration {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(V0_64_7_003__AddConfigSummaryToJobs.class);
+  private static final Field<JSONB> CONFIG_SUMMARY = DSL.field("config_summary", SQLDataType.JSONB.nullable(true));
+
+  @Override
+  public void migrate(final Context context) throws Exception {
+    LOGGER.info("Running migration: {}", this.getClass().getSimpleName());
+    final DSLContext ctx = DSL.using(context.getConnection());
+    ctx.alterTable("jobs").addColumnIfNotExists(CONFIG_SUMMARY).execute();
+  }
+
+}
@@ -18,6 +18,7 @@ dependencies {
   implementation(project(":oss:airbyte-db:db-lib"))
 
   implementation(libs.guava)
+  implementation(libs.hdrhistogram)
   implementation(libs.google.cloud.storage)
 
   implementation(libs.otel.semconv)
@@ -32,6 +33,8 @@ dependencies {
   implementation(libs.java.dogstatsd.client)
   implementation(libs.bundles.datadog)
 
+  testAnnotationProcessor(libs.jmh.annotations)
+
   testImplementation(project(":oss:airbyte-config:config-persistence"))
   testImplementation(project(":oss:airbyte-test-utils"))
   testImplementation(libs.platform.testcontainers.postgresql)
@@ -39,6 +42,8 @@ dependencies {
   testImplementation(libs.bundles.junit)
   testImplementation(libs.assertj.core)
   testImplementation(libs.mockk)
+  testImplementation(libs.jmh.core)
+  testImplementation(libs.jmh.annotations)
   testImplementation((variantOf(libs.opentracing.util) { classifier("tests") }))
 
   testImplementation(libs.junit.pioneer)
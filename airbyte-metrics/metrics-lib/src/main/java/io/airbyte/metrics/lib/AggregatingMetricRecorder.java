@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.metrics.lib;
+
+import com.google.common.base.Suppliers;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.HdrHistogram.DoubleHistogram;
+import org.HdrHistogram.DoubleHistogramIterationValue;
+import org.HdrHistogram.DoubleRecorder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Aggregates metrics emitted on hot paths in process and flushes them to a {@link MetricClient} on
+ * an interval, so that recording a value only costs an update of local primitives.
+ * <p>
+ * Counters are summed and flushed as one count per interval. Distributions are recorded in HDR
+ * histograms and flushed as a sample of at most {@code maxSamplesPerFlush} values that follows the
+ * distribution of the interval, so that percentiles computed downstream stay accurate while the
+ * number of values sent doesn't grow with the throughput. As the number of values sent for a
+ * distribution is not the number of values recorded, the true count and sum of each interval are
+ * also sent, as counters named after the distribution with a {@value #COUNT_SUFFIX} and a
+ * {@value #SUM_SUFFIX} suffix. The sum is rounded to a whole number.
+ * <p>
+ * Each combination of metric and attributes is aggregated separately. Past
+ * {@link #MAX_AGGREGATED_SERIES} combinations, values are sent to the metric client directly, so
+ * attributes with a high cardinality don't grow this recorder without bounds. Series that received
+ * no value during a whole flush interval are evicted, so the limit only applies to the series in
+ * use; bound instruments of an evicted series register it again on their next value.
+ */
+public class AggregatingMetricRecorder implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(AggregatingMetricRecorder.class);
+
+  static final int MAX_AGGREGATED_SERIES = 1000;
+  static final String COUNT_SUFFIX = "_count";
+  static final String SUM_SUFFIX = "_sum";
+  private static final int SIGNIFICANT_VALUE_DIGITS = 2;
+
+  private record Series(MetricsRegistry metric, List<MetricAttribute> attributes) {
+
+    MetricAttribute[] attributesArray() {
+      return attributes.toArray(new MetricAttribute[0]);
+    }
+
+  }
+
+  /**
+   * A counter that follows the true count or sum of an aggregated distribution.
+   */
+  record SummaryMetric(MetricsRegistry distribution, String suffix) implements MetricsRegistry {
+
+    @Override
+    public MetricEmittingApp getApplication() {
+      return distribution.getApplication();
+    }
+
+    @Override
+    public String getMetricName() {
+      return distribution.getMetricName() + suffix;
+    }
+
+    @Override
+    public String getMetricDescription() {
+      return distribution.getMetricDescription() + " (" + suffix.substring(1) + " of the values recorded)";
+    }
+
+  }
+
+  /**
+   * The aggregate of a series. Once evicted, it is no longer flushed: writers that still hold it drain
+   * what they recorded into it themselves.
+   */
+  private abstract static class Aggregate {
+
+    volatile boolean evicted;
+
+  }
+
+  private static final class AggregatedCounter extends Aggregate {
+
+    final LongAdder adder = new LongAdder();
+
+  }
+
+  private static final class AggregatedDistribution extends Aggregate {
+
+    final DoubleRecorder recorder = new DoubleRecorder(SIGNIFICANT_VALUE_DIGITS);
+    // Exact, as the histogram only keeps SIGNIFICANT_VALUE_DIGITS of each value.
+    final DoubleAdder sum = new DoubleAdder();
+
+  }
+
+  private final Supplier<MetricClient> metricClient;
+  private final int maxSamplesPerFlush;
+  private final Map<Series, AggregatedCounter> counters = new ConcurrentHashMap<>();
+  private final Map<Series, AggregatedDistribution> distributions = new ConcurrentHashMap<>();
+  private final ScheduledExecutorService scheduler;
+
+  /**
+   * Create a recorder that flushes on an interval.
+   *
+   * @param metricClient supplies the client metrics are flushed to, resolved on every flush
+   * @param flushInterval interval between flushes
+   * @param maxSamplesPerFlush maximum number of values sent per distribution and flush
+   */
+  public AggregatingMetricRecorder(final Supplier<MetricClient> metricClient, final Duration flushInterval, final int maxSamplesPerFlush) {
+    this.metricClient = metricClient;
+    this.maxSamplesPerFlush = maxSamplesPerFlush;
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactoryBuilder().setDaemon(true).setNameFormat("aggregating-metric-recorder-%d").build());
+    this.scheduler.scheduleWithFixedDelay(this::flushQuietly, flushInterval.toMillis(), flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Counter aggregated until the next flush.
+   */
+  public MetricClient.BoundCounter counter(final MetricsRegistry metric, final MetricAttribute... attributes) {
+    final Series series = new Series(metric, List.of(attributes));
+    final AggregatedCounter initial = aggregate(counters, series, AggregatedCounter::new);
+    if (initial == null) {
+      return val -> metricClient.get().count(metric, val, attributes);
+    }
+    return new MetricClient.BoundCounter() {
+
+      private volatile AggregatedCounter current = initial;
+
+      @Override
+      public void add(final long val) {
+        final AggregatedCounter counter = current;
+        counter.adder.add(val);
+        if (counter.evicted) {
+          // The value may have missed the last flush of the evicted counter.
+          final long leftover = counter.adder.sumThenReset();
+          final AggregatedCounter next = aggregate(counters, series, AggregatedCounter::new);
+          if (next == null) {
+            sendCount(metricClient, series, leftover);
+          } else {
+            next.adder.add(leftover);
+            current = next;
+          }
+        }
+      }
+
+    };
+  }
+
+  /**
+   * Distribution aggregated until the next flush.
+   */
+  public MetricClient.BoundDistribution distribution(final MetricsRegistry metric, final MetricAttribute... attributes) {
+    final Series series = new Series(metric, List.of(attributes));
+    final AggregatedDistribution initial = aggregate(distributions, series, AggregatedDistribution::new);
+    if (initial == null) {
+      return val -> metricClient.get().distribution(metric, val, attributes);
+    }
+    return new MetricClient.BoundDistribution() {
+
+      private volatile AggregatedDistribution current = initial;
+
+      @Override
+      public void record(final double val) {
+        // HDR histograms only track non-negative values.
+        if (val < 0) {
+          metricClient.get().distribution(metric, val, attributes);
+          return;
+        }
+        final AggregatedDistribution distribution = current;
+        distribution.recorder.recordValue(val);
+        distribution.sum.add(val);
+        if (distribution.evicted) {
+          // The value may have missed the last flush of the evicted distribution.
+          final DoubleHistogram leftover = distribution.recorder.getIntervalHistogram();
+          final double leftoverSum = distribution.sum.sumThenReset();
+          final AggregatedDistribution next = aggregate(distributions, series, AggregatedDistribution::new);
+          if (next == null) {
+            emitSample(metricClient, series, leftover, leftoverSum);
+          } else {
+            for (final DoubleHistogramIterationValue value : leftover.recordedValues()) {
+              next.recorder.recordValueWithCount(value.getValueIteratedTo(), value.getCountAtValueIteratedTo());
+            }
+            next.sum.add(leftoverSum);
+            current = next;
+          }
+        }
+      }
+
+    };
+  }
+
+  public void count(final MetricsRegistry metric, final long val, final MetricAttribute... attributes) {
+    counter(metric, attributes).add(val);
+  }
+
+  public void distribution(final MetricsRegistry metric, final double val, final MetricAttribute... attributes) {
+    distribution(metric, attributes).record(val);
+  }
+
+  private static <A extends Aggregate> A aggregate(final Map<Series, A> aggregates, final Series series, final Supplier<A> factory) {
+    final A aggregate = aggregates.get(series);
+    if (aggregate != null || aggregates.size() >= MAX_AGGREGATED_SERIES) {
+      return aggregate;
+    }
+    return aggregates.computeIfAbsent(series, s -> factory.get());
+  }
+
+  /**
+   * Send everything aggregated since the previous flush to the metric client, and evict the series
+   * that received nothing since then.
+   */
+  public synchronized void flush() {
+    // Only resolved when there is something to send, as resolving the client can log a warning.
+    final Supplier<MetricClient> client = Suppliers.memoize(metricClient::get);
+    counters.forEach((series, counter) -> {
+      final long sum = counter.adder.sumThenReset();
+      if (sum != 0) {
+        sendCount(client, series, sum);
+        return;
+      }
+      counter.evicted = true;
+      counters.remove(series, counter);
+      // Values added before the writer could see the eviction.
+      sendCount(client, series, counter.adder.sumThenReset());
+    });
+    distributions.forEach((series, distribution) -> {
+      final DoubleHistogram interval = distribution.recorder.getIntervalHistogram();
+      if (interval.getTotalCount() > 0) {
+        emitSample(client, series, interval, distribution.sum.sumThenReset());
+        return;
+      }
+      distribution.evicted = true;
+      distributions.remove(series, distribution);
+      emitSample(client, series, distribution.recorder.getIntervalHistogram(), distribution.sum.sumThenReset());
+    });
+  }
+
+  private static void sendCount(final Supplier<MetricClient> client, final Series series, final long sum) {
+    if (sum != 0) {
+      client.get().count(series.metric(), sum, series.attributesArray());
+    }
+  }
+
+  /**
+   * Send a sample of the histogram's values in which each value appears in proportion to its count,
+   * along with the true count and sum of the values.
+   */
+  private void emitSample(final Supplier<MetricClient> client, final Series series, final DoubleHistogram histogram, final double sum) {
+    final MetricAttribute[] attributes = series.attributesArray();
+    final long totalCount = histogram.getTotalCount();
+    if (totalCount == 0) {
+      return;
+    }
+    client.get().count(new SummaryMetric(series.metric(), COUNT_SUFFIX), totalCount, attributes);
+    client.get().count(new SummaryMetric(series.metric(), SUM_SUFFIX), Math.round(sum), attributes);
+    final long sampleSize = Math.min(totalCount, maxSamplesPerFlush);
+    long cumulativeCount = 0;
+    long emitted = 0;
+    for (final DoubleHistogramIterationValue value : histogram.recordedValues()) {
+      cumulativeCount += value.getCountAddedInThisIterationStep();
+      // Rounding the cumulative target rather than each step's share keeps the total at sampleSize.
+      final long target = Math.round((double) cumulativeCount * sampleSize / totalCount);
+      for (; emitted < target; emitted++) {
+        client.get().distribution(series.metric(), value.getValueIteratedTo(), attributes);
+      }
+    }
+  }
+
+  private void flushQuietly() {
+    try {
+      flush();
+    } catch (final Exception e) {
+      LOGGER.warn("Failed to flush aggregated metrics.", e);
+    }
+  }
+
+  @Override
+  public void close() {
+    scheduler.shutdownNow();
+    flushQuietly();
+  }
+
+}
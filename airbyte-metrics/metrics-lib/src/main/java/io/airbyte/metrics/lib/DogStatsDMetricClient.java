@@ -122,6 +122,28 @@ public class DogStatsDMetricClient implements MetricClient {
     }
   }
 
+  @Override
+  public BoundCounter boundCounter(final MetricsRegistry metric, final MetricAttribute... attributes) {
+    final String name = metric.getMetricName();
+    final String[] tags = toTags(attributes);
+    return amt -> {
+      if (instancePublish && statsDClient != null) {
+        statsDClient.count(name, amt, tags);
+      }
+    };
+  }
+
+  @Override
+  public BoundDistribution boundDistribution(final MetricsRegistry metric, final MetricAttribute... attributes) {
+    final String name = metric.getMetricName();
+    final String[] tags = toTags(attributes);
+    return val -> {
+      if (instancePublish && statsDClient != null) {
+        statsDClient.distribution(name, val, tags);
+      }
+    };
+  }
+
   /**
    * Converts each {@link MetricAttribute} tuple to a list of tags consumable by StatsD.
    *
@@ -39,9 +39,54 @@ public interface MetricClient {
    */
   void distribution(MetricsRegistry metric, double val, final MetricAttribute... attributes);
 
+  /**
+   * Bind a counter to a metric and a fixed set of attributes. Hot paths that emit the same metric
+   * many times should hold on to the result rather than calling {@link #count} each time, so that
+   * implementations only resolve the instrument and the attributes once.
+   *
+   * @param metric dd metric
+   * @param attributes attributes of every value added to the counter
+   * @return the bound counter
+   */
+  default BoundCounter boundCounter(final MetricsRegistry metric, final MetricAttribute... attributes) {
+    return val -> count(metric, val, attributes);
+  }
+
+  /**
+   * Bind a distribution to a metric and a fixed set of attributes. See
+   * {@link #boundCounter(MetricsRegistry, MetricAttribute...)}.
+   *
+   * @param metric dd metric
+   * @param attributes attributes of every value recorded in the distribution
+   * @return the bound distribution
+   */
+  default BoundDistribution boundDistribution(final MetricsRegistry metric, final MetricAttribute... attributes) {
+    return val -> distribution(metric, val, attributes);
+  }
+
   /*
    * Reset initialization. Can be used in a unit test to reset metric client state.
    */
   void shutdown();
 
+  /**
+   * A counter bound to a metric and its attributes.
+   */
+  @FunctionalInterface
+  interface BoundCounter {
+
+    void add(long val);
+
+  }
+
+  /**
+   * A distribution bound to a metric and its attributes.
+   */
+  @FunctionalInterface
+  interface BoundDistribution {
+
+    void record(double val);
+
+  }
+
 }
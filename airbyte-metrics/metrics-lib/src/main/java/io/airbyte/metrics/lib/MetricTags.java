@@ -22,6 +22,8 @@ public class MetricTags {
   public static final String AUTHENTICATION_RESPONSE_FAILURE_REASON = "authentication_response_failure_reason";
   public static final String AUTHENTICATION_REQUEST_URI_ATTRIBUTE_KEY = "request_uri";
   public static final String CANCELLATION_SOURCE = "cancellation_source";
+  public static final String CDK_COMMAND = "cdk_command";
+  public static final String CDK_WORKER_RETIRE_REASON = "cdk_worker_retire_reason";
   public static final String CONFIG_TYPES = "config_types";
   public static final String CONNECTION_ID = "connection_id";
   public static final String CONNECTION_IDS = "connection_ids";
@@ -38,6 +40,7 @@ public class MetricTags {
   public static final String FAILURE_ORIGIN = "failure_origin";
   public static final String FAILURE_TYPE = "failure_type";
   public static final String GEOGRAPHY = "geography";
+  public static final String HYDRATION_CALL = "hydration_call";
   public static final String IMPLEMENTATION = "implementation";
   public static final String IS_CUSTOM_CONNECTOR_SYNC = "is_custom_connector_sync";
   public static final String IS_RESET = "is_reset";
@@ -52,6 +55,7 @@ public class MetricTags {
   public static final String MIN_CONNECTOR_RELEASE_STATE = "min_connector_release_stage";
   public static final String NOTIFICATION_TRIGGER = "notification_trigger";
   public static final String NOTIFICATION_CLIENT = "notification_client";
+  public static final String OAUTH_PROVIDER = "oauth_provider";
   public static final String RELEASE_STAGE = "release_stage";
   public static final String SOURCE_ID = "source_id";
   public static final String SOURCE_DEFINITION_ID = "source_definition_id";
@@ -76,6 +80,12 @@ public class MetricTags {
   public static final String IS_MISS = "is_miss";
   public static final String TASK_QUEUE = "task_queue";
 
+  // database metric tags
+  public static final String DB_POOL_NAME = "db_pool_name";
+  public static final String QUERY_CALLER = "query_caller";
+  public static final String QUERY_FINGERPRINT = "query_fingerprint";
+  public static final String QUERY_TYPE = "query_type";
+
   public static String getReleaseStage(final ReleaseStage stage) {
     return stage != null ? stage.value() : UNKNOWN;
   }
@@ -26,6 +26,16 @@ public class NotImplementedMetricClient implements MetricClient {
     // Not Implemented.
   }
 
+  @Override
+  public BoundCounter boundCounter(final MetricsRegistry metric, final MetricAttribute... attributes) {
+    return val -> {};
+  }
+
+  @Override
+  public BoundDistribution boundDistribution(final MetricsRegistry metric, final MetricAttribute... attributes) {
+    return val -> {};
+  }
+
   @Override
   public void shutdown() {
     // Not Implemented.
@@ -29,7 +29,9 @@ import io.opentelemetry.sdk.trace.SdkTracerProvider;
 import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Implementation of the {@link MetricClient} that sends the provided metric data to an
@@ -46,15 +48,17 @@ public class OpenTelemetryMetricClient implements MetricClient {
   private final Map<String, ObservableDoubleGauge> gauges = new HashMap<>();
   private final Map<String, Map<Attributes, Double>> gaugeValues = Collections.synchronizedMap(new HashMap<>());
 
+  // Building an instrument or a set of attributes costs more than recording a value, so both are
+  // built once and reused. The attribute sets are bounded as some attributes have a high cardinality.
+  @VisibleForTesting
+  static final int MAX_CACHED_ATTRIBUTE_SETS = 1000;
+  private final Map<MetricsRegistry, LongCounter> counters = new ConcurrentHashMap<>();
+  private final Map<MetricsRegistry, DoubleHistogram> histograms = new ConcurrentHashMap<>();
+  private final Map<List<MetricAttribute>, Attributes> attributeSets = new ConcurrentHashMap<>();
+
   @Override
   public void count(final MetricsRegistry metric, final long val, final MetricAttribute... attributes) {
-    final LongCounter counter = meter
-        .counterBuilder(metric.getMetricName())
-        .setDescription(metric.getMetricDescription())
-        .build();
-
-    final AttributesBuilder attributesBuilder = buildAttributes(attributes);
-    counter.add(val, attributesBuilder.build());
+    counter(metric).add(val, toAttributes(attributes));
   }
 
   @Override
@@ -71,7 +75,7 @@ public class OpenTelemetryMetricClient implements MetricClient {
      * MetricClient interface. Without some refactoring of the client interface, this adapter is
      * necessary.
      */
-    final Attributes attr = buildAttributes(attributes).build();
+    final Attributes attr = toAttributes(attributes);
     final String name = metric.getMetricName();
     synchronized (gauges) { // sync so we don't create the same gauge concurrently
       if (!gauges.containsKey(name)) {
@@ -100,9 +104,35 @@ public class OpenTelemetryMetricClient implements MetricClient {
 
   @Override
   public void distribution(final MetricsRegistry metric, final double val, final MetricAttribute... attributes) {
-    final DoubleHistogram histogramMeter = meter.histogramBuilder(metric.getMetricName()).setDescription(metric.getMetricDescription()).build();
-    final AttributesBuilder attributesBuilder = buildAttributes(attributes);
-    histogramMeter.record(val, attributesBuilder.build());
+    histogram(metric).record(val, toAttributes(attributes));
+  }
+
+  @Override
+  public BoundCounter boundCounter(final MetricsRegistry metric, final MetricAttribute... attributes) {
+    final LongCounter counter = counter(metric);
+    final Attributes attr = toAttributes(attributes);
+    return val -> counter.add(val, attr);
+  }
+
+  @Override
+  public BoundDistribution boundDistribution(final MetricsRegistry metric, final MetricAttribute... attributes) {
+    final DoubleHistogram histogram = histogram(metric);
+    final Attributes attr = toAttributes(attributes);
+    return val -> histogram.record(val, attr);
+  }
+
+  private LongCounter counter(final MetricsRegistry metric) {
+    return counters.computeIfAbsent(metric, m -> meter
+        .counterBuilder(m.getMetricName())
+        .setDescription(m.getMetricDescription())
+        .build());
+  }
+
+  private DoubleHistogram histogram(final MetricsRegistry metric) {
+    return histograms.computeIfAbsent(metric, m -> meter
+        .histogramBuilder(m.getMetricName())
+        .setDescription(m.getMetricDescription())
+        .build());
   }
 
   /**
@@ -145,6 +175,8 @@ public class OpenTelemetryMetricClient implements MetricClient {
 
     meter = openTelemetry.meterBuilder(metricEmittingApp.getApplicationName())
         .build();
+    counters.clear();
+    histograms.clear();
   }
 
   @VisibleForTesting
@@ -156,6 +188,9 @@ public class OpenTelemetryMetricClient implements MetricClient {
   public void shutdown() {
     resetForTest();
     closeGauges();
+    counters.clear();
+    histograms.clear();
+    attributeSets.clear();
   }
 
   private void closeGauges() {
@@ -168,6 +203,27 @@ public class OpenTelemetryMetricClient implements MetricClient {
     }
   }
 
+  private Attributes toAttributes(final MetricAttribute... attributes) {
+    if (attributes.length == 0) {
+      return Attributes.empty();
+    }
+    final List<MetricAttribute> key = List.of(attributes);
+    final Attributes cached = attributeSets.get(key);
+    if (cached != null) {
+      return cached;
+    }
+    final Attributes attr = buildAttributes(attributes).build();
+    if (attributeSets.size() < MAX_CACHED_ATTRIBUTE_SETS) {
+      attributeSets.putIfAbsent(key, attr);
+    }
+    return attr;
+  }
+
+  @VisibleForTesting
+  int getCachedAttributeSetCount() {
+    return attributeSets.size();
+  }
+
   private AttributesBuilder buildAttributes(final MetricAttribute... attributes) {
     final AttributesBuilder attributesBuilder = Attributes.builder();
     for (final MetricAttribute attribute : attributes) {
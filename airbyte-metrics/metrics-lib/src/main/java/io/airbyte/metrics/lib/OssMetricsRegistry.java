@@ -78,6 +78,10 @@ public enum OssMetricsRegistry implements MetricsRegistry {
       MetricEmittingApps.WORKER,
       "activity_failure",
       "Generic metric for incrementing when an activity fails. Add activity name to attributes."),
+  APPLY_DEFINITIONS_PHASE_DURATION_MS(
+      MetricEmittingApps.CRON, // Actually `cron` or `bootloader` based on which metric client calls the code
+      "apply_definitions_phase_duration_ms",
+      "duration in milliseconds of each phase of applying the connector registry definitions, tagged by phase"),
 
   ATTEMPTS_CREATED(
       MetricEmittingApps.WORKER,
@@ -111,6 +115,18 @@ public enum OssMetricsRegistry implements MetricsRegistry {
   BREAKING_SCHEMA_CHANGE_DETECTED(MetricEmittingApps.SERVER,
       "breaking_change_detected",
       "a breaking schema change has been detected"),
+  CDK_WORKER_POOL_IN_FLIGHT_REQUESTS(MetricEmittingApps.CONNECTOR_BUILDER_SERVER,
+      "cdk_worker_pool_in_flight_requests",
+      "number of connector builder requests currently being served by the pool of CDK workers"),
+  CDK_WORKER_POOL_WORKERS(MetricEmittingApps.CONNECTOR_BUILDER_SERVER,
+      "cdk_worker_pool_workers",
+      "number of live CDK worker processes in the pool, busy or idle"),
+  CDK_WORKER_REQUEST_DURATION_MS(MetricEmittingApps.CONNECTOR_BUILDER_SERVER,
+      "cdk_worker_request_duration_ms",
+      "time in ms taken by a CDK worker to serve a connector builder request, including the wait for a worker"),
+  CDK_WORKERS_RETIRED(MetricEmittingApps.CONNECTOR_BUILDER_SERVER,
+      "cdk_workers_retired",
+      "increments when a CDK worker process is shut down. tagged by the reason it was retired."),
   CRON_JOB_RUN_BY_CRON_TYPE(MetricEmittingApps.CRON,
       "cron_jobs_run",
       "number of cron runs by cron type"),
@@ -234,6 +250,19 @@ public enum OssMetricsRegistry implements MetricsRegistry {
       "overall job runtime - scheduling and execution for all attempts - for jobs that reach terminal states in the last hour. "
           + "tagged by terminal states."),
 
+  RESOLVED_MANIFEST_CACHE_ENTRIES(MetricEmittingApps.CONNECTOR_BUILDER_SERVER,
+      "resolved_manifest_cache_entries",
+      "number of resolved manifests held by the connector builder server's cache"),
+  RESOLVED_MANIFEST_CACHE_HITS(MetricEmittingApps.CONNECTOR_BUILDER_SERVER,
+      "resolved_manifest_cache_hits",
+      "increments when a manifest is found in the connector builder server's cache of resolved manifests. tagged by cdk command."),
+  RESOLVED_MANIFEST_CACHE_MISSES(MetricEmittingApps.CONNECTOR_BUILDER_SERVER,
+      "resolved_manifest_cache_misses",
+      "increments when a manifest is not found in the connector builder server's cache of resolved manifests. tagged by cdk command."),
+  RESOLVED_MANIFEST_CACHE_SIZE_BYTES(MetricEmittingApps.CONNECTOR_BUILDER_SERVER,
+      "resolved_manifest_cache_size_bytes",
+      "approximate size in bytes of the resolved manifests held by the connector builder server's cache"),
+
   RUNNING_PODS_FOUND_FOR_CONNECTION_ID(MetricEmittingApps.WORKER,
       "running_pods_found_for_connection_id",
       "whether we found pods running for a given connection id when attempting to start a sync for that connection id"),
@@ -364,6 +393,9 @@ public enum OssMetricsRegistry implements MetricsRegistry {
   WORKFLOWS_HEALED(MetricEmittingApps.CRON,
       "workflows_healed",
       "number of workflow the self healing cron healed"),
+  WORKFLOWS_HEALED_SCAN_DURATION_MS(MetricEmittingApps.CRON,
+      "workflows_healed_scan_duration_ms",
+      "time taken by one run of the self healing cron to scan temporal for workflows to heal"),
   WORKLOAD_MONITOR_RUN(MetricEmittingApps.CRON,
       "workload_monitor_run",
       "number of cron run for the workload_monitor"),
@@ -489,6 +521,14 @@ public enum OssMetricsRegistry implements MetricsRegistry {
       "discover_catalog_run_time",
       "Time to run a discover catalog before a replication."),
 
+  REPLICATION_INPUT_HYDRATION_CALL_DURATION_MS(MetricEmittingApps.ORCHESTRATOR,
+      "replication_input_hydration_call_duration_ms",
+      "Time in ms taken by each API call made while hydrating the replication input."),
+
+  REPLICATION_INPUT_HYDRATION_DURATION_MS(MetricEmittingApps.ORCHESTRATOR,
+      "replication_input_hydration_duration_ms",
+      "Time in ms taken to hydrate the replication input."),
+
   REPLICATION_RUN_TIME(MetricEmittingApps.ORCHESTRATOR,
       "replication_run_time",
       "Time to run a replication withing a sync."),
@@ -511,7 +551,55 @@ public enum OssMetricsRegistry implements MetricsRegistry {
 
   CONNECTION_STAGING_STORAGE_USAGE_MB(MetricEmittingApps.ORCHESTRATOR,
       "connection_staging_storage_usage_mb",
-      "Staging storage in mb used by a connection.");
+      "Staging storage in mb used by a connection."),
+
+  DB_QUERY_LATENCY_MS(MetricEmittingApps.SERVER,
+      "db_query_latency_ms",
+      "Time to run a database query, tagged by query fingerprint and calling class."),
+
+  DB_SLOW_QUERY(MetricEmittingApps.SERVER,
+      "db_slow_query",
+      "Count of database queries slower than the slow query threshold."),
+
+  DB_POOL_ACTIVE_CONNECTIONS(MetricEmittingApps.SERVER,
+      "db_pool_active_connections",
+      "Number of connections currently in use in a database connection pool."),
+
+  DB_POOL_IDLE_CONNECTIONS(MetricEmittingApps.SERVER,
+      "db_pool_idle_connections",
+      "Number of idle connections in a database connection pool."),
+
+  DB_POOL_PENDING_THREADS(MetricEmittingApps.SERVER,
+      "db_pool_pending_threads",
+      "Number of threads waiting for a connection from a database connection pool."),
+
+  DB_POOL_CONNECTION_ACQUIRE_TIME_MS(MetricEmittingApps.SERVER,
+      "db_pool_connection_acquire_time_ms",
+      "Time spent waiting to acquire a connection from a database connection pool."),
+
+  DB_POOL_CONNECTION_USAGE_TIME_MS(MetricEmittingApps.SERVER,
+      "db_pool_connection_usage_time_ms",
+      "Time a connection was borrowed from a database connection pool before being returned."),
+
+  DB_POOL_CONNECTION_TIMEOUT(MetricEmittingApps.SERVER,
+      "db_pool_connection_timeout",
+      "Count of connection requests to a database connection pool that timed out."),
+
+  ANALYTICS_TRACKING_EVENTS_DROPPED(MetricEmittingApps.SERVER,
+      "analytics_tracking_events_dropped",
+      "Count of analytics events dropped because the tracking queue was full."),
+
+  OAUTH_REQUEST_DURATION(MetricEmittingApps.SERVER,
+      "oauth_request_duration_ms",
+      "Duration of the requests made to OAuth providers, in milliseconds."),
+
+  OAUTH_REQUEST_FAILED(MetricEmittingApps.SERVER,
+      "oauth_request_failed",
+      "Count of requests to OAuth providers that failed or returned an error status."),
+
+  OAUTH_REQUEST_THROTTLED(MetricEmittingApps.SERVER,
+      "oauth_request_throttled",
+      "Count of requests to OAuth providers that were rate limited and backed off.");
 
   private final MetricEmittingApp application;
   private final String metricName;
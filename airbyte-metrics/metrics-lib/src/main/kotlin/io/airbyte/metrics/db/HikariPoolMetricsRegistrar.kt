@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.metrics.db
+
+import com.zaxxer.hikari.HikariDataSource
+import io.airbyte.metrics.lib.MetricClient
+import io.github.oshai.kotlinlogging.KotlinLogging
+import io.micronaut.context.annotation.Requires
+import io.micronaut.context.annotation.Value
+import io.micronaut.context.event.BeanCreatedEvent
+import io.micronaut.context.event.BeanCreatedEventListener
+import jakarta.inject.Provider
+import jakarta.inject.Singleton
+import java.time.Duration
+import javax.sql.DataSource
+
+private val logger = KotlinLogging.logger {}
+
+/**
+ * Exports the pool metrics of every Hikari [DataSource] bean through [MetricClient].
+ */
+@Singleton
+@Requires(property = "airbyte.db.metrics.enabled", value = "true", defaultValue = "true")
+@Requires(beans = [MetricClient::class])
+class HikariPoolMetricsRegistrar(
+  private val metricClient: Provider<MetricClient>,
+  @Value("\${airbyte.db.metrics.pool-gauge-interval:10s}") private val poolGaugeInterval: Duration,
+) : BeanCreatedEventListener<DataSource> {
+  override fun onCreated(event: BeanCreatedEvent<DataSource>): DataSource {
+    val dataSource = event.bean
+    if (dataSource is HikariDataSource && dataSource.metricsTrackerFactory == null) {
+      try {
+        dataSource.metricsTrackerFactory = HikariPoolMetricsTrackerFactory(metricClient.get(), poolGaugeInterval)
+      } catch (e: IllegalStateException) {
+        // Hikari refuses a tracker factory when a metric registry (e.g. Micrometer) already owns the pool.
+        logger.info { "Not exporting pool metrics for ${dataSource.poolName}: ${e.message}" }
+      }
+    }
+    return dataSource
+  }
+}
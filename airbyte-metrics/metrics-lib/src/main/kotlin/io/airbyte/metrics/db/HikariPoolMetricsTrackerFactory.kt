@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.metrics.db
+
+import com.zaxxer.hikari.metrics.IMetricsTracker
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory
+import com.zaxxer.hikari.metrics.PoolStats
+import io.airbyte.metrics.lib.MetricAttribute
+import io.airbyte.metrics.lib.MetricClient
+import io.airbyte.metrics.lib.MetricTags
+import io.airbyte.metrics.lib.OssMetricsRegistry
+import java.time.Duration
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * Hikari [MetricsTrackerFactory] that exports pool saturation through [MetricClient]: connection
+ * acquire and usage times, acquire timeouts, and active / idle / pending gauges.
+ *
+ * Gauges are sampled from the connection acquire path, at most once per [gaugeInterval] per pool, so
+ * no extra thread is needed and an idle pool costs nothing.
+ */
+class HikariPoolMetricsTrackerFactory(
+  private val metricClient: MetricClient,
+  private val gaugeInterval: Duration,
+) : MetricsTrackerFactory {
+  override fun create(
+    poolName: String,
+    poolStats: PoolStats,
+  ): IMetricsTracker = PoolMetricsTracker(poolName, poolStats)
+
+  private inner class PoolMetricsTracker(poolName: String, private val poolStats: PoolStats) : IMetricsTracker {
+    private val poolAttribute = MetricAttribute(MetricTags.DB_POOL_NAME, poolName)
+    private val lastGaugeNanos = AtomicLong(System.nanoTime() - gaugeInterval.toNanos())
+
+    override fun recordConnectionAcquiredNanos(elapsedAcquiredNanos: Long) {
+      metricClient.distribution(
+        OssMetricsRegistry.DB_POOL_CONNECTION_ACQUIRE_TIME_MS,
+        elapsedAcquiredNanos / 1_000_000.0,
+        poolAttribute,
+      )
+      maybeRecordGauges()
+    }
+
+    override fun recordConnectionUsageMillis(elapsedBorrowedMillis: Long) {
+      metricClient.distribution(OssMetricsRegistry.DB_POOL_CONNECTION_USAGE_TIME_MS, elapsedBorrowedMillis.toDouble(), poolAttribute)
+    }
+
+    override fun recordConnectionTimeout() {
+      metricClient.count(OssMetricsRegistry.DB_POOL_CONNECTION_TIMEOUT, 1, poolAttribute)
+      maybeRecordGauges()
+    }
+
+    private fun maybeRecordGauges() {
+      val now = System.nanoTime()
+      val last = lastGaugeNanos.get()
+      if (now - last < gaugeInterval.toNanos() || !lastGaugeNanos.compareAndSet(last, now)) {
+        return
+      }
+      metricClient.gauge(OssMetricsRegistry.DB_POOL_ACTIVE_CONNECTIONS, poolStats.activeConnections.toDouble(), poolAttribute)
+      metricClient.gauge(OssMetricsRegistry.DB_POOL_IDLE_CONNECTIONS, poolStats.idleConnections.toDouble(), poolAttribute)
+      metricClient.gauge(OssMetricsRegistry.DB_POOL_PENDING_THREADS, poolStats.pendingThreads.toDouble(), poolAttribute)
+    }
+  }
+}
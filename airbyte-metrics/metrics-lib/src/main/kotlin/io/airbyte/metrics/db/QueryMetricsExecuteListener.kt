@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.metrics.db
+
+import com.google.common.cache.CacheBuilder
+import com.google.common.cache.CacheLoader
+import com.google.common.cache.LoadingCache
+import com.google.common.hash.Hashing
+import io.airbyte.metrics.lib.MetricAttribute
+import io.airbyte.metrics.lib.MetricClient
+import io.airbyte.metrics.lib.MetricTags
+import io.airbyte.metrics.lib.OssMetricsRegistry
+import io.github.oshai.kotlinlogging.KotlinLogging
+import org.jooq.ExecuteContext
+import org.jooq.ExecuteListener
+import java.nio.charset.StandardCharsets
+import java.time.Duration
+import java.util.concurrent.ThreadLocalRandom
+
+private val logger = KotlinLogging.logger {}
+
+/**
+ * jOOQ [ExecuteListener] that records the latency of every query, tagged by a stable fingerprint of
+ * the statement and by the Airbyte class that issued it. Queries slower than [slowQueryThreshold] are
+ * counted, and a sample of them is logged with their SQL (bind values are never rendered).
+ *
+ * The per-query overhead is a nanoTime pair, a cached fingerprint lookup and a short stack walk,
+ * which is negligible next to a database round trip.
+ */
+class QueryMetricsExecuteListener(
+  private val metricClient: MetricClient,
+  private val slowQueryThreshold: Duration,
+  private val slowQueryLogSampleRate: Double,
+) : ExecuteListener {
+  companion object {
+    private const val START_NANOS_KEY = "airbyte.metrics.queryStartNanos"
+    private const val FINGERPRINT_CACHE_SIZE = 2_000L
+    private const val UNKNOWN_CALLER = "unknown"
+
+    private val STRING_LITERAL = Regex("'(?:[^']|'')*'")
+    private val NUMERIC_LITERAL = Regex("\\b\\d+(?:\\.\\d+)?\\b")
+    private val PARAMETER_LIST = Regex("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)")
+    private val PARAMETER_LIST_REPEATS = Regex("\\(\\?\\)(?:\\s*,\\s*\\(\\?\\))+")
+    private val WHITESPACE = Regex("\\s+")
+
+    // Frames from the database module and from this listener are plumbing, never the caller.
+    private const val DB_PACKAGE_PREFIX = "io.airbyte.db."
+    private val LISTENER_CLASS_NAME = QueryMetricsExecuteListener::class.java.name
+
+    private val STACK_WALKER: StackWalker = StackWalker.getInstance()
+
+    /**
+     * Normalizes a statement so that queries differing only in literal values or in the length of
+     * IN-lists / multi-row VALUES collapse onto the same shape.
+     */
+    @JvmStatic
+    fun normalize(sql: String): String =
+      sql
+        .replace(STRING_LITERAL, "?")
+        .replace(NUMERIC_LITERAL, "?")
+        .replace(WHITESPACE, " ")
+        .replace(PARAMETER_LIST, "(?)")
+        .replace(PARAMETER_LIST_REPEATS, "(?)")
+        .trim()
+        .lowercase()
+
+    /**
+     * Short, stable identifier of the normalized statement, suitable as a metric tag.
+     */
+    @JvmStatic
+    fun fingerprint(sql: String): String = Hashing.murmur3_32_fixed().hashString(normalize(sql), StandardCharsets.UTF_8).toString()
+  }
+
+  private val fingerprints: LoadingCache<String, String> =
+    CacheBuilder.newBuilder()
+      .maximumSize(FINGERPRINT_CACHE_SIZE)
+      .build(CacheLoader.from<String, String> { fingerprint(it) })
+
+  override fun start(ctx: ExecuteContext) {
+    ctx.data(START_NANOS_KEY, System.nanoTime())
+  }
+
+  override fun end(ctx: ExecuteContext) {
+    val startNanos = ctx.data(START_NANOS_KEY) as? Long ?: return
+    val elapsed = Duration.ofNanos(System.nanoTime() - startNanos)
+    val sql = ctx.sql() ?: return
+
+    try {
+      val fingerprint = fingerprints.getUnchecked(sql)
+      val caller = findCaller()
+      val attributes =
+        arrayOf(
+          MetricAttribute(MetricTags.QUERY_FINGERPRINT, fingerprint),
+          MetricAttribute(MetricTags.QUERY_CALLER, caller),
+          MetricAttribute(MetricTags.QUERY_TYPE, ctx.type().name.lowercase()),
+          MetricAttribute(MetricTags.SUCCESS, (ctx.exception() == null).toString()),
+        )
+      metricClient.distribution(OssMetricsRegistry.DB_QUERY_LATENCY_MS, elapsed.toNanos() / 1_000_000.0, *attributes)
+
+      if (elapsed >= slowQueryThreshold) {
+        metricClient.count(OssMetricsRegistry.DB_SLOW_QUERY, 1, *attributes)
+        if (ThreadLocalRandom.current().nextDouble() < slowQueryLogSampleRate) {
+          logger.warn { "Slow query ($fingerprint) from $caller took ${elapsed.toMillis()}ms: ${normalize(sql)}" }
+        }
+      }
+    } catch (e: Exception) {
+      // Instrumentation must never fail the query it observes.
+      logger.debug(e) { "Failed to record query metrics" }
+    }
+  }
+
+  private fun findCaller(): String =
+    STACK_WALKER.walk { frames ->
+      frames
+        .map { it.className }
+        .map { it.substringBefore('$') }
+        .filter { it.startsWith("io.airbyte.") && !it.startsWith(DB_PACKAGE_PREFIX) && it != LISTENER_CLASS_NAME }
+        .findFirst()
+        .map { it.substringAfterLast('.') }
+        .orElse(UNKNOWN_CALLER)
+    }
+}
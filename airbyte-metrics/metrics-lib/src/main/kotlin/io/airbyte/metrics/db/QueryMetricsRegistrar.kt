@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.metrics.db
+
+import io.airbyte.metrics.lib.MetricClient
+import io.micronaut.context.annotation.Requires
+import io.micronaut.context.annotation.Value
+import io.micronaut.context.event.BeanCreatedEvent
+import io.micronaut.context.event.BeanCreatedEventListener
+import jakarta.inject.Provider
+import jakarta.inject.Singleton
+import org.jooq.DSLContext
+import org.jooq.impl.DefaultExecuteListenerProvider
+import java.time.Duration
+
+/**
+ * Attaches a [QueryMetricsExecuteListener] to every jOOQ [DSLContext] bean. Contexts re-created from
+ * an instrumented one (see DSLContextFactory) carry the listener over, so they are left untouched.
+ */
+@Singleton
+@Requires(property = "airbyte.db.metrics.enabled", value = "true", defaultValue = "true")
+@Requires(beans = [MetricClient::class])
+class QueryMetricsRegistrar(
+  private val metricClient: Provider<MetricClient>,
+  @Value("\${airbyte.db.metrics.slow-query-threshold:1s}") private val slowQueryThreshold: Duration,
+  @Value("\${airbyte.db.metrics.slow-query-log-sample-rate:0.1}") private val slowQueryLogSampleRate: Double,
+) : BeanCreatedEventListener<DSLContext> {
+  override fun onCreated(event: BeanCreatedEvent<DSLContext>): DSLContext {
+    val configuration = event.bean.configuration()
+    val providers = configuration.executeListenerProviders()
+    if (providers.none { it.provide() is QueryMetricsExecuteListener }) {
+      val listener = QueryMetricsExecuteListener(metricClient.get(), slowQueryThreshold, slowQueryLogSampleRate)
+      configuration.set(*providers, DefaultExecuteListenerProvider(listener))
+    }
+    return event.bean
+  }
+}
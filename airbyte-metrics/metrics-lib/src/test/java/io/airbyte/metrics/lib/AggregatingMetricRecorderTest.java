@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.metrics.lib;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.Invocation;
+
+class AggregatingMetricRecorderTest {
+
+  private static final MetricAttribute ATTRIBUTE = new MetricAttribute("tag", "value");
+  private static final int MAX_SAMPLES = 10;
+
+  private MetricClient metricClient;
+  private AggregatingMetricRecorder recorder;
+
+  @BeforeEach
+  void setUp() {
+    metricClient = mock(MetricClient.class);
+    recorder = new AggregatingMetricRecorder(() -> metricClient, Duration.ofHours(1), MAX_SAMPLES);
+  }
+
+  @AfterEach
+  void tearDown() {
+    recorder.close();
+  }
+
+  @Test
+  void testCountsAreSummedUntilFlush() {
+    final MetricClient.BoundCounter counter = recorder.counter(OssMetricsRegistry.LINE_SKIPPED_TOO_LONG, ATTRIBUTE);
+    counter.add(1);
+    counter.add(2);
+    recorder.count(OssMetricsRegistry.LINE_SKIPPED_TOO_LONG, 3, ATTRIBUTE);
+    verifyNoInteractions(metricClient);
+
+    recorder.flush();
+    verify(metricClient).count(OssMetricsRegistry.LINE_SKIPPED_TOO_LONG, 6, ATTRIBUTE);
+
+    // Nothing was counted since the previous flush.
+    recorder.flush();
+    verify(metricClient, times(1)).count(eq(OssMetricsRegistry.LINE_SKIPPED_TOO_LONG), eq(6L), eq(ATTRIBUTE));
+  }
+
+  @Test
+  void testSmallDistributionsAreSentInFull() {
+    final MetricClient.BoundDistribution distribution = recorder.distribution(OssMetricsRegistry.JSON_STRING_LENGTH);
+    distribution.record(100);
+    distribution.record(100);
+    distribution.record(5000);
+
+    recorder.flush();
+
+    final List<Double> values = recordedDistributionValues();
+    assertEquals(3, values.size());
+    assertEquals(2, values.stream().filter(value -> Math.abs(value - 100) <= 1).count());
+    assertEquals(1, values.stream().filter(value -> Math.abs(value - 5000) <= 50).count());
+  }
+
+  @Test
+  void testLargeDistributionsAreSampledInProportion() {
+    final MetricClient.BoundDistribution distribution = recorder.distribution(OssMetricsRegistry.JSON_STRING_LENGTH);
+    for (int i = 0; i < 900; i++) {
+      distribution.record(10);
+    }
+    for (int i = 0; i < 100; i++) {
+      distribution.record(1000);
+    }
+
+    recorder.flush();
+
+    final List<Double> values = recordedDistributionValues();
+    assertEquals(MAX_SAMPLES, values.size());
+    assertEquals(9, values.stream().filter(value -> value < 100).count());
+    assertEquals(1, values.stream().filter(value -> value > 100).count());
+  }
+
+  @Test
+  void testSampledDistributionsSendTheirTrueCountAndSum() {
+    final MetricClient.BoundDistribution distribution = recorder.distribution(OssMetricsRegistry.JSON_STRING_LENGTH, ATTRIBUTE);
+    for (int i = 0; i < 1000; i++) {
+      distribution.record(i);
+    }
+
+    recorder.flush();
+
+    assertEquals(MAX_SAMPLES, recordedDistributionValues().size());
+    verify(metricClient).count(
+        new AggregatingMetricRecorder.SummaryMetric(OssMetricsRegistry.JSON_STRING_LENGTH, AggregatingMetricRecorder.COUNT_SUFFIX), 1000, ATTRIBUTE);
+    verify(metricClient).count(
+        new AggregatingMetricRecorder.SummaryMetric(OssMetricsRegistry.JSON_STRING_LENGTH, AggregatingMetricRecorder.SUM_SUFFIX), 499_500, ATTRIBUTE);
+    assertEquals("json_string_length_count",
+        new AggregatingMetricRecorder.SummaryMetric(OssMetricsRegistry.JSON_STRING_LENGTH, AggregatingMetricRecorder.COUNT_SUFFIX).getMetricName());
+  }
+
+  @Test
+  void testSeriesPastTheLimitAreSentDirectly() {
+    for (int i = 0; i < AggregatingMetricRecorder.MAX_AGGREGATED_SERIES; i++) {
+      recorder.count(OssMetricsRegistry.NON_AIRBYTE_MESSAGE_LOG_LINE, 1, new MetricAttribute("tag", String.valueOf(i)));
+    }
+    verify(metricClient, never()).count(eq(OssMetricsRegistry.NON_AIRBYTE_MESSAGE_LOG_LINE), eq(1L), eq(ATTRIBUTE));
+
+    recorder.count(OssMetricsRegistry.NON_AIRBYTE_MESSAGE_LOG_LINE, 1, ATTRIBUTE);
+    verify(metricClient).count(OssMetricsRegistry.NON_AIRBYTE_MESSAGE_LOG_LINE, 1, ATTRIBUTE);
+  }
+
+  @Test
+  void testIdleSeriesAreEvicted() {
+    for (int i = 0; i < AggregatingMetricRecorder.MAX_AGGREGATED_SERIES; i++) {
+      recorder.count(OssMetricsRegistry.NON_AIRBYTE_MESSAGE_LOG_LINE, 1, new MetricAttribute("tag", String.valueOf(i)));
+    }
+    recorder.flush();
+    // Nothing was counted in the series during this interval, so they free their slots.
+    recorder.flush();
+
+    recorder.count(OssMetricsRegistry.NON_AIRBYTE_MESSAGE_LOG_LINE, 1, ATTRIBUTE);
+    verify(metricClient, never()).count(OssMetricsRegistry.NON_AIRBYTE_MESSAGE_LOG_LINE, 1, ATTRIBUTE);
+
+    recorder.flush();
+    verify(metricClient).count(OssMetricsRegistry.NON_AIRBYTE_MESSAGE_LOG_LINE, 1, ATTRIBUTE);
+  }
+
+  @Test
+  void testBoundInstrumentsOfEvictedSeriesKeepAggregating() {
+    final MetricClient.BoundCounter counter = recorder.counter(OssMetricsRegistry.LINE_SKIPPED_TOO_LONG, ATTRIBUTE);
+    final MetricClient.BoundDistribution distribution = recorder.distribution(OssMetricsRegistry.JSON_STRING_LENGTH);
+    recorder.flush();
+
+    counter.add(2);
+    counter.add(3);
+    distribution.record(42);
+    distribution.record(42);
+    verifyNoInteractions(metricClient);
+
+    recorder.flush();
+    verify(metricClient).count(OssMetricsRegistry.LINE_SKIPPED_TOO_LONG, 5, ATTRIBUTE);
+    final List<Double> values = recordedDistributionValues();
+    assertEquals(2, values.size());
+    assertTrue(values.stream().allMatch(value -> Math.abs(value - 42) <= 1));
+  }
+
+  @Test
+  void testCloseFlushes() {
+    recorder.distribution(OssMetricsRegistry.JSON_STRING_LENGTH, 42);
+
+    recorder.close();
+
+    verify(metricClient).distribution(eq(OssMetricsRegistry.JSON_STRING_LENGTH), anyDouble());
+    assertTrue(recordedDistributionValues().stream().allMatch(value -> Math.abs(value - 42) <= 1));
+  }
+
+  private List<Double> recordedDistributionValues() {
+    return mockingDetails(metricClient).getInvocations().stream()
+        .filter(invocation -> invocation.getMethod().getName().equals("distribution"))
+        .map(Invocation::getArguments)
+        .map(arguments -> (Double) arguments[1])
+        .toList();
+  }
+
+}
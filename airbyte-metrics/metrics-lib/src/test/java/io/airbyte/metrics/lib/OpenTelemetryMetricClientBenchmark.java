@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.metrics.lib;
+
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+import static io.opentelemetry.semconv.resource.attributes.ResourceAttributes.SERVICE_NAME;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the per-call overhead of recording a distribution with the {@link MetricClient} API
+ * against building the instrument and attributes on every call, which is what
+ * {@link OpenTelemetryMetricClient} used to do.
+ * <p>
+ * Not run as part of the test suite. Run {@link #main(String[])} to benchmark.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OpenTelemetryMetricClientBenchmark {
+
+  private static final MetricEmittingApp METRIC_EMITTING_APP = MetricEmittingApps.WORKER;
+  private static final OssMetricsRegistry METRIC = OssMetricsRegistry.JSON_STRING_LENGTH;
+  private static final MetricAttribute ATTRIBUTE = new MetricAttribute(MetricTags.CONNECTION_ID, "7b6a5b0e-8f8f-4c3f-9a56-1f2c3d4e5f60");
+
+  private OpenTelemetryMetricClient metricClient;
+  private Meter meter;
+  private MetricClient.BoundDistribution boundDistribution;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    final Resource resource = Resource.getDefault().toBuilder().put(SERVICE_NAME, METRIC_EMITTING_APP.getApplicationName()).build();
+    metricClient = new OpenTelemetryMetricClient();
+    metricClient.initialize(METRIC_EMITTING_APP, InMemoryMetricExporter.create(), SdkTracerProvider.builder().setResource(resource).build(),
+        resource);
+    meter = GlobalOpenTelemetry.get().getMeter(METRIC_EMITTING_APP.getApplicationName());
+    boundDistribution = metricClient.boundDistribution(METRIC, ATTRIBUTE);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    metricClient.shutdown();
+  }
+
+  @Benchmark
+  public void buildInstrumentPerCall() {
+    meter.histogramBuilder(METRIC.getMetricName())
+        .setDescription(METRIC.getMetricDescription())
+        .build()
+        .record(42, Attributes.builder().put(stringKey(ATTRIBUTE.key()), ATTRIBUTE.value()).build());
+  }
+
+  @Benchmark
+  public void distribution() {
+    metricClient.distribution(METRIC, 42, ATTRIBUTE);
+  }
+
+  @Benchmark
+  public void boundDistribution() {
+    boundDistribution.record(42);
+  }
+
+  public static void main(final String[] args) throws Exception {
+    org.openjdk.jmh.Main.main(new String[] {OpenTelemetryMetricClientBenchmark.class.getSimpleName()});
+  }
+
+}
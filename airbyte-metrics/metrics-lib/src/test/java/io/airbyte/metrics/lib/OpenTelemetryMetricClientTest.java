@@ -10,6 +10,8 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import com.google.common.collect.Iterables;
 import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.data.HistogramPointData;
+import io.opentelemetry.sdk.metrics.data.LongPointData;
 import io.opentelemetry.sdk.metrics.data.MetricData;
 import io.opentelemetry.sdk.resources.Resource;
 import io.opentelemetry.sdk.testing.exporter.InMemoryMetricExporter;
@@ -110,4 +112,58 @@ class OpenTelemetryMetricClientTest {
     assertThat(data.getHistogramData().getPoints().stream().anyMatch(histogramPointData -> histogramPointData.getMin() == 10.0));
   }
 
+  @Test
+  @DisplayName("Repeated counts should be added to the same counter")
+  void testCountReusesCounter() {
+    openTelemetryMetricClient.count(OssMetricsRegistry.KUBE_POD_PROCESS_CREATE_TIME_MILLISECS, 1, new MetricAttribute(TAG, TAG));
+    openTelemetryMetricClient.count(OssMetricsRegistry.KUBE_POD_PROCESS_CREATE_TIME_MILLISECS, 2, new MetricAttribute(TAG, TAG));
+
+    metricProvider.forceFlush();
+    final MetricData data = Iterables.getOnlyElement(metricExporter.getFinishedMetricItems());
+
+    assertThat(Iterables.getOnlyElement(data.getLongSumData().getPoints()).getValue()).isEqualTo(3L);
+  }
+
+  @Test
+  @DisplayName("Bound instruments should record with their attributes")
+  void testBoundInstruments() {
+    final MetricClient.BoundCounter counter =
+        openTelemetryMetricClient.boundCounter(OssMetricsRegistry.KUBE_POD_PROCESS_CREATE_TIME_MILLISECS, new MetricAttribute(TAG, TAG));
+    final MetricClient.BoundDistribution distribution =
+        openTelemetryMetricClient.boundDistribution(OssMetricsRegistry.JSON_STRING_LENGTH, new MetricAttribute(TAG, TAG));
+    counter.add(1);
+    counter.add(1);
+    distribution.record(10);
+    distribution.record(30);
+
+    metricProvider.forceFlush();
+    final List<MetricData> metricDataList = metricExporter.getFinishedMetricItems();
+    final MetricData counterData = metricDataList.stream()
+        .filter(data -> data.getName().equals(OssMetricsRegistry.KUBE_POD_PROCESS_CREATE_TIME_MILLISECS.getMetricName()))
+        .findFirst()
+        .orElseThrow();
+    final MetricData distributionData = metricDataList.stream()
+        .filter(data -> data.getName().equals(OssMetricsRegistry.JSON_STRING_LENGTH.getMetricName()))
+        .findFirst()
+        .orElseThrow();
+
+    final LongPointData counterPoint = Iterables.getOnlyElement(counterData.getLongSumData().getPoints());
+    assertThat(counterPoint.getValue()).isEqualTo(2L);
+    assertThat(counterPoint.getAttributes().get(AttributeKey.stringKey(TAG))).isEqualTo(TAG);
+    final HistogramPointData distributionPoint = Iterables.getOnlyElement(distributionData.getHistogramData().getPoints());
+    assertThat(distributionPoint.getCount()).isEqualTo(2L);
+    assertThat(distributionPoint.getMax()).isEqualTo(30.0);
+    assertThat(distributionPoint.getAttributes().get(AttributeKey.stringKey(TAG))).isEqualTo(TAG);
+  }
+
+  @Test
+  @DisplayName("The number of cached attribute sets should be bounded")
+  void testCachedAttributeSetsAreBounded() {
+    for (int i = 0; i < OpenTelemetryMetricClient.MAX_CACHED_ATTRIBUTE_SETS + 10; i++) {
+      openTelemetryMetricClient.count(OssMetricsRegistry.KUBE_POD_PROCESS_CREATE_TIME_MILLISECS, 1, new MetricAttribute(TAG, String.valueOf(i)));
+    }
+
+    assertThat(openTelemetryMetricClient.getCachedAttributeSetCount()).isEqualTo(OpenTelemetryMetricClient.MAX_CACHED_ATTRIBUTE_SETS);
+  }
+
 }
@@ -0,0 +1,74 @@
+package io.airbyte.metrics.db
+
+import io.airbyte.metrics.lib.MetricAttribute
+import io.airbyte.metrics.lib.MetricClient
+import io.airbyte.metrics.lib.MetricTags
+import io.airbyte.metrics.lib.OssMetricsRegistry
+import io.mockk.Runs
+import io.mockk.every
+import io.mockk.just
+import io.mockk.mockk
+import io.mockk.slot
+import io.mockk.verify
+import org.jooq.ExecuteContext
+import org.jooq.ExecuteType
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertNotEquals
+import org.junit.jupiter.api.Test
+import java.time.Duration
+
+class QueryMetricsExecuteListenerTest {
+  @Test
+  fun `fingerprint ignores literals and list lengths`() {
+    assertEquals(
+      QueryMetricsExecuteListener.fingerprint("select * from connection where id in (?, ?) and name = 'a'"),
+      QueryMetricsExecuteListener.fingerprint("SELECT *\n  FROM connection WHERE id IN (?, ?, ?, ?) AND name = 'b'"),
+    )
+    assertEquals(
+      QueryMetricsExecuteListener.fingerprint("insert into state (a, b) values (?, ?)"),
+      QueryMetricsExecuteListener.fingerprint("insert into state (a, b) values (?, ?), (?, ?), (?, ?)"),
+    )
+    assertNotEquals(
+      QueryMetricsExecuteListener.fingerprint("select * from connection where id = ?"),
+      QueryMetricsExecuteListener.fingerprint("select * from actor where id = ?"),
+    )
+  }
+
+  @Test
+  fun `records latency and slow queries`() {
+    val metricClient =
+      mockk<MetricClient> {
+        every { count(any(), any(), *anyVararg()) } just Runs
+        every { distribution(any(), any(), *anyVararg()) } just Runs
+      }
+    val data = mutableMapOf<Any, Any>()
+    val key = slot<Any>()
+    val value = slot<Any>()
+    val ctx =
+      mockk<ExecuteContext> {
+        every { data(capture(key), capture(value)) } answers {
+          data[key.captured] = value.captured
+          null
+        }
+        every { data(any()) } answers { data[firstArg()] }
+        every { sql() } returns "select * from connection where id = ?"
+        every { type() } returns ExecuteType.READ
+        every { exception() } returns null
+      }
+
+    // A zero threshold makes every query slow.
+    val listener = QueryMetricsExecuteListener(metricClient, Duration.ZERO, 0.0)
+    listener.start(ctx)
+    listener.end(ctx)
+
+    val fingerprint =
+      MetricAttribute(MetricTags.QUERY_FINGERPRINT, QueryMetricsExecuteListener.fingerprint("select * from connection where id = ?"))
+    val caller = MetricAttribute(MetricTags.QUERY_CALLER, "QueryMetricsExecuteListenerTest")
+    val type = MetricAttribute(MetricTags.QUERY_TYPE, "read")
+    val success = MetricAttribute(MetricTags.SUCCESS, "true")
+    verify {
+      metricClient.distribution(OssMetricsRegistry.DB_QUERY_LATENCY_MS, any(), fingerprint, caller, type, success)
+      metricClient.count(OssMetricsRegistry.DB_SLOW_QUERY, 1, fingerprint, caller, type, success)
+    }
+  }
+}
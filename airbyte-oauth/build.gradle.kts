@@ -17,6 +17,7 @@ dependencies {
   implementation(project(":oss:airbyte-config:config-models"))
   implementation(project(":oss:airbyte-data"))
   implementation(project(":oss:airbyte-json-validation"))
+  implementation(project(":oss:airbyte-metrics:metrics-lib"))
   implementation(libs.airbyte.protocol)
 
   testRuntimeOnly(libs.junit.jupiter.engine)
@@ -75,6 +75,7 @@ public abstract class BaseOAuth2Flow extends BaseOAuthFlow {
   }
 
   protected final HttpClient httpClient;
+  protected final OAuthRequestExecutor requestExecutor;
   protected final TokenRequestContentType tokenReqContentType;
   private final Supplier<String> stateSupplier;
 
@@ -82,8 +83,12 @@ public abstract class BaseOAuth2Flow extends BaseOAuthFlow {
   // https://www.oauth.com/oauth2-servers/server-side-apps/possible-errors/
   private final List<String> ignoredOauthErrors = Arrays.asList("access_denied");
 
-  public BaseOAuth2Flow(final HttpClient httpClient) {
-    this(httpClient, BaseOAuth2Flow::generateRandomState);
+  /**
+   * Build a flow sending its requests through the executor shared by the flows, so that the limits of
+   * a provider apply to all the flows of that provider.
+   */
+  public BaseOAuth2Flow(final HttpClient httpClient, final OAuthRequestExecutor requestExecutor) {
+    this(httpClient, requestExecutor, BaseOAuth2Flow::generateRandomState, TokenRequestContentType.URL_ENCODED);
   }
 
   public BaseOAuth2Flow(final HttpClient httpClient, final Supplier<String> stateSupplier) {
@@ -93,8 +98,16 @@ public abstract class BaseOAuth2Flow extends BaseOAuthFlow {
   public BaseOAuth2Flow(final HttpClient httpClient,
                         final Supplier<String> stateSupplier,
                         final TokenRequestContentType tokenReqContentType) {
+    this(httpClient, new OAuthRequestExecutor(httpClient), stateSupplier, tokenReqContentType);
+  }
+
+  private BaseOAuth2Flow(final HttpClient httpClient,
+                         final OAuthRequestExecutor requestExecutor,
+                         final Supplier<String> stateSupplier,
+                         final TokenRequestContentType tokenReqContentType) {
     super();
     this.httpClient = httpClient;
+    this.requestExecutor = requestExecutor;
     this.stateSupplier = stateSupplier;
     this.tokenReqContentType = tokenReqContentType;
   }
@@ -294,7 +307,7 @@ public abstract class BaseOAuth2Flow extends BaseOAuthFlow {
         .build();
     // TODO: Handle error response to report better messages
     try {
-      final HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+      final HttpResponse<String> response = requestExecutor.send(request);
       return extractOAuthOutput(Jsons.deserialize(response.body()), accessTokenUrl);
     } catch (final InterruptedException e) {
       throw new IOException("Failed to complete OAuth flow", e);
@@ -73,65 +73,67 @@ public class OAuthImplementationFactory {
   private final Map<String, OAuthFlowImplementation> oauthFlowMapping;
 
   public OAuthImplementationFactory(final HttpClient httpClient) {
+    // Shared by all the flows, as many flows talk to the same provider, e.g. Google or Microsoft.
+    final OAuthRequestExecutor requestExecutor = new OAuthRequestExecutor(httpClient);
     final Builder<String, OAuthFlowImplementation> builder = ImmutableMap.builder();
-    builder.put("airbyte/source-airtable", new AirtableOAuthFlow(httpClient)); // revert me
-    builder.put("airbyte/source-amazon-ads", new AmazonAdsOAuthFlow(httpClient));
-    builder.put("airbyte/source-amazon-seller-partner", new AmazonSellerPartnerOAuthFlow(httpClient));
-    builder.put("airbyte/source-asana", new AsanaOAuthFlow(httpClient));
-    builder.put("airbyte/source-azure-blob-storage", new MicrosoftAzureBlobStorageOAuthFlow(httpClient));
-    builder.put("airbyte/source-bing-ads", new MicrosoftBingAdsOAuthFlow(httpClient));
-    builder.put("airbyte/source-drift", new DriftOAuthFlow(httpClient));
-    builder.put("airbyte/source-facebook-marketing", new FacebookMarketingOAuthFlow(httpClient));
-    builder.put("airbyte/source-facebook-pages", new FacebookPagesOAuthFlow(httpClient));
-    builder.put("airbyte/source-github", new GithubOAuthFlow(httpClient));
-    builder.put("airbyte/source-gitlab", new GitlabOAuthFlow(httpClient));
-    builder.put("airbyte/source-google-ads", new GoogleAdsOAuthFlow(httpClient));
-    builder.put("airbyte/source-google-analytics-v4", new GoogleAnalyticsViewIdOAuthFlow(httpClient));
-    builder.put("airbyte/source-google-analytics-data-api", new GoogleAnalyticsPropertyIdOAuthFlow(httpClient));
-    builder.put("airbyte/source-gcs", new GoogleCloudStorageOAuthFlow(httpClient));
-    builder.put("airbyte/source-google-search-console", new GoogleSearchConsoleOAuthFlow(httpClient));
-    builder.put("airbyte/source-google-sheets", new GoogleSheetsOAuthFlow(httpClient));
-    builder.put("airbyte/source-google-drive", new GoogleDriveOAuthFlow(httpClient));
-    builder.put("airbyte/source-harvest", new HarvestOAuthFlow(httpClient));
-    builder.put("airbyte/source-hubspot", new HubspotOAuthFlow(httpClient));
-    builder.put("airbyte/source-intercom", new IntercomOAuthFlow(httpClient));
-    builder.put("airbyte/source-instagram", new InstagramOAuthFlow(httpClient));
-    builder.put("airbyte/source-lever-hiring", new LeverOAuthFlow(httpClient));
-    builder.put("airbyte/source-linkedin-ads", new LinkedinAdsOAuthFlow(httpClient));
-    builder.put("airbyte/source-mailchimp", new MailchimpOAuthFlow(httpClient));
-    builder.put("airbyte/source-microsoft-teams", new MicrosoftTeamsOAuthFlow(httpClient));
+    builder.put("airbyte/source-airtable", new AirtableOAuthFlow(httpClient, requestExecutor)); // revert me
+    builder.put("airbyte/source-amazon-ads", new AmazonAdsOAuthFlow(httpClient, requestExecutor));
+    builder.put("airbyte/source-amazon-seller-partner", new AmazonSellerPartnerOAuthFlow(httpClient, requestExecutor));
+    builder.put("airbyte/source-asana", new AsanaOAuthFlow(httpClient, requestExecutor));
+    builder.put("airbyte/source-azure-blob-storage", new MicrosoftAzureBlobStorageOAuthFlow(httpClient, requestExecutor));
+    builder.put("airbyte/source-bing-ads", new MicrosoftBingAdsOAuthFlow(httpClient, requestExecutor));
+    builder.put("airbyte/source-drift", new DriftOAuthFlow(httpClient, requestExecutor));
+    builder.put("airbyte/source-facebook-marketing", new FacebookMarketingOAuthFlow(httpClient, requestExecutor));
+    builder.put("airbyte/source-facebook-pages", new FacebookPagesOAuthFlow(httpClient, requestExecutor));
+    builder.put("airbyte/source-github", new GithubOAuthFlow(httpClient, requestExecutor));
+    builder.put("airbyte/source-gitlab", new GitlabOAuthFlow(httpClient, requestExecutor));
+    builder.put("airbyte/source-google-ads", new GoogleAdsOAuthFlow(httpClient, requestExecutor));
+    builder.put("airbyte/source-google-analytics-v4", new GoogleAnalyticsViewIdOAuthFlow(httpClient, requestExecutor));
+    builder.put("airbyte/source-google-analytics-data-api", new GoogleAnalyticsPropertyIdOAuthFlow(httpClient, requestExecutor));
+    builder.put("airbyte/source-gcs", new GoogleCloudStorageOAuthFlow(httpClient, requestExecutor));
+    builder.put("airbyte/source-google-search-console", new GoogleSearchConsoleOAuthFlow(httpClient, requestExecutor));
+    builder.put("airbyte/source-google-sheets", new GoogleSheetsOAuthFlow(httpClient, requestExecutor));
+    builder.put("airbyte/source-google-drive", new GoogleDriveOAuthFlow(httpClient, requestExecutor));
+    builder.put("airbyte/source-harvest", new HarvestOAuthFlow(httpClient, requestExecutor));
+    builder.put("airbyte/source-hubspot", new HubspotOAuthFlow(httpClient, requestExecutor));
+    builder.put("airbyte/source-intercom", new IntercomOAuthFlow(httpClient, requestExecutor));
+    builder.put("airbyte/source-instagram", new InstagramOAuthFlow(httpClient, requestExecutor));
+    builder.put("airbyte/source-lever-hiring", new LeverOAuthFlow(httpClient, requestExecutor));
+    builder.put("airbyte/source-linkedin-ads", new LinkedinAdsOAuthFlow(httpClient, requestExecutor));
+    builder.put("airbyte/source-mailchimp", new MailchimpOAuthFlow(httpClient, requestExecutor));
+    builder.put("airbyte/source-microsoft-teams", new MicrosoftTeamsOAuthFlow(httpClient, requestExecutor));
     builder.put(
-        "airbyte/source-microsoft-onedrive", new MicrosoftOneDriveOAuthFlow(httpClient));
+        "airbyte/source-microsoft-onedrive", new MicrosoftOneDriveOAuthFlow(httpClient, requestExecutor));
     builder.put(
-        "airbyte/source-microsoft-sharepoint", new MicrosoftSharepointOAuthFlow(httpClient));
-    builder.put("airbyte/source-monday", new MondayOAuthFlow(httpClient));
-    builder.put("airbyte/source-notion", new NotionOAuthFlow(httpClient));
-    builder.put("airbyte/source-okta", new OktaOAuthFlow(httpClient));
-    builder.put("airbyte/source-paypal-transaction", new PayPalTransactionOAuthFlow(httpClient));
-    builder.put("airbyte/source-pinterest", new PinterestOAuthFlow(httpClient));
-    builder.put("airbyte/source-pipedrive", new PipeDriveOAuthFlow(httpClient));
-    builder.put("airbyte/source-quickbooks", new QuickbooksOAuthFlow(httpClient));
-    builder.put("airbyte/source-retently", new RetentlyOAuthFlow(httpClient));
-    builder.put("airbyte/source-salesforce", new SalesforceOAuthFlow(httpClient));
-    builder.put("airbyte/source-shopify", new ShopifyOAuthFlow(httpClient));
-    builder.put("airbyte/source-slack", new SlackOAuthFlow(httpClient));
-    builder.put("airbyte/source-smartsheets", new SmartsheetsOAuthFlow(httpClient));
-    builder.put("airbyte/source-snapchat-marketing", new SnapchatMarketingOAuthFlow(httpClient));
-    builder.put("airbyte/source-snowflake", new SourceSnowflakeOAuthFlow(httpClient));
-    builder.put("airbyte/source-square", new SquareOAuthFlow(httpClient));
-    builder.put("airbyte/source-strava", new StravaOAuthFlow(httpClient));
-    builder.put("airbyte/source-surveymonkey", new SurveymonkeyOAuthFlow(httpClient));
-    builder.put("airbyte/source-tiktok-marketing", new TikTokMarketingOAuthFlow(httpClient));
+        "airbyte/source-microsoft-sharepoint", new MicrosoftSharepointOAuthFlow(httpClient, requestExecutor));
+    builder.put("airbyte/source-monday", new MondayOAuthFlow(httpClient, requestExecutor));
+    builder.put("airbyte/source-notion", new NotionOAuthFlow(httpClient, requestExecutor));
+    builder.put("airbyte/source-okta", new OktaOAuthFlow(httpClient, requestExecutor));
+    builder.put("airbyte/source-paypal-transaction", new PayPalTransactionOAuthFlow(httpClient, requestExecutor));
+    builder.put("airbyte/source-pinterest", new PinterestOAuthFlow(httpClient, requestExecutor));
+    builder.put("airbyte/source-pipedrive", new PipeDriveOAuthFlow(httpClient, requestExecutor));
+    builder.put("airbyte/source-quickbooks", new QuickbooksOAuthFlow(httpClient, requestExecutor));
+    builder.put("airbyte/source-retently", new RetentlyOAuthFlow(httpClient, requestExecutor));
+    builder.put("airbyte/source-salesforce", new SalesforceOAuthFlow(httpClient, requestExecutor));
+    builder.put("airbyte/source-shopify", new ShopifyOAuthFlow(httpClient, requestExecutor));
+    builder.put("airbyte/source-slack", new SlackOAuthFlow(httpClient, requestExecutor));
+    builder.put("airbyte/source-smartsheets", new SmartsheetsOAuthFlow(httpClient, requestExecutor));
+    builder.put("airbyte/source-snapchat-marketing", new SnapchatMarketingOAuthFlow(httpClient, requestExecutor));
+    builder.put("airbyte/source-snowflake", new SourceSnowflakeOAuthFlow(httpClient, requestExecutor));
+    builder.put("airbyte/source-square", new SquareOAuthFlow(httpClient, requestExecutor));
+    builder.put("airbyte/source-strava", new StravaOAuthFlow(httpClient, requestExecutor));
+    builder.put("airbyte/source-surveymonkey", new SurveymonkeyOAuthFlow(httpClient, requestExecutor));
+    builder.put("airbyte/source-tiktok-marketing", new TikTokMarketingOAuthFlow(httpClient, requestExecutor));
     builder.put("airbyte/source-trello", new TrelloOAuthFlow());
-    builder.put("airbyte/source-typeform", new TypeformOAuthFlow(httpClient));
-    builder.put("airbyte/source-youtube-analytics", new YouTubeAnalyticsOAuthFlow(httpClient));
-    builder.put("airbyte/source-xero", new XeroOAuthFlow(httpClient));
-    builder.put("airbyte/source-zendesk-chat", new ZendeskChatOAuthFlow(httpClient));
-    builder.put("airbyte/source-zendesk-sunshine", new ZendeskSunshineOAuthFlow(httpClient));
-    builder.put("airbyte/source-zendesk-support", new ZendeskSupportOAuthFlow(httpClient));
-    builder.put("airbyte/source-zendesk-talk", new ZendeskTalkOAuthFlow(httpClient));
-    builder.put("airbyte/destination-snowflake", new DestinationSnowflakeOAuthFlow(httpClient));
-    builder.put("airbyte/destination-google-sheets", new DestinationGoogleSheetsOAuthFlow(httpClient));
+    builder.put("airbyte/source-typeform", new TypeformOAuthFlow(httpClient, requestExecutor));
+    builder.put("airbyte/source-youtube-analytics", new YouTubeAnalyticsOAuthFlow(httpClient, requestExecutor));
+    builder.put("airbyte/source-xero", new XeroOAuthFlow(httpClient, requestExecutor));
+    builder.put("airbyte/source-zendesk-chat", new ZendeskChatOAuthFlow(httpClient, requestExecutor));
+    builder.put("airbyte/source-zendesk-sunshine", new ZendeskSunshineOAuthFlow(httpClient, requestExecutor));
+    builder.put("airbyte/source-zendesk-support", new ZendeskSupportOAuthFlow(httpClient, requestExecutor));
+    builder.put("airbyte/source-zendesk-talk", new ZendeskTalkOAuthFlow(httpClient, requestExecutor));
+    builder.put("airbyte/destination-snowflake", new DestinationSnowflakeOAuthFlow(httpClient, requestExecutor));
+    builder.put("airbyte/destination-google-sheets", new DestinationGoogleSheetsOAuthFlow(httpClient, requestExecutor));
     oauthFlowMapping = builder
         .build();
   }
@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.oauth;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.airbyte.metrics.lib.MetricAttribute;
+import io.airbyte.metrics.lib.MetricClientFactory;
+import io.airbyte.metrics.lib.MetricTags;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Sends the requests of the OAuth flows to the providers asynchronously, through
+ * {@link HttpClient#sendAsync}.
+ * <p>
+ * Requests are grouped by provider, i.e. by the host of the request. At most
+ * {@code maxConcurrentRequestsPerProvider} requests are in flight per provider, the others are
+ * queued. A provider answering 429 or 503 is rate limiting us: its queue is paused for the
+ * {@code Retry-After} the provider asked for, or for an exponential backoff, and the request is
+ * retried up to {@code maxRetries} times. Requests answered 503 are only retried if they are
+ * idempotent: the provider may have processed them before failing, and e.g. the authorization code
+ * a token request exchanges can only be used once. Latencies and failures are reported per
+ * provider.
+ * <p>
+ * {@link OAuthImplementationFactory} shares one executor between all the flows, so the limits of a
+ * provider apply to all the flows talking to it, e.g. to every Google connector.
+ */
+public class OAuthRequestExecutor {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(OAuthRequestExecutor.class);
+
+  private static final int DEFAULT_MAX_CONCURRENT_REQUESTS_PER_PROVIDER = 8;
+  private static final int DEFAULT_MAX_RETRIES = 3;
+  private static final Duration DEFAULT_INITIAL_BACKOFF = Duration.ofSeconds(1);
+  private static final Duration MAX_BACKOFF = Duration.ofSeconds(60);
+  // Waiting for the provider and its backoffs included.
+  private static final Duration DEFAULT_DEADLINE = Duration.ofMinutes(2);
+  private static final Set<String> IDEMPOTENT_METHODS = Set.of("GET", "HEAD", "OPTIONS", "PUT", "DELETE");
+  private static final int TOO_MANY_REQUESTS = 429;
+  private static final int SERVICE_UNAVAILABLE = 503;
+
+  private record Call(HttpRequest request, String provider, int attempt, CompletableFuture<HttpResponse<String>> result) {}
+
+  private static final class ProviderQueue {
+
+    private final Queue<Call> waiting = new ArrayDeque<>();
+    private int inFlight;
+    private long pausedUntilNanos;
+    private boolean resumeScheduled;
+
+  }
+
+  private final HttpClient httpClient;
+  private final int maxConcurrentRequestsPerProvider;
+  private final int maxRetries;
+  private final Duration initialBackoff;
+  private final Duration deadline;
+  private final Map<String, ProviderQueue> providers = new ConcurrentHashMap<>();
+
+  public OAuthRequestExecutor(final HttpClient httpClient) {
+    this(httpClient, DEFAULT_MAX_CONCURRENT_REQUESTS_PER_PROVIDER, DEFAULT_MAX_RETRIES, DEFAULT_INITIAL_BACKOFF, DEFAULT_DEADLINE);
+  }
+
+  @VisibleForTesting
+  OAuthRequestExecutor(final HttpClient httpClient,
+                       final int maxConcurrentRequestsPerProvider,
+                       final int maxRetries,
+                       final Duration initialBackoff,
+                       final Duration deadline) {
+    this.httpClient = httpClient;
+    this.maxConcurrentRequestsPerProvider = maxConcurrentRequestsPerProvider;
+    this.maxRetries = maxRetries;
+    this.initialBackoff = initialBackoff;
+    this.deadline = deadline;
+  }
+
+  /**
+   * Send a request once the provider has capacity for it.
+   *
+   * @param request request to send
+   * @return the response, which is the last one received if the provider kept rate limiting the
+   *         request
+   */
+  public CompletableFuture<HttpResponse<String>> sendAsync(final HttpRequest request) {
+    final String provider = Optional.ofNullable(request.uri().getHost()).orElse(MetricTags.UNKNOWN);
+    final CompletableFuture<HttpResponse<String>> result = new CompletableFuture<>();
+    enqueue(new Call(request, provider, 0, result));
+    return result;
+  }
+
+  /**
+   * Send a request and wait for its response, for the flows that need the response to continue.
+   *
+   * @throws HttpTimeoutException if there is no response within the deadline of the executor, which
+   *         includes the time spent waiting for the provider
+   */
+  public HttpResponse<String> send(final HttpRequest request) throws IOException, InterruptedException {
+    final CompletableFuture<HttpResponse<String>> response = sendAsync(request);
+    try {
+      return response.get(deadline.toNanos(), TimeUnit.NANOSECONDS);
+    } catch (final InterruptedException e) {
+      response.cancel(true);
+      throw e;
+    } catch (final TimeoutException e) {
+      response.cancel(true);
+      throw new HttpTimeoutException("No response from " + request.uri().getHost() + " within " + deadline);
+    } catch (final ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      throw new IOException("Failed to send request to " + request.uri().getHost(), e.getCause());
+    }
+  }
+
+  private void enqueue(final Call call) {
+    final ProviderQueue queue = providers.computeIfAbsent(call.provider(), provider -> new ProviderQueue());
+    synchronized (queue) {
+      queue.waiting.add(call);
+    }
+    dispatch(queue);
+  }
+
+  private void dispatch(final ProviderQueue queue) {
+    final List<Call> toStart = new ArrayList<>();
+    synchronized (queue) {
+      final long pausedForNanos = queue.pausedUntilNanos - System.nanoTime();
+      if (pausedForNanos > 0) {
+        if (!queue.resumeScheduled && !queue.waiting.isEmpty()) {
+          queue.resumeScheduled = true;
+          CompletableFuture.delayedExecutor(pausedForNanos, TimeUnit.NANOSECONDS).execute(() -> {
+            synchronized (queue) {
+              queue.resumeScheduled = false;
+            }
+            dispatch(queue);
+          });
+        }
+      } else {
+        while (queue.inFlight < maxConcurrentRequestsPerProvider && !queue.waiting.isEmpty()) {
+          queue.inFlight++;
+          toStart.add(queue.waiting.poll());
+        }
+      }
+    }
+    toStart.forEach(call -> start(queue, call));
+  }
+
+  private void start(final ProviderQueue queue, final Call call) {
+    if (call.result().isDone()) {
+      // Cancelled while waiting for the provider.
+      release(queue);
+      return;
+    }
+    final long startNanos = System.nanoTime();
+    final CompletableFuture<HttpResponse<String>> response;
+    try {
+      response = httpClient.sendAsync(call.request(), HttpResponse.BodyHandlers.ofString());
+    } catch (final RuntimeException e) {
+      release(queue);
+      onFailure(call, e);
+      return;
+    }
+    response.whenComplete((r, e) -> {
+      // Handled before releasing the slot, so that the queue is paused before the next request starts
+      // if the provider is rate limiting us.
+      if (e != null) {
+        onFailure(call, e);
+      } else {
+        onResponse(queue, call, r, Duration.ofNanos(System.nanoTime() - startNanos));
+      }
+      release(queue);
+    });
+  }
+
+  private void release(final ProviderQueue queue) {
+    synchronized (queue) {
+      queue.inFlight--;
+    }
+    dispatch(queue);
+  }
+
+  private void onResponse(final ProviderQueue queue, final Call call, final HttpResponse<String> response, final Duration latency) {
+    final int status = response.statusCode();
+    final MetricAttribute[] attributes = {
+      new MetricAttribute(MetricTags.OAUTH_PROVIDER, call.provider()),
+      new MetricAttribute(MetricTags.STATUS, String.valueOf(status))
+    };
+    MetricClientFactory.getMetricClient().distribution(OssMetricsRegistry.OAUTH_REQUEST_DURATION, latency.toMillis(), attributes);
+
+    final boolean isRetryable = status == TOO_MANY_REQUESTS
+        || status == SERVICE_UNAVAILABLE && IDEMPOTENT_METHODS.contains(call.request().method());
+    if (isRetryable && call.attempt() < maxRetries) {
+      final Duration backoff = getBackoff(response, call.attempt());
+      LOGGER.warn("OAuth provider {} answered {}, retrying in {}", call.provider(), status, backoff);
+      MetricClientFactory.getMetricClient().count(OssMetricsRegistry.OAUTH_REQUEST_THROTTLED, 1, attributes);
+      synchronized (queue) {
+        queue.pausedUntilNanos = Math.max(queue.pausedUntilNanos, System.nanoTime() + backoff.toNanos());
+      }
+      enqueue(new Call(call.request(), call.provider(), call.attempt() + 1, call.result()));
+      return;
+    }
+    if (status >= 400) {
+      MetricClientFactory.getMetricClient().count(OssMetricsRegistry.OAUTH_REQUEST_FAILED, 1, attributes);
+    }
+    call.result().complete(response);
+  }
+
+  private void onFailure(final Call call, final Throwable error) {
+    final Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    if (!(cause instanceof CancellationException)) {
+      MetricClientFactory.getMetricClient().count(OssMetricsRegistry.OAUTH_REQUEST_FAILED, 1,
+          new MetricAttribute(MetricTags.OAUTH_PROVIDER, call.provider()),
+          new MetricAttribute(MetricTags.STATUS, cause.getClass().getSimpleName()));
+    }
+    call.result().completeExceptionally(cause);
+  }
+
+  @VisibleForTesting
+  Duration getBackoff(final HttpResponse<String> response, final int attempt) {
+    final Optional<Duration> retryAfter = response.headers().firstValue("Retry-After").flatMap(value -> {
+      try {
+        return Optional.of(Duration.ofSeconds(Long.parseLong(value.trim())));
+      } catch (final NumberFormatException e) {
+        // Retry-After may also be an HTTP date, which isn't worth parsing to wait a few seconds.
+        return Optional.empty();
+      }
+    });
+    final Duration backoff = retryAfter.orElseGet(() -> initialBackoff.multipliedBy(1L << attempt));
+    return backoff.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff;
+  }
+
+}
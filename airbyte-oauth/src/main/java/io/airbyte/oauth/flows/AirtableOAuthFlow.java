@@ -8,6 +8,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.collect.ImmutableMap;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.oauth.BaseOAuth2Flow;
+import io.airbyte.oauth.OAuthRequestExecutor;
 import io.airbyte.protocol.models.OAuthConfigSpecification;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
@@ -82,8 +83,8 @@ public class AirtableOAuthFlow extends BaseOAuth2Flow {
     }
   }
 
-  public AirtableOAuthFlow(final HttpClient httpClient) {
-    super(httpClient);
+  public AirtableOAuthFlow(final HttpClient httpClient, final OAuthRequestExecutor requestExecutor) {
+    super(httpClient, requestExecutor);
     this.clock = Clock.systemUTC();
     this.secureRandom = new SecureRandom();
   }
@@ -185,8 +186,7 @@ public class AirtableOAuthFlow extends BaseOAuth2Flow {
         .header("Authorization", "Basic " + new String(authorization, StandardCharsets.UTF_8))
         .build();
     try {
-      final HttpResponse<String> response = httpClient.send(request,
-          HttpResponse.BodyHandlers.ofString());
+      final HttpResponse<String> response = requestExecutor.send(request);
 
       return extractOAuthOutput(Jsons.deserialize(response.body()), accessTokenUrl);
     } catch (final InterruptedException e) {
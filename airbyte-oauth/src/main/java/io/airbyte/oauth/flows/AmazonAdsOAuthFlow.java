@@ -7,6 +7,7 @@ package io.airbyte.oauth.flows;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.collect.ImmutableMap;
 import io.airbyte.oauth.BaseOAuth2Flow;
+import io.airbyte.oauth.OAuthRequestExecutor;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.net.http.HttpClient;
@@ -30,8 +31,8 @@ public class AmazonAdsOAuthFlow extends BaseOAuth2Flow {
       "EU", AUTHORIZE_EU_URL,
       "FE", AUTHORIZE_FE_URL);
 
-  public AmazonAdsOAuthFlow(final HttpClient httpClient) {
-    super(httpClient);
+  public AmazonAdsOAuthFlow(final HttpClient httpClient, final OAuthRequestExecutor requestExecutor) {
+    super(httpClient, requestExecutor);
   }
 
   public AmazonAdsOAuthFlow(final HttpClient httpClient, final Supplier<String> stateSupplier) {
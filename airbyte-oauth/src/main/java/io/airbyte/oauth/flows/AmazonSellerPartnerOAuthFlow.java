@@ -10,6 +10,7 @@ import io.airbyte.api.problems.model.generated.ProblemResourceData;
 import io.airbyte.api.problems.throwable.generated.ResourceNotFoundProblem;
 import io.airbyte.config.ConfigSchema;
 import io.airbyte.oauth.BaseOAuth2Flow;
+import io.airbyte.oauth.OAuthRequestExecutor;
 import io.airbyte.protocol.models.OAuthConfigSpecification;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
@@ -91,8 +92,8 @@ public class AmazonSellerPartnerOAuthFlow extends BaseOAuth2Flow {
     return getConfigValueUnsafe(oauthConfig, "lwa_client_secret");
   }
 
-  public AmazonSellerPartnerOAuthFlow(final HttpClient httpClient) {
-    super(httpClient);
+  public AmazonSellerPartnerOAuthFlow(final HttpClient httpClient, final OAuthRequestExecutor requestExecutor) {
+    super(httpClient, requestExecutor);
   }
 
   public AmazonSellerPartnerOAuthFlow(final HttpClient httpClient, final Supplier<String> stateSupplier) {
@@ -8,6 +8,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableMap;
 import io.airbyte.oauth.BaseOAuth2Flow;
+import io.airbyte.oauth.OAuthRequestExecutor;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.net.http.HttpClient;
@@ -24,8 +25,8 @@ public class AsanaOAuthFlow extends BaseOAuth2Flow {
   private static final String AUTHORIZE_URL = "https://app.asana.com/-/oauth_authorize";
   private static final String ACCESS_TOKEN_URL = "https://app.asana.com/-/oauth_token";
 
-  public AsanaOAuthFlow(final HttpClient httpClient) {
-    super(httpClient);
+  public AsanaOAuthFlow(final HttpClient httpClient, final OAuthRequestExecutor requestExecutor) {
+    super(httpClient, requestExecutor);
   }
 
   @VisibleForTesting
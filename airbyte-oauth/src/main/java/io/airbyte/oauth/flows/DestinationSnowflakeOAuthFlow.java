@@ -8,6 +8,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.collect.ImmutableMap;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.oauth.BaseOAuth2Flow;
+import io.airbyte.oauth.OAuthRequestExecutor;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -30,9 +31,8 @@ public class DestinationSnowflakeOAuthFlow extends BaseOAuth2Flow {
   private static final String AUTHORIZE_URL = "https://%s/oauth/authorize";
   private static final String ACCESS_TOKEN_URL = "https://%s/oauth/token-request";
 
-  public DestinationSnowflakeOAuthFlow(
-                                       final HttpClient httpClient) {
-    super(httpClient);
+  public DestinationSnowflakeOAuthFlow(final HttpClient httpClient, final OAuthRequestExecutor requestExecutor) {
+    super(httpClient, requestExecutor);
   }
 
   @Override
@@ -101,8 +101,7 @@ public class DestinationSnowflakeOAuthFlow extends BaseOAuth2Flow {
         .header("Authorization", "Basic " + new String(authorization, StandardCharsets.UTF_8))
         .build();
     try {
-      final HttpResponse<String> response = httpClient.send(request,
-          HttpResponse.BodyHandlers.ofString());
+      final HttpResponse<String> response = requestExecutor.send(request);
 
       return extractOAuthOutput(Jsons.deserialize(response.body()), accessTokenUrl);
     } catch (final InterruptedException e) {
@@ -7,6 +7,7 @@ package io.airbyte.oauth.flows;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.annotations.VisibleForTesting;
 import io.airbyte.oauth.BaseOAuth2Flow;
+import io.airbyte.oauth.OAuthRequestExecutor;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.net.http.HttpClient;
@@ -45,8 +46,8 @@ public class GithubOAuthFlow extends BaseOAuth2Flow {
     return String.join("%20", SCOPES);
   }
 
-  public GithubOAuthFlow(final HttpClient httpClient) {
-    super(httpClient);
+  public GithubOAuthFlow(final HttpClient httpClient, final OAuthRequestExecutor requestExecutor) {
+    super(httpClient, requestExecutor);
   }
 
   @VisibleForTesting
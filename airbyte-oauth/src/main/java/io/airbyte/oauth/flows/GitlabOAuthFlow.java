@@ -7,6 +7,7 @@ package io.airbyte.oauth.flows;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.collect.ImmutableMap;
 import io.airbyte.oauth.BaseOAuth2Flow;
+import io.airbyte.oauth.OAuthRequestExecutor;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.net.http.HttpClient;
@@ -25,8 +26,8 @@ public class GitlabOAuthFlow extends BaseOAuth2Flow {
   private static final String ACCESS_TOKEN_URL = "https://%s/oauth/token";
   private static final String DEFAULT_GITLAB_DOMAIN = "gitlab.com";
 
-  public GitlabOAuthFlow(final HttpClient httpClient) {
-    super(httpClient);
+  public GitlabOAuthFlow(final HttpClient httpClient, final OAuthRequestExecutor requestExecutor) {
+    super(httpClient, requestExecutor);
   }
 
   public GitlabOAuthFlow(final HttpClient httpClient, final Supplier<String> stateSupplier) {
@@ -8,6 +8,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import io.airbyte.oauth.BaseOAuth2Flow;
+import io.airbyte.oauth.OAuthRequestExecutor;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.net.http.HttpClient;
@@ -25,8 +26,8 @@ public class IntercomOAuthFlow extends BaseOAuth2Flow {
   private static final String AUTHORIZE_URL = "https://app.intercom.com/a/oauth/connect";
   private static final String ACCESS_TOKEN_URL = "https://api.intercom.io/auth/eagle/token";
 
-  public IntercomOAuthFlow(final HttpClient httpClient) {
-    super(httpClient);
+  public IntercomOAuthFlow(final HttpClient httpClient, final OAuthRequestExecutor requestExecutor) {
+    super(httpClient, requestExecutor);
   }
 
   @VisibleForTesting
@@ -7,6 +7,7 @@ package io.airbyte.oauth.flows;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.collect.ImmutableMap;
 import io.airbyte.oauth.BaseOAuth2Flow;
+import io.airbyte.oauth.OAuthRequestExecutor;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.net.URLDecoder;
@@ -36,8 +37,8 @@ public class LeverOAuthFlow extends BaseOAuth2Flow {
       "users:read:admin",
       "offline_access");
 
-  public LeverOAuthFlow(final HttpClient httpClient) {
-    super(httpClient);
+  public LeverOAuthFlow(final HttpClient httpClient, final OAuthRequestExecutor requestExecutor) {
+    super(httpClient, requestExecutor);
   }
 
   private String getAudience(final JsonNode inputOAuthConfiguration) {
@@ -8,6 +8,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableMap;
 import io.airbyte.oauth.BaseOAuth2Flow;
+import io.airbyte.oauth.OAuthRequestExecutor;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.net.http.HttpClient;
@@ -21,8 +22,8 @@ public class MicrosoftOneDriveOAuthFlow extends BaseOAuth2Flow {
 
   private static final String fieldName = "tenant_id";
 
-  public MicrosoftOneDriveOAuthFlow(final HttpClient httpClient) {
-    super(httpClient);
+  public MicrosoftOneDriveOAuthFlow(final HttpClient httpClient, final OAuthRequestExecutor requestExecutor) {
+    super(httpClient, requestExecutor);
   }
 
   @VisibleForTesting
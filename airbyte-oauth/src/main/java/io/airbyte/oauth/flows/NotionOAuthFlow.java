@@ -8,6 +8,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.collect.ImmutableMap;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.oauth.BaseOAuth2Flow;
+import io.airbyte.oauth.OAuthRequestExecutor;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -29,8 +30,8 @@ public class NotionOAuthFlow extends BaseOAuth2Flow {
   private static final String AUTHORIZE_URL = "https://api.notion.com/v1/oauth/authorize";
   private static final String ACCESS_TOKEN_URL = "https://api.notion.com/v1/oauth/token";
 
-  public NotionOAuthFlow(final HttpClient httpClient) {
-    super(httpClient);
+  public NotionOAuthFlow(final HttpClient httpClient, final OAuthRequestExecutor requestExecutor) {
+    super(httpClient, requestExecutor);
   }
 
   /**
@@ -103,7 +104,7 @@ public class NotionOAuthFlow extends BaseOAuth2Flow {
         .build();
 
     try {
-      final HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+      final HttpResponse<String> response = requestExecutor.send(request);
       return extractOAuthOutput(Jsons.deserialize(response.body()), accessTokenUrl);
     } catch (final InterruptedException e) {
       throw new IOException("Failed to complete Notion OAuth flow", e);
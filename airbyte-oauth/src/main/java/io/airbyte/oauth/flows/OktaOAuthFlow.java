@@ -8,6 +8,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.collect.ImmutableMap;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.oauth.BaseOAuth2Flow;
+import io.airbyte.oauth.OAuthRequestExecutor;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -25,8 +26,8 @@ import org.apache.http.client.utils.URIBuilder;
  */
 public class OktaOAuthFlow extends BaseOAuth2Flow {
 
-  public OktaOAuthFlow(final HttpClient httpClient) {
-    super(httpClient);
+  public OktaOAuthFlow(final HttpClient httpClient, final OAuthRequestExecutor requestExecutor) {
+    super(httpClient, requestExecutor);
   }
 
   @Override
@@ -98,8 +99,7 @@ public class OktaOAuthFlow extends BaseOAuth2Flow {
         .header("Authorization", "Basic " + new String(authorization, StandardCharsets.UTF_8))
         .build();
     try {
-      final HttpResponse<String> response = httpClient.send(request,
-          HttpResponse.BodyHandlers.ofString());
+      final HttpResponse<String> response = requestExecutor.send(request);
 
       return extractOAuthOutput(Jsons.deserialize(response.body()), accessTokenUrl);
     } catch (final InterruptedException e) {
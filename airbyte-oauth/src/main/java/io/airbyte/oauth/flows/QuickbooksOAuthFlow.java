@@ -8,6 +8,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.collect.ImmutableMap;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.oauth.BaseOAuth2Flow;
+import io.airbyte.oauth.OAuthRequestExecutor;
 import io.airbyte.protocol.models.OAuthConfigSpecification;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
@@ -36,8 +37,8 @@ public class QuickbooksOAuthFlow extends BaseOAuth2Flow {
   private static final String REVOKE_URL = "https://developer.api.intuit.com/v2/oauth2/tokens/revoke";
   private final Clock clock;
 
-  public QuickbooksOAuthFlow(final HttpClient httpClient) {
-    super(httpClient);
+  public QuickbooksOAuthFlow(final HttpClient httpClient, final OAuthRequestExecutor requestExecutor) {
+    super(httpClient, requestExecutor);
     this.clock = Clock.systemUTC();
   }
 
@@ -185,7 +186,7 @@ public class QuickbooksOAuthFlow extends BaseOAuth2Flow {
         .build();
     // TODO: Handle error response to report better messages
     try {
-      final HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+      final HttpResponse<String> response = requestExecutor.send(request);
       return extractOAuthOutput(Jsons.deserialize(response.body()), accessTokenUrl, realmId);
     } catch (final InterruptedException e) {
       throw new IOException("Failed to complete OAuth flow", e);
@@ -238,7 +239,7 @@ public class QuickbooksOAuthFlow extends BaseOAuth2Flow {
         .header("Authorization", "Basic " + authorization)
         .build();
     try {
-      httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+      requestExecutor.send(request);
     } catch (final InterruptedException e) {
       throw new IOException("Failed to complete revocation request", e);
     }
@@ -7,6 +7,7 @@ package io.airbyte.oauth.flows;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.collect.ImmutableMap;
 import io.airbyte.oauth.BaseOAuth2Flow;
+import io.airbyte.oauth.OAuthRequestExecutor;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.net.http.HttpClient;
@@ -23,8 +24,8 @@ public class RetentlyOAuthFlow extends BaseOAuth2Flow {
   private static final String AUTHORIZE_URL = "https://app.retently.com/api/oauth/authorize";
   private static final String ACCESS_TOKEN_URL = "https://app.retently.com/api/oauth/token";
 
-  public RetentlyOAuthFlow(final HttpClient httpClient) {
-    super(httpClient);
+  public RetentlyOAuthFlow(final HttpClient httpClient, final OAuthRequestExecutor requestExecutor) {
+    super(httpClient, requestExecutor);
   }
 
   public RetentlyOAuthFlow(final HttpClient httpClient, final Supplier<String> stateSupplier) {
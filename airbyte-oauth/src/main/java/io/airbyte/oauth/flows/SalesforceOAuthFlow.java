@@ -8,6 +8,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableMap;
 import io.airbyte.oauth.BaseOAuth2Flow;
+import io.airbyte.oauth.OAuthRequestExecutor;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.net.http.HttpClient;
@@ -28,8 +29,8 @@ public class SalesforceOAuthFlow extends BaseOAuth2Flow {
   private static final String AUTHORIZE_URL = "https://%s.salesforce.com/services/oauth2/authorize";
   private static final String ACCESS_TOKEN_URL = "https://%s.salesforce.com/services/oauth2/token";
 
-  public SalesforceOAuthFlow(final HttpClient httpClient) {
-    super(httpClient);
+  public SalesforceOAuthFlow(final HttpClient httpClient, final OAuthRequestExecutor requestExecutor) {
+    super(httpClient, requestExecutor);
   }
 
   @VisibleForTesting
@@ -8,6 +8,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.collect.ImmutableMap;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.oauth.BaseOAuth2Flow;
+import io.airbyte.oauth.OAuthRequestExecutor;
 import io.airbyte.protocol.models.OAuthConfigSpecification;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
@@ -29,8 +30,8 @@ public class ShopifyOAuthFlow extends BaseOAuth2Flow {
 
   private static final String shop = "shop";
 
-  public ShopifyOAuthFlow(final HttpClient httpClient) {
-    super(httpClient);
+  public ShopifyOAuthFlow(final HttpClient httpClient, final OAuthRequestExecutor requestExecutor) {
+    super(httpClient, requestExecutor);
   }
 
   @Override
@@ -98,7 +99,7 @@ public class ShopifyOAuthFlow extends BaseOAuth2Flow {
         .header("Accept", "application/json")
         .build();
     try {
-      final HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+      final HttpResponse<String> response = requestExecutor.send(request);
       return extractOAuthOutput(Jsons.deserialize(response.body()), accessTokenUrl, shopName);
     } catch (final InterruptedException e) {
       throw new IOException("Failed to complete OAuth flow", e);
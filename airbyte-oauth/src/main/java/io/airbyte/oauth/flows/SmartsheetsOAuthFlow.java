@@ -7,6 +7,7 @@ package io.airbyte.oauth.flows;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.collect.ImmutableMap;
 import io.airbyte.oauth.BaseOAuth2Flow;
+import io.airbyte.oauth.OAuthRequestExecutor;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.net.http.HttpClient;
@@ -27,8 +28,8 @@ public class SmartsheetsOAuthFlow extends BaseOAuth2Flow {
   private static final String ACCESS_TOKEN_URL = "https://api.smartsheet.com/2.0/token";
   private final Clock clock;
 
-  public SmartsheetsOAuthFlow(final HttpClient httpClient) {
-    super(httpClient);
+  public SmartsheetsOAuthFlow(final HttpClient httpClient, final OAuthRequestExecutor requestExecutor) {
+    super(httpClient, requestExecutor);
     this.clock = Clock.systemUTC();
   }
 
@@ -9,6 +9,7 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableMap;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.oauth.BaseOAuth2Flow;
+import io.airbyte.oauth.OAuthRequestExecutor;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -31,8 +32,8 @@ public class SourceSnowflakeOAuthFlow extends BaseOAuth2Flow {
   private static final String AUTHORIZE_URL = "https://%s/oauth/authorize";
   private static final String ACCESS_TOKEN_URL = "https://%s/oauth/token-request";
 
-  public SourceSnowflakeOAuthFlow(HttpClient httpClient) {
-    super(httpClient);
+  public SourceSnowflakeOAuthFlow(final HttpClient httpClient, final OAuthRequestExecutor requestExecutor) {
+    super(httpClient, requestExecutor);
   }
 
   @VisibleForTesting
@@ -112,8 +113,7 @@ public class SourceSnowflakeOAuthFlow extends BaseOAuth2Flow {
         .header("Authorization", "Basic " + new String(authorization, StandardCharsets.UTF_8))
         .build();
     try {
-      final HttpResponse<String> response = httpClient.send(request,
-          HttpResponse.BodyHandlers.ofString());
+      final HttpResponse<String> response = requestExecutor.send(request);
 
       return extractOAuthOutput(Jsons.deserialize(response.body()), accessTokenUrl);
     } catch (final InterruptedException e) {
@@ -9,6 +9,7 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
 import io.airbyte.oauth.BaseOAuth2Flow;
+import io.airbyte.oauth.OAuthRequestExecutor;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.net.http.HttpClient;
@@ -37,8 +38,8 @@ public class SurveymonkeyOAuthFlow extends BaseOAuth2Flow {
   private static final String AUTHORIZE_URL = "oauth/authorize";
   private static final String ACCESS_TOKEN_URL = "oauth/token";
 
-  public SurveymonkeyOAuthFlow(final HttpClient httpClient) {
-    super(httpClient);
+  public SurveymonkeyOAuthFlow(final HttpClient httpClient, final OAuthRequestExecutor requestExecutor) {
+    super(httpClient, requestExecutor);
   }
 
   @VisibleForTesting
@@ -11,6 +11,7 @@ import com.google.gson.Gson;
 import com.google.gson.reflect.TypeToken;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.oauth.BaseOAuth2Flow;
+import io.airbyte.oauth.OAuthRequestExecutor;
 import java.io.IOException;
 import java.lang.reflect.Type;
 import java.net.URI;
@@ -42,8 +43,8 @@ public class TikTokMarketingOAuthFlow extends BaseOAuth2Flow {
     return getConfigValueUnsafe(oauthConfig, "secret");
   }
 
-  public TikTokMarketingOAuthFlow(final HttpClient httpClient) {
-    super(httpClient);
+  public TikTokMarketingOAuthFlow(final HttpClient httpClient, final OAuthRequestExecutor requestExecutor) {
+    super(httpClient, requestExecutor);
   }
 
   @VisibleForTesting
@@ -69,7 +70,7 @@ public class TikTokMarketingOAuthFlow extends BaseOAuth2Flow {
         .build();
     // TODO: Handle error response to report better messages
     try {
-      final HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+      final HttpResponse<String> response = requestExecutor.send(request);
       return extractOAuthOutput(Jsons.deserialize(response.body()), accessTokenUrl);
     } catch (final InterruptedException e) {
       throw new IOException("Failed to complete OAuth flow", e);
@@ -9,6 +9,7 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableMap;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.oauth.BaseOAuth2Flow;
+import io.airbyte.oauth.OAuthRequestExecutor;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -47,8 +48,8 @@ public class XeroOAuthFlow extends BaseOAuth2Flow {
       "offline_access");
   private final Clock clock;
 
-  public XeroOAuthFlow(final HttpClient httpClient) {
-    super(httpClient);
+  public XeroOAuthFlow(final HttpClient httpClient, final OAuthRequestExecutor requestExecutor) {
+    super(httpClient, requestExecutor);
     this.clock = Clock.systemUTC();
   }
 
@@ -98,7 +99,7 @@ public class XeroOAuthFlow extends BaseOAuth2Flow {
         .build();
 
     try {
-      final HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+      final HttpResponse<String> response = requestExecutor.send(request);
       return extractOAuthOutput(Jsons.deserialize(response.body()), accessTokenUrl);
     } catch (final InterruptedException e) {
       throw new IOException("Failed to complete Xero OAuth flow", e);
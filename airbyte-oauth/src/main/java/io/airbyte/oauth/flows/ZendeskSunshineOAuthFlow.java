@@ -8,6 +8,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableMap;
 import io.airbyte.oauth.BaseOAuth2Flow;
+import io.airbyte.oauth.OAuthRequestExecutor;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.net.http.HttpClient;
@@ -23,8 +24,8 @@ import org.apache.http.client.utils.URIBuilder;
  */
 public class ZendeskSunshineOAuthFlow extends BaseOAuth2Flow {
 
-  public ZendeskSunshineOAuthFlow(final HttpClient httpClient) {
-    super(httpClient);
+  public ZendeskSunshineOAuthFlow(final HttpClient httpClient, final OAuthRequestExecutor requestExecutor) {
+    super(httpClient, requestExecutor);
   }
 
   @VisibleForTesting
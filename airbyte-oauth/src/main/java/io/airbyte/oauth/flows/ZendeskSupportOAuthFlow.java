@@ -7,6 +7,7 @@ package io.airbyte.oauth.flows;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.collect.ImmutableMap;
 import io.airbyte.oauth.BaseOAuth2Flow;
+import io.airbyte.oauth.OAuthRequestExecutor;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.net.http.HttpClient;
@@ -21,8 +22,8 @@ import org.apache.http.client.utils.URIBuilder;
  */
 public class ZendeskSupportOAuthFlow extends BaseOAuth2Flow {
 
-  public ZendeskSupportOAuthFlow(final HttpClient httpClient) {
-    super(httpClient);
+  public ZendeskSupportOAuthFlow(final HttpClient httpClient, final OAuthRequestExecutor requestExecutor) {
+    super(httpClient, requestExecutor);
   }
 
   @Override
@@ -5,6 +5,7 @@
 package io.airbyte.oauth.flows.facebook;
 
 import com.google.common.annotations.VisibleForTesting;
+import io.airbyte.oauth.OAuthRequestExecutor;
 import java.net.http.HttpClient;
 import java.util.List;
 import java.util.function.Supplier;
@@ -16,8 +17,8 @@ public class FacebookMarketingOAuthFlow extends FacebookOAuthFlow {
 
   private static final String SCOPES = "ads_management,ads_read,read_insights,business_management";
 
-  public FacebookMarketingOAuthFlow(final HttpClient httpClient) {
-    super(httpClient);
+  public FacebookMarketingOAuthFlow(final HttpClient httpClient, final OAuthRequestExecutor requestExecutor) {
+    super(httpClient, requestExecutor);
   }
 
   @VisibleForTesting
@@ -8,6 +8,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.base.Preconditions;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.oauth.BaseOAuth2Flow;
+import io.airbyte.oauth.OAuthRequestExecutor;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -30,8 +31,8 @@ public abstract class FacebookOAuthFlow extends BaseOAuth2Flow {
   private static final String AUTH_CODE_TOKEN_URL = "https://www.facebook.com/v19.0/dialog/oauth";
   private static final String ACCESS_TOKEN = "access_token";
 
-  public FacebookOAuthFlow(final HttpClient httpClient) {
-    super(httpClient);
+  public FacebookOAuthFlow(final HttpClient httpClient, final OAuthRequestExecutor requestExecutor) {
+    super(httpClient, requestExecutor);
   }
 
   FacebookOAuthFlow(final HttpClient httpClient, final Supplier<String> stateSupplier) {
@@ -116,7 +117,7 @@ public abstract class FacebookOAuthFlow extends BaseOAuth2Flow {
           .GET()
           .uri(uri)
           .build();
-      final HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+      final HttpResponse<String> response = requestExecutor.send(request);
       final JsonNode responseJson = Jsons.deserialize(response.body());
       Preconditions.checkArgument(responseJson.hasNonNull(ACCESS_TOKEN), "%s response should have access_token", responseJson);
       return responseJson.get(ACCESS_TOKEN).asText();
@@ -5,6 +5,7 @@
 package io.airbyte.oauth.flows.facebook;
 
 import com.google.common.annotations.VisibleForTesting;
+import io.airbyte.oauth.OAuthRequestExecutor;
 import java.net.http.HttpClient;
 import java.util.function.Supplier;
 
@@ -15,8 +16,8 @@ public class FacebookPagesOAuthFlow extends FacebookOAuthFlow {
 
   private static final String SCOPES = "pages_manage_ads,pages_manage_metadata,pages_read_engagement,pages_read_user_content";
 
-  public FacebookPagesOAuthFlow(final HttpClient httpClient) {
-    super(httpClient);
+  public FacebookPagesOAuthFlow(final HttpClient httpClient, final OAuthRequestExecutor requestExecutor) {
+    super(httpClient, requestExecutor);
   }
 
   @VisibleForTesting
@@ -5,6 +5,7 @@
 package io.airbyte.oauth.flows.facebook;
 
 import com.google.common.annotations.VisibleForTesting;
+import io.airbyte.oauth.OAuthRequestExecutor;
 import java.net.http.HttpClient;
 import java.util.function.Supplier;
 
@@ -17,8 +18,8 @@ public class InstagramOAuthFlow extends FacebookOAuthFlow {
   private static final String SCOPES =
       "ads_management,business_management,instagram_basic,instagram_manage_insights,pages_show_list,pages_read_engagement";
 
-  public InstagramOAuthFlow(final HttpClient httpClient) {
-    super(httpClient);
+  public InstagramOAuthFlow(final HttpClient httpClient, final OAuthRequestExecutor requestExecutor) {
+    super(httpClient, requestExecutor);
   }
 
   @VisibleForTesting
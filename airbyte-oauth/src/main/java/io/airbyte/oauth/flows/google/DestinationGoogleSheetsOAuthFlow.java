@@ -5,6 +5,7 @@
 package io.airbyte.oauth.flows.google;
 
 import com.google.common.annotations.VisibleForTesting;
+import io.airbyte.oauth.OAuthRequestExecutor;
 import java.net.http.HttpClient;
 import java.util.function.Supplier;
 
@@ -16,8 +17,8 @@ public class DestinationGoogleSheetsOAuthFlow extends GoogleOAuthFlow {
   @VisibleForTesting
   static final String SCOPE_URL = "https://www.googleapis.com/auth/spreadsheets https://www.googleapis.com/auth/drive";
 
-  public DestinationGoogleSheetsOAuthFlow(final HttpClient httpClient) {
-    super(httpClient);
+  public DestinationGoogleSheetsOAuthFlow(final HttpClient httpClient, final OAuthRequestExecutor requestExecutor) {
+    super(httpClient, requestExecutor);
   }
 
   @VisibleForTesting
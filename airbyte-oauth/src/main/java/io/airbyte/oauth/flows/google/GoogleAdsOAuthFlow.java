@@ -5,6 +5,7 @@
 package io.airbyte.oauth.flows.google;
 
 import com.google.common.annotations.VisibleForTesting;
+import io.airbyte.oauth.OAuthRequestExecutor;
 import java.net.http.HttpClient;
 import java.util.function.Supplier;
 
@@ -16,8 +17,8 @@ public class GoogleAdsOAuthFlow extends GoogleOAuthFlow {
   @VisibleForTesting
   static final String SCOPE_URL = "https://www.googleapis.com/auth/adwords";
 
-  public GoogleAdsOAuthFlow(final HttpClient httpClient) {
-    super(httpClient);
+  public GoogleAdsOAuthFlow(final HttpClient httpClient, final OAuthRequestExecutor requestExecutor) {
+    super(httpClient, requestExecutor);
   }
 
   @VisibleForTesting
@@ -5,6 +5,7 @@
 package io.airbyte.oauth.flows.google;
 
 import com.google.common.annotations.VisibleForTesting;
+import io.airbyte.oauth.OAuthRequestExecutor;
 import java.net.http.HttpClient;
 import java.util.function.Supplier;
 
@@ -15,8 +16,8 @@ public class GoogleAnalyticsViewIdOAuthFlow extends GoogleOAuthFlow {
 
   public static final String SCOPE_URL = "https://www.googleapis.com/auth/analytics.readonly";
 
-  public GoogleAnalyticsViewIdOAuthFlow(final HttpClient httpClient) {
-    super(httpClient);
+  public GoogleAnalyticsViewIdOAuthFlow(final HttpClient httpClient, final OAuthRequestExecutor requestExecutor) {
+    super(httpClient, requestExecutor);
   }
 
   @VisibleForTesting
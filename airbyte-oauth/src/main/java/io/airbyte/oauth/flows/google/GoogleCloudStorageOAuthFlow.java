@@ -5,6 +5,7 @@
 package io.airbyte.oauth.flows.google;
 
 import com.google.common.annotations.VisibleForTesting;
+import io.airbyte.oauth.OAuthRequestExecutor;
 import java.net.http.HttpClient;
 import java.util.function.Supplier;
 
@@ -16,8 +17,8 @@ public class GoogleCloudStorageOAuthFlow extends GoogleOAuthFlow {
   @VisibleForTesting
   static final String SCOPE_URL = "https://www.googleapis.com/auth/devstorage.read_only";
 
-  public GoogleCloudStorageOAuthFlow(final HttpClient httpClient) {
-    super(httpClient);
+  public GoogleCloudStorageOAuthFlow(final HttpClient httpClient, final OAuthRequestExecutor requestExecutor) {
+    super(httpClient, requestExecutor);
   }
 
   @VisibleForTesting
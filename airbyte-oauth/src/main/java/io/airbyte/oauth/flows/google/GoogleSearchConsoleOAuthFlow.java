@@ -5,6 +5,7 @@
 package io.airbyte.oauth.flows.google;
 
 import com.google.common.annotations.VisibleForTesting;
+import io.airbyte.oauth.OAuthRequestExecutor;
 import java.net.http.HttpClient;
 import java.util.List;
 import java.util.function.Supplier;
@@ -17,8 +18,8 @@ public class GoogleSearchConsoleOAuthFlow extends GoogleOAuthFlow {
   @VisibleForTesting
   static final String SCOPE_URL = "https://www.googleapis.com/auth/webmasters.readonly";
 
-  public GoogleSearchConsoleOAuthFlow(final HttpClient httpClient) {
-    super(httpClient);
+  public GoogleSearchConsoleOAuthFlow(final HttpClient httpClient, final OAuthRequestExecutor requestExecutor) {
+    super(httpClient, requestExecutor);
   }
 
   @VisibleForTesting
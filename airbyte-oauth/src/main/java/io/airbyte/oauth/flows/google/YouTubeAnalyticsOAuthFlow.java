@@ -5,6 +5,7 @@
 package io.airbyte.oauth.flows.google;
 
 import com.google.common.annotations.VisibleForTesting;
+import io.airbyte.oauth.OAuthRequestExecutor;
 import java.net.http.HttpClient;
 import java.util.function.Supplier;
 
@@ -16,8 +17,8 @@ public class YouTubeAnalyticsOAuthFlow extends GoogleOAuthFlow {
   private static final String SCOPE_URL =
       "https://www.googleapis.com/auth/yt-analytics.readonly https://www.googleapis.com/auth/yt-analytics-monetary.readonly";
 
-  public YouTubeAnalyticsOAuthFlow(final HttpClient httpClient) {
-    super(httpClient);
+  public YouTubeAnalyticsOAuthFlow(final HttpClient httpClient, final OAuthRequestExecutor requestExecutor) {
+    super(httpClient, requestExecutor);
   }
 
   @VisibleForTesting
@@ -15,6 +15,7 @@ import io.airbyte.config.SourceOAuthParameter;
 import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.data.services.OAuthService;
 import io.airbyte.oauth.OAuthFlowImplementation;
+import io.airbyte.oauth.OAuthRequestExecutor;
 import io.airbyte.oauth.flows.OAuthFlowIntegrationTest;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
@@ -41,7 +42,7 @@ public class FacebookOAuthFlowIntegrationTest extends OAuthFlowIntegrationTest {
 
   @Override
   protected OAuthFlowImplementation getFlowImplementation(final OAuthService oauthService, final HttpClient httpClient) {
-    return new FacebookMarketingOAuthFlow(httpClient);
+    return new FacebookMarketingOAuthFlow(httpClient, new OAuthRequestExecutor(httpClient));
   }
 
   @Override
@@ -14,6 +14,7 @@ import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.SourceOAuthParameter;
 import io.airbyte.data.services.OAuthService;
 import io.airbyte.oauth.OAuthFlowImplementation;
+import io.airbyte.oauth.OAuthRequestExecutor;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.net.http.HttpClient;
@@ -40,7 +41,7 @@ public class IntercomOAuthFlowIntegrationTest extends OAuthFlowIntegrationTest {
 
   @Override
   protected OAuthFlowImplementation getFlowImplementation(final OAuthService oauthService, final HttpClient httpClient) {
-    return new IntercomOAuthFlow(httpClient);
+    return new IntercomOAuthFlow(httpClient, new OAuthRequestExecutor(httpClient));
   }
 
   @Override
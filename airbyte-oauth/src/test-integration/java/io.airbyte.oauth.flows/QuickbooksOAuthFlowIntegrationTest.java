@@ -15,6 +15,7 @@ import io.airbyte.config.SourceOAuthParameter;
 import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.data.services.OAuthService;
 import io.airbyte.oauth.OAuthFlowImplementation;
+import io.airbyte.oauth.OAuthRequestExecutor;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.net.http.HttpClient;
@@ -45,7 +46,7 @@ public class QuickbooksOAuthFlowIntegrationTest extends OAuthFlowIntegrationTest
 
   @Override
   protected OAuthFlowImplementation getFlowImplementation(final OAuthService oauthService, final HttpClient httpClient) {
-    return new QuickbooksOAuthFlow(httpClient);
+    return new QuickbooksOAuthFlow(httpClient, new OAuthRequestExecutor(httpClient));
   }
 
   @SuppressWarnings({"BusyWait", "unchecked"})
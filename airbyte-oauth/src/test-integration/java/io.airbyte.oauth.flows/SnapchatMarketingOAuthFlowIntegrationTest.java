@@ -15,6 +15,7 @@ import io.airbyte.config.SourceOAuthParameter;
 import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.data.services.OAuthService;
 import io.airbyte.oauth.OAuthFlowImplementation;
+import io.airbyte.oauth.OAuthRequestExecutor;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.net.http.HttpClient;
@@ -46,7 +47,7 @@ public class SnapchatMarketingOAuthFlowIntegrationTest extends OAuthFlowIntegrat
 
   @Override
   protected OAuthFlowImplementation getFlowImplementation(final OAuthService oauthService, final HttpClient httpClient) {
-    return new SnapchatMarketingOAuthFlow(httpClient);
+    return new SnapchatMarketingOAuthFlow(httpClient, new OAuthRequestExecutor(httpClient));
   }
 
   @Test
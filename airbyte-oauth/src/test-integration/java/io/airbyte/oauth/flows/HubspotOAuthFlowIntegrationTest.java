@@ -15,6 +15,7 @@ import io.airbyte.config.SourceOAuthParameter;
 import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.data.services.OAuthService;
 import io.airbyte.oauth.OAuthFlowImplementation;
+import io.airbyte.oauth.OAuthRequestExecutor;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.net.http.HttpClient;
@@ -35,12 +36,12 @@ public class HubspotOAuthFlowIntegrationTest extends OAuthFlowIntegrationTest {
   }
 
   protected OAuthFlowImplementation getFlowObject() {
-    return new HubspotOAuthFlow(httpClient);
+    return new HubspotOAuthFlow(httpClient, new OAuthRequestExecutor(httpClient));
   }
 
   @Override
   protected OAuthFlowImplementation getFlowImplementation(final OAuthService oauthService, final HttpClient httpClient) {
-    return new HubspotOAuthFlow(httpClient);
+    return new HubspotOAuthFlow(httpClient, new OAuthRequestExecutor(httpClient));
   }
 
   @Test
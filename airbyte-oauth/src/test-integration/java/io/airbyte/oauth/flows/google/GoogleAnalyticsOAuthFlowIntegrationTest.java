@@ -18,6 +18,7 @@ import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.SourceOAuthParameter;
 import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.data.services.OAuthService;
+import io.airbyte.oauth.OAuthRequestExecutor;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.io.OutputStream;
@@ -58,7 +59,7 @@ public class GoogleAnalyticsOAuthFlowIntegrationTest {
     }
     oAuthService = mock(OAuthService.class);
     httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
-    googleAnalyticsViewIdOAuthFlow = new GoogleAnalyticsViewIdOAuthFlow(httpClient);
+    googleAnalyticsViewIdOAuthFlow = new GoogleAnalyticsViewIdOAuthFlow(httpClient, new OAuthRequestExecutor(httpClient));
 
     server = HttpServer.create(new InetSocketAddress(80), 0);
     server.setExecutor(null); // creates a default executor
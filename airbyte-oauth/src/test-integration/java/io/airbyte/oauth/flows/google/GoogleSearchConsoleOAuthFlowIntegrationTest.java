@@ -17,6 +17,7 @@ import com.sun.net.httpserver.HttpServer;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.SourceOAuthParameter;
 import io.airbyte.data.services.OAuthService;
+import io.airbyte.oauth.OAuthRequestExecutor;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.io.OutputStream;
@@ -57,7 +58,7 @@ public class GoogleSearchConsoleOAuthFlowIntegrationTest {
     }
     oAuthService = mock(OAuthService.class);
     httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
-    googleSearchConsoleOAuthFlow = new GoogleSearchConsoleOAuthFlow(httpClient);
+    googleSearchConsoleOAuthFlow = new GoogleSearchConsoleOAuthFlow(httpClient, new OAuthRequestExecutor(httpClient));
 
     server = HttpServer.create(new InetSocketAddress(80), 0);
     server.setExecutor(null); // creates a default executor
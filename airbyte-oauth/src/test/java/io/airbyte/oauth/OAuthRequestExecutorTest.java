@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.oauth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("unchecked")
+class OAuthRequestExecutorTest {
+
+  private static final HttpRequest PROVIDER_REQUEST = request("https://provider.com/oauth/token");
+  private static final HttpRequest OTHER_PROVIDER_REQUEST = request("https://other-provider.com/oauth/token");
+  private static final HttpRequest PROVIDER_GET_REQUEST = HttpRequest.newBuilder(URI.create("https://provider.com/api/me")).GET().build();
+  private static final Duration DEADLINE = Duration.ofMinutes(1);
+
+  private HttpClient httpClient;
+
+  @BeforeEach
+  void setup() {
+    httpClient = mock(HttpClient.class);
+  }
+
+  private static HttpRequest request(final String uri) {
+    return HttpRequest.newBuilder(URI.create(uri)).POST(HttpRequest.BodyPublishers.noBody()).build();
+  }
+
+  private static HttpResponse<String> response(final int status, final Map<String, List<String>> headers) {
+    final HttpResponse<String> response = mock(HttpResponse.class);
+    when(response.statusCode()).thenReturn(status);
+    when(response.headers()).thenReturn(HttpHeaders.of(headers, (name, value) -> true));
+    return response;
+  }
+
+  @Test
+  void testRetriesRateLimitedRequests() throws IOException, InterruptedException {
+    final HttpResponse<String> rateLimited = response(429, Map.of("Retry-After", List.of("0")));
+    final HttpResponse<String> ok = response(200, Map.of());
+    doReturn(CompletableFuture.completedFuture(rateLimited), CompletableFuture.completedFuture(ok))
+        .when(httpClient).sendAsync(any(), any());
+    final OAuthRequestExecutor executor = new OAuthRequestExecutor(httpClient, 8, 3, Duration.ZERO, DEADLINE);
+
+    assertSame(ok, executor.send(PROVIDER_REQUEST));
+    verify(httpClient, times(2)).sendAsync(any(), any());
+  }
+
+  @Test
+  void testReturnsTheLastResponseOnceRetriesAreExhausted() throws IOException, InterruptedException {
+    final HttpResponse<String> unavailable = response(503, Map.of());
+    doReturn(CompletableFuture.completedFuture(unavailable)).when(httpClient).sendAsync(any(), any());
+    final OAuthRequestExecutor executor = new OAuthRequestExecutor(httpClient, 8, 2, Duration.ZERO, DEADLINE);
+
+    assertEquals(503, executor.send(PROVIDER_GET_REQUEST).statusCode());
+    verify(httpClient, times(3)).sendAsync(any(), any());
+  }
+
+  @Test
+  void testDoesNotRetryUnavailableTokenRequests() throws IOException, InterruptedException {
+    // The provider may have used the authorization code before failing, and codes can only be used
+    // once.
+    doReturn(CompletableFuture.completedFuture(response(503, Map.of()))).when(httpClient).sendAsync(any(), any());
+    final OAuthRequestExecutor executor = new OAuthRequestExecutor(httpClient, 8, 2, Duration.ZERO, DEADLINE);
+
+    assertEquals(503, executor.send(PROVIDER_REQUEST).statusCode());
+    verify(httpClient, times(1)).sendAsync(any(), any());
+  }
+
+  @Test
+  void testSendGivesUpAfterTheDeadline() {
+    final CompletableFuture<HttpResponse<String>> pendingResponse = new CompletableFuture<>();
+    doReturn(pendingResponse).when(httpClient).sendAsync(any(), any());
+    final OAuthRequestExecutor executor = new OAuthRequestExecutor(httpClient, 8, 3, Duration.ZERO, Duration.ofMillis(50));
+
+    assertThrows(HttpTimeoutException.class, () -> executor.send(PROVIDER_REQUEST));
+  }
+
+  @Test
+  void testLimitsConcurrentRequestsPerProvider() {
+    final CompletableFuture<HttpResponse<String>> firstResponse = new CompletableFuture<>();
+    doReturn(firstResponse, CompletableFuture.completedFuture(response(200, Map.of())))
+        .when(httpClient).sendAsync(argThat(r -> r != null && "provider.com".equals(r.uri().getHost())), any());
+    doReturn(CompletableFuture.completedFuture(response(200, Map.of())))
+        .when(httpClient).sendAsync(argThat(r -> r != null && "other-provider.com".equals(r.uri().getHost())), any());
+    final OAuthRequestExecutor executor = new OAuthRequestExecutor(httpClient, 1, 0, Duration.ZERO, DEADLINE);
+
+    final CompletableFuture<HttpResponse<String>> first = executor.sendAsync(PROVIDER_REQUEST);
+    final CompletableFuture<HttpResponse<String>> second = executor.sendAsync(PROVIDER_REQUEST);
+    final CompletableFuture<HttpResponse<String>> other = executor.sendAsync(OTHER_PROVIDER_REQUEST);
+
+    // The second request waits for the first one, requests to other providers don't.
+    assertTrue(other.isDone());
+    assertFalse(second.isDone());
+    verify(httpClient, times(1)).sendAsync(argThat(r -> r != null && "provider.com".equals(r.uri().getHost())), any());
+
+    firstResponse.complete(response(200, Map.of()));
+
+    assertTrue(first.isDone());
+    assertTrue(second.isDone());
+    verify(httpClient, times(2)).sendAsync(argThat(r -> r != null && "provider.com".equals(r.uri().getHost())), any());
+  }
+
+  @Test
+  void testSendRethrowsIoFailures() {
+    doReturn(CompletableFuture.failedFuture(new IOException("connection reset"))).when(httpClient).sendAsync(any(), any());
+    final OAuthRequestExecutor executor = new OAuthRequestExecutor(httpClient, 8, 3, Duration.ZERO, DEADLINE);
+
+    final IOException exception = assertThrows(IOException.class, () -> executor.send(PROVIDER_REQUEST));
+    assertEquals("connection reset", exception.getMessage());
+    verify(httpClient, times(1)).sendAsync(any(), any());
+  }
+
+  @Test
+  void testBackoff() {
+    final OAuthRequestExecutor executor = new OAuthRequestExecutor(httpClient, 8, 3, Duration.ofSeconds(1), DEADLINE);
+
+    assertEquals(Duration.ofSeconds(5), executor.getBackoff(response(429, Map.of("Retry-After", List.of("5"))), 0));
+    assertEquals(Duration.ofSeconds(4), executor.getBackoff(response(429, Map.of()), 2));
+    assertEquals(Duration.ofSeconds(4), executor.getBackoff(response(429, Map.of("Retry-After", List.of("Wed, 21 Oct 2015 07:28:00 GMT"))), 2));
+    assertEquals(Duration.ofSeconds(60), executor.getBackoff(response(429, Map.of("Retry-After", List.of("3600"))), 0));
+  }
+
+}
@@ -8,6 +8,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -30,6 +31,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -324,7 +326,7 @@ public abstract class BaseOAuthFlowTest {
     final Map<String, String> returnedCredentials = getExpectedOutput();
     final HttpResponse response = mock(HttpResponse.class);
     when(response.body()).thenReturn(Jsons.serialize(returnedCredentials));
-    when(httpClient.send(any(), any())).thenReturn(response);
+    doReturn(CompletableFuture.completedFuture(response)).when(httpClient).sendAsync(any(), any());
     final Map<String, Object> queryParams = getQueryParams();
 
     if (hasDependencyOnConnectorConfigValues()) {
@@ -351,7 +353,7 @@ public abstract class BaseOAuthFlowTest {
     final Map<String, String> returnedCredentials = getExpectedOutput();
     final HttpResponse response = mock(HttpResponse.class);
     when(response.body()).thenReturn(Jsons.serialize(returnedCredentials));
-    when(httpClient.send(any(), any())).thenReturn(response);
+    doReturn(CompletableFuture.completedFuture(response)).when(httpClient).sendAsync(any(), any());
     final Map<String, Object> queryParams = getQueryParams();
 
     if (hasDependencyOnConnectorConfigValues()) {
@@ -377,7 +379,7 @@ public abstract class BaseOAuthFlowTest {
   void testEmptyOutputCompleteSourceOAuth() throws IOException, InterruptedException, ConfigNotFoundException, JsonValidationException {
     final HttpResponse response = mock(HttpResponse.class);
     when(response.body()).thenReturn(getMockedResponse());
-    when(httpClient.send(any(), any())).thenReturn(response);
+    doReturn(CompletableFuture.completedFuture(response)).when(httpClient).sendAsync(any(), any());
     final Map<String, Object> queryParams = getQueryParams();
     final Map<String, Object> actualQueryParams = oauthFlow.completeSourceOAuth(workspaceId, definitionId, queryParams, REDIRECT_URL,
         getInputOAuthConfiguration(), getEmptyOAuthConfigSpecification(), sourceOAuthParameter.getConfiguration());
@@ -389,7 +391,7 @@ public abstract class BaseOAuthFlowTest {
   void testEmptyOutputCompleteDestinationOAuth() throws IOException, InterruptedException, ConfigNotFoundException, JsonValidationException {
     final HttpResponse response = mock(HttpResponse.class);
     when(response.body()).thenReturn(getMockedResponse());
-    when(httpClient.send(any(), any())).thenReturn(response);
+    doReturn(CompletableFuture.completedFuture(response)).when(httpClient).sendAsync(any(), any());
     final Map<String, Object> queryParams = getQueryParams();
     final Map<String, Object> actualQueryParams = oauthFlow.completeDestinationOAuth(workspaceId, definitionId, queryParams, REDIRECT_URL,
         getInputOAuthConfiguration(), getEmptyOAuthConfigSpecification(), destinationOAuthParameter.getConfiguration());
@@ -401,7 +403,7 @@ public abstract class BaseOAuthFlowTest {
   void testEmptyInputCompleteSourceOAuth() throws IOException, InterruptedException, ConfigNotFoundException, JsonValidationException {
     final HttpResponse response = mock(HttpResponse.class);
     when(response.body()).thenReturn(getMockedResponse());
-    when(httpClient.send(any(), any())).thenReturn(response);
+    doReturn(CompletableFuture.completedFuture(response)).when(httpClient).sendAsync(any(), any());
     final Map<String, Object> queryParams = getQueryParams();
     final Map<String, Object> actualQueryParams = oauthFlow.completeSourceOAuth(workspaceId, definitionId, queryParams, REDIRECT_URL,
         Jsons.emptyObject(), getoAuthConfigSpecification(), sourceOAuthParameter.getConfiguration());
@@ -415,7 +417,7 @@ public abstract class BaseOAuthFlowTest {
   void testEmptyInputCompleteDestinationOAuth() throws IOException, InterruptedException, ConfigNotFoundException, JsonValidationException {
     final HttpResponse response = mock(HttpResponse.class);
     when(response.body()).thenReturn(getMockedResponse());
-    when(httpClient.send(any(), any())).thenReturn(response);
+    doReturn(CompletableFuture.completedFuture(response)).when(httpClient).sendAsync(any(), any());
     final Map<String, Object> queryParams = getQueryParams();
     final Map<String, Object> actualQueryParams = oauthFlow.completeDestinationOAuth(workspaceId, definitionId, queryParams, REDIRECT_URL,
         Jsons.emptyObject(), getoAuthConfigSpecification(), destinationOAuthParameter.getConfiguration());
@@ -429,7 +431,7 @@ public abstract class BaseOAuthFlowTest {
   void testCompleteSourceOAuth() throws IOException, InterruptedException, ConfigNotFoundException, JsonValidationException {
     final HttpResponse response = mock(HttpResponse.class);
     when(response.body()).thenReturn(getMockedResponse());
-    when(httpClient.send(any(), any())).thenReturn(response);
+    doReturn(CompletableFuture.completedFuture(response)).when(httpClient).sendAsync(any(), any());
     final Map<String, Object> queryParams = getQueryParams();
     final Map<String, Object> actualQueryParams = oauthFlow.completeSourceOAuth(workspaceId, definitionId, queryParams, REDIRECT_URL,
         getInputOAuthConfiguration(), getoAuthConfigSpecification(), sourceOAuthParameter.getConfiguration());
@@ -443,7 +445,7 @@ public abstract class BaseOAuthFlowTest {
   void testCompleteDestinationOAuth() throws IOException, InterruptedException, ConfigNotFoundException, JsonValidationException {
     final HttpResponse response = mock(HttpResponse.class);
     when(response.body()).thenReturn(getMockedResponse());
-    when(httpClient.send(any(), any())).thenReturn(response);
+    doReturn(CompletableFuture.completedFuture(response)).when(httpClient).sendAsync(any(), any());
     final Map<String, Object> queryParams = getQueryParams();
     final Map<String, Object> actualQueryParams = oauthFlow.completeDestinationOAuth(workspaceId, definitionId, queryParams, REDIRECT_URL,
         getInputOAuthConfiguration(), getoAuthConfigSpecification(), destinationOAuthParameter.getConfiguration());
@@ -457,7 +459,7 @@ public abstract class BaseOAuthFlowTest {
   void testValidateOAuthOutputFailure() throws IOException, InterruptedException, ConfigNotFoundException, JsonValidationException {
     final HttpResponse response = mock(HttpResponse.class);
     when(response.body()).thenReturn(getMockedResponse());
-    when(httpClient.send(any(), any())).thenReturn(response);
+    doReturn(CompletableFuture.completedFuture(response)).when(httpClient).sendAsync(any(), any());
     final Map<String, Object> queryParams = getQueryParams();
     final OAuthConfigSpecification oAuthConfigSpecification = getOAuthConfigSpecification();
     assertThrows(JsonValidationException.class, () -> oauthFlow.completeSourceOAuth(workspaceId, definitionId, queryParams, REDIRECT_URL,
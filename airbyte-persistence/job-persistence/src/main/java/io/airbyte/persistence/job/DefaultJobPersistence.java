@@ -29,9 +29,12 @@ import io.airbyte.config.AttemptFailureSummary;
 import io.airbyte.config.AttemptStatus;
 import io.airbyte.config.AttemptSyncConfig;
 import io.airbyte.config.AttemptWithJobInfo;
+import io.airbyte.config.ConfiguredAirbyteCatalog;
+import io.airbyte.config.ConfiguredAirbyteStream;
 import io.airbyte.config.Job;
 import io.airbyte.config.JobConfig;
 import io.airbyte.config.JobConfig.ConfigType;
+import io.airbyte.config.JobConfigProxy;
 import io.airbyte.config.JobOutput;
 import io.airbyte.config.JobStatus;
 import io.airbyte.config.JobStatusSummary;
@@ -154,11 +157,28 @@ public class DefaultJobPersistence implements JobPersistence {
   }
 
   private static String jobSelectAndJoin(final String jobsSubquery) {
+    return jobSelectAndJoin(jobsSubquery, "jobs.config");
+  }
+
+  /**
+   * Same as {@link #jobSelectAndJoin(String)}, but selects the config summary of the jobs in place of
+   * their config, so that the schemas of their configured streams are neither read nor deserialized.
+   * Jobs created before config summaries were stored fall back to their config.
+   */
+  private static String jobSummarySelectAndJoin(final String jobsSubquery) {
+    return jobSelectAndJoin(jobsSubquery, "COALESCE(jobs.config_summary, jobs.config)");
+  }
+
+  private static String selectAndJoin(final String jobsSubquery, final boolean withConfigSummaries) {
+    return withConfigSummaries ? jobSummarySelectAndJoin(jobsSubquery) : jobSelectAndJoin(jobsSubquery);
+  }
+
+  private static String jobSelectAndJoin(final String jobsSubquery, final String configColumn) {
     return "SELECT\n"
         + "jobs.id AS job_id,\n"
         + "jobs.config_type AS config_type,\n"
         + "jobs.scope AS scope,\n"
-        + "jobs.config AS config,\n"
+        + configColumn + " AS config,\n"
         + "jobs.status AS job_status,\n"
         + "jobs.started_at AS job_started_at,\n"
         + "jobs.created_at AS job_created_at,\n"
@@ -432,6 +452,26 @@ public class DefaultJobPersistence implements JobPersistence {
     return Jsons.deserialize(jobConfigString, JobConfig.class);
   }
 
+  /**
+   * Builds the summary of a job config that job lists read in place of the config: the same config
+   * without the schemas, selected fields and mappers of its configured streams, which make up most of
+   * the config of a connection with a large catalog. The names, namespaces and sync modes of the
+   * streams, which the lists show, are kept.
+   */
+  @VisibleForTesting
+  static JobConfig toConfigSummary(final JobConfig jobConfig) {
+    final JobConfig summary = Jsons.clone(jobConfig);
+    final ConfiguredAirbyteCatalog configuredCatalog = new JobConfigProxy(summary).getConfiguredCatalog();
+    if (configuredCatalog != null) {
+      for (final ConfiguredAirbyteStream configuredStream : configuredCatalog.getStreams()) {
+        configuredStream.getStream().setJsonSchema(Jsons.emptyObject());
+        configuredStream.setFields(null);
+        configuredStream.setMappers(List.of());
+      }
+    }
+    return summary;
+  }
+
   private static Attempt getAttemptFromRecord(final Record record) {
     final String attemptOutputString = record.get("attempt_output", String.class);
     final Attempt attempt = new Attempt(
@@ -508,8 +548,9 @@ public class DefaultJobPersistence implements JobPersistence {
   }
 
   /**
-   * Gets jobs from results but without catalog data for attempts. For now we can't exclude catalog
-   * data for jobs because we need sync mode from the catalog for stat aggregation.
+   * Gets jobs from results but without catalog data for attempts. Jobs are expected to be selected
+   * with {@link #jobSummarySelectAndJoin(String)}, so that their config only carries the parts of the
+   * catalog needed for stat aggregation, i.e. the sync mode of each stream.
    */
   private static List<Job> getJobsFromResultLight(final Result<Record> result) {
     // keeps results strictly in order so the sql query controls the sort
@@ -593,8 +634,8 @@ public class DefaultJobPersistence implements JobPersistence {
 
     return jobDatabase.query(
         ctx -> ctx.fetch(
-            "INSERT INTO jobs(config_type, scope, created_at, updated_at, status, config) "
-                + "SELECT CAST(? AS JOB_CONFIG_TYPE), ?, ?, ?, CAST(? AS JOB_STATUS), CAST(? as JSONB) "
+            "INSERT INTO jobs(config_type, scope, created_at, updated_at, status, config, config_summary) "
+                + "SELECT CAST(? AS JOB_CONFIG_TYPE), ?, ?, ?, CAST(? AS JOB_STATUS), CAST(? as JSONB), CAST(? as JSONB) "
                 + queueingRequest
                 + "RETURNING id ",
             toSqlName(jobConfig.getConfigType()),
@@ -602,7 +643,8 @@ public class DefaultJobPersistence implements JobPersistence {
             now,
             now,
             toSqlName(JobStatus.PENDING),
-            Jsons.serialize(jobConfig)))
+            Jsons.serialize(jobConfig),
+            Jsons.serialize(toConfigSummary(jobConfig))))
         .stream()
         .findFirst()
         .map(r -> r.getValue("id", Long.class));
@@ -921,7 +963,11 @@ public class DefaultJobPersistence implements JobPersistence {
         .fetchOne().into(Long.class));
   }
 
-  public Result<Record> listJobsQuery(final Set<ConfigType> configTypes, final String configId, final int pagesize, String orderByString)
+  public Result<Record> listJobsQuery(final Set<ConfigType> configTypes,
+                                      final String configId,
+                                      final int pagesize,
+                                      final String orderByString,
+                                      final boolean withConfigSummaries)
       throws IOException {
     return jobDatabase.query(ctx -> {
       final String jobsSubquery = "(" + ctx.select(DSL.asterisk()).from(JOBS)
@@ -932,7 +978,7 @@ public class DefaultJobPersistence implements JobPersistence {
           .limit(pagesize)
           .getSQL(ParamType.INLINED) + ") AS jobs";
 
-      return ctx.fetch(jobSelectAndJoin(jobsSubquery) + orderByString);
+      return ctx.fetch(selectAndJoin(jobsSubquery, withConfigSummaries) + orderByString);
     });
   }
 
@@ -946,7 +992,8 @@ public class DefaultJobPersistence implements JobPersistence {
                                       final OffsetDateTime updatedAtStart,
                                       final OffsetDateTime updatedAtEnd,
                                       final String orderByField,
-                                      final String orderByMethod)
+                                      final String orderByMethod,
+                                      final boolean withConfigSummaries)
       throws IOException {
     final SortField<OffsetDateTime> orderBy = getJobOrderBy(orderByField, orderByMethod);
     return jobDatabase.query(ctx -> {
@@ -967,7 +1014,7 @@ public class DefaultJobPersistence implements JobPersistence {
           .offset(offset)
           .getSQL(ParamType.INLINED) + ") AS jobs";
 
-      final String fullQuery = jobSelectAndJoin(jobsSubquery) + getJobOrderBySql(orderBy);
+      final String fullQuery = selectAndJoin(jobsSubquery, withConfigSummaries) + getJobOrderBySql(orderBy);
       LOGGER.debug("jobs query: {}", fullQuery);
       return ctx.fetch(fullQuery);
     });
@@ -983,7 +1030,8 @@ public class DefaultJobPersistence implements JobPersistence {
                                        final OffsetDateTime updatedAtStart,
                                        final OffsetDateTime updatedAtEnd,
                                        final String orderByField,
-                                       final String orderByMethod)
+                                       final String orderByMethod,
+                                       final boolean withConfigSummaries)
       throws IOException {
     final SortField<OffsetDateTime> orderBy = getJobOrderBy(orderByField, orderByMethod);
     return jobDatabase.query(ctx -> {
@@ -1007,7 +1055,7 @@ public class DefaultJobPersistence implements JobPersistence {
           .offset(offset)
           .getSQL(ParamType.INLINED) + ") AS jobs";
 
-      final String fullQuery = jobSelectAndJoin(jobsSubquery) + getJobOrderBySql(orderBy);
+      final String fullQuery = selectAndJoin(jobsSubquery, withConfigSummaries) + getJobOrderBySql(orderBy);
       LOGGER.debug("jobs query: {}", fullQuery);
       return ctx.fetch(fullQuery);
     });
@@ -1015,7 +1063,7 @@ public class DefaultJobPersistence implements JobPersistence {
 
   @Override
   public List<Job> listJobs(final Set<ConfigType> configTypes, final String configId, final int pagesize) throws IOException {
-    return getJobsFromResult(listJobsQuery(configTypes, configId, pagesize, ORDER_BY_JOB_TIME_ATTEMPT_TIME));
+    return getJobsFromResult(listJobsQuery(configTypes, configId, pagesize, ORDER_BY_JOB_TIME_ATTEMPT_TIME, false));
   }
 
   @Override
@@ -1091,7 +1139,7 @@ public class DefaultJobPersistence implements JobPersistence {
                             final String orderByMethod)
       throws IOException {
     return getJobsFromResult(listJobsQuery(configTypes, workspaceIds, limit, offset, statuses, createdAtStart, createdAtEnd, updatedAtStart,
-        updatedAtEnd, orderByField, orderByMethod));
+        updatedAtEnd, orderByField, orderByMethod, false));
   }
 
   @Override
@@ -1138,13 +1186,13 @@ public class DefaultJobPersistence implements JobPersistence {
           .orderBy(JOBS.CREATED_AT.desc(), JOBS.ID.desc())
           .getSQL(ParamType.INLINED) + ") AS jobs";
 
-      return getJobsFromResultLight(ctx.fetch(jobSelectAndJoin(jobsSubquery)));
+      return getJobsFromResultLight(ctx.fetch(jobSummarySelectAndJoin(jobsSubquery)));
     });
   }
 
   @Override
   public List<Job> listJobsLight(final Set<ConfigType> configTypes, final String configId, final int pagesize) throws IOException {
-    return getJobsFromResultLight(listJobsQuery(configTypes, configId, pagesize, ORDER_BY_JOB_TIME_ATTEMPT_TIME));
+    return getJobsFromResultLight(listJobsQuery(configTypes, configId, pagesize, ORDER_BY_JOB_TIME_ATTEMPT_TIME, true));
   }
 
   @Override
@@ -1161,7 +1209,7 @@ public class DefaultJobPersistence implements JobPersistence {
                                  final String orderByMethod)
       throws IOException {
     return getJobsFromResultLight(listJobsQuery(configTypes, configId, limit, offset, statuses, createdAtStart, createdAtEnd, updatedAtStart,
-        updatedAtEnd, orderByField, orderByMethod));
+        updatedAtEnd, orderByField, orderByMethod, true));
   }
 
   @Override
@@ -1178,7 +1226,7 @@ public class DefaultJobPersistence implements JobPersistence {
                                  final String orderByMethod)
       throws IOException {
     return getJobsFromResultLight(listJobsQuery(configTypes, workspaceIds, limit, offset, statuses, createdAtStart, createdAtEnd, updatedAtStart,
-        updatedAtEnd, orderByField, orderByMethod));
+        updatedAtEnd, orderByField, orderByMethod, true));
   }
 
   @Override
@@ -1208,7 +1256,9 @@ public class DefaultJobPersistence implements JobPersistence {
 
     // calculate the multiple of `pagesize` that includes the target job
     final int pageSizeThatIncludesJob = (countIncludingJob / pagesize + 1) * pagesize;
-    return listJobs(configTypes, connectionId, pageSizeThatIncludesJob);
+    // Possibly many pages of jobs, which are listed rather than run: they only need the summary of their
+    // config.
+    return getJobsFromResult(listJobsQuery(configTypes, connectionId, pageSizeThatIncludesJob, ORDER_BY_JOB_TIME_ATTEMPT_TIME, true));
   }
 
   @Override
@@ -1354,6 +1404,10 @@ public class DefaultJobPersistence implements JobPersistence {
   /**
    * For each connection ID in the input, find that connection's latest job if one exists and return a
    * status summary.
+   * <p>
+   * The latest job is looked up per connection with a lateral LIMIT 1 over the (scope, created_at)
+   * index, so the cost depends on the number of requested connections (typically one page of the
+   * connection list) rather than on the length of their job history.
    */
   @Override
   public List<JobStatusSummary> getLastSyncJobForConnections(final List<UUID> connectionIds) throws IOException {
@@ -1362,11 +1416,14 @@ public class DefaultJobPersistence implements JobPersistence {
     }
 
     return jobDatabase.query(ctx -> ctx
-        .fetch("SELECT DISTINCT ON (scope) jobs.scope, jobs.created_at, jobs.status "
-            + " FROM jobs "
-            + WHERE + "CAST(jobs.config_type AS VARCHAR) in " + toSqlInFragment(Job.SYNC_REPLICATION_TYPES)
-            + AND + scopeInList(connectionIds)
-            + "ORDER BY scope, created_at DESC")
+        .fetch("SELECT latest_job.scope, latest_job.created_at, latest_job.status "
+            + "FROM (VALUES " + scopeValuesList(connectionIds) + ") AS connection_scope(scope) "
+            + "CROSS JOIN LATERAL ("
+            + "SELECT jobs.scope, jobs.created_at, jobs.status FROM jobs "
+            + WHERE + "jobs.scope = connection_scope.scope"
+            + AND + "CAST(jobs.config_type AS VARCHAR) in " + toSqlInFragment(Job.SYNC_REPLICATION_TYPES)
+            + " ORDER BY jobs.created_at DESC LIMIT 1"
+            + ") AS latest_job")
         .stream()
         .map(r -> new JobStatusSummary(UUID.fromString(r.get("scope", String.class)), getEpoch(r, "created_at"),
             JobStatus.valueOf(r.get("status", String.class).toUpperCase())))
@@ -1420,6 +1477,15 @@ public class DefaultJobPersistence implements JobPersistence {
             .collect(Collectors.joining(",")));
   }
 
+  private String scopeValuesList(final Collection<UUID> connectionIds) {
+    return connectionIds.stream()
+        .distinct()
+        .map(UUID::toString)
+        .map(Names::singleQuote)
+        .map(scope -> "(" + scope + ")")
+        .collect(Collectors.joining(","));
+  }
+
   @Override
   public Optional<Job> getFirstReplicationJob(final UUID connectionId) throws IOException {
     return jobDatabase.query(ctx -> ctx
@@ -1470,6 +1536,7 @@ public class DefaultJobPersistence implements JobPersistence {
 
       ctx.update(JOBS)
           .set(JOBS.CONFIG, JSONB.valueOf(Jsons.serialize(config)))
+          .set(JOBS.CONFIG_SUMMARY, JSONB.valueOf(Jsons.serialize(toConfigSummary(config))))
           .set(JOBS.UPDATED_AT, OffsetDateTime.now())
           .where(JOBS.ID.eq(jobId))
           .execute();
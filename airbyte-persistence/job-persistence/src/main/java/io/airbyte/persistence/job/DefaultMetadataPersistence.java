@@ -11,6 +11,7 @@ import io.airbyte.commons.version.Version;
 import io.airbyte.db.Database;
 import io.airbyte.db.ExceptionWrappingDatabase;
 import java.io.IOException;
+import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Optional;
@@ -33,6 +34,7 @@ public class DefaultMetadataPersistence implements MetadataPersistence {
   private static final String METADATA_KEY_COL = "key";
   private static final String METADATA_VAL_COL = "value";
   private static final String DEPLOYMENT_ID_KEY = "deployment_id";
+  private static final String TEMPORAL_SELF_HEAL_WATERMARK_KEY = "temporal_self_heal_watermark";
 
   private final ExceptionWrappingDatabase jobDatabase;
 
@@ -105,6 +107,16 @@ public class DefaultMetadataPersistence implements MetadataPersistence {
         max.orElse(AirbyteProtocolVersion.DEFAULT_AIRBYTE_PROTOCOL_VERSION)));
   }
 
+  @Override
+  public Optional<Instant> getTemporalSelfHealWatermark() throws IOException {
+    return getMetadata(TEMPORAL_SELF_HEAL_WATERMARK_KEY).findFirst().map(Instant::parse);
+  }
+
+  @Override
+  public void setTemporalSelfHealWatermark(final Instant watermark) throws IOException {
+    setMetadata(TEMPORAL_SELF_HEAL_WATERMARK_KEY, watermark.toString());
+  }
+
   private Stream<String> getMetadata(final String keyName) throws IOException {
     return jobDatabase.query(ctx -> ctx.select()
         .from(AIRBYTE_METADATA_TABLE)
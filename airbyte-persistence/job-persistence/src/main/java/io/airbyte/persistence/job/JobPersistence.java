@@ -340,7 +340,8 @@ public interface JobPersistence {
    *        multiple pages)
    * @return List of jobs in descending created_at order including the specified job. Will include
    *         multiple pages of jobs if required to include the specified job. If the specified job
-   *         does not exist in the connection, the returned list will be empty.
+   *         does not exist in the connection, the returned list will be empty. The configs of the
+   *         jobs are their summaries, without the schemas of their configured streams.
    */
   List<Job> listJobsIncludingId(Set<JobConfig.ConfigType> configTypes, String connectionId, long includingJobId, int pagesize) throws IOException;
 
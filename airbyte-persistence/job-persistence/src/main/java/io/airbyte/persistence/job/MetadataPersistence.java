@@ -7,6 +7,7 @@ package io.airbyte.persistence.job;
 import io.airbyte.commons.version.AirbyteProtocolVersionRange;
 import io.airbyte.commons.version.Version;
 import java.io.IOException;
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -62,4 +63,16 @@ public interface MetadataPersistence {
    */
   void setDeployment(UUID uuid) throws IOException;
 
+  /**
+   * Get the close time from which failed Temporal workflows still need to be scanned for
+   * self-healing.
+   */
+  Optional<Instant> getTemporalSelfHealWatermark() throws IOException;
+
+  /**
+   * Set the close time from which failed Temporal workflows still need to be scanned for
+   * self-healing.
+   */
+  void setTemporalSelfHealWatermark(Instant watermark) throws IOException;
+
 }
@@ -29,11 +29,15 @@ import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.version.AirbyteProtocolVersion;
 import io.airbyte.commons.version.AirbyteProtocolVersionRange;
 import io.airbyte.commons.version.Version;
+import io.airbyte.config.AirbyteStream;
 import io.airbyte.config.Attempt;
 import io.airbyte.config.AttemptFailureSummary;
 import io.airbyte.config.AttemptStatus;
 import io.airbyte.config.AttemptSyncConfig;
 import io.airbyte.config.AttemptWithJobInfo;
+import io.airbyte.config.ConfiguredAirbyteCatalog;
+import io.airbyte.config.ConfiguredAirbyteStream;
+import io.airbyte.config.DestinationSyncMode;
 import io.airbyte.config.FailureReason;
 import io.airbyte.config.FailureReason.FailureOrigin;
 import io.airbyte.config.Job;
@@ -50,6 +54,7 @@ import io.airbyte.config.StandardSyncOutput;
 import io.airbyte.config.StandardSyncSummary;
 import io.airbyte.config.State;
 import io.airbyte.config.StreamSyncStats;
+import io.airbyte.config.SyncMode;
 import io.airbyte.config.SyncStats;
 import io.airbyte.db.Database;
 import io.airbyte.db.factory.DSLContextFactory;
@@ -271,6 +276,54 @@ class DefaultJobPersistenceTest {
     assertEquals(SYNC_JOB_CONFIG, actualJob2AfterUpdate.getConfig());
   }
 
+  @Test
+  @DisplayName("Light job lists should read the config summary in place of the config")
+  void testListJobsLightReadsConfigSummary() throws IOException {
+    final AirbyteStream stream = new AirbyteStream("users", Jsons.jsonNode(Map.of("type", "object")), List.of(SyncMode.INCREMENTAL))
+        .withNamespace("public");
+    final JobConfig syncConfig = new JobConfig()
+        .withConfigType(ConfigType.SYNC)
+        .withSync(new JobSyncConfig().withConfiguredAirbyteCatalog(new ConfiguredAirbyteCatalog()
+            .withStreams(List.of(new ConfiguredAirbyteStream(stream, SyncMode.INCREMENTAL, DestinationSyncMode.APPEND_DEDUP)))));
+    final long jobId = jobPersistence.enqueueJob(SCOPE, syncConfig).orElseThrow();
+
+    final Job job = jobPersistence.listJobsLight(Set.of(jobId)).get(0);
+    final ConfiguredAirbyteStream listedStream = job.getConfig().getSync().getConfiguredAirbyteCatalog().getStreams().get(0);
+
+    assertEquals(DefaultJobPersistence.toConfigSummary(syncConfig), job.getConfig());
+    assertEquals("users", listedStream.getStream().getName());
+    assertEquals("public", listedStream.getStream().getNamespace());
+    assertEquals(SyncMode.INCREMENTAL, listedStream.getSyncMode());
+    assertEquals(Jsons.emptyObject(), listedStream.getStream().getJsonSchema());
+    // the config itself is left untouched
+    assertEquals(syncConfig, jobPersistence.getJob(jobId).getConfig());
+  }
+
+  @Test
+  @DisplayName("Listing the jobs including an id should read the config summary in place of the config")
+  void testListJobsIncludingIdReadsConfigSummary() throws IOException {
+    final AirbyteStream stream = new AirbyteStream("users", Jsons.jsonNode(Map.of("type", "object")), List.of(SyncMode.INCREMENTAL));
+    final JobConfig syncConfig = new JobConfig()
+        .withConfigType(ConfigType.SYNC)
+        .withSync(new JobSyncConfig().withConfiguredAirbyteCatalog(new ConfiguredAirbyteCatalog()
+            .withStreams(List.of(new ConfiguredAirbyteStream(stream, SyncMode.INCREMENTAL, DestinationSyncMode.APPEND)))));
+    final long jobId = jobPersistence.enqueueJob(SCOPE, syncConfig).orElseThrow();
+
+    final List<Job> jobs = jobPersistence.listJobsIncludingId(Set.of(ConfigType.SYNC), SCOPE, jobId, 10);
+
+    assertEquals(List.of(jobId), jobs.stream().map(Job::getId).toList());
+    assertEquals(DefaultJobPersistence.toConfigSummary(syncConfig), jobs.get(0).getConfig());
+  }
+
+  @Test
+  @DisplayName("Light job lists should fall back to the config of jobs without a config summary")
+  void testListJobsLightFallsBackToConfig() throws IOException, SQLException {
+    final long jobId = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+    jobDatabase.query(ctx -> ctx.execute("UPDATE jobs SET config_summary = NULL WHERE id = ?", jobId));
+
+    assertEquals(SYNC_JOB_CONFIG, jobPersistence.listJobsLight(Set.of(jobId)).get(0).getConfig());
+  }
+
   @Test
   @DisplayName("Should set a job to incomplete if an attempt fails")
   void testCompleteAttemptFailed() throws IOException {
@@ -57,16 +57,19 @@ import io.airbyte.commons.server.handlers.MatchSearchHandler;
 import io.airbyte.commons.server.handlers.OperationsHandler;
 import io.airbyte.commons.server.handlers.SchedulerHandler;
 import io.airbyte.commons.server.handlers.StreamRefreshesHandler;
+import io.airbyte.commons.server.handlers.SyncProgressBroadcaster;
 import io.airbyte.commons.server.scheduling.AirbyteTaskExecutors;
 import io.airbyte.commons.temporal.TemporalJobType;
 import io.airbyte.commons.temporal.scheduling.RouterService;
 import io.airbyte.server.handlers.StreamStatusesHandler;
 import io.micronaut.context.annotation.Context;
 import io.micronaut.http.HttpStatus;
+import io.micronaut.http.MediaType;
 import io.micronaut.http.annotation.Body;
 import io.micronaut.http.annotation.Controller;
 import io.micronaut.http.annotation.Post;
 import io.micronaut.http.annotation.Status;
+import io.micronaut.http.sse.Event;
 import io.micronaut.scheduling.annotation.ExecuteOn;
 import io.micronaut.security.annotation.Secured;
 import io.micronaut.security.rules.SecurityRule;
@@ -74,7 +77,10 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import reactor.core.scheduler.Schedulers;
 
 @Controller("/api/v1/connections")
 @Context
@@ -90,6 +96,7 @@ public class ConnectionApiController implements ConnectionApi {
   private final MatchSearchHandler matchSearchHandler;
   private final StreamRefreshesHandler streamRefreshesHandler;
   private final JobHistoryHandler jobHistoryHandler;
+  private final SyncProgressBroadcaster syncProgressBroadcaster;
 
   public ConnectionApiController(final ConnectionsHandler connectionsHandler,
                                  final OperationsHandler operationsHandler,
@@ -98,7 +105,8 @@ public class ConnectionApiController implements ConnectionApi {
                                  final StreamStatusesHandler streamStatusesHandler,
                                  final MatchSearchHandler matchSearchHandler,
                                  final StreamRefreshesHandler streamRefreshesHandler,
-                                 final JobHistoryHandler jobHistoryHandler) {
+                                 final JobHistoryHandler jobHistoryHandler,
+                                 final SyncProgressBroadcaster syncProgressBroadcaster) {
     this.connectionsHandler = connectionsHandler;
     this.operationsHandler = operationsHandler;
     this.schedulerHandler = schedulerHandler;
@@ -107,6 +115,7 @@ public class ConnectionApiController implements ConnectionApi {
     this.matchSearchHandler = matchSearchHandler;
     this.streamRefreshesHandler = streamRefreshesHandler;
     this.jobHistoryHandler = jobHistoryHandler;
+    this.syncProgressBroadcaster = syncProgressBroadcaster;
   }
 
   @Override
@@ -279,6 +288,22 @@ public class ConnectionApiController implements ConnectionApi {
     return ApiHelper.execute(() -> jobHistoryHandler.getConnectionSyncProgress(connectionIdRequestBody));
   }
 
+  /**
+   * Server-sent events with the progress of the syncs of a connection, pushed as the stats of the
+   * running sync are saved. The first event, named "snapshot", holds the same progress as
+   * /sync_progress. It is followed by "delta" events holding the totals of the streams whose counts
+   * changed, and by a new "snapshot" whenever the progress is reloaded, e.g. when a sync starts or
+   * ends.
+   */
+  @Post(uri = "/sync_progress/stream",
+        produces = MediaType.TEXT_EVENT_STREAM)
+  @Secured({WORKSPACE_READER, ORGANIZATION_READER})
+  public Publisher<Event<ConnectionSyncProgressRead>> streamConnectionSyncProgress(@Body final ConnectionIdRequestBody connectionIdRequestBody) {
+    return syncProgressBroadcaster.subscribe(connectionIdRequestBody.getConnectionId())
+        .subscribeOn(Schedulers.boundedElastic())
+        .map(update -> Event.of(update.getProgress()).name(update.getType().name().toLowerCase(Locale.ROOT)));
+  }
+
   @SuppressWarnings("LineLength")
   @Override
   @Post(uri = "/history/uptime")
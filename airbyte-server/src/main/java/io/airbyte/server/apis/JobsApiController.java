@@ -28,6 +28,8 @@ import io.airbyte.api.model.generated.JobOptionalRead;
 import io.airbyte.api.model.generated.JobReadList;
 import io.airbyte.api.model.generated.JobSuccessWithAttemptNumberRequest;
 import io.airbyte.api.model.generated.PersistCancelJobRequestBody;
+import io.airbyte.api.model.generated.ReplicationHydrationInputRead;
+import io.airbyte.api.model.generated.ReplicationHydrationInputRequestBody;
 import io.airbyte.api.model.generated.ReportJobStartRequest;
 import io.airbyte.api.model.generated.SyncInput;
 import io.airbyte.commons.auth.generated.Intent;
@@ -35,6 +37,7 @@ import io.airbyte.commons.auth.permissions.RequiresIntent;
 import io.airbyte.commons.server.handlers.JobHistoryHandler;
 import io.airbyte.commons.server.handlers.JobInputHandler;
 import io.airbyte.commons.server.handlers.JobsHandler;
+import io.airbyte.commons.server.handlers.ReplicationHydrationHandler;
 import io.airbyte.commons.server.handlers.SchedulerHandler;
 import io.airbyte.commons.server.scheduling.AirbyteTaskExecutors;
 import io.airbyte.commons.temporal.StreamResetRecordsHelper;
@@ -57,17 +60,20 @@ public class JobsApiController implements JobsApi {
   private final SchedulerHandler schedulerHandler;
   private final JobsHandler jobsHandler;
   private final JobInputHandler jobInputHandler;
+  private final ReplicationHydrationHandler replicationHydrationHandler;
   private final StreamResetRecordsHelper streamResetRecordsHelper;
 
   public JobsApiController(final JobHistoryHandler jobHistoryHandler,
                            final SchedulerHandler schedulerHandler,
                            final JobInputHandler jobInputHandler,
                            final JobsHandler jobsHandler,
+                           final ReplicationHydrationHandler replicationHydrationHandler,
                            final StreamResetRecordsHelper streamResetRecordsHelper) {
     this.jobHistoryHandler = jobHistoryHandler;
     this.schedulerHandler = schedulerHandler;
     this.jobInputHandler = jobInputHandler;
     this.jobsHandler = jobsHandler;
+    this.replicationHydrationHandler = replicationHydrationHandler;
     this.streamResetRecordsHelper = streamResetRecordsHelper;
   }
 
@@ -138,6 +144,14 @@ public class JobsApiController implements JobsApi {
     return ApiHelper.execute(() -> jobInputHandler.getJobInput(syncInput));
   }
 
+  @Post("/get_replication_hydration_input")
+  @Secured({WORKSPACE_READER, ORGANIZATION_READER})
+  @ExecuteOn(AirbyteTaskExecutors.IO)
+  @Override
+  public ReplicationHydrationInputRead getReplicationHydrationInput(@Body final ReplicationHydrationInputRequestBody requestBody) {
+    return ApiHelper.execute(() -> replicationHydrationHandler.getReplicationHydrationInput(requestBody));
+  }
+
   @Post("/get_light")
   @Secured({WORKSPACE_READER, ORGANIZATION_READER})
   @ExecuteOn(AirbyteTaskExecutors.IO)
@@ -11,6 +11,7 @@ import static io.airbyte.commons.auth.AuthRoleConstants.WORKSPACE_READER;
 import io.airbyte.api.generated.StreamStatusesApi;
 import io.airbyte.api.model.generated.ConnectionIdRequestBody;
 import io.airbyte.api.model.generated.Pagination;
+import io.airbyte.api.model.generated.StreamStatusBatchUpsertRequestBody;
 import io.airbyte.api.model.generated.StreamStatusCreateRequestBody;
 import io.airbyte.api.model.generated.StreamStatusIncompleteRunCause;
 import io.airbyte.api.model.generated.StreamStatusListRequestBody;
@@ -60,6 +61,16 @@ public class StreamStatusesApiController implements StreamStatusesApi {
     return handler.updateStreamStatus(req);
   }
 
+  @Secured({ADMIN})
+  @ExecuteOn(AirbyteTaskExecutors.IO)
+  @Post(uri = "/upsert_batch")
+  @Override
+  public StreamStatusReadList upsertStreamStatuses(@Body final StreamStatusBatchUpsertRequestBody req) {
+    req.getStreamStatuses().forEach(status -> Validations.validate(status.getRunState(), status.getIncompleteRunCause()));
+
+    return handler.upsertStreamStatuses(req);
+  }
+
   @Secured({WORKSPACE_READER, ORGANIZATION_READER})
   @ExecuteOn(AirbyteTaskExecutors.IO)
   @Post(uri = "/list")
@@ -11,6 +11,9 @@ import io.airbyte.commons.server.handlers.helpers.ConfigRepositoryBuilderProject
 import io.airbyte.commons.server.handlers.helpers.LocalFileSystemBuilderProjectUpdater;
 import io.airbyte.commons.server.scheduler.EventRunner;
 import io.airbyte.commons.server.scheduler.TemporalEventRunner;
+import io.airbyte.commons.storage.ChunkedDocumentStore;
+import io.airbyte.commons.storage.DocumentType;
+import io.airbyte.commons.storage.StorageClientFactory;
 import io.airbyte.commons.temporal.TemporalClient;
 import io.airbyte.commons.version.AirbyteProtocolVersionRange;
 import io.airbyte.commons.version.Version;
@@ -230,6 +233,12 @@ public class ApplicationBeanFactory {
     }
   }
 
+  @Singleton
+  @Named("discoveredCatalogStore")
+  public ChunkedDocumentStore discoveredCatalogStore(final StorageClientFactory storageClientFactory) {
+    return new ChunkedDocumentStore(storageClientFactory.get(DocumentType.DISCOVERED_CATALOGS));
+  }
+
   @Singleton
   @Requires(env = Environment.KUBERNETES)
   public KubernetesClient kubernetesClient() {
@@ -170,7 +170,8 @@ public class DatabaseBeanFactory {
   static DSLContext unwrapContext(final DSLContext context) {
     final var datasource = ((DataSourceConnectionProvider) context.configuration().connectionProvider()).dataSource();
 
-    return DSLContextFactory.create(unwrapDataSource(datasource), SQLDialect.POSTGRES);
+    // Carry over listeners (e.g. query metrics) registered on the framework-managed context.
+    return DSLContextFactory.create(unwrapDataSource(datasource), SQLDialect.POSTGRES, context.configuration().executeListenerProviders());
   }
 
 }
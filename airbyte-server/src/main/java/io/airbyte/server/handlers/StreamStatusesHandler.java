@@ -12,6 +12,7 @@ import io.airbyte.api.model.generated.JobRead;
 import io.airbyte.api.model.generated.JobStatus;
 import io.airbyte.api.model.generated.JobSyncResultRead;
 import io.airbyte.api.model.generated.JobWithAttemptsRead;
+import io.airbyte.api.model.generated.StreamStatusBatchUpsertRequestBody;
 import io.airbyte.api.model.generated.StreamStatusCreateRequestBody;
 import io.airbyte.api.model.generated.StreamStatusIncompleteRunCause;
 import io.airbyte.api.model.generated.StreamStatusListRequestBody;
@@ -25,10 +26,13 @@ import io.airbyte.config.Job;
 import io.airbyte.persistence.job.JobPersistence;
 import io.airbyte.server.handlers.api_domain_mapping.StreamStatusesMapper;
 import io.airbyte.server.repositories.StreamStatusesRepository;
+import io.airbyte.server.repositories.domain.StreamStatus;
+import io.micronaut.transaction.annotation.Transactional;
 import jakarta.inject.Singleton;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -70,6 +74,28 @@ public class StreamStatusesHandler {
     return mapper.map(saved);
   }
 
+  /**
+   * Create or update a batch of stream statuses in a single transaction. Statuses with an id are
+   * updated, the others are created.
+   *
+   * @param req the statuses to save
+   * @return the saved statuses, in the order of the request
+   */
+  @Transactional("config")
+  public StreamStatusReadList upsertStreamStatuses(final StreamStatusBatchUpsertRequestBody req) {
+    final List<StreamStatus> models = req.getStreamStatuses().stream().map(mapper::map).toList();
+
+    final Iterator<StreamStatus> created = repo.saveAll(models.stream().filter(model -> model.getId() == null).toList()).iterator();
+    final Iterator<StreamStatus> updated = repo.updateAll(models.stream().filter(model -> model.getId() != null).toList()).iterator();
+
+    final var apiList = models.stream()
+        .map(model -> model.getId() == null ? created.next() : updated.next())
+        .map(mapper::map)
+        .toList();
+
+    return new StreamStatusReadList().streamStatuses(apiList);
+  }
+
   public StreamStatusReadList listStreamStatus(final StreamStatusListRequestBody req) {
     final var filters = mapper.map(req);
 
@@ -16,6 +16,7 @@ import io.airbyte.api.model.generated.StreamStatusRateLimitedMetadata;
 import io.airbyte.api.model.generated.StreamStatusRead;
 import io.airbyte.api.model.generated.StreamStatusRunState;
 import io.airbyte.api.model.generated.StreamStatusUpdateRequestBody;
+import io.airbyte.api.model.generated.StreamStatusUpsertRequestBody;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.db.instance.jobs.jooq.generated.enums.JobStreamStatusIncompleteRunCause;
 import io.airbyte.db.instance.jobs.jooq.generated.enums.JobStreamStatusJobType;
@@ -82,6 +83,30 @@ public class StreamStatusesMapper {
     return domain.build();
   }
 
+  public StreamStatus map(final StreamStatusUpsertRequestBody api) {
+    final var domain = new StreamStatus.StreamStatusBuilder()
+        .runState(map(api.getRunState()))
+        .transitionedAt(fromMills(api.getTransitionedAt()))
+        .workspaceId(api.getWorkspaceId())
+        .connectionId(api.getConnectionId())
+        .jobId(api.getJobId())
+        .jobType(map(api.getJobType()))
+        .attemptNumber(api.getAttemptNumber())
+        .streamNamespace(api.getStreamNamespace())
+        .streamName(api.getStreamName())
+        .id(api.getId());
+
+    if (null != api.getIncompleteRunCause()) {
+      domain.incompleteRunCause(map(api.getIncompleteRunCause()));
+    }
+
+    if (null != api.getMetadata()) {
+      domain.metadata(map(api.getMetadata()));
+    }
+
+    return domain.build();
+  }
+
   public JobStreamStatusJobType map(final StreamStatusJobType apiEnum) {
     return apiEnum != null ? JobStreamStatusJobType.lookupLiteral(apiEnum.name().toLowerCase()) : null;
   }
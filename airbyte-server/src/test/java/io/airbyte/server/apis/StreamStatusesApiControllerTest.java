@@ -8,6 +8,7 @@ import static org.mockito.Mockito.when;
 
 import io.airbyte.api.model.generated.ConnectionIdRequestBody;
 import io.airbyte.api.model.generated.Pagination;
+import io.airbyte.api.model.generated.StreamStatusBatchUpsertRequestBody;
 import io.airbyte.api.model.generated.StreamStatusCreateRequestBody;
 import io.airbyte.api.model.generated.StreamStatusIncompleteRunCause;
 import io.airbyte.api.model.generated.StreamStatusJobType;
@@ -16,6 +17,7 @@ import io.airbyte.api.model.generated.StreamStatusRead;
 import io.airbyte.api.model.generated.StreamStatusReadList;
 import io.airbyte.api.model.generated.StreamStatusRunState;
 import io.airbyte.api.model.generated.StreamStatusUpdateRequestBody;
+import io.airbyte.api.model.generated.StreamStatusUpsertRequestBody;
 import io.airbyte.server.handlers.StreamStatusesHandler;
 import io.micronaut.context.annotation.Replaces;
 import io.micronaut.context.annotation.Requires;
@@ -25,6 +27,7 @@ import io.micronaut.http.HttpRequest;
 import io.micronaut.http.HttpStatus;
 import io.micronaut.test.annotation.MockBean;
 import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Stream;
@@ -53,6 +56,7 @@ class StreamStatusesApiControllerTest extends BaseControllerTest {
   static String PATH_BASE = "/api/v1/stream_statuses";
   static String PATH_CREATE = PATH_BASE + "/create";
   static String PATH_UPDATE = PATH_BASE + "/update";
+  static String PATH_UPSERT_BATCH = PATH_BASE + "/upsert_batch";
   static String PATH_LIST = PATH_BASE + "/list";
   static String PATH_LATEST_PER_RUN_STATE = PATH_BASE + "/latest_per_run_state";
 
@@ -114,6 +118,35 @@ class StreamStatusesApiControllerTest extends BaseControllerTest {
         HttpStatus.BAD_REQUEST);
   }
 
+  @Test
+  void testUpsertBatchSuccessful() {
+    when(handler.upsertStreamStatuses(Mockito.any()))
+        .thenReturn(new StreamStatusReadList());
+
+    testEndpointStatus(
+        HttpRequest.POST(
+            PATH_UPSERT_BATCH,
+            new StreamStatusBatchUpsertRequestBody().streamStatuses(List.of(Fixtures.validUpsert(null), Fixtures.validUpsert(UUID.randomUUID())))),
+        HttpStatus.OK);
+  }
+
+  @ParameterizedTest
+  @MethodSource("invalidRunStateCauseMatrix")
+  void testUpsertBatchIncompleteRunCauseRunStateInvariant(final StreamStatusRunState state, final StreamStatusIncompleteRunCause incompleteCause) {
+    when(handler.upsertStreamStatuses(Mockito.any()))
+        .thenReturn(new StreamStatusReadList());
+
+    final var invalid = Fixtures.validUpsert(null)
+        .runState(state)
+        .incompleteRunCause(incompleteCause);
+
+    testErrorEndpointStatus(
+        HttpRequest.POST(
+            PATH_UPSERT_BATCH,
+            new StreamStatusBatchUpsertRequestBody().streamStatuses(List.of(Fixtures.validUpsert(null), invalid))),
+        HttpStatus.BAD_REQUEST);
+  }
+
   private static Stream<Arguments> invalidRunStateCauseMatrix() {
     return Stream.of(
         Arguments.of(StreamStatusRunState.PENDING, StreamStatusIncompleteRunCause.FAILED),
@@ -228,6 +261,20 @@ class StreamStatusesApiControllerTest extends BaseControllerTest {
           .id(UUID.randomUUID());
     }
 
+    static StreamStatusUpsertRequestBody validUpsert(final UUID id) {
+      return new StreamStatusUpsertRequestBody()
+          .workspaceId(workspaceId)
+          .connectionId(connectionId)
+          .jobId(jobId)
+          .jobType(StreamStatusJobType.SYNC)
+          .attemptNumber(0)
+          .streamNamespace(testNamespace)
+          .streamName(testName)
+          .runState(StreamStatusRunState.PENDING)
+          .transitionedAt(transitionedAtMs)
+          .id(id);
+    }
+
     static Pagination validPagination() {
       return new Pagination()
           .pageSize(10)
@@ -14,11 +14,13 @@ import io.airbyte.api.model.generated.JobConfigType;
 import io.airbyte.api.model.generated.JobRead;
 import io.airbyte.api.model.generated.JobSyncResultRead;
 import io.airbyte.api.model.generated.JobWithAttemptsRead;
+import io.airbyte.api.model.generated.StreamStatusBatchUpsertRequestBody;
 import io.airbyte.api.model.generated.StreamStatusCreateRequestBody;
 import io.airbyte.api.model.generated.StreamStatusListRequestBody;
 import io.airbyte.api.model.generated.StreamStatusRead;
 import io.airbyte.api.model.generated.StreamStatusReadList;
 import io.airbyte.api.model.generated.StreamStatusUpdateRequestBody;
+import io.airbyte.api.model.generated.StreamStatusUpsertRequestBody;
 import io.airbyte.commons.server.handlers.JobHistoryHandler;
 import io.airbyte.commons.server.handlers.helpers.StatsAggregationHelper;
 import io.airbyte.config.Job;
@@ -95,6 +97,35 @@ class StreamStatusesHandlerTest {
     Assertions.assertSame(apiResp, handler.updateStreamStatus(apiReq));
   }
 
+  @Test
+  void testUpsertBatch() {
+    final var updateReq = new StreamStatusUpsertRequestBody().id(UUID.randomUUID());
+    final var createReq = new StreamStatusUpsertRequestBody();
+    final var existing = new StreamStatus.StreamStatusBuilder().id(updateReq.getId()).build();
+    final var created = new StreamStatus.StreamStatusBuilder().build();
+    final var saved = new StreamStatus.StreamStatusBuilder().id(UUID.randomUUID()).build();
+    final var existingResp = new StreamStatusRead().id(existing.getId());
+    final var savedResp = new StreamStatusRead().id(saved.getId());
+
+    when(mapper.map(updateReq))
+        .thenReturn(existing);
+    when(mapper.map(createReq))
+        .thenReturn(created);
+    when(repo.saveAll(List.of(created)))
+        .thenReturn(List.of(saved));
+    when(repo.updateAll(List.of(existing)))
+        .thenReturn(List.of(existing));
+    when(mapper.map(existing))
+        .thenReturn(existingResp);
+    when(mapper.map(saved))
+        .thenReturn(savedResp);
+
+    final var resp = handler.upsertStreamStatuses(new StreamStatusBatchUpsertRequestBody().streamStatuses(List.of(updateReq, createReq)));
+
+    // statuses are returned in the order of the request
+    Assertions.assertEquals(new StreamStatusReadList().streamStatuses(List.of(existingResp, savedResp)), resp);
+  }
+
   @Test
   void testList() {
     final var apiReq = new StreamStatusListRequestBody();
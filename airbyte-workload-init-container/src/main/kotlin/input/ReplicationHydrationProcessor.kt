@@ -21,7 +21,9 @@ import io.airbyte.workload.api.client.model.generated.Workload
 import io.github.oshai.kotlinlogging.KotlinLogging
 import io.micronaut.context.annotation.Requires
 import jakarta.inject.Singleton
+import java.time.Duration
 import java.util.UUID
+import java.util.concurrent.ConcurrentHashMap
 
 private val logger = KotlinLogging.logger {}
 
@@ -46,7 +48,10 @@ class ReplicationHydrationProcessor(
     val parsed: ReplicationActivityInput = deserializer.toReplicationActivityInput(rawPayload)
 
     logger.info { "Hydrating replication input..." }
-    val hydrated: ReplicationInput = replicationInputHydrator.getHydratedReplicationInput(parsed)
+    val callDurations = ConcurrentHashMap<String, Duration>()
+    val hydrationStart = System.nanoTime()
+    val hydrated: ReplicationInput = replicationInputHydrator.getHydratedReplicationInput(parsed, callDurations)
+    reportHydrationTimings(Duration.ofNanos(System.nanoTime() - hydrationStart), callDurations)
 
     // orchestrator input
     logger.info { "Writing orchestrator inputs..." }
@@ -110,6 +115,24 @@ class ReplicationHydrationProcessor(
     fileClient.makeNamedPipes()
   }
 
+  private fun reportHydrationTimings(
+    total: Duration,
+    callDurations: Map<String, Duration>,
+  ) {
+    logger.info {
+      "Hydrated replication input in ${total.toMillis()} ms " +
+        callDurations.entries.sortedByDescending { it.value }.joinToString(prefix = "(", postfix = ")") { "${it.key}: ${it.value.toMillis()} ms" }
+    }
+    metricClient.distribution(OssMetricsRegistry.REPLICATION_INPUT_HYDRATION_DURATION_MS, total.toMillis().toDouble())
+    callDurations.forEach { (call, duration) ->
+      metricClient.distribution(
+        OssMetricsRegistry.REPLICATION_INPUT_HYDRATION_CALL_DURATION_MS,
+        duration.toMillis().toDouble(),
+        MetricAttribute(MetricTags.HYDRATION_CALL, call),
+      )
+    }
+  }
+
   private fun sendMapperErrorMetrics(
     transformedCatalog: DestinationCatalogGenerator.CatalogGenerationResult,
     connectionId: UUID,
@@ -10,7 +10,10 @@ import io.airbyte.config.SyncMode
 import io.airbyte.featureflag.FeatureFlagClient
 import io.airbyte.initContainer.system.FileClient
 import io.airbyte.mappers.transformations.DestinationCatalogGenerator
+import io.airbyte.metrics.lib.MetricAttribute
 import io.airbyte.metrics.lib.MetricClient
+import io.airbyte.metrics.lib.MetricTags
+import io.airbyte.metrics.lib.OssMetricsRegistry
 import io.airbyte.persistence.job.models.IntegrationLauncherConfig
 import io.airbyte.persistence.job.models.ReplicationInput
 import io.airbyte.workers.ReplicationInputHydrator
@@ -30,6 +33,7 @@ import org.junit.jupiter.api.extension.ExtendWith
 import org.junit.jupiter.params.ParameterizedTest
 import org.junit.jupiter.params.provider.Arguments
 import org.junit.jupiter.params.provider.MethodSource
+import java.time.Duration
 import java.util.UUID
 import java.util.stream.Stream
 
@@ -56,7 +60,7 @@ class ReplicationHydrationProcessorTest {
   @MockK
   lateinit var destinationCatalogGenerator: DestinationCatalogGenerator
 
-  @MockK
+  @MockK(relaxed = true)
   lateinit var metricClient: MetricClient
 
   private lateinit var processor: ReplicationHydrationProcessor
@@ -119,7 +123,10 @@ class ReplicationHydrationProcessorTest {
     val serializedState = "serialized state config"
 
     every { deserializer.toReplicationActivityInput(input.inputPayload) } returns activityInput
-    every { replicationInputHydrator.getHydratedReplicationInput(activityInput) } returns hydrated
+    every { replicationInputHydrator.getHydratedReplicationInput(activityInput, any()) } answers {
+      secondArg<MutableMap<String, Duration>>()[ReplicationInputHydrator.GET_STATE] = Duration.ofMillis(5)
+      hydrated
+    }
     every { serializer.serialize(hydrated) } returns serializedReplInput
     every { serializer.serialize(hydrated.sourceConfiguration) } returns serializedSrcConfig
     every { serializer.serialize(hydrated.destinationConfiguration) } returns serializedDestConfig
@@ -134,7 +141,14 @@ class ReplicationHydrationProcessorTest {
     processor.process(input)
 
     verify { deserializer.toReplicationActivityInput(input.inputPayload) }
-    verify { replicationInputHydrator.getHydratedReplicationInput(activityInput) }
+    verify { replicationInputHydrator.getHydratedReplicationInput(activityInput, any()) }
+    verify {
+      metricClient.distribution(
+        OssMetricsRegistry.REPLICATION_INPUT_HYDRATION_CALL_DURATION_MS,
+        5.0,
+        MetricAttribute(MetricTags.HYDRATION_CALL, ReplicationInputHydrator.GET_STATE),
+      )
+    }
     verify { serializer.serialize(hydrated) }
     verify { fileClient.writeInputFile(FileConstants.INIT_INPUT_FILE, serializedReplInput) }
     verify { serializer.serialize(hydrated.sourceConfiguration) }